@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.searchrelevance.judgments.clickmodel.coec.CoecClickModel;
+import org.opensearch.searchrelevance.model.ClickthroughRate;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.model.ubi.event.UbiEvent;
+import org.opensearch.searchrelevance.utils.JsonUtils;
+
+/**
+ * COEC judgments of UBI events: the click and impression events are accumulated into clickthrough rates per user query
+ * and object, then rated against the clickthrough rate of their rank.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CoecClickModelBenchmark {
+    private static final int MAX_RANK = 20;
+
+    @Param({ "10000", "100000" })
+    public int events;
+
+    @Param({ "100" })
+    public int userQueries;
+
+    @Param({ "50" })
+    public int objectsPerQuery;
+
+    private List<String> eventUserQueries;
+    private List<UbiEvent> ubiEvents;
+    private Map<Integer, Double> rankAggregatedClickThrough;
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(42);
+        eventUserQueries = new ArrayList<>(events);
+        ubiEvents = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            int rank = random.nextInt(MAX_RANK);
+            String actionName = random.nextInt(10) == 0 ? "click" : "impression";
+            String event = String.format(
+                Locale.ROOT,
+                "{\"action_name\":\"%s\",\"query_id\":\"query-%d\",\"event_attributes\":"
+                    + "{\"object\":{\"object_id\":\"object-%d\"},\"position\":{\"ordinal\":%d}}}",
+                actionName,
+                i,
+                random.nextInt(objectsPerQuery),
+                rank
+            );
+            ubiEvents.add(JsonUtils.fromJson(event, UbiEvent.class));
+            eventUserQueries.add("user query " + random.nextInt(userQueries));
+        }
+        rankAggregatedClickThrough = new HashMap<>();
+        for (int rank = 0; rank < MAX_RANK; rank++) {
+            rankAggregatedClickThrough.put(rank, 0.5 / (rank + 1));
+        }
+    }
+
+    @Benchmark
+    public JudgmentRatings accumulateAndRate() {
+        Map<String, Set<ClickthroughRate>> clickthroughRates = new HashMap<>();
+        for (int i = 0; i < ubiEvents.size(); i++) {
+            CoecClickModel.accumulateClickthrough(clickthroughRates, eventUserQueries.get(i), ubiEvents.get(i));
+        }
+        return CoecClickModel.coecJudgments(rankAggregatedClickThrough, clickthroughRates);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.searchrelevance.metrics.calculator.Evaluation;
+import org.opensearch.searchrelevance.metrics.calculator.QueryJudgments;
+
+/**
+ * Metrics of one search against the judgments of its query text: from the judgment map as read from a judgment, or
+ * with the kernels over judgments compiled once per query text.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EvaluationBenchmark {
+    @Param({ "10", "100", "1000" })
+    public int k;
+
+    @Param({ "50", "1000", "20000" })
+    public int judgedDocuments;
+
+    private List<String> docIds;
+    private Map<String, String> judgmentScores;
+    private QueryJudgments queryJudgments;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        judgmentScores = new HashMap<>();
+        for (int i = 0; i < judgedDocuments; i++) {
+            judgmentScores.put("doc" + i, String.valueOf(random.nextInt(4)));
+        }
+        docIds = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            // about half of the hits have a judgment
+            docIds.add("doc" + random.nextInt(judgedDocuments * 2));
+        }
+        queryJudgments = QueryJudgments.parse(judgmentScores);
+    }
+
+    @Benchmark
+    public void judgmentMap(Blackhole blackhole) {
+        blackhole.consume(Evaluation.calculatePrecisionAtK(docIds, judgmentScores, k));
+        blackhole.consume(Evaluation.calculateMAPAtK(docIds, judgmentScores, k));
+        blackhole.consume(Evaluation.calculateNDCGAtK(docIds, judgmentScores, k));
+    }
+
+    @Benchmark
+    public void compiledJudgments(Blackhole blackhole) {
+        float[] rankedRatings = queryJudgments.ratingsOf(docIds);
+        blackhole.consume(Evaluation.calculatePrecisionAtK(rankedRatings, k));
+        blackhole.consume(Evaluation.calculateMAPAtK(rankedRatings, queryJudgments, k));
+        blackhole.consume(Evaluation.calculateNDCGAtK(rankedRatings, queryJudgments, k));
+    }
+}
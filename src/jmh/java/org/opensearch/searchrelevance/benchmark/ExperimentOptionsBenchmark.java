@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.searchrelevance.experiment.ExperimentOptionsFactory;
+import org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+
+/**
+ * Grid of variants of a hybrid optimizer experiment, with and without the combination weights, for the default weight
+ * increment and a finer one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ExperimentOptionsBenchmark {
+    @Param({ "0.1", "0.01" })
+    public double increment;
+
+    private ExperimentOptionsForHybridSearch options;
+
+    @Setup
+    public void setup() {
+        options = (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory.createExperimentOptions(
+            ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS,
+            Map.of(
+                "normalizationTechniques",
+                Set.of("min_max", "l2"),
+                "combinationTechniques",
+                Set.of("arithmetic_mean", "geometric_mean", "harmonic_mean"),
+                "weightsRange",
+                Map.of("rangeMin", 0.0, "rangeMax", 1.0, "increment", increment)
+            )
+        );
+    }
+
+    @Benchmark
+    public List<ExperimentVariantHybridSearchDTO> parameterCombinationsWithWeights() {
+        return options.getParameterCombinations(true);
+    }
+
+    @Benchmark
+    public List<ExperimentVariantHybridSearchDTO> parameterCombinationsWithoutWeights() {
+        return options.getParameterCombinations(false);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.searchrelevance.ml.MLAccessor;
+
+/**
+ * Prompts of the predict calls of an LLM judgment built from the hits of one query text, split into chunks that fit in
+ * the token limit. Every hit added to a chunk formats and tokenizes the whole chunk again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MLAccessorBenchmark {
+    @Param({ "10", "50" })
+    public int hits;
+
+    @Param({ "200", "2000" })
+    public int sourceLength;
+
+    @Param({ "4000" })
+    public int tokenLimit;
+
+    private MLAccessor mlAccessor;
+    private Map<String, String> sources;
+
+    @Setup
+    public void setup() {
+        // chunks are built without a call to the model
+        mlAccessor = new MLAccessor(null);
+        sources = new LinkedHashMap<>();
+        for (int i = 0; i < hits; i++) {
+            sources.put("doc" + i, SyntheticText.of(sourceLength, i));
+        }
+    }
+
+    @Benchmark
+    public List<MLInput> getMLInputs() {
+        return mlAccessor.getMLInputs(tokenLimit, "wireless noise cancelling headphones", null, sources);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.searchrelevance.metrics.calculator.PairComparison;
+import org.opensearch.searchrelevance.metrics.calculator.PairComparisonMatrix;
+
+/**
+ * Similarities of every pair of rankings of the search configurations of one query text: list by list with the
+ * kernels of {@link PairComparison}, or in one pass per pair over the ordinals of {@link PairComparisonMatrix}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PairComparisonBenchmark {
+    @Param({ "10", "100", "1000" })
+    public int k;
+
+    @Param({ "2", "5" })
+    public int configurations;
+
+    private Map<String, List<String>> docIdsByConfiguration;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        docIdsByConfiguration = new HashMap<>();
+        for (int configuration = 0; configuration < configurations; configuration++) {
+            List<String> docIds = new ArrayList<>(k);
+            for (int rank = 0; rank < k; rank++) {
+                // rankings share about half of their doc ids
+                docIds.add(random.nextBoolean() ? "doc" + rank : "doc" + configuration + "-" + rank);
+            }
+            docIdsByConfiguration.put("config" + configuration, docIds);
+        }
+    }
+
+    @Benchmark
+    public void rankedLists(Blackhole blackhole) {
+        List<List<String>> rankings = new ArrayList<>(docIdsByConfiguration.values());
+        for (int i = 0; i < rankings.size(); i++) {
+            for (int j = i + 1; j < rankings.size(); j++) {
+                blackhole.consume(PairComparison.calculateJaccardSimilarity(rankings.get(i), rankings.get(j)));
+                blackhole.consume(PairComparison.calculateRBOSimilarity(rankings.get(i), rankings.get(j), 0.5));
+                blackhole.consume(PairComparison.calculateRBOSimilarity(rankings.get(i), rankings.get(j), 0.9));
+                blackhole.consume(PairComparison.calculateFrequencyWeightedSimilarity(rankings.get(i), rankings.get(j)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void comparisonMatrix(Blackhole blackhole) {
+        PairComparisonMatrix matrix = PairComparisonMatrix.of(docIdsByConfiguration);
+        for (int i = 0; i < matrix.size(); i++) {
+            for (int j = i + 1; j < matrix.size(); j++) {
+                blackhole.consume(matrix.compare(i, j));
+            }
+        }
+    }
+}
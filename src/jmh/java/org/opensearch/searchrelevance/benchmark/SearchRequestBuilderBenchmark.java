@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.searchrelevance.model.builder.HybridSearchTemplate;
+import org.opensearch.searchrelevance.model.builder.SearchRequestBuilder;
+
+/**
+ * Search requests of one query text built from the DSL query of a search configuration: a lexical query parsed per
+ * request, a hybrid query with a temporary search pipeline parsed per request, and the same hybrid query compiled once
+ * into a {@link HybridSearchTemplate}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SearchRequestBuilderBenchmark {
+    private static final String INDEX = "products";
+    private static final String QUERY_TEXT = "wireless noise cancelling headphones";
+    private static final int SIZE = 10;
+    private static final String LEXICAL_QUERY = "{\"query\":{\"multi_match\":{\"query\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\",\"fields\":[\"title^2\",\"description\"]}},\"_source\":{\"excludes\":[\"embedding\"]}}";
+    private static final String HYBRID_QUERY = "{\"_source\":{\"excludes\":[\"embedding\"]},\"query\":{\"hybrid\":{\"queries\":["
+        + "{\"match\":{\"title\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}},{\"neural\":{\"embedding\":{\"query_text\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\",\"model_id\":\"model\",\"k\":100}}}],\"filter\":{\"term\":{\"in_stock\":true}}}}}";
+    private static final Map<String, Object> TEMPORARY_SEARCH_PIPELINE = Map.of(
+        "phase_results_processors",
+        List.of(
+            Map.of(
+                "normalization-processor",
+                Map.of(
+                    "normalization",
+                    Map.of("technique", "min_max"),
+                    "combination",
+                    Map.of("technique", "arithmetic_mean", "parameters", Map.of("weights", List.of(0.3, 0.7)))
+                )
+            )
+        )
+    );
+
+    private HybridSearchTemplate hybridSearchTemplate;
+
+    @Setup
+    public void setup() {
+        hybridSearchTemplate = HybridSearchTemplate.compile(HYBRID_QUERY, SIZE);
+    }
+
+    @Benchmark
+    public SearchRequest buildSearchRequest() {
+        return SearchRequestBuilder.buildSearchRequest(INDEX, LEXICAL_QUERY, QUERY_TEXT, null, SIZE);
+    }
+
+    @Benchmark
+    public SearchRequest buildRequestForHybridSearch() {
+        return SearchRequestBuilder.buildRequestForHybridSearch(INDEX, HYBRID_QUERY, TEMPORARY_SEARCH_PIPELINE, QUERY_TEXT, SIZE);
+    }
+
+    @Benchmark
+    public SearchRequest compiledHybridSearchTemplate() {
+        return hybridSearchTemplate.buildRequest(INDEX, TEMPORARY_SEARCH_PIPELINE, QUERY_TEXT);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.Random;
+
+/**
+ * Reproducible text of product descriptions for the benchmarks of prompts and tokenization.
+ */
+final class SyntheticText {
+    private static final String[] WORDS = {
+        "wireless",
+        "headphones",
+        "battery",
+        "noise",
+        "cancelling",
+        "bluetooth",
+        "comfortable",
+        "premium",
+        "sound",
+        "quality",
+        "charging",
+        "portable",
+        "lightweight",
+        "microphone",
+        "water-resistant",
+        "hours",
+        "the",
+        "with",
+        "and",
+        "for" };
+
+    private SyntheticText() {}
+
+    /**
+     * @param length - number of characters of the text
+     * @param seed - seed of the words, texts of different seeds differ
+     */
+    static String of(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        return text.substring(0, length);
+    }
+}
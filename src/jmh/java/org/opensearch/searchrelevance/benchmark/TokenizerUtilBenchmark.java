@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.searchrelevance.ml.TokenizerUtil;
+
+/**
+ * Token counting and truncation of the prompts and hit sources of LLM judgments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TokenizerUtilBenchmark {
+    @Param({ "100", "10000" })
+    public int textLength;
+
+    private String text;
+    private int halfTokens;
+
+    @Setup
+    public void setup() {
+        text = SyntheticText.of(textLength, 0);
+        halfTokens = Math.max(1, TokenizerUtil.countTokens(text) / 2);
+    }
+
+    @Benchmark
+    public int countTokens() {
+        return TokenizerUtil.countTokens(text);
+    }
+
+    @Benchmark
+    public String truncateString() {
+        return TokenizerUtil.truncateString(text, halfTokens);
+    }
+}
@@ -29,6 +29,8 @@ public class MetricsConstants {
     public static final String PAIRWISE_FIELD_NAME_METRIC = "metric";
     public static final String PAIRWISE_FIELD_NAME_VALUE = "value";
     public static final String PAIRWISE_FIELD_NAME_QUERY_TEXT = "queryText";
+    public static final String PAIRWISE_FIELD_NAME_PAIRS = "pairs";
+    public static final String PAIRWISE_FIELD_NAME_SEARCH_CONFIGURATION_IDS = "searchConfigurationIds";
 
     /**
      * pointwise experiment field names
@@ -37,6 +39,8 @@ public class MetricsConstants {
     public static final String POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID = "experimentVariantId";
     public static final String POINTWISE_FIELD_NAME_EVALUATION_RESULTS = "evaluationResults";
     public static final String POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID = "searchConfigurationId";
+    public static final String POINTWISE_FIELD_NAME_EVALUATION_METRICS = "evaluationMetrics";
+    public static final String POINTWISE_FIELD_NAME_METRICS = "metrics";
 
     /**
      * metadata map fields
@@ -24,6 +24,12 @@ public class PluginConstants {
     public static final String EXPERIMENTS_URI = SEARCH_RELEVANCE_BASE_URI + "/experiments";
     /** The URI for this plugin's judgments rest actions */
     public static final String JUDGMENTS_URL = SEARCH_RELEVANCE_BASE_URI + "/judgments";
+    /** The URI for this plugin's streaming judgment import rest action */
+    public static final String JUDGMENTS_IMPORT_URL = JUDGMENTS_URL + "/_import";
+    /** The path suffix of this plugin's export rest actions, following the id of the exported judgment or experiment */
+    public static final String EXPORT_PATH = "_export";
+    /** The path of the results of an experiment, following its id */
+    public static final String RESULTS_PATH = "results";
     /** The URI for this plugin's search configurations rest actions */
     public static final String SEARCH_CONFIGURATIONS_URL = SEARCH_RELEVANCE_BASE_URI + "/search_configurations";
 
@@ -45,12 +51,16 @@ public class PluginConstants {
     public static final String EXPERIMENT_INDEX_MAPPING = "mappings/experiment.json";
     public static final String JUDGMENT_INDEX = "search-relevance-judgment";
     public static final String JUDGMENT_INDEX_MAPPING = "mappings/judgment.json";
+    public static final String JUDGMENT_RATING_INDEX = "search-relevance-judgment-rating";
+    public static final String JUDGMENT_RATING_INDEX_MAPPING = "mappings/judgment_rating.json";
     public static final String EVALUATION_RESULT_INDEX = "search-relevance-evaluation-result";
     public static final String EVALUATION_RESULT_INDEX_MAPPING = "mappings/evaluation_result.json";
     public static final String JUDGMENT_CACHE_INDEX = ".plugins-search-relevance-judgment-cache";
     public static final String JUDGMENT_CACHE_INDEX_MAPPING = "mappings/judgment_cache.json";
     public static final String EXPERIMENT_VARIANT_INDEX = "search-relevance-experiment-variant";
     public static final String EXPERIMENT_VARIANT_INDEX_MAPPING = "mappings/experiment_variant.json";
+    public static final String EXPERIMENT_RESULT_INDEX = "search-relevance-experiment-result";
+    public static final String EXPERIMENT_RESULT_INDEX_MAPPING = "mappings/experiment_result.json";
 
     /**
      * UBI
@@ -82,6 +92,21 @@ public class PluginConstants {
     public static final String JUDGMENT_RATINGS = "judgmentRatings";
     public static final String CONTEXT_FIELDS = "contextFields";
     public static final String IGNORE_FAILURE = "ignoreFailure";
+    public static final String BUDGET = "budget";
+    public static final String MAX_SEARCHES = "maxSearches";
+    public static final String MAX_PREDICT_CALLS = "maxPredictCalls";
+    public static final String MAX_TOKENS = "maxTokens";
+
+    /**
+     * Rest Input Parameter Names
+     */
+    public static final String DRY_RUN = "dry_run";
+    public static final String FORMAT = "format";
+    public static final String SEARCH_CONFIGURATION_ID = "search_configuration_id";
+    public static final String CURSOR = "cursor";
+
+    /** The response header of the cursor of the next export page */
+    public static final String EXPORT_CURSOR_HEADER = "X-Search-Relevance-Export-Cursor";
 
     public static final int DEFAULTED_QUERY_SET_SIZE = 10;
     public static final String MANUAL = "manual";
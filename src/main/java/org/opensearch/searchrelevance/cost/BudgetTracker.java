@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+/**
+ * Counts the ML predict calls and prompt tokens of a running LLM judgment against its budget. Work is acquired before
+ * it is sent, so a judgment never goes over its budget, and once an acquisition is refused the budget stays exhausted.
+ */
+public class BudgetTracker {
+    public static final BudgetTracker UNLIMITED = new BudgetTracker(null, null);
+
+    private final Long maxPredictCalls;
+    private final Long maxTokens;
+    private long predictCalls;
+    private long tokens;
+    private boolean exhausted;
+
+    /**
+     * @param maxPredictCalls - maximum number of predict calls, null for unlimited
+     * @param maxTokens - maximum number of prompt tokens, null for unlimited
+     */
+    public BudgetTracker(Long maxPredictCalls, Long maxTokens) {
+        this.maxPredictCalls = maxPredictCalls;
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * @param budget - budget of the judgment, null for unlimited
+     */
+    public static BudgetTracker of(CostBudget budget) {
+        return budget == null ? UNLIMITED : new BudgetTracker(budget.getMaxPredictCalls(), budget.getMaxTokens());
+    }
+
+    /**
+     * @return whether the judgment has a predict call or token limit, the tokens of its predict calls need counting
+     */
+    public boolean isLimited() {
+        return maxPredictCalls != null || maxTokens != null;
+    }
+
+    /**
+     * Acquire the predict calls of one query text at once, so its hits are either all judged or none are
+     * @return false, and the budget is exhausted, when the calls do not fit in what is left of the budget
+     */
+    public synchronized boolean tryAcquire(int calls, long callTokens) {
+        if (isLimited() == false) {
+            return true;
+        }
+        if (exhausted
+            || maxPredictCalls != null && predictCalls + calls > maxPredictCalls
+            || maxTokens != null && tokens + callTokens > maxTokens) {
+            exhausted = true;
+            return false;
+        }
+        predictCalls += calls;
+        tokens += callTokens;
+        return true;
+    }
+
+    public synchronized boolean isExhausted() {
+        return exhausted;
+    }
+
+    public synchronized long getPredictCalls() {
+        return predictCalls;
+    }
+
+    public synchronized long getTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_PREDICT_CALLS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_SEARCHES;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_TOKENS;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Optional hard limits on the searches, ML predict calls and prompt tokens an experiment or an LLM judgment may
+ * generate, a null limit is unlimited.
+ */
+@Getter
+@AllArgsConstructor
+public class CostBudget implements Writeable {
+    private final Long maxSearches;
+    private final Long maxPredictCalls;
+    private final Long maxTokens;
+
+    public CostBudget(StreamInput in) throws IOException {
+        this.maxSearches = in.readOptionalLong();
+        this.maxPredictCalls = in.readOptionalLong();
+        this.maxTokens = in.readOptionalLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalLong(maxSearches);
+        out.writeOptionalLong(maxPredictCalls);
+        out.writeOptionalLong(maxTokens);
+    }
+
+    /**
+     * Parse the budget of a create request
+     * @param source - body of the request
+     * @return the budget, or null when the request has none
+     */
+    public static CostBudget parse(Map<String, Object> source) {
+        Object budget = source.get(BUDGET);
+        if (budget == null) {
+            return null;
+        }
+        if (budget instanceof Map == false) {
+            throw new SearchRelevanceException("budget must be an object", RestStatus.BAD_REQUEST);
+        }
+        Map<String, Object> limits = (Map<String, Object>) budget;
+        return new CostBudget(parseLimit(limits, MAX_SEARCHES), parseLimit(limits, MAX_PREDICT_CALLS), parseLimit(limits, MAX_TOKENS));
+    }
+
+    private static Long parseLimit(Map<String, Object> limits, String name) {
+        Object limit = limits.get(name);
+        if (limit == null) {
+            return null;
+        }
+        if (limit instanceof Integer == false && limit instanceof Long == false || ((Number) limit).longValue() < 1) {
+            throw new SearchRelevanceException(
+                String.format(Locale.ROOT, "%s of the budget must be a positive integer", name),
+                RestStatus.BAD_REQUEST
+            );
+        }
+        return ((Number) limit).longValue();
+    }
+
+    /**
+     * Reject the request up front when the searches it needs exceed the budget. Predict calls and tokens depend on the
+     * hits and on the judgment cache, their estimates are upper bounds so they are only enforced while the run goes.
+     * @param estimate - estimated cost of the request
+     */
+    public void check(CostEstimate estimate) {
+        if (maxSearches != null && estimate.getSearches() > maxSearches) {
+            throw new SearchRelevanceException(
+                String.format(
+                    Locale.ROOT,
+                    "request needs [%d] searches which exceeds the budget of [%d] searches",
+                    estimate.getSearches(),
+                    maxSearches
+                ),
+                RestStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    /**
+     * @return limits that are set, keyed like the request body
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> limits = new HashMap<>();
+        if (maxSearches != null) {
+            limits.put(MAX_SEARCHES, maxSearches);
+        }
+        if (maxPredictCalls != null) {
+            limits.put(MAX_PREDICT_CALLS, maxPredictCalls);
+        }
+        if (maxTokens != null) {
+            limits.put(MAX_TOKENS, maxTokens);
+        }
+        return limits;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Work an experiment or an LLM judgment is expected to generate before it starts
+ */
+@Getter
+@AllArgsConstructor
+public class CostEstimate implements Writeable, ToXContentObject {
+    public static final String QUERY_TEXTS = "queryTexts";
+    public static final String SEARCHES = "searches";
+    public static final String HITS = "hits";
+    public static final String PREDICT_CALLS = "predictCalls";
+    public static final String TOKENS = "tokens";
+    public static final String RESULT_DOCUMENTS = "resultDocuments";
+
+    private final int queryTexts;
+    private final long searches;
+    // upper bound of the hits returned by all the searches
+    private final long hits;
+    private final long predictCalls;
+    private final long tokens;
+    // documents written to the result, evaluation, variant, judgment and judgment cache indices
+    private final long resultDocuments;
+
+    public CostEstimate(StreamInput in) throws IOException {
+        this.queryTexts = in.readVInt();
+        this.searches = in.readVLong();
+        this.hits = in.readVLong();
+        this.predictCalls = in.readVLong();
+        this.tokens = in.readVLong();
+        this.resultDocuments = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(queryTexts);
+        out.writeVLong(searches);
+        out.writeVLong(hits);
+        out.writeVLong(predictCalls);
+        out.writeVLong(tokens);
+        out.writeVLong(resultDocuments);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(QUERY_TEXTS, queryTexts);
+        builder.field(SEARCHES, searches);
+        builder.field(HITS, hits);
+        builder.field(PREDICT_CALLS, predictCalls);
+        builder.field(TOKENS, tokens);
+        builder.field(RESULT_DOCUMENTS, resultDocuments);
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.action.StepListener;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.experiment.AdaptiveHybridSearch;
+import org.opensearch.searchrelevance.experiment.ExperimentOptionsFactory;
+import org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.searchrelevance.transport.judgment.PutLlmJudgmentRequest;
+
+/**
+ * Estimates the work of an experiment or an LLM judgment from its query set size, search configurations and size,
+ * before it starts. Searches of experiments are exact unless the search result cache answers some of them, the
+ * adaptive hybrid search assumes the query texts of its sample have ratings. Predict calls and tokens of LLM judgments
+ * are upper bounds: every hit is judged in its own predict call filling the token limit, ratings of the judgment cache
+ * and hits shared by several configurations are not accounted for.
+ */
+public class CostEstimator {
+    // hybrid queries of the optimizer combine a lexical and a neural sub-query, retrieved once each by local scoring
+    static final int HYBRID_SUB_QUERIES = 2;
+
+    private final QuerySetDao querySetDao;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+
+    public CostEstimator(QuerySetDao querySetDao, SearchRelevanceSettingsAccessor settingsAccessor) {
+        this.querySetDao = querySetDao;
+        this.settingsAccessor = settingsAccessor;
+    }
+
+    public void estimateExperiment(PutExperimentRequest request, ActionListener<CostEstimate> listener) {
+        fetchQueryTexts(
+            request.getQuerySetId(),
+            ActionListener.wrap(
+                queryTexts -> listener.onResponse(
+                    experimentCost(request.getType(), queryTexts.size(), request.getSearchConfigurationList().size(), request.getSize())
+                ),
+                listener::onFailure
+            )
+        );
+    }
+
+    public void estimateLlmJudgment(PutLlmJudgmentRequest request, ActionListener<CostEstimate> listener) {
+        fetchQueryTexts(
+            request.getQuerySetId(),
+            ActionListener.wrap(
+                queryTexts -> listener.onResponse(
+                    llmJudgmentCost(
+                        queryTexts.size(),
+                        request.getSearchConfigurationList().size(),
+                        request.getSize(),
+                        request.getTokenLimit()
+                    )
+                ),
+                listener::onFailure
+            )
+        );
+    }
+
+    private void fetchQueryTexts(String querySetId, ActionListener<List<String>> listener) {
+        StepListener<Map<String, Object>> fetchQuerySetStep = new StepListener<>();
+        querySetDao.getQuerySetWithStepListener(querySetId, new ConcurrentHashMap<>(), fetchQuerySetStep);
+        fetchQuerySetStep.whenComplete(
+            results -> listener.onResponse((List<String>) results.get(METRICS_QUERY_TEXT_FIELD_NAME)),
+            listener::onFailure
+        );
+    }
+
+    /**
+     * @param type - type of the experiment
+     * @param queryTexts - number of query texts of the query set
+     * @param configurations - number of search configurations
+     * @param size - number of hits per search
+     */
+    CostEstimate experimentCost(ExperimentType type, int queryTexts, int configurations, int size) {
+        long evaluationResults;
+        switch (type) {
+            case PAIRWISE_COMPARISON -> evaluationResults = 0;
+            case POINTWISE_EVALUATION -> evaluationResults = (long) queryTexts * configurations;
+            case HYBRID_OPTIMIZER -> {
+                return hybridOptimizerCost(queryTexts, configurations, size);
+            }
+            default -> throw new SearchRelevanceException("Unknown experimentType" + type, RestStatus.BAD_REQUEST);
+        }
+        long searches = queryTexts * searchesPerQueryText(type, configurations);
+        // one experiment result per query text, and an evaluation result per configuration for pointwise evaluations
+        long resultDocuments = queryTexts + evaluationResults;
+        return new CostEstimate(queryTexts, searches, searches * size, 0, 0, resultDocuments);
+    }
+
+    private CostEstimate hybridOptimizerCost(int queryTexts, int configurations, int size) {
+        long variants = hybridVariants();
+        long selectionCandidates = settingsAccessor.isHybridAdaptiveSearchEnabled()
+            ? AdaptiveHybridSearch.maxCandidates(hybridSearchOptions().getParameterCombinations(false).size())
+            : 0;
+        long searches = selectionSearches(ExperimentType.HYBRID_OPTIMIZER, queryTexts, configurations) + queryTexts
+            * searchesPerQueryText(ExperimentType.HYBRID_OPTIMIZER, configurations);
+        // experiment result per query text, evaluation result per query text and variant, variants once per experiment
+        long resultDocuments = queryTexts + queryTexts * variants * configurations + variants + selectionCandidates;
+        return new CostEstimate(queryTexts, searches, searches * size, 0, 0, resultDocuments);
+    }
+
+    /**
+     * @param type - type of the experiment
+     * @param configurations - number of search configurations
+     * @return searches evaluating one query text of the experiment
+     */
+    public long searchesPerQueryText(ExperimentType type, int configurations) {
+        if (type != ExperimentType.HYBRID_OPTIMIZER) {
+            return configurations;
+        }
+        return (long) configurations * (settingsAccessor.isHybridLocalScoringEnabled() ? HYBRID_SUB_QUERIES : hybridVariants());
+    }
+
+    /**
+     * @param type - type of the experiment
+     * @param queryTexts - number of query texts of the query set
+     * @param configurations - number of search configurations
+     * @return searches of the adaptive hybrid search selecting the variant of a hybrid optimizer experiment, at most the
+     * rankings it can sample, 0 when no variant is selected
+     */
+    public long selectionSearches(ExperimentType type, int queryTexts, int configurations) {
+        if (type != ExperimentType.HYBRID_OPTIMIZER || settingsAccessor.isHybridAdaptiveSearchEnabled() == false) {
+            return 0;
+        }
+        int sampleSize = Math.min(settingsAccessor.getHybridAdaptiveSearchSampleSize(), queryTexts);
+        if (settingsAccessor.isHybridLocalScoringEnabled()) {
+            return (long) sampleSize * configurations * HYBRID_SUB_QUERIES;
+        }
+        int techniques = hybridSearchOptions().getParameterCombinations(false).size();
+        return AdaptiveHybridSearch.maxRankings(techniques, sampleSize) * configurations;
+    }
+
+    private long hybridVariants() {
+        return settingsAccessor.isHybridAdaptiveSearchEnabled() ? 1 : hybridSearchOptions().getParameterCombinations(true).size();
+    }
+
+    private static ExperimentOptionsForHybridSearch hybridSearchOptions() {
+        return (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory.createExperimentOptions(
+            ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS,
+            ExperimentOptionsFactory.createDefaultExperimentParametersForHybridSearch()
+        );
+    }
+
+    /**
+     * @param queryTexts - number of query texts of the query set
+     * @param configurations - number of search configurations
+     * @param size - number of hits per search
+     * @param tokenLimit - maximum number of tokens of a predict call
+     */
+    static CostEstimate llmJudgmentCost(int queryTexts, int configurations, int size, int tokenLimit) {
+        long searches = (long) queryTexts * configurations;
+        long hits = searches * size;
+        // at most one predict call per hit, and a judgment cache entry per judged hit besides the judgment itself
+        return new CostEstimate(queryTexts, searches, hits, hits, hits * tokenLimit, 1 + hits);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+/**
+ * Counts the searches of a running experiment against the maxSearches of its budget. The searches of a query text, a
+ * slice or the hybrid variant selection are acquired before they are queued, including the ones the search result
+ * cache answers and the ones of retried slices, so an experiment never sends more searches than its budget.
+ * Once an acquisition is refused the budget stays exhausted and the experiment stops queueing work.
+ */
+public class SearchBudgetTracker {
+    public static final SearchBudgetTracker UNLIMITED = new SearchBudgetTracker(null, 0);
+
+    private final Long maxSearches;
+    private long searches;
+    private boolean exhausted;
+
+    /**
+     * @param maxSearches - maximum number of searches, null for unlimited
+     * @param searches - searches acquired before, e.g. by the run a resumed experiment continues
+     */
+    public SearchBudgetTracker(Long maxSearches, long searches) {
+        this.maxSearches = maxSearches;
+        this.searches = searches;
+    }
+
+    /**
+     * @param budget - budget of the experiment, null for unlimited
+     * @param searches - searches acquired before
+     */
+    public static SearchBudgetTracker of(CostBudget budget, long searches) {
+        return budget == null || budget.getMaxSearches() == null ? UNLIMITED : new SearchBudgetTracker(budget.getMaxSearches(), searches);
+    }
+
+    /**
+     * @return whether the experiment has a search limit, its searches need counting
+     */
+    public boolean isLimited() {
+        return maxSearches != null;
+    }
+
+    /**
+     * @return false, and the budget is exhausted, when the searches do not fit in what is left of the budget
+     */
+    public synchronized boolean tryAcquire(long count) {
+        if (isLimited() == false) {
+            return true;
+        }
+        if (exhausted || searches + count > maxSearches) {
+            exhausted = true;
+            return false;
+        }
+        searches += count;
+        return true;
+    }
+
+    public synchronized boolean isExhausted() {
+        return exhausted;
+    }
+
+    public synchronized long getSearches() {
+        return searches;
+    }
+}
@@ -13,25 +13,33 @@ import java.io.IOException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.action.DocWriteRequest.OpType;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.export.ExportCursor;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.model.EvaluationResult;
 
 public class EvaluationResultDao {
     private static final Logger LOGGER = LogManager.getLogger(EvaluationResultDao.class);
     private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final SearchRelevanceBulkWriter bulkWriter;
 
-    public EvaluationResultDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager) {
+    public EvaluationResultDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager, SearchRelevanceBulkWriter bulkWriter) {
         this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -64,6 +72,36 @@ public class EvaluationResultDao {
         }
     }
 
+    /**
+     * Buffers evaluation result of a running experiment, it is stored with the next bulk flush and becomes
+     * searchable once the experiment is refreshed through {@link SearchRelevanceBulkWriter#refresh}
+     * @param experimentId - id of the experiment that produced the evaluation result
+     * @param evaluationResult - EvaluationResult content to be stored
+     * @param listener - action lister notified once the evaluation result is stored
+     */
+    public void bulkPutEvaluationResult(
+        final String experimentId,
+        final EvaluationResult evaluationResult,
+        final ActionListener<Void> listener
+    ) {
+        if (evaluationResult == null) {
+            listener.onFailure(new SearchRelevanceException("EvaluationResult cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        try {
+            bulkWriter.write(
+                experimentId,
+                evaluationResult.id(),
+                evaluationResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS),
+                EVALUATION_RESULT,
+                OpType.CREATE,
+                listener
+            );
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to store evaluationResult", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * Delete evaluationResult by evaluationResultId
      * @param evaluationResultId - id to be deleted
@@ -86,6 +124,45 @@ public class EvaluationResultDao {
         return searchRelevanceIndicesManager.getDocByDocId(evaluationResultId, EVALUATION_RESULT, listener);
     }
 
+    /**
+     * Read one page of the evaluation results of an experiment, sorted by evaluation result id
+     * @param experimentId - id of the experiment
+     * @param searchConfigurationId - search configuration to export, null for every search configuration
+     * @param searchText - query text to export, null for every query text
+     * @param size - evaluation results of the page
+     * @param cursor - position after the previous page, null for the first page
+     * @param keepAlive - keep alive of the point in time of the export until the next page
+     * @param listener - action lister notified with the page
+     */
+    public void exportEvaluationResults(
+        final String experimentId,
+        final String searchConfigurationId,
+        final String searchText,
+        final int size,
+        final ExportCursor cursor,
+        final TimeValue keepAlive,
+        final ActionListener<SearchResponse> listener
+    ) {
+        BoolQueryBuilder query = QueryBuilders.boolQuery().filter(QueryBuilders.termQuery(EvaluationResult.EXPERIMENT_ID, experimentId));
+        if (searchConfigurationId != null) {
+            query.filter(QueryBuilders.termQuery(EvaluationResult.SEARCH_CONFIGURATION_ID, searchConfigurationId));
+        }
+        if (searchText != null) {
+            query.filter(QueryBuilders.termQuery(EvaluationResult.SEARCH_TEXT, searchText));
+        }
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(query).size(size).sort(EvaluationResult.ID, SortOrder.ASC);
+        if (cursor != null) {
+            sourceBuilder.searchAfter(cursor.searchAfter());
+        }
+        searchRelevanceIndicesManager.searchPage(
+            sourceBuilder,
+            EVALUATION_RESULT,
+            cursor == null ? null : cursor.pitId(),
+            keepAlive,
+            listener
+        );
+    }
+
     /**
      * List evaluationResult by source builder
      * @param sourceBuilder - source builder to be searched
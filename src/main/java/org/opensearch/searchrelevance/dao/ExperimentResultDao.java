@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_METRICS;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.export.ExportCursor;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+
+public class ExperimentResultDao {
+    /**
+     * Results read per page when all results of an experiment are read back
+     */
+    static final int RESULTS_PAGE_SIZE = 1000;
+    // time to read the next page before the point in time expires
+    private static final TimeValue RESULTS_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+    private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final SearchRelevanceBulkWriter bulkWriter;
+
+    public ExperimentResultDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager, SearchRelevanceBulkWriter bulkWriter) {
+        this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.bulkWriter = bulkWriter;
+    }
+
+    /**
+     * Create experiment result index if not exists
+     * @param stepListener - step lister for async operation
+     */
+    public void createIndexIfAbsent(final StepListener<Void> stepListener) {
+        searchRelevanceIndicesManager.createIndexIfAbsent(EXPERIMENT_RESULT, stepListener);
+    }
+
+    /**
+     * Buffers the results of a queryText, they are stored with the next bulk flush and become
+     * searchable once the experiment is refreshed through {@link SearchRelevanceBulkWriter#refresh}
+     * @param experimentResult - ExperimentResult content to be stored
+     * @param listener - action lister notified once the results are stored
+     */
+    public void bulkPutExperimentResult(final ExperimentResult experimentResult, final ActionListener<Void> listener) {
+        if (experimentResult == null) {
+            listener.onFailure(new SearchRelevanceException("ExperimentResult cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        try {
+            bulkWriter.write(
+                experimentResult.experimentId(),
+                experimentResult.id(),
+                experimentResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS),
+                EXPERIMENT_RESULT,
+                OpType.INDEX,
+                listener
+            );
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to store experimentResult", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Read one page of the results of an experiment, sorted by experiment result id
+     * @param experimentId - id of the experiment
+     * @param queryText - query text to export, null for every query text
+     * @param size - experiment results of the page
+     * @param cursor - position after the previous page, null for the first page
+     * @param keepAlive - keep alive of the point in time of the export until the next page
+     * @param listener - action lister notified with the page
+     */
+    public void exportExperimentResults(
+        final String experimentId,
+        final String queryText,
+        final int size,
+        final ExportCursor cursor,
+        final TimeValue keepAlive,
+        final ActionListener<SearchResponse> listener
+    ) {
+        BoolQueryBuilder query = QueryBuilders.boolQuery().filter(QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId));
+        if (queryText != null) {
+            query.filter(QueryBuilders.termQuery(ExperimentResult.QUERY_TEXT, queryText));
+        }
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(query).size(size).sort(ExperimentResult.ID, SortOrder.ASC);
+        if (cursor != null) {
+            sourceBuilder.searchAfter(cursor.searchAfter());
+        }
+        searchRelevanceIndicesManager.searchPage(
+            sourceBuilder,
+            EXPERIMENT_RESULT,
+            cursor == null ? null : cursor.pitId(),
+            keepAlive,
+            listener
+        );
+    }
+
+    /**
+     * Get the queryTexts of an experiment that already have results, with the evaluation metrics of their results.
+     * Results are read page by page over a point in time, so experiments of any size are read completely.
+     * @param experimentId - id of the experiment
+     * @param listener - action lister notified with the result of every completed queryText
+     */
+    public void getCompletedQueryResults(final String experimentId, final ActionListener<Map<String, Map<String, Object>>> listener) {
+        getCompletedQueryResults(experimentId, null, null, new HashMap<>(), listener);
+    }
+
+    private void getCompletedQueryResults(
+        final String experimentId,
+        final String pitId,
+        final Object[] searchAfter,
+        final Map<String, Map<String, Object>> queryResults,
+        final ActionListener<Map<String, Map<String, Object>>> listener
+    ) {
+        String[] includes = { ExperimentResult.QUERY_TEXT, ExperimentResult.RESULT + "." + POINTWISE_FIELD_NAME_EVALUATION_METRICS };
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId)
+        ).fetchSource(includes, null).size(RESULTS_PAGE_SIZE).sort(ExperimentResult.ID, SortOrder.ASC);
+        if (searchAfter != null) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+        ActionListener<SearchResponse> pageListener = ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            for (SearchHit hit : hits) {
+                Map<String, Object> source = hit.getSourceAsMap();
+                Object queryText = source.get(ExperimentResult.QUERY_TEXT);
+                if (queryText != null) {
+                    Object result = source.get(ExperimentResult.RESULT);
+                    queryResults.put(queryText.toString(), result instanceof Map ? (Map<String, Object>) result : Map.of());
+                }
+            }
+            // a page that is not full is the last one, its point in time is already deleted
+            if (hits.length < RESULTS_PAGE_SIZE) {
+                listener.onResponse(queryResults);
+                return;
+            }
+            getCompletedQueryResults(experimentId, response.pointInTimeId(), hits[hits.length - 1].getSortValues(), queryResults, listener);
+        }, listener::onFailure);
+        searchRelevanceIndicesManager.searchPage(sourceBuilder, EXPERIMENT_RESULT, pitId, RESULTS_KEEP_ALIVE, pageListener);
+    }
+}
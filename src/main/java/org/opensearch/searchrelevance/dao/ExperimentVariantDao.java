@@ -10,11 +10,14 @@ package org.opensearch.searchrelevance.dao;
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_VARIANT;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
+import org.opensearch.action.DocWriteRequest.OpType;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
@@ -22,6 +25,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
 
@@ -30,9 +34,11 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class ExperimentVariantDao {
     private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final SearchRelevanceBulkWriter bulkWriter;
 
-    public ExperimentVariantDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager) {
+    public ExperimentVariantDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager, SearchRelevanceBulkWriter bulkWriter) {
         this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.bulkWriter = bulkWriter;
     }
 
     /**
@@ -82,6 +88,50 @@ public class ExperimentVariantDao {
         }
     }
 
+    /**
+     * Buffers the update of an experiment variant, it is stored with the next bulk flush and becomes
+     * searchable once the owning experiment is refreshed through {@link SearchRelevanceBulkWriter#refresh}
+     * @param experimentVariant - Experiment variant content to be stored
+     * @param listener - action lister notified once the experiment variant is stored
+     */
+    public void bulkUpdateExperimentVariant(final ExperimentVariant experimentVariant, final ActionListener<Void> listener) {
+        if (experimentVariant == null) {
+            listener.onFailure(new SearchRelevanceException("Experiment variant cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        try {
+            bulkWriter.write(
+                experimentVariant.getExperimentId(),
+                experimentVariant.getId(),
+                experimentVariant.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS),
+                EXPERIMENT_VARIANT,
+                OpType.INDEX,
+                listener
+            );
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to store experiment variant", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Buffers the variants of an experiment, they are indexed with the next bulk flushes instead of one request each
+     * @param experimentVariants - Experiment variants of the same experiment
+     * @param listener - action lister notified once every experiment variant is stored, or with the first failure
+     */
+    public void bulkPutExperimentVariants(final List<ExperimentVariant> experimentVariants, final ActionListener<Void> listener) {
+        if (experimentVariants.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        GroupedActionListener<Void> storedListener = new GroupedActionListener<>(
+            ActionListener.wrap(stored -> listener.onResponse(null), listener::onFailure),
+            experimentVariants.size()
+        );
+        for (ExperimentVariant experimentVariant : experimentVariants) {
+            bulkUpdateExperimentVariant(experimentVariant, storedListener);
+        }
+    }
+
     /**
      * Delete experiment variant by experimentId
      * @param experimentVariantId - id to be deleted
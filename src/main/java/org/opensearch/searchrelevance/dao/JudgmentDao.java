@@ -8,29 +8,61 @@
 package org.opensearch.searchrelevance.dao;
 
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT_RATING;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.export.ExportCursor;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRating;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 
+/**
+ * Judgment lists are stored as one judgment document, and the ratings of every query text of a completed judgment
+ * list as one {@link JudgmentRating} document of the judgment rating index, looked up by term per query text.
+ */
 public class JudgmentDao {
+    // query texts stored by one bulk request, and looked up by one search
+    static final int RATINGS_BATCH_SIZE = 500;
+
     private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
 
     @Inject
-    public JudgmentDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager) {
+    public JudgmentDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager, SearchRelevanceSettingsAccessor settingsAccessor) {
         this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.settingsAccessor = settingsAccessor;
     }
 
     /**
@@ -63,11 +95,42 @@ public class JudgmentDao {
         }
     }
 
+    /**
+     * Update judgment in the system index. The ratings of every query text are stored in the judgment rating index
+     * first, the judgment document only keeps them inline when inline ratings are enabled.
+     * @param judgment - Judgment content to be stored
+     * @param listener - action lister for async operation
+     */
     public void updateJudgment(final Judgment judgment, final ActionListener listener) {
         if (judgment == null) {
             listener.onFailure(new SearchRelevanceException("Judgment cannot be null", RestStatus.BAD_REQUEST));
             return;
         }
+        if (judgment.getJudgmentRatings() == null || judgment.getJudgmentRatings().isEmpty()) {
+            updateJudgmentDoc(judgment, listener);
+            return;
+        }
+        putJudgmentRatings(judgment.getId(), judgment.getJudgmentRatings(), ActionListener.wrap(stored -> {
+            if (settingsAccessor.isJudgmentInlineRatingsEnabled()) {
+                updateJudgmentDoc(judgment, listener);
+            } else {
+                updateJudgmentDoc(
+                    new Judgment(
+                        judgment.getId(),
+                        judgment.getTimestamp(),
+                        judgment.getName(),
+                        judgment.getStatus(),
+                        judgment.getType(),
+                        judgment.getMetadata(),
+                        JudgmentRatings.EMPTY
+                    ),
+                    listener
+                );
+            }
+        }, listener::onFailure));
+    }
+
+    private void updateJudgmentDoc(final Judgment judgment, final ActionListener listener) {
         try {
             searchRelevanceIndicesManager.updateDoc(
                 judgment.getId(),
@@ -81,12 +144,204 @@ public class JudgmentDao {
     }
 
     /**
-     * Delete judgment by judgmentID
+     * Store the ratings of every query text of a judgment list in the judgment rating index, one bulk request of
+     * {@link #RATINGS_BATCH_SIZE} query texts at a time. Stored query texts are overwritten.
+     * @param judgmentId - id of the judgment list
+     * @param judgmentRatings - ratings of the judgment list
+     * @param listener - action lister for async operation
+     */
+    public void putJudgmentRatings(
+        final String judgmentId,
+        final JudgmentRatings judgmentRatings,
+        final ActionListener<Void> listener
+    ) {
+        putJudgmentRatings(judgmentId, judgmentRatings, 0, listener);
+    }
+
+    private void putJudgmentRatings(
+        final String judgmentId,
+        final JudgmentRatings judgmentRatings,
+        final int from,
+        final ActionListener<Void> listener
+    ) {
+        if (from >= judgmentRatings.size()) {
+            listener.onResponse(null);
+            return;
+        }
+        int to = Math.min(from + RATINGS_BATCH_SIZE, judgmentRatings.size());
+        Map<String, XContentBuilder> docs = new LinkedHashMap<>();
+        try {
+            for (int query = from; query < to; query++) {
+                JudgmentRating judgmentRating = new JudgmentRating(
+                    judgmentId,
+                    judgmentRatings.getQueryText(query),
+                    judgmentRatings.getRatings(query)
+                );
+                docs.put(judgmentRating.getId(), judgmentRating.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+            }
+        } catch (Exception e) {
+            listener.onFailure(new SearchRelevanceException("Failed to store judgment ratings", e, RestStatus.INTERNAL_SERVER_ERROR));
+            return;
+        }
+        searchRelevanceIndicesManager.bulkUpdateDocs(docs, JUDGMENT_RATING, ActionListener.wrap(bulkResponse -> {
+            if (bulkResponse.hasFailures()) {
+                listener.onFailure(
+                    new SearchRelevanceException(
+                        "Failed to store judgment ratings: " + bulkResponse.buildFailureMessage(),
+                        RestStatus.INTERNAL_SERVER_ERROR
+                    )
+                );
+                return;
+            }
+            putJudgmentRatings(judgmentId, judgmentRatings, to, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Delete judgment by judgmentID, together with its ratings in the judgment rating index
      * @param judgmentId - id to be deleted
      * @param listener - action lister for async operation
      */
     public void deleteJudgment(final String judgmentId, final ActionListener<DeleteResponse> listener) {
-        searchRelevanceIndicesManager.deleteDocByDocId(judgmentId, JUDGMENT, listener);
+        // the ratings go first, a failed delete leaves the judgment in place to be deleted again
+        searchRelevanceIndicesManager.deleteDocsByQuery(
+            QueryBuilders.termQuery(JudgmentRating.JUDGMENT_ID, judgmentId),
+            JUDGMENT_RATING,
+            ActionListener.wrap(
+                deleted -> searchRelevanceIndicesManager.deleteDocByDocId(judgmentId, JUDGMENT, listener),
+                listener::onFailure
+            )
+        );
+    }
+
+    /**
+     * Get the ratings of one query text of a judgment list from the judgment rating index
+     * @param judgmentId - id of the judgment list
+     * @param queryText - query text to look up
+     * @param listener - notified with docId to rating, empty when the query text has no ratings stored
+     */
+    public void getQueryRatings(final String judgmentId, final String queryText, final ActionListener<Map<String, Float>> listener) {
+        getQueryRatings(
+            judgmentId,
+            List.of(queryText),
+            ActionListener.wrap(ratings -> listener.onResponse(ratings.isEmpty() ? Map.of() : ratings.getRatings(0)), listener::onFailure)
+        );
+    }
+
+    /**
+     * Get the ratings of a batch of query texts of a judgment list from the judgment rating index, by term lookups of
+     * {@link #RATINGS_BATCH_SIZE} query texts at a time. The stored ratings are streamed into {@link JudgmentRatings}
+     * without materializing the sources as maps.
+     * @param judgmentId - id of the judgment list
+     * @param queryTexts - query texts to look up
+     * @param listener - notified with the ratings of the query texts, query texts without ratings stored are absent
+     */
+    public void getQueryRatings(
+        final String judgmentId,
+        final Collection<String> queryTexts,
+        final ActionListener<JudgmentRatings> listener
+    ) {
+        if (judgmentId == null || judgmentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("judgmentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        getQueryRatings(judgmentId, new ArrayList<>(new LinkedHashSet<>(queryTexts)), 0, new JudgmentRatings.Builder(), listener);
+    }
+
+    private void getQueryRatings(
+        final String judgmentId,
+        final List<String> queryTexts,
+        final int from,
+        final JudgmentRatings.Builder queryRatings,
+        final ActionListener<JudgmentRatings> listener
+    ) {
+        if (from >= queryTexts.size()) {
+            listener.onResponse(queryRatings.build());
+            return;
+        }
+        int to = Math.min(from + RATINGS_BATCH_SIZE, queryTexts.size());
+        // a judgment list stores at most one document per query text
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery(JudgmentRating.JUDGMENT_ID, judgmentId))
+                .filter(QueryBuilders.termsQuery(JudgmentRating.QUERY, queryTexts.subList(from, to)))
+        ).size(to - from).fetchSource(new String[] { JudgmentRating.QUERY, JudgmentRating.RATINGS }, null);
+        searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, JUDGMENT_RATING, ActionListener.wrap(response -> {
+            try {
+                for (SearchHit hit : response.getHits().getHits()) {
+                    BytesReference source = hit.getSourceRef();
+                    try (
+                        XContentParser parser = XContentHelper.createParser(
+                            NamedXContentRegistry.EMPTY,
+                            DeprecationHandler.IGNORE_DEPRECATIONS,
+                            source,
+                            MediaTypeRegistry.xContentType(source)
+                        )
+                    ) {
+                        if (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                            queryRatings.parseQueryRatings(parser);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                listener.onFailure(new SearchRelevanceException("Failed to parse judgment ratings", e, RestStatus.INTERNAL_SERVER_ERROR));
+                return;
+            }
+            getQueryRatings(judgmentId, queryTexts, to, queryRatings, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Check whether the judgment rating index holds any ratings of a judgment list
+     * @param judgmentId - id of the judgment list
+     * @param listener - notified with true when at least one query text of the judgment list has ratings stored
+     */
+    public void hasJudgmentRatings(final String judgmentId, final ActionListener<Boolean> listener) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery(JudgmentRating.JUDGMENT_ID, judgmentId)
+        ).size(0).trackTotalHitsUpTo(1);
+        searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, JUDGMENT_RATING, ActionListener.wrap(response -> {
+            TotalHits totalHits = response.getHits().getTotalHits();
+            listener.onResponse(totalHits != null && totalHits.value() > 0);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Read one page of the ratings of a judgment list from the judgment rating index, sorted by query text
+     * @param judgmentId - id of the judgment list
+     * @param queryText - query text to export, null for every query text
+     * @param size - query texts of the page
+     * @param cursor - position after the previous page, null for the first page
+     * @param keepAlive - keep alive of the point in time of the export until the next page
+     * @param listener - action lister notified with the page
+     */
+    public void exportJudgmentRatings(
+        final String judgmentId,
+        final String queryText,
+        final int size,
+        final ExportCursor cursor,
+        final TimeValue keepAlive,
+        final ActionListener<SearchResponse> listener
+    ) {
+        BoolQueryBuilder query = QueryBuilders.boolQuery().filter(QueryBuilders.termQuery(JudgmentRating.JUDGMENT_ID, judgmentId));
+        if (queryText != null) {
+            query.filter(QueryBuilders.termQuery(JudgmentRating.QUERY, queryText));
+        }
+        // a judgment list stores one document per query text, the query text is a unique sort key
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(query)
+            .size(size)
+            .sort(JudgmentRating.QUERY, SortOrder.ASC)
+            .fetchSource(new String[] { JudgmentRating.QUERY, JudgmentRating.RATINGS }, null);
+        if (cursor != null) {
+            sourceBuilder.searchAfter(cursor.searchAfter());
+        }
+        searchRelevanceIndicesManager.searchPage(
+            sourceBuilder,
+            JUDGMENT_RATING,
+            cursor == null ? null : cursor.pitId(),
+            keepAlive,
+            listener
+        );
     }
 
     /**
@@ -12,9 +12,9 @@ import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.SEAR
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -95,14 +95,6 @@ public class SearchConfigurationDao {
         return searchRelevanceIndicesManager.getDocByDocId(searchConfigurationId, SEARCH_CONFIGURATION, listener);
     }
 
-    public SearchConfiguration getSearchConfigurationSync(String searchConfigurationId) {
-        if (searchConfigurationId == null || searchConfigurationId.isEmpty()) {
-            throw new SearchRelevanceException("searchConfigurationId must not be null or empty", RestStatus.BAD_REQUEST);
-        }
-        SearchResponse response = searchRelevanceIndicesManager.getDocByDocIdSync(searchConfigurationId, SEARCH_CONFIGURATION);
-        return convertToSearchConfiguration(response);
-    }
-
     /**
      * List searchConfigurationId by source builder
      * @param sourceBuilder - source builder to be searched
@@ -133,7 +125,14 @@ public class SearchConfigurationDao {
         Map<String, Object> results,
         ActionListener<Map<String, Object>> stepListener
     ) {
-        Map<String, List<String>> indexAndQueries = new HashMap<>();
+        if (searchConfigurationList == null || searchConfigurationList.isEmpty()) {
+            stepListener.onFailure(
+                new SearchRelevanceException("searchConfigurationList must not be null or empty", RestStatus.BAD_REQUEST)
+            );
+            return;
+        }
+        // responses arrive on different threads
+        Map<String, List<String>> indexAndQueries = new ConcurrentHashMap<>();
 
         GroupedActionListener<SearchResponse> groupedListener = new GroupedActionListener<>(ActionListener.wrap(responses -> {
             results.put(METRICS_INDEX_AND_QUERIES_FIELD_NAME, indexAndQueries);
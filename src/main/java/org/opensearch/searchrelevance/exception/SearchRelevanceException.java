@@ -46,4 +46,11 @@ public class SearchRelevanceException extends OpenSearchException {
         super(message, cause);
         this.restStatus = restStatus;
     }
+
+    /**
+     * @return HTTP status code the exception was created with
+     */
+    public RestStatus getRestStatus() {
+        return restStatus;
+    }
 }
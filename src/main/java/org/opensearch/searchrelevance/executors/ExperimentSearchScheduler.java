@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Permit based scheduler for experiment evaluation searches.
+ * At most maxConcurrentSearchesPerNode searches are in flight on this node and at most
+ * maxConcurrentSearchesPerExperiment of them belong to the same experiment; the rest wait in a
+ * per-experiment FIFO queue. Experiments are served round robin so a large experiment cannot starve a small one.
+ * Searches granted a permit in the same dispatch round are sent together as multi-search requests of up to
+ * msearchBatchSize searches, and every item of the multi-search response is routed back to the listener of its search.
+ * Search responses are handed back on the {@link SearchRelevanceExecutor} thread pool.
+ * Cancelling an experiment fails its queued searches right away, the searches still in flight once they return and
+ * every search queued afterwards, until the experiment is unregistered.
+ */
+@Log4j2
+public class ExperimentSearchScheduler {
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+
+    private final Object lock = new Object();
+    private final Map<String, Deque<PendingSearch>> pendingByExperiment = new LinkedHashMap<>();
+    private final Map<String, Integer> inFlightByExperiment = new HashMap<>();
+    private final Set<String> cancelledExperiments = new HashSet<>();
+    // cancelled experiments already unregistered, forgotten once their last search in flight returns
+    private final Set<String> unregisteredExperiments = new HashSet<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    private int inFlight;
+
+    public ExperimentSearchScheduler(Client client, ThreadPool threadPool, SearchRelevanceSettingsAccessor settingsAccessor) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Queue a search on behalf of an experiment, it is sent once a permit is available.
+     * Dispatching is deferred to the experiment thread pool so searches queued in a row end up in the same batch.
+     * @param experimentId - id of the experiment the search belongs to
+     * @param searchRequest - search request to execute
+     * @param listener - notified with the search response on the experiment thread pool
+     */
+    public void search(String experimentId, SearchRequest searchRequest, ActionListener<SearchResponse> listener) {
+        boolean cancelled;
+        synchronized (lock) {
+            cancelled = cancelledExperiments.contains(experimentId);
+            if (cancelled == false) {
+                pendingByExperiment.computeIfAbsent(experimentId, id -> new ArrayDeque<>())
+                    .addLast(new PendingSearch(experimentId, searchRequest, listener));
+            }
+        }
+        if (cancelled) {
+            listener.onFailure(cancelled(experimentId));
+            return;
+        }
+        scheduleDispatch();
+    }
+
+    /**
+     * Stop issuing searches for an experiment: its queued searches fail with a {@link TaskCancelledException}
+     * and so do the searches in flight once they return, so none of their results are processed. Searches queued
+     * afterwards fail right away until the experiment is unregistered with {@link #unregister}.
+     * @param experimentId - id of the cancelled experiment
+     */
+    public void cancel(String experimentId) {
+        Deque<PendingSearch> pending;
+        synchronized (lock) {
+            pending = pendingByExperiment.remove(experimentId);
+            cancelledExperiments.add(experimentId);
+        }
+        if (pending != null) {
+            log.info("Dropped {} queued searches of cancelled experiment {}", pending.size(), experimentId);
+            for (PendingSearch pendingSearch : pending) {
+                threaded(pendingSearch).onFailure(cancelled(experimentId));
+            }
+        }
+    }
+
+    /**
+     * Forget an experiment once its run or slice on this node is over. A cancelled experiment is forgotten once its
+     * last search in flight returns, so that search still fails.
+     * @param experimentId - id of the experiment
+     */
+    public void unregister(String experimentId) {
+        synchronized (lock) {
+            if (cancelledExperiments.contains(experimentId) == false) {
+                return;
+            }
+            if (inFlightByExperiment.containsKey(experimentId)) {
+                unregisteredExperiments.add(experimentId);
+            } else {
+                cancelledExperiments.remove(experimentId);
+            }
+        }
+    }
+
+    /**
+     * @return number of searches currently in flight on this node
+     */
+    public int getInFlightCount() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * @return number of searches waiting for a permit on this node
+     */
+    public int getQueuedCount() {
+        synchronized (lock) {
+            return pendingByExperiment.values().stream().mapToInt(Deque::size).sum();
+        }
+    }
+
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true) == false) {
+            return;
+        }
+        try {
+            threadPool.executor(SearchRelevanceExecutor.THREAD_POOL_NAME).execute(this::dispatch);
+        } catch (Exception e) {
+            log.warn("Failed to fork search dispatch, dispatching on the calling thread", e);
+            dispatch();
+        }
+    }
+
+    private void dispatch() {
+        // reset before draining so searches queued from now on schedule another round
+        dispatchScheduled.set(false);
+        List<List<PendingSearch>> batches = new ArrayList<>();
+        synchronized (lock) {
+            int nodeLimit = settingsAccessor.getMaxConcurrentSearchesPerNode();
+            int experimentLimit = settingsAccessor.getMaxConcurrentSearchesPerExperiment();
+            int batchSize = settingsAccessor.getMsearchBatchSize();
+            List<PendingSearch> batch = new ArrayList<>();
+            while (inFlight < nodeLimit) {
+                String experimentId = null;
+                for (String candidate : pendingByExperiment.keySet()) {
+                    if (inFlightByExperiment.getOrDefault(candidate, 0) < experimentLimit) {
+                        experimentId = candidate;
+                        break;
+                    }
+                }
+                if (experimentId == null) {
+                    break;
+                }
+                Deque<PendingSearch> pending = pendingByExperiment.remove(experimentId);
+                batch.add(pending.pollFirst());
+                inFlight++;
+                inFlightByExperiment.merge(experimentId, 1, Integer::sum);
+                if (pending.isEmpty() == false) {
+                    // move the experiment to the back of the line so experiments are served round robin
+                    pendingByExperiment.put(experimentId, pending);
+                }
+                if (batch.size() >= batchSize) {
+                    batches.add(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (batch.isEmpty() == false) {
+                batches.add(batch);
+            }
+        }
+        for (List<PendingSearch> batch : batches) {
+            execute(batch);
+        }
+    }
+
+    private void execute(List<PendingSearch> batch) {
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        multiSearchRequest.maxConcurrentSearchRequests(settingsAccessor.getMsearchMaxConcurrentSearchRequests());
+        for (PendingSearch pendingSearch : batch) {
+            multiSearchRequest.add(pendingSearch.searchRequest);
+        }
+        try {
+            client.multiSearch(multiSearchRequest, new ActionListener<>() {
+                @Override
+                public void onResponse(MultiSearchResponse multiSearchResponse) {
+                    Set<String> cancelled = release(batch);
+                    MultiSearchResponse.Item[] items = multiSearchResponse.getResponses();
+                    for (int i = 0; i < batch.size(); i++) {
+                        ActionListener<SearchResponse> listener = threaded(batch.get(i));
+                        if (cancelled.contains(batch.get(i).experimentId)) {
+                            listener.onFailure(cancelled(batch.get(i).experimentId));
+                        } else if (i >= items.length) {
+                            listener.onFailure(new IllegalStateException("Missing multi-search response item " + i));
+                        } else if (items[i].isFailure()) {
+                            listener.onFailure(items[i].getFailure());
+                        } else {
+                            listener.onResponse(items[i].getResponse());
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    release(batch);
+                    for (PendingSearch pendingSearch : batch) {
+                        threaded(pendingSearch).onFailure(e);
+                    }
+                }
+            });
+        } catch (Exception e) {
+            release(batch);
+            for (PendingSearch pendingSearch : batch) {
+                pendingSearch.listener.onFailure(e);
+            }
+        }
+    }
+
+    private ActionListener<SearchResponse> threaded(PendingSearch pendingSearch) {
+        return new ThreadedActionListener<>(log, threadPool, SearchRelevanceExecutor.THREAD_POOL_NAME, pendingSearch.listener, false);
+    }
+
+    /**
+     * Give the permits of a batch back
+     * @return ids of the cancelled experiments among the batch
+     */
+    private Set<String> release(List<PendingSearch> batch) {
+        Set<String> cancelled = new HashSet<>();
+        synchronized (lock) {
+            for (PendingSearch pendingSearch : batch) {
+                inFlight--;
+                if (cancelledExperiments.contains(pendingSearch.experimentId)) {
+                    cancelled.add(pendingSearch.experimentId);
+                }
+                int experimentInFlight = inFlightByExperiment.getOrDefault(pendingSearch.experimentId, 1) - 1;
+                if (experimentInFlight <= 0) {
+                    inFlightByExperiment.remove(pendingSearch.experimentId);
+                    if (unregisteredExperiments.remove(pendingSearch.experimentId)) {
+                        cancelledExperiments.remove(pendingSearch.experimentId);
+                    }
+                } else {
+                    inFlightByExperiment.put(pendingSearch.experimentId, experimentInFlight);
+                }
+            }
+        }
+        scheduleDispatch();
+        return cancelled;
+    }
+
+    private static TaskCancelledException cancelled(String experimentId) {
+        return new TaskCancelledException("Experiment [" + experimentId + "] was cancelled");
+    }
+
+    private static final class PendingSearch {
+        private final String experimentId;
+        private final SearchRequest searchRequest;
+        private final ActionListener<SearchResponse> listener;
+
+        private PendingSearch(String experimentId, SearchRequest searchRequest, ActionListener<SearchResponse> listener) {
+            this.experimentId = experimentId;
+            this.searchRequest = searchRequest;
+            this.listener = listener;
+        }
+    }
+}
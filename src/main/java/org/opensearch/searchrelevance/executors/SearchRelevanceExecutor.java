@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Defines the dedicated thread pool used to run experiment evaluation work,
+ * keeping it off the transport and search thread pools.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SearchRelevanceExecutor {
+
+    public static final String THREAD_POOL_NAME = "search_relevance_experiment";
+    private static final String THREAD_POOL_SETTINGS_PREFIX = "thread_pool." + THREAD_POOL_NAME;
+    private static final int MAX_THREAD_POOL_SIZE = 8;
+    public static final String SIGNIFICANCE_POOL_NAME = "search_relevance_significance";
+    private static final int MAX_SIGNIFICANCE_PARALLELISM = 4;
+
+    /**
+     * Build the fixed executor for experiment work. The queue is unbounded because the
+     * number of submitted tasks is already capped by {@link ExperimentSearchScheduler}.
+     * @param settings - node settings
+     * @return executor builder to register with the plugin
+     */
+    public static ExecutorBuilder<?> getExecutorBuilder(Settings settings) {
+        int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        int size = Math.max(1, Math.min(MAX_THREAD_POOL_SIZE, allocatedProcessors / 2));
+        return new FixedExecutorBuilder(settings, THREAD_POOL_NAME, size, -1, THREAD_POOL_SETTINGS_PREFIX);
+    }
+
+    /**
+     * Build the fork join pool running the resampling iterations of the significance tests. Its parallelism is bounded
+     * like the experiment thread pool, so the tests of a completed experiment never take over the node.
+     * @param settings - node settings
+     * @return fork join pool, shut down when the plugin is closed
+     */
+    public static ForkJoinPool newSignificancePool(Settings settings) {
+        int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        int parallelism = Math.max(1, Math.min(MAX_SIGNIFICANCE_PARALLELISM, allocatedProcessors / 2));
+        String threadName = OpenSearchExecutors.threadName(settings, SIGNIFICANCE_POOL_NAME);
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadName + "#" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
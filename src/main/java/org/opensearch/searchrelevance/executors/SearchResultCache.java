@@ -0,0 +1,331 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.ShardStats;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.search.SearchHit;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local cache of the ranked doc ids, and their scores, returned by experiment evaluation searches, in front of
+ * {@link ExperimentSearchScheduler}. Entries are keyed by the target indices, the rendered search source (query, size
+ * and temporary search pipeline) and the search pipeline, so configurations and experiments issuing identical searches
+ * share one search. Concurrent identical searches are coalesced: only the first one is sent and the others wait for it,
+ * its failure only reaches waiters of the same experiment.
+ * The cache is bounded by a memory budget and entries are scoped to their experiment, dropped by {@link #release}.
+ * When cross-experiment caching is enabled, entries are scoped to the state of the target indices instead, the index
+ * uuid, max sequence number and refresh count of their primary shards, so they are reused until the indices change.
+ * Every index of a multi-index search is fingerprinted on its own, the search is only shared across experiments when
+ * all of them are.
+ */
+@Log4j2
+public class SearchResultCache {
+    private static final String EXPERIMENT_SCOPE_PREFIX = "experiment:";
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+    private static final long DOC_ID_OVERHEAD_BYTES = 40;
+
+    private final Client client;
+    private final ExperimentSearchScheduler experimentSearchScheduler;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+    private final Cache<Key, RankedHits> cache;
+    private final ConcurrentMap<Key, List<Waiter>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, String>> indexScopesByExperiment = new ConcurrentHashMap<>();
+
+    public SearchResultCache(
+        Client client,
+        ExperimentSearchScheduler experimentSearchScheduler,
+        SearchRelevanceSettingsAccessor settingsAccessor
+    ) {
+        this.client = client;
+        this.experimentSearchScheduler = experimentSearchScheduler;
+        this.settingsAccessor = settingsAccessor;
+        this.cache = CacheBuilder.<Key, RankedHits>builder()
+            .setMaximumWeight(settingsAccessor.getSearchResultCacheSize().getBytes())
+            .weigher(SearchResultCache::weigh)
+            .build();
+    }
+
+    /**
+     * Resolve how the searches of an experiment are scoped in the cache. With cross-experiment caching enabled, the
+     * target indices are fingerprinted once here so cached searches on unchanged indices are reused across experiments.
+     * @param experimentId - id of the experiment about to search
+     * @param indices - indices searched by the experiment
+     * @param listener - notified once the scopes are resolved, never with a failure
+     */
+    public void resolveScopes(String experimentId, Collection<String> indices, ActionListener<Void> listener) {
+        if (settingsAccessor.isSearchResultCacheCrossExperimentEnabled() == false || indices.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        Map<String, String> indexScopes = indexScopesByExperiment.computeIfAbsent(experimentId, id -> new ConcurrentHashMap<>());
+        List<String> distinctIndices = indexNames(indices);
+        AtomicInteger pendingIndices = new AtomicInteger(distinctIndices.size());
+        for (String index : distinctIndices) {
+            IndicesStatsRequest statsRequest = new IndicesStatsRequest().indices(index).clear().refresh(true);
+            client.admin().indices().stats(statsRequest, ActionListener.wrap(response -> {
+                String fingerprint = fingerprint(response.getShards());
+                if (fingerprint != null) {
+                    indexScopes.put(index, fingerprint);
+                }
+                if (pendingIndices.decrementAndGet() == 0) {
+                    listener.onResponse(null);
+                }
+            }, e -> {
+                // searches on this index stay scoped to the experiment
+                log.warn("Failed to fingerprint index {} for experiment {}", index, experimentId, e);
+                if (pendingIndices.decrementAndGet() == 0) {
+                    listener.onResponse(null);
+                }
+            }));
+        }
+    }
+
+    /**
+     * Get the ranked doc ids of a search, from the cache, from an identical search in flight or by scheduling it
+     * @param experimentId - id of the experiment the search belongs to
+     * @param searchRequest - search request to execute
+     * @param listener - notified with the ids of the hits in rank order, shared and not to be modified
+     */
+    public void search(String experimentId, SearchRequest searchRequest, ActionListener<List<String>> listener) {
+        searchWithScores(experimentId, searchRequest, ActionListener.map(listener, RankedHits::docIds));
+    }
+
+    /**
+     * Get the ranked doc ids of a search together with their scores, see {@link #search}
+     * @param experimentId - id of the experiment the search belongs to
+     * @param searchRequest - search request to execute
+     * @param listener - notified with the hits in rank order, shared and not to be modified
+     */
+    public void searchWithScores(String experimentId, SearchRequest searchRequest, ActionListener<RankedHits> listener) {
+        Key key = key(experimentId, searchRequest);
+        RankedHits cached = cache.get(key);
+        if (cached != null) {
+            listener.onResponse(cached);
+            return;
+        }
+        boolean[] leader = new boolean[1];
+        inFlight.compute(key, (k, waiting) -> {
+            List<Waiter> waiters = waiting;
+            if (waiters == null) {
+                leader[0] = true;
+                waiters = new ArrayList<>();
+            }
+            waiters.add(new Waiter(experimentId, listener));
+            return waiters;
+        });
+        if (leader[0] == false) {
+            return;
+        }
+        experimentSearchScheduler.search(experimentId, searchRequest, ActionListener.wrap(response -> {
+            SearchHit[] searchHits = response.getHits().getHits();
+            List<String> docIds = new ArrayList<>(searchHits.length);
+            float[] scores = new float[searchHits.length];
+            for (int i = 0; i < searchHits.length; i++) {
+                docIds.add(searchHits[i].getId());
+                scores[i] = searchHits[i].getScore();
+            }
+            RankedHits hits = new RankedHits(Collections.unmodifiableList(docIds), scores);
+            cache.put(key, hits);
+            for (Waiter waiting : inFlight.remove(key)) {
+                waiting.listener().onResponse(hits);
+            }
+        }, e -> {
+            // a failure, e.g. the cancellation of the experiment, is only shared within the experiment that sent the
+            // search, waiters of other experiments send it again under their own experiment
+            for (Waiter waiting : inFlight.remove(key)) {
+                if (waiting.experimentId().equals(experimentId)) {
+                    waiting.listener().onFailure(e);
+                } else {
+                    searchWithScores(waiting.experimentId(), searchRequest, waiting.listener());
+                }
+            }
+        }));
+    }
+
+    /**
+     * Drop the entries scoped to an experiment once it no longer searches, entries scoped to index state are kept.
+     * The experiment is also unregistered from the {@link ExperimentSearchScheduler}.
+     * @param experimentId - id of the experiment
+     */
+    public void release(String experimentId) {
+        experimentSearchScheduler.unregister(experimentId);
+        indexScopesByExperiment.remove(experimentId);
+        String scope = EXPERIMENT_SCOPE_PREFIX + experimentId;
+        List<Key> experimentKeys = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (scope.equals(key.scope)) {
+                experimentKeys.add(key);
+            }
+        }
+        experimentKeys.forEach(cache::invalidate);
+    }
+
+    /**
+     * @return hits, misses and evictions of the cache on this node
+     */
+    public Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return number of searches cached on this node
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    private Key key(String experimentId, SearchRequest searchRequest) {
+        List<String> indexNames = indexNames(Arrays.asList(searchRequest.indices()));
+        return new Key(
+            scope(experimentId, indexNames),
+            String.join(",", indexNames),
+            searchRequest.pipeline(),
+            searchRequest.source() == null ? "" : searchRequest.source().toString()
+        );
+    }
+
+    /**
+     * The scope of a search combines the sorted fingerprints of its indices, it stays scoped to the experiment when
+     * any of them is not fingerprinted
+     */
+    private String scope(String experimentId, List<String> indexNames) {
+        Map<String, String> indexScopes = indexScopesByExperiment.get(experimentId);
+        if (indexScopes == null || indexNames.isEmpty()) {
+            return EXPERIMENT_SCOPE_PREFIX + experimentId;
+        }
+        List<String> fingerprints = new ArrayList<>(indexNames.size());
+        for (String index : indexNames) {
+            String fingerprint = indexScopes.get(index);
+            if (fingerprint == null) {
+                return EXPERIMENT_SCOPE_PREFIX + experimentId;
+            }
+            fingerprints.add(fingerprint);
+        }
+        Collections.sort(fingerprints);
+        return String.join(",", fingerprints);
+    }
+
+    /**
+     * @param indices - indices, aliases or patterns, each possibly a comma separated list
+     * @return the distinct names in sorted order
+     */
+    private static List<String> indexNames(Collection<String> indices) {
+        return indices.stream()
+            .flatMap(index -> Arrays.stream(Strings.splitStringByCommaToArray(index)))
+            .map(String::trim)
+            .filter(index -> index.isEmpty() == false)
+            .distinct()
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    static String fingerprint(ShardStats[] shards) {
+        StringBuilder state = new StringBuilder();
+        List<ShardStats> primaries = Arrays.stream(shards)
+            .filter(shard -> shard.getShardRouting().primary())
+            .sorted(Comparator.comparing((ShardStats shard) -> shard.getShardRouting().shardId().getIndex().getUUID()).thenComparingInt(
+                shard -> shard.getShardRouting().shardId().id()
+            ))
+            .collect(Collectors.toList());
+        if (primaries.isEmpty()) {
+            return null;
+        }
+        for (ShardStats shard : primaries) {
+            if (shard.getSeqNoStats() == null || shard.getStats().getRefresh() == null) {
+                return null;
+            }
+            state.append(shard.getShardRouting().shardId().getIndex().getUUID())
+                .append('/')
+                .append(shard.getShardRouting().shardId().id())
+                .append(':')
+                .append(shard.getSeqNoStats().getMaxSeqNo())
+                .append(':')
+                .append(shard.getStats().getRefresh().getTotal())
+                .append(';');
+        }
+        return "index:" + UUID.nameUUIDFromBytes(state.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long weigh(Key key, RankedHits hits) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * (key.scope.length() + key.indices.length() + key.source.length());
+        if (key.pipeline != null) {
+            bytes += 2L * key.pipeline.length();
+        }
+        for (String docId : hits.docIds()) {
+            bytes += DOC_ID_OVERHEAD_BYTES + 2L * docId.length() + Float.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Hits of a search in rank order
+     * @param docIds - ids of the hits
+     * @param scores - scores of the hits, aligned with their ids
+     */
+    public record RankedHits(List<String> docIds, float[] scores) {
+    }
+
+    private record Waiter(String experimentId, ActionListener<RankedHits> listener) {
+    }
+
+    private static final class Key {
+        private final String scope;
+        private final String indices;
+        private final String pipeline;
+        private final String source;
+        private final int hashCode;
+
+        private Key(String scope, String indices, String pipeline, String source) {
+            this.scope = scope;
+            this.indices = indices;
+            this.pipeline = pipeline;
+            this.source = source;
+            this.hashCode = Objects.hash(scope, indices, pipeline, source);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key other = (Key) o;
+            return scope.equals(other.scope)
+                && indices.equals(other.indices)
+                && Objects.equals(pipeline, other.pipeline)
+                && source.equals(other.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
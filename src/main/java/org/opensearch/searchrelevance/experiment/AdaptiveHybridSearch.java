@@ -0,0 +1,462 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
+import org.opensearch.searchrelevance.metrics.JudgmentIndex;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.metrics.calculator.Evaluation;
+import org.opensearch.searchrelevance.metrics.calculator.QueryJudgments;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Adaptive search of the variants of a hybrid optimizer experiment, instead of evaluating the full grid of variants on
+ * every query text. Candidates are scored by their mean NDCG on a sample of the query texts that have ratings, across
+ * every search configuration, in two stages:
+ * 1. successive halving over every normalization and combination technique with a coarse grid of weights: all
+ *    candidates are scored on a few query texts, only the best 1/ETA are kept and scored on ETA times as many query
+ *    texts, until one candidate is left or the whole sample is used;
+ * 2. golden-section search of the weight of the first sub-query, for the techniques of the winner of the first stage,
+ *    on the whole sample.
+ * Every evaluated candidate is recorded as a COMPLETED experiment variant whose results hold the scores it got at
+ * every stage. The sample is shuffled with the experiment id as seed, so a resumed experiment selects the same variant.
+ */
+@Log4j2
+public class AdaptiveHybridSearch {
+    public static final String STRATEGY = "adaptive";
+    public static final String RESULTS_FIELD_STRATEGY = "strategy";
+    public static final String RESULTS_FIELD_TRAJECTORY = "trajectory";
+    public static final String RESULTS_FIELD_SELECTED = "selected";
+    public static final String TRAJECTORY_FIELD_STAGE = "stage";
+    public static final String TRAJECTORY_FIELD_QUERY_TEXTS = "queryTexts";
+    public static final String TRAJECTORY_FIELD_SCORE = "score";
+    public static final String STAGE_SUCCESSIVE_HALVING = "successive_halving";
+    public static final String STAGE_GOLDEN_SECTION = "golden_section";
+
+    static final int ETA = 3;
+    static final int COARSE_WEIGHTS = 5;
+    static final int GOLDEN_SECTION_ITERATIONS = 8;
+    private static final double INVERSE_GOLDEN_RATIO = (Math.sqrt(5) - 1) / 2;
+
+    private final MetricsHelper metricsHelper;
+    private final ExperimentVariantDao experimentVariantDao;
+
+    public AdaptiveHybridSearch(MetricsHelper metricsHelper, ExperimentVariantDao experimentVariantDao) {
+        this.metricsHelper = metricsHelper;
+        this.experimentVariantDao = experimentVariantDao;
+    }
+
+    /**
+     * Select the hybrid search variant to evaluate the experiment with
+     * @param experimentId - id of the experiment
+     * @param indexAndQueries - index and hybrid query of every search configuration
+     * @param queryTexts - every query text of the experiment, completed or not
+     * @param size - number of hits evaluated per search
+     * @param judgmentIndex - judgments of the experiment
+     * @param sampleSize - maximum number of query texts the candidates are scored on
+     * @param options - techniques and weight range to search
+     * @param listener - notified with the selected variant once the trajectory of the search is recorded, or with the
+     *                 full grid of variants when no query text has ratings
+     */
+    public void search(
+        String experimentId,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        int size,
+        JudgmentIndex judgmentIndex,
+        int sampleSize,
+        ExperimentOptionsForHybridSearch options,
+        ActionListener<List<ExperimentVariantHybridSearchDTO>> listener
+    ) {
+        List<String> sample = queryTexts.stream()
+            .filter(queryText -> judgmentIndex.getQueryJudgments(queryText).isEmpty() == false)
+            .distinct()
+            .collect(Collectors.toList());
+        Collections.shuffle(sample, new Random(experimentId.hashCode()));
+        sample = sample.subList(0, Math.min(sampleSize, sample.size()));
+        if (sample.isEmpty() || indexAndQueries.isEmpty()) {
+            log.warn("No query text of experiment {} has ratings, evaluating every hybrid search variant", experimentId);
+            listener.onResponse(options.getParameterCombinations(true));
+            return;
+        }
+        try {
+            new Search(experimentId, indexAndQueries, sample, size, judgmentIndex, options, listener).start();
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * @param candidates - number of candidates of the first rung
+     * @param sampleSize - number of query texts of the sample
+     * @return number of query texts the first rung is scored on, so the last rung is scored on the whole sample
+     */
+    static int firstRungQueryTexts(int candidates, int sampleSize) {
+        long lastRungQueryTexts = 1;
+        for (int survivors = candidates; survivors > 1; survivors = ceilDiv(survivors, ETA)) {
+            lastRungQueryTexts *= ETA;
+        }
+        return (int) Math.max(1, sampleSize / lastRungQueryTexts);
+    }
+
+    /**
+     * @param techniques - number of normalization and combination technique pairs
+     * @param sampleSize - number of query texts of the sample
+     * @return upper bound of the candidates ranked on a query text over the whole search, one ranking per search configuration
+     */
+    public static long maxRankings(int techniques, int sampleSize) {
+        int candidates = techniques * COARSE_WEIGHTS;
+        int queryTexts = firstRungQueryTexts(candidates, sampleSize);
+        long rankings = 0;
+        int evaluatedQueryTexts = 0;
+        for (int survivors = candidates;; survivors = ceilDiv(survivors, ETA)) {
+            rankings += (long) survivors * (queryTexts - evaluatedQueryTexts);
+            if (survivors == 1 || queryTexts >= sampleSize) {
+                break;
+            }
+            evaluatedQueryTexts = queryTexts;
+            queryTexts = Math.min(sampleSize, queryTexts * ETA);
+        }
+        // the winner is completed on the whole sample, then two weights plus one per iteration are scored on it
+        return rankings + (sampleSize - queryTexts) + (long) (2 + GOLDEN_SECTION_ITERATIONS) * sampleSize;
+    }
+
+    /**
+     * @param techniques - number of normalization and combination technique pairs
+     * @return upper bound of the candidates recorded as experiment variants
+     */
+    public static int maxCandidates(int techniques) {
+        return techniques * COARSE_WEIGHTS + 2 + GOLDEN_SECTION_ITERATIONS;
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static float roundWeight(double weight) {
+        return Math.round(weight * 100) / 100.0f;
+    }
+
+    private static class Candidate {
+        private final ExperimentVariantHybridSearchDTO options;
+        private final ExperimentVariant experimentVariant;
+        private final List<Map<String, Object>> trajectory = new ArrayList<>();
+        private double scoreSum;
+        private int evaluatedQueryTexts;
+
+        private Candidate(String experimentId, ExperimentVariantHybridSearchDTO options) {
+            this.options = options;
+            this.experimentVariant = new ExperimentVariant(
+                UUID.randomUUID().toString(),
+                TimeUtils.getTimestamp(),
+                ExperimentType.HYBRID_OPTIMIZER,
+                AsyncStatus.PROCESSING,
+                experimentId,
+                options.toParameters(),
+                Map.of()
+            );
+        }
+
+        private float weight() {
+            return options.getQueryWeightsForCombination()[0];
+        }
+    }
+
+    private class Search {
+        private final String experimentId;
+        private final Map<String, List<String>> indexAndQueries;
+        private final List<String> sample;
+        private final int size;
+        private final JudgmentIndex judgmentIndex;
+        private final ExperimentOptionsForHybridSearch options;
+        private final ActionListener<List<ExperimentVariantHybridSearchDTO>> listener;
+        private final List<Candidate> candidates = new ArrayList<>();
+        private final HybridSearchPlan hybridSearchPlan;
+
+        private Search(
+            String experimentId,
+            Map<String, List<String>> indexAndQueries,
+            List<String> sample,
+            int size,
+            JudgmentIndex judgmentIndex,
+            ExperimentOptionsForHybridSearch options,
+            ActionListener<List<ExperimentVariantHybridSearchDTO>> listener
+        ) {
+            this.experimentId = experimentId;
+            this.indexAndQueries = indexAndQueries;
+            this.sample = sample;
+            this.size = size;
+            this.judgmentIndex = judgmentIndex;
+            this.options = options;
+            this.listener = listener;
+            this.hybridSearchPlan = new HybridSearchPlan(size);
+        }
+
+        private void start() {
+            // techniques come from sets, sorted so the candidates and their ties are the same on every run
+            List<ExperimentVariantHybridSearchDTO> techniques = new ArrayList<>(options.getParameterCombinations(false));
+            techniques.sort(
+                Comparator.comparing(ExperimentVariantHybridSearchDTO::getNormalizationTechnique)
+                    .thenComparing(ExperimentVariantHybridSearchDTO::getCombinationTechnique)
+            );
+            float rangeMin = options.getWeightsRange().getRangeMin();
+            float rangeMax = options.getWeightsRange().getRangeMax();
+            List<Candidate> firstRung = new ArrayList<>();
+            for (ExperimentVariantHybridSearchDTO technique : techniques) {
+                for (int i = 0; i < COARSE_WEIGHTS; i++) {
+                    firstRung.add(candidate(technique, roundWeight(rangeMin + (rangeMax - rangeMin) * i / (COARSE_WEIGHTS - 1))));
+                }
+            }
+            log.info(
+                "Adaptive hybrid search of experiment {} starts with {} candidates on {} query texts",
+                experimentId,
+                firstRung.size(),
+                sample.size()
+            );
+            halve(firstRung, firstRungQueryTexts(firstRung.size(), sample.size()));
+        }
+
+        private Candidate candidate(ExperimentVariantHybridSearchDTO technique, float weight) {
+            Candidate candidate = new Candidate(
+                experimentId,
+                ExperimentVariantHybridSearchDTO.builder()
+                    .normalizationTechnique(technique.getNormalizationTechnique())
+                    .combinationTechnique(technique.getCombinationTechnique())
+                    .queryWeightsForCombination(new float[] { weight, roundWeight(1.0f - weight) })
+                    .build()
+            );
+            candidates.add(candidate);
+            return candidate;
+        }
+
+        private void halve(List<Candidate> survivors, int queryTexts) {
+            evaluate(survivors, queryTexts, STAGE_SUCCESSIVE_HALVING, ActionListener.wrap(evaluated -> {
+                List<Candidate> ranked = rank(survivors);
+                if (ranked.size() == 1 || queryTexts >= sample.size()) {
+                    goldenSection(ranked.get(0));
+                } else {
+                    halve(ranked.subList(0, ceilDiv(ranked.size(), ETA)), Math.min(sample.size(), queryTexts * ETA));
+                }
+            }, listener::onFailure));
+        }
+
+        private void goldenSection(Candidate winner) {
+            // candidates of the winning techniques by weight, a weight is never scored twice once rounded
+            Map<Float, Candidate> byWeight = new HashMap<>();
+            byWeight.put(winner.weight(), winner);
+            float lower = options.getWeightsRange().getRangeMin();
+            float upper = options.getWeightsRange().getRangeMax();
+            Candidate left = byWeight.computeIfAbsent(
+                roundWeight(upper - INVERSE_GOLDEN_RATIO * (upper - lower)),
+                weight -> candidate(winner.options, weight)
+            );
+            Candidate right = byWeight.computeIfAbsent(
+                roundWeight(lower + INVERSE_GOLDEN_RATIO * (upper - lower)),
+                weight -> candidate(winner.options, weight)
+            );
+            evaluate(
+                List.of(winner, left, right),
+                sample.size(),
+                STAGE_GOLDEN_SECTION,
+                ActionListener.wrap(
+                    evaluated -> narrow(winner, byWeight, lower, upper, left, right, GOLDEN_SECTION_ITERATIONS),
+                    listener::onFailure
+                )
+            );
+        }
+
+        private void narrow(
+            Candidate winner,
+            Map<Float, Candidate> byWeight,
+            float lower,
+            float upper,
+            Candidate left,
+            Candidate right,
+            int iterations
+        ) {
+            if (iterations == 0 || right.weight() - left.weight() <= 0.01f) {
+                select(rank(new ArrayList<>(byWeight.values())).get(0));
+                return;
+            }
+            Candidate next;
+            float nextLower = lower;
+            float nextUpper = upper;
+            Candidate nextLeft;
+            Candidate nextRight;
+            if (score(left) >= score(right)) {
+                nextUpper = right.weight();
+                nextRight = left;
+                next = byWeight.computeIfAbsent(
+                    roundWeight(nextUpper - INVERSE_GOLDEN_RATIO * (nextUpper - nextLower)),
+                    weight -> candidate(winner.options, weight)
+                );
+                nextLeft = next;
+            } else {
+                nextLower = left.weight();
+                nextLeft = right;
+                next = byWeight.computeIfAbsent(
+                    roundWeight(nextLower + INVERSE_GOLDEN_RATIO * (nextUpper - nextLower)),
+                    weight -> candidate(winner.options, weight)
+                );
+                nextRight = next;
+            }
+            float lowerBound = nextLower;
+            float upperBound = nextUpper;
+            evaluate(
+                List.of(next),
+                sample.size(),
+                STAGE_GOLDEN_SECTION,
+                ActionListener.wrap(
+                    evaluated -> narrow(winner, byWeight, lowerBound, upperBound, nextLeft, nextRight, iterations - 1),
+                    listener::onFailure
+                )
+            );
+        }
+
+        /**
+         * Score the candidates on the first queryTexts query texts of the sample, query texts they were already scored
+         * on are not searched again
+         */
+        private void evaluate(List<Candidate> toEvaluate, int queryTexts, String stage, ActionListener<Void> evaluatedListener) {
+            List<Candidate> pending = toEvaluate.stream()
+                .distinct()
+                .filter(candidate -> candidate.evaluatedQueryTexts < queryTexts)
+                .collect(Collectors.toList());
+            if (pending.isEmpty()) {
+                evaluatedListener.onResponse(null);
+                return;
+            }
+            int from = pending.get(0).evaluatedQueryTexts;
+            if (pending.stream().anyMatch(candidate -> candidate.evaluatedQueryTexts != from)) {
+                // candidates scored on different prefixes are evaluated one by one
+                evaluate(
+                    List.of(pending.get(0)),
+                    queryTexts,
+                    stage,
+                    ActionListener.wrap(evaluated -> evaluate(pending, queryTexts, stage, evaluatedListener), evaluatedListener::onFailure)
+                );
+                return;
+            }
+            List<ExperimentVariant> experimentVariants = pending.stream()
+                .map(candidate -> candidate.experimentVariant)
+                .collect(Collectors.toList());
+            double[] scoreSums = new double[pending.size()];
+            GroupedActionListener<Void> searchesListener = new GroupedActionListener<>(ActionListener.wrap(searched -> {
+                for (int i = 0; i < pending.size(); i++) {
+                    Candidate candidate = pending.get(i);
+                    candidate.scoreSum += scoreSums[i];
+                    candidate.evaluatedQueryTexts = queryTexts;
+                    candidate.trajectory.add(
+                        Map.of(
+                            TRAJECTORY_FIELD_STAGE,
+                            stage,
+                            TRAJECTORY_FIELD_QUERY_TEXTS,
+                            queryTexts,
+                            TRAJECTORY_FIELD_SCORE,
+                            score(candidate)
+                        )
+                    );
+                }
+                evaluatedListener.onResponse(null);
+            }, evaluatedListener::onFailure), (queryTexts - from) * indexAndQueries.size());
+
+            for (String queryText : sample.subList(from, queryTexts)) {
+                QueryJudgments queryJudgments = judgmentIndex.getQueryJudgments(queryText);
+                for (List<String> indexAndQuery : indexAndQueries.values()) {
+                    metricsHelper.rankHybridVariants(
+                        experimentId,
+                        queryText,
+                        indexAndQuery.get(0),
+                        indexAndQuery.get(1),
+                        size,
+                        experimentVariants,
+                        hybridSearchPlan,
+                        ActionListener.wrap(docIdsByVariant -> {
+                            synchronized (scoreSums) {
+                                for (int i = 0; i < docIdsByVariant.size(); i++) {
+                                    float[] rankedRatings = queryJudgments.ratingsOf(docIdsByVariant.get(i));
+                                    scoreSums[i] += Evaluation.calculateNDCGAtK(rankedRatings, queryJudgments, size);
+                                }
+                            }
+                            searchesListener.onResponse(null);
+                        }, searchesListener::onFailure)
+                    );
+                }
+            }
+        }
+
+        private double score(Candidate candidate) {
+            return candidate.evaluatedQueryTexts == 0 ? 0 : candidate.scoreSum / (candidate.evaluatedQueryTexts * indexAndQueries.size());
+        }
+
+        /**
+         * @return candidates by descending score, candidates scored on more query texts first on ties
+         */
+        private List<Candidate> rank(List<Candidate> toRank) {
+            List<Candidate> ranked = new ArrayList<>(toRank);
+            ranked.sort(
+                Comparator.comparingDouble(this::score)
+                    .thenComparingInt(candidate -> candidate.evaluatedQueryTexts)
+                    .reversed()
+            );
+            return ranked;
+        }
+
+        private void select(Candidate selected) {
+            log.info(
+                "Adaptive hybrid search of experiment {} selected {} {} with weights {} after evaluating {} candidates",
+                experimentId,
+                selected.options.getNormalizationTechnique(),
+                selected.options.getCombinationTechnique(),
+                Arrays.toString(selected.options.getQueryWeightsForCombination()),
+                candidates.size()
+            );
+            GroupedActionListener<Void> recordedListener = new GroupedActionListener<>(
+                ActionListener.wrap(recorded -> listener.onResponse(List.of(selected.options)), listener::onFailure),
+                candidates.size()
+            );
+            for (Candidate candidate : candidates) {
+                ExperimentVariant trajectoryVariant = new ExperimentVariant(
+                    candidate.experimentVariant.getId(),
+                    TimeUtils.getTimestamp(),
+                    ExperimentType.HYBRID_OPTIMIZER,
+                    AsyncStatus.COMPLETED,
+                    experimentId,
+                    candidate.experimentVariant.getParameters(),
+                    Map.of(
+                        RESULTS_FIELD_STRATEGY,
+                        STRATEGY,
+                        RESULTS_FIELD_TRAJECTORY,
+                        candidate.trajectory,
+                        RESULTS_FIELD_SELECTED,
+                        candidate == selected
+                    )
+                );
+                experimentVariantDao.bulkUpdateExperimentVariant(trajectoryVariant, recordedListener);
+            }
+        }
+    }
+}
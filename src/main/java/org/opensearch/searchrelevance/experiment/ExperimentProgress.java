@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.searchrelevance.common.PluginConstants;
+import org.opensearch.searchrelevance.cost.CostBudget;
+import org.opensearch.searchrelevance.cost.SearchBudgetTracker;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+
+/**
+ * Progress of a running experiment. The results of every query text are streamed to the experiment result index
+ * as they complete, so only lock-free counters are kept here, including the query texts restored on resume,
+ * together with the bookkeeping that decides when the next checkpoint is due, and the aggregates of the evaluation
+ * metrics of the completed query texts.
+ * Query texts left out because their searches no longer fit in the search budget are skipped, the experiment
+ * finishes once every query text is completed or skipped.
+ * At most one checkpoint is written at a time, and the final experiment update waits for it so a late
+ * checkpoint can never overwrite the final status.
+ */
+class ExperimentProgress {
+    static final String SUMMARY_TOTAL_QUERY_TEXTS = "totalQueryTexts";
+    static final String SUMMARY_COMPLETED_QUERY_TEXTS = "completedQueryTexts";
+    static final String SUMMARY_RESULT_INDEX = "resultIndex";
+    static final String SUMMARY_AGGREGATES = "aggregates";
+    static final String SUMMARY_SIGNIFICANCE = "significance";
+    static final String SUMMARY_ERROR = "error";
+    static final String SUMMARY_SEARCHES = "searches";
+    static final String SUMMARY_BUDGET_EXHAUSTED = "budgetExhausted";
+
+    enum Step {
+        NONE,
+        CHECKPOINT,
+        FINISH
+    }
+
+    private final int totalQueries;
+    private final AtomicInteger completedQueries;
+    private final AtomicInteger pendingQueries;
+    private final AtomicInteger completedSinceCheckpoint = new AtomicInteger();
+    private final AtomicBoolean checkpointInFlight = new AtomicBoolean();
+    private final AtomicReference<Runnable> afterCheckpoint = new AtomicReference<>();
+    private final ExperimentAggregates aggregates;
+    private final CostBudget budget;
+    private final SearchBudgetTracker searchBudget;
+
+    ExperimentProgress(int completedQueries, int pendingQueries) {
+        this(completedQueries, pendingQueries, new ExperimentAggregates(), null, 0);
+    }
+
+    /**
+     * @param aggregates - aggregates of the query texts completed before, e.g. by the run a resumed experiment continues
+     * @param budget - budget of the experiment, null for unlimited
+     * @param searches - searches acquired against the budget before, e.g. by the run a resumed experiment continues
+     */
+    ExperimentProgress(int completedQueries, int pendingQueries, ExperimentAggregates aggregates, CostBudget budget, long searches) {
+        this.totalQueries = completedQueries + pendingQueries;
+        this.completedQueries = new AtomicInteger(completedQueries);
+        this.pendingQueries = new AtomicInteger(pendingQueries);
+        this.aggregates = aggregates;
+        this.budget = budget;
+        this.searchBudget = SearchBudgetTracker.of(budget, searches);
+    }
+
+    /**
+     * @return searches of the experiment counted against its budget
+     */
+    SearchBudgetTracker searchBudget() {
+        return searchBudget;
+    }
+
+    /**
+     * @return aggregates of the evaluation metrics, the metrics of a query text are folded in once its results are stored
+     */
+    ExperimentAggregates aggregates() {
+        return aggregates;
+    }
+
+    /**
+     * @return number of query texts whose results are stored, including the ones completed before
+     */
+    int completedQueries() {
+        return completedQueries.get();
+    }
+
+    /**
+     * Record that the results of a query text are stored
+     * @param checkpointInterval - number of completed query texts between two checkpoints
+     * @return FINISH once every query text is done, CHECKPOINT when a checkpoint is due, NONE otherwise
+     */
+    Step complete(int checkpointInterval) {
+        completedQueries.incrementAndGet();
+        if (pendingQueries.decrementAndGet() == 0) {
+            return Step.FINISH;
+        }
+        if (completedSinceCheckpoint.incrementAndGet() >= checkpointInterval && checkpointInFlight.compareAndSet(false, true)) {
+            completedSinceCheckpoint.set(0);
+            return Step.CHECKPOINT;
+        }
+        return Step.NONE;
+    }
+
+    /**
+     * Record that query texts are skipped, their searches do not fit in the budget
+     * @param skippedQueries - number of query texts skipped
+     * @return FINISH once every query text is done, NONE otherwise
+     */
+    Step skip(int skippedQueries) {
+        return pendingQueries.addAndGet(-skippedQueries) == 0 ? Step.FINISH : Step.NONE;
+    }
+
+    /**
+     * @param resultIndex - index the results of every query text are stored in
+     * @return compact summary stored in the experiment document instead of the results
+     */
+    Map<String, Object> summary(String resultIndex) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put(SUMMARY_TOTAL_QUERY_TEXTS, totalQueries);
+        summary.put(SUMMARY_COMPLETED_QUERY_TEXTS, completedQueries.get());
+        summary.put(SUMMARY_RESULT_INDEX, resultIndex);
+        if (aggregates.isEmpty() == false) {
+            summary.put(SUMMARY_AGGREGATES, aggregates.toSummary());
+        }
+        if (budget != null) {
+            // a resumed run reads the budget back, with the searches acquired so far
+            summary.put(PluginConstants.BUDGET, budget.toMap());
+            summary.put(SUMMARY_SEARCHES, searchBudget.getSearches());
+        }
+        if (searchBudget.isExhausted()) {
+            summary.put(SUMMARY_BUDGET_EXHAUSTED, true);
+        }
+        return summary;
+    }
+
+    /**
+     * Mark the in-flight checkpoint as written and run the action that waited for it, if any
+     */
+    void checkpointDone() {
+        checkpointInFlight.set(false);
+        runAfterCheckpoint();
+    }
+
+    /**
+     * Run the action once no checkpoint is in flight
+     * @param action - action to run, typically the final experiment update
+     */
+    void whenNoCheckpointInFlight(Runnable action) {
+        afterCheckpoint.set(action);
+        // the checkpoint may complete concurrently, whoever takes the action runs it
+        if (checkpointInFlight.get() == false) {
+            runAfterCheckpoint();
+        }
+    }
+
+    private void runAfterCheckpoint() {
+        Runnable action = afterCheckpoint.getAndSet(null);
+        if (action != null) {
+            action.run();
+        }
+    }
+}
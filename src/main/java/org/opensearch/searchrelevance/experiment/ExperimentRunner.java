@@ -0,0 +1,1024 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_INDEX_AND_QUERIES_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_QUERY_TEXT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.opensearch.action.StepListener;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.cost.CostBudget;
+import org.opensearch.searchrelevance.cost.CostEstimator;
+import org.opensearch.searchrelevance.cost.SearchBudgetTracker;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndices;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+import org.opensearch.searchrelevance.metrics.ExperimentSignificance;
+import org.opensearch.searchrelevance.metrics.JudgmentIndex;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceRequest;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs experiments in the background on the experiment thread pool.
+ * The results of every query text are streamed to the experiment result index as soon as they complete, the
+ * experiment document only keeps a compact summary of the progress. The summary is checkpointed every
+ * checkpointInterval completed query texts, together with the id of the node running the experiment. When that node
+ * restarts, the experiments it left in PROCESSING are resumed, skipping the query texts that already have results,
+ * or marked as ERROR.
+ * Every run is registered as a {@link SearchRelevanceTask}; cancelling it stops issuing searches and writes for the
+ * experiment and marks it as CANCELLED with the results collected so far.
+ * When distributed experiments are enabled, the query texts are evaluated in slices on the data nodes through
+ * {@link ExperimentSliceDispatcher}, the node running the experiment only tracks their progress.
+ * The searches of an experiment go through the node-local {@link SearchResultCache}, its entries scoped to the
+ * experiment are released once the experiment, or the slice evaluated on the node, is done.
+ * The variants of hybrid optimizer experiments are selected once per run, before any query text is evaluated: the full
+ * grid of variants, or the variant found by {@link AdaptiveHybridSearch} when adaptive hybrid search is enabled.
+ * Once every query text is done, the evaluation metrics of the search configurations or variants are compared with
+ * the paired significance tests of {@link ExperimentSignificance}, stored in the summary of the completed experiment.
+ * An experiment created with a maxSearches budget acquires the searches of the variant selection, of every query text
+ * and of every slice sent, retries included, before queueing them. The query texts whose searches no longer fit are
+ * skipped and the experiment completes with the results of the others, flagged as budgetExhausted in its summary.
+ */
+@Log4j2
+public class ExperimentRunner {
+    public static final String RUN_EXPERIMENT_ACTION_NAME = PutExperimentAction.NAME + "[run]";
+    private static final int MAX_ORPHANED_EXPERIMENTS = 1000;
+    private static final int MAX_RESUME_ATTEMPTS = 5;
+    private static final TimeValue RESUME_RETRY_DELAY = TimeValue.timeValueSeconds(10);
+
+    private final ClusterService clusterService;
+    private final ExperimentDao experimentDao;
+    private final ExperimentVariantDao experimentVariantDao;
+    private final ExperimentResultDao experimentResultDao;
+    private final QuerySetDao querySetDao;
+    private final SearchConfigurationDao searchConfigurationDao;
+    private final MetricsHelper metricsHelper;
+    private final ExperimentSearchScheduler experimentSearchScheduler;
+    private final SearchResultCache searchResultCache;
+    private final ExperimentSliceDispatcher experimentSliceDispatcher;
+    private final SearchRelevanceBulkWriter bulkWriter;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+    private final ThreadPool threadPool;
+    // the task manager belongs to the transport service, created after the plugin components
+    private final Supplier<TaskManager> taskManager;
+    private final ExperimentSignificance experimentSignificance;
+    private final CostEstimator costEstimator;
+    private final AdaptiveHybridSearch adaptiveHybridSearch;
+
+    public ExperimentRunner(
+        ClusterService clusterService,
+        ExperimentDao experimentDao,
+        ExperimentVariantDao experimentVariantDao,
+        ExperimentResultDao experimentResultDao,
+        QuerySetDao querySetDao,
+        SearchConfigurationDao searchConfigurationDao,
+        MetricsHelper metricsHelper,
+        ExperimentSearchScheduler experimentSearchScheduler,
+        SearchResultCache searchResultCache,
+        ExperimentSliceDispatcher experimentSliceDispatcher,
+        SearchRelevanceBulkWriter bulkWriter,
+        SearchRelevanceSettingsAccessor settingsAccessor,
+        ThreadPool threadPool,
+        Supplier<TaskManager> taskManager,
+        ExperimentSignificance experimentSignificance,
+        CostEstimator costEstimator
+    ) {
+        this.clusterService = clusterService;
+        this.experimentDao = experimentDao;
+        this.experimentVariantDao = experimentVariantDao;
+        this.experimentResultDao = experimentResultDao;
+        this.querySetDao = querySetDao;
+        this.searchConfigurationDao = searchConfigurationDao;
+        this.metricsHelper = metricsHelper;
+        this.experimentSearchScheduler = experimentSearchScheduler;
+        this.searchResultCache = searchResultCache;
+        this.experimentSliceDispatcher = experimentSliceDispatcher;
+        this.bulkWriter = bulkWriter;
+        this.settingsAccessor = settingsAccessor;
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.experimentSignificance = experimentSignificance;
+        this.costEstimator = costEstimator;
+        this.adaptiveHybridSearch = new AdaptiveHybridSearch(metricsHelper, experimentVariantDao);
+    }
+
+    /**
+     * @return id of the local node, recorded as the owner of the experiments started on it
+     */
+    public String getLocalNodeId() {
+        return clusterService.localNode().getId();
+    }
+
+    /**
+     * Load the query set and search configurations without blocking the calling thread,
+     * then hand the evaluation over to the experiment thread pool.
+     * Query texts that already have results in the experiment result index are skipped.
+     * @param experiment - experiment in PROCESSING status
+     */
+    public void run(Experiment experiment) {
+        SearchRelevanceTask task;
+        try {
+            task = SearchRelevanceTask.register(
+                taskManager.get(),
+                RUN_EXPERIMENT_ACTION_NAME,
+                String.format(Locale.ROOT, "experiment[%s] type[%s]", experiment.id(), experiment.type())
+            );
+        } catch (Exception e) {
+            handleAsyncFailure(experiment, null, "Failed to register experiment task", e);
+            return;
+        }
+        try {
+            Map<String, Object> results = new ConcurrentHashMap<>();
+            StepListener<Map<String, Object>> fetchQuerySetStep = new StepListener<>();
+            querySetDao.getQuerySetWithStepListener(experiment.querySetId(), results, fetchQuerySetStep);
+
+            StepListener<Map<String, Object>> fetchSearchConfigurationsStep = new StepListener<>();
+            fetchQuerySetStep.whenComplete(
+                querySetResults -> searchConfigurationDao.getSearchConfigsWithStepListener(
+                    experiment.searchConfigurationList(),
+                    results,
+                    fetchSearchConfigurationsStep
+                ),
+                e -> handleAsyncFailure(experiment, task, "Failed to start async processing", e)
+            );
+
+            fetchSearchConfigurationsStep.whenComplete(bootstrapResults -> {
+                List<String> queryTextWithReferences = (List<String>) bootstrapResults.get(METRICS_QUERY_TEXT_FIELD_NAME);
+                Map<String, List<String>> indexAndQueries = (Map<String, List<String>>) bootstrapResults.get(
+                    METRICS_INDEX_AND_QUERIES_FIELD_NAME
+                );
+                calculateMetricsAsync(experiment, task, indexAndQueries, queryTextWithReferences);
+            }, e -> handleAsyncFailure(experiment, task, "Failed to start async processing", e));
+        } catch (Exception e) {
+            handleAsyncFailure(experiment, task, "Failed to start async processing", e);
+        }
+    }
+
+    /**
+     * Find the experiments this node left in PROCESSING before it restarted and resume them from their last
+     * checkpoint, or mark them as ERROR when resuming is disabled.
+     * The lookup is retried while the experiment index is not searchable yet.
+     */
+    public void resumeOrphanedExperiments() {
+        resumeOrphanedExperiments(1);
+    }
+
+    private void resumeOrphanedExperiments(int attempt) {
+        String nodeId = getLocalNodeId();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery(Experiment.STATUS, AsyncStatus.PROCESSING.name()))
+                .filter(QueryBuilders.termQuery(Experiment.NODE_ID, nodeId))
+        ).size(MAX_ORPHANED_EXPERIMENTS);
+        experimentDao.listExperiment(sourceBuilder, ActionListener.wrap(response -> {
+            for (SearchHit hit : response.getHits().getHits()) {
+                Experiment experiment;
+                try {
+                    experiment = parseExperiment(hit.getSourceAsMap());
+                } catch (Exception e) {
+                    log.error("Failed to parse orphaned experiment: " + hit.getId(), e);
+                    continue;
+                }
+                if (settingsAccessor.isExperimentResumeEnabled()) {
+                    log.info("Resuming experiment {} interrupted by a restart of node {}", experiment.id(), nodeId);
+                    run(experiment);
+                } else {
+                    handleAsyncFailure(
+                        experiment,
+                        null,
+                        "Experiment was interrupted by a node restart",
+                        new IllegalStateException("Experiment was interrupted by a restart of node " + nodeId)
+                    );
+                }
+            }
+        }, e -> {
+            if (attempt >= MAX_RESUME_ATTEMPTS) {
+                log.error("Failed to look up orphaned experiments of node " + nodeId, e);
+                return;
+            }
+            log.warn("Failed to look up orphaned experiments of node {}, retrying in {}", nodeId, RESUME_RETRY_DELAY);
+            threadPool.schedule(
+                () -> resumeOrphanedExperiments(attempt + 1),
+                RESUME_RETRY_DELAY,
+                SearchRelevanceExecutor.THREAD_POOL_NAME
+            );
+        }));
+    }
+
+    private void calculateMetricsAsync(
+        Experiment experiment,
+        SearchRelevanceTask task,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTextWithReferences
+    ) {
+        if (queryTextWithReferences == null || indexAndQueries == null) {
+            throw new IllegalStateException("Missing required data for metrics calculation");
+        }
+
+        // the result index is created with its mapping up front, bulk writes would create it with a dynamic one
+        StepListener<Void> createResultIndexStep = new StepListener<>();
+        experimentResultDao.createIndexIfAbsent(createResultIndexStep);
+
+        StepListener<Map<String, Map<String, Object>>> fetchCompletedQueryResultsStep = new StepListener<>();
+        createResultIndexStep.whenComplete(
+            created -> experimentResultDao.getCompletedQueryResults(experiment.id(), fetchCompletedQueryResultsStep),
+            e -> handleAsyncFailure(experiment, task, "Failed to start async processing", e)
+        );
+
+        fetchCompletedQueryResultsStep.whenComplete(
+            completedQueryResults -> threadPool.executor(SearchRelevanceExecutor.THREAD_POOL_NAME).execute(() -> {
+                try {
+                    processQueryTextMetrics(experiment, task, indexAndQueries, queryTextWithReferences, completedQueryResults);
+                } catch (Exception e) {
+                    handleAsyncFailure(experiment, task, "Failed to start async processing", e);
+                }
+            }),
+            e -> handleAsyncFailure(experiment, task, "Failed to start async processing", e)
+        );
+    }
+
+    private void processQueryTextMetrics(
+        Experiment experiment,
+        SearchRelevanceTask task,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        Map<String, Map<String, Object>> completedQueryResults
+    ) {
+        List<String> remainingQueryTexts = new ArrayList<>();
+        // the aggregates of a resumed experiment start from the results of the query texts completed before
+        ExperimentAggregates aggregates = new ExperimentAggregates();
+        for (String queryText : queryTexts) {
+            Map<String, Object> completedResults = completedQueryResults.get(queryText);
+            if (completedResults == null) {
+                remainingQueryTexts.add(queryText);
+            } else {
+                aggregates.record(completedResults);
+            }
+        }
+        // the budget and the searches acquired so far are kept in the summary, read back when the experiment resumes
+        Map<String, Object> lastSummary = experiment.summary() == null ? Map.of() : experiment.summary();
+        ExperimentProgress progress = new ExperimentProgress(
+            queryTexts.size() - remainingQueryTexts.size(),
+            remainingQueryTexts.size(),
+            aggregates,
+            CostBudget.parse(lastSummary),
+            ((Number) lastSummary.getOrDefault(ExperimentProgress.SUMMARY_SEARCHES, 0)).longValue()
+        );
+        // set once the experiment is completed, failed or cancelled so only one final status is written
+        AtomicBoolean finished = new AtomicBoolean(false);
+        task.setProgress(queryTexts.size() - remainingQueryTexts.size(), queryTexts.size());
+        task.addCancellationListener(() -> handleCancellation(experiment, task, progress, finished));
+        if (finished.get()) {
+            return;
+        }
+
+        if (remainingQueryTexts.size() < queryTexts.size()) {
+            log.info(
+                "Experiment {} resumes with {} of {} query texts already completed",
+                experiment.id(),
+                queryTexts.size() - remainingQueryTexts.size(),
+                queryTexts.size()
+            );
+        }
+        if (remainingQueryTexts.isEmpty()) {
+            if (finished.compareAndSet(false, true)) {
+                updateFinalExperiment(experiment, task, progress);
+            }
+            return;
+        }
+
+        long searchesPerQueryText = costEstimator.searchesPerQueryText(experiment.type(), indexAndQueries.size());
+        List<DiscoveryNode> sliceNodes = experimentSliceDispatcher.sliceNodes(remainingQueryTexts.size());
+        if (sliceNodes.isEmpty() == false) {
+            ActionListener<List<ExperimentVariantHybridSearchDTO>> dispatchSlices = ActionListener.wrap(hybridVariants -> {
+                List<String> queryTextsWithinBudget = acquireSearches(
+                    remainingQueryTexts,
+                    searchesPerQueryText,
+                    progress,
+                    experiment,
+                    task,
+                    finished
+                );
+                if (queryTextsWithinBudget.isEmpty()) {
+                    return;
+                }
+                experimentSliceDispatcher.dispatch(
+                    experiment,
+                    indexAndQueries,
+                    hybridVariants,
+                    queryTextsWithinBudget,
+                    sliceNodes,
+                    task,
+                    (sliceQueryTexts, sliceAggregates) -> {
+                        progress.aggregates().merge(sliceAggregates);
+                        sliceQueryTexts.forEach(queryText -> handleQueryResultsStored(progress, experiment, task, finished));
+                    },
+                    // a retried slice searches again
+                    sliceQueryTexts -> progress.searchBudget().tryAcquire(sliceQueryTexts.size() * searchesPerQueryText),
+                    sliceQueryTexts -> handleQueryTextsSkipped(sliceQueryTexts.size(), progress, experiment, task, finished),
+                    ActionListener.wrap(dispatched -> {}, error -> handleFailure(error, finished, experiment, task, progress))
+                );
+            }, error -> handleFailure(error, finished, experiment, task, progress));
+            if (isHybridAdaptiveSearch(experiment.type())) {
+                // the variant is selected on this node, the slices only evaluate it
+                prepareEvaluation(
+                    experiment.id(),
+                    experiment.type(),
+                    experiment.judgmentList(),
+                    indexAndQueries,
+                    queryTexts,
+                    ActionListener.wrap(
+                        judgmentIndex -> selectHybridVariants(
+                            experiment,
+                            indexAndQueries,
+                            queryTexts,
+                            judgmentIndex,
+                            progress.searchBudget(),
+                            dispatchSlices
+                        ),
+                        dispatchSlices::onFailure
+                    )
+                );
+            } else {
+                selectHybridVariants(
+                    experiment,
+                    indexAndQueries,
+                    queryTexts,
+                    JudgmentIndex.empty(),
+                    progress.searchBudget(),
+                    dispatchSlices
+                );
+            }
+            return;
+        }
+
+        prepareEvaluation(
+            experiment.id(),
+            experiment.type(),
+            experiment.judgmentList(),
+            indexAndQueries,
+            queryTexts,
+            ActionListener.wrap(
+                judgmentIndex -> selectHybridVariants(
+                    experiment,
+                    indexAndQueries,
+                    queryTexts,
+                    judgmentIndex,
+                    progress.searchBudget(),
+                    ActionListener.wrap(hybridVariants -> {
+                        List<String> queryTextsWithinBudget = acquireSearches(
+                            remainingQueryTexts,
+                            searchesPerQueryText,
+                            progress,
+                            experiment,
+                            task,
+                            finished
+                        );
+                        executeExperimentEvaluation(
+                            experiment.id(),
+                            experiment.type(),
+                            experiment.size(),
+                            experiment.judgmentList(),
+                            indexAndQueries,
+                            hybridVariants,
+                            queryTextsWithinBudget,
+                            judgmentIndex,
+                            task,
+                            (queryText, queryResults) -> handleQueryResults(queryText, queryResults, progress, experiment, task, finished),
+                            error -> handleFailure(error, finished, experiment, task, progress)
+                        );
+                    }, error -> handleFailure(error, finished, experiment, task, progress))
+                ),
+                error -> handleFailure(error, finished, experiment, task, progress)
+            )
+        );
+    }
+
+    /**
+     * Acquire the searches of the query texts in order, the query texts after the first one that does not fit in the
+     * search budget are skipped
+     * @return query texts to evaluate
+     */
+    private List<String> acquireSearches(
+        List<String> queryTexts,
+        long searchesPerQueryText,
+        ExperimentProgress progress,
+        Experiment experiment,
+        SearchRelevanceTask task,
+        AtomicBoolean finished
+    ) {
+        int withinBudget = 0;
+        while (withinBudget < queryTexts.size() && progress.searchBudget().tryAcquire(searchesPerQueryText)) {
+            withinBudget++;
+        }
+        handleQueryTextsSkipped(queryTexts.size() - withinBudget, progress, experiment, task, finished);
+        return queryTexts.subList(0, withinBudget);
+    }
+
+    private void handleQueryTextsSkipped(
+        int skippedQueryTexts,
+        ExperimentProgress progress,
+        Experiment experiment,
+        SearchRelevanceTask task,
+        AtomicBoolean finished
+    ) {
+        if (skippedQueryTexts == 0 || finished.get()) {
+            return;
+        }
+        log.info("Experiment {} skips {} query texts exceeding its search budget", experiment.id(), skippedQueryTexts);
+        if (progress.skip(skippedQueryTexts) == ExperimentProgress.Step.FINISH && finished.compareAndSet(false, true)) {
+            progress.whenNoCheckpointInFlight(() -> updateFinalExperiment(experiment, task, progress));
+        }
+    }
+
+    private boolean isHybridAdaptiveSearch(ExperimentType type) {
+        return type == ExperimentType.HYBRID_OPTIMIZER && settingsAccessor.isHybridAdaptiveSearchEnabled();
+    }
+
+    /**
+     * Select the variants hybrid optimizer experiments evaluate every query text with, no variant for other experiments.
+     * The adaptive search samples every query text of the experiment, completed or not, so a resumed run selects the
+     * same variant. The selected variants are stored once for the whole experiment before any query text is evaluated.
+     * No variant is selected when the searches of the adaptive search do not fit in the search budget.
+     */
+    private void selectHybridVariants(
+        Experiment experiment,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        JudgmentIndex judgmentIndex,
+        SearchBudgetTracker searchBudget,
+        ActionListener<List<ExperimentVariantHybridSearchDTO>> listener
+    ) {
+        if (experiment.type() != ExperimentType.HYBRID_OPTIMIZER) {
+            listener.onResponse(List.of());
+            return;
+        }
+        ActionListener<List<ExperimentVariantHybridSearchDTO>> selectedListener = ActionListener.wrap(
+            hybridVariants -> storeHybridVariants(experiment.id(), hybridVariants, listener),
+            listener::onFailure
+        );
+        ExperimentOptionsForHybridSearch experimentOptionForHybridSearch = (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory
+            .createExperimentOptions(
+                ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS,
+                ExperimentOptionsFactory.createDefaultExperimentParametersForHybridSearch()
+            );
+        if (isHybridAdaptiveSearch(experiment.type()) == false) {
+            selectedListener.onResponse(experimentOptionForHybridSearch.getParameterCombinations(true));
+            return;
+        }
+        long selectionSearches = costEstimator.selectionSearches(experiment.type(), queryTexts.size(), indexAndQueries.size());
+        if (searchBudget.tryAcquire(selectionSearches) == false) {
+            // the budget stays exhausted, so every query text is skipped
+            listener.onResponse(List.of());
+            return;
+        }
+        adaptiveHybridSearch.search(
+            experiment.id(),
+            indexAndQueries,
+            queryTexts,
+            experiment.size(),
+            judgmentIndex,
+            settingsAccessor.getHybridAdaptiveSearchSampleSize(),
+            experimentOptionForHybridSearch,
+            // the search completes on a search thread, the query texts are evaluated on the experiment thread pool
+            new ThreadedActionListener<>(log, threadPool, SearchRelevanceExecutor.THREAD_POOL_NAME, selectedListener, false)
+        );
+    }
+
+    /**
+     * Bulk index the variants of a hybrid optimizer experiment, the query texts and slices of the experiment attach
+     * their evaluation results to these variants by id instead of storing variants of their own. A resumed run
+     * overwrites the variants it stored before.
+     */
+    private void storeHybridVariants(
+        String experimentId,
+        List<ExperimentVariantHybridSearchDTO> hybridVariants,
+        ActionListener<List<ExperimentVariantHybridSearchDTO>> listener
+    ) {
+        List<ExperimentVariant> experimentVariants = toExperimentVariants(experimentId, hybridVariants);
+        // variants are bulk written, the index is created with its mapping up front
+        StepListener<Void> createVariantIndexStep = new StepListener<>();
+        experimentVariantDao.createIndexIfAbsent(createVariantIndexStep);
+        createVariantIndexStep.whenComplete(
+            created -> experimentVariantDao.bulkPutExperimentVariants(
+                experimentVariants,
+                ActionListener.wrap(stored -> listener.onResponse(hybridVariants), listener::onFailure)
+            ),
+            listener::onFailure
+        );
+    }
+
+    private static List<ExperimentVariant> toExperimentVariants(
+        String experimentId,
+        List<ExperimentVariantHybridSearchDTO> hybridVariants
+    ) {
+        return hybridVariants.stream().map(hybridVariant -> hybridVariant.toExperimentVariant(experimentId)).collect(Collectors.toList());
+    }
+
+    /**
+     * Evaluate a slice of the query texts of an experiment run on another node, see {@link ExperimentSliceDispatcher}.
+     * The results are stored in the experiment result index and refreshed before the listener is notified.
+     * @param request - slice to evaluate
+     * @param task - node level task of the slice, null if it is not cancellable
+     * @param listener - notified with the aggregates of the evaluation metrics of the slice, or the first failure
+     */
+    public void evaluateSlice(ExperimentSliceRequest request, SearchRelevanceTask task, ActionListener<ExperimentAggregates> listener) {
+        String experimentId = request.getExperimentId();
+        List<String> queryTexts = request.getQueryTexts();
+        ExperimentAggregates aggregates = new ExperimentAggregates();
+        if (queryTexts.isEmpty()) {
+            listener.onResponse(aggregates);
+            return;
+        }
+        AtomicBoolean finished = new AtomicBoolean(false);
+        AtomicInteger pendingQueryTexts = new AtomicInteger(queryTexts.size());
+        Consumer<Exception> onFailure = error -> {
+            if (finished.compareAndSet(false, true)) {
+                searchResultCache.release(experimentId);
+                // the writer only forgets the writes of an experiment once they are refreshed, also for failed slices
+                bulkWriter.refresh(
+                    experimentId,
+                    ActionListener.wrap(
+                        refreshed -> {},
+                        e -> log.warn("Failed to refresh the results of a failed slice of experiment {}", experimentId, e)
+                    )
+                );
+                listener.onFailure(error);
+            }
+        };
+        if (task != null) {
+            task.addCancellationListener(() -> {
+                experimentSearchScheduler.cancel(experimentId);
+                onFailure.accept(new TaskCancelledException("slice of experiment [" + experimentId + "] was cancelled"));
+            });
+        }
+        ActionListener<Void> onQueryResultsStored = ActionListener.wrap(stored -> {
+            if (pendingQueryTexts.decrementAndGet() == 0) {
+                searchResultCache.release(experimentId);
+                bulkWriter.refresh(experimentId, ActionListener.wrap(refreshed -> {
+                    if (finished.compareAndSet(false, true)) {
+                        listener.onResponse(aggregates);
+                    }
+                }, onFailure::accept));
+            }
+        }, onFailure::accept);
+
+        prepareEvaluation(
+            experimentId,
+            request.getType(),
+            request.getJudgmentList(),
+            request.getIndexAndQueries(),
+            queryTexts,
+            ActionListener.wrap(
+                judgmentIndex -> executeExperimentEvaluation(
+                    experimentId,
+                    request.getType(),
+                    request.getSize(),
+                    request.getJudgmentList(),
+                    request.getIndexAndQueries(),
+                    request.getHybridVariants(),
+                    queryTexts,
+                    judgmentIndex,
+                    task,
+                    (queryText, queryResults) -> storeQueryResults(experimentId, queryText, queryResults, ActionListener.wrap(stored -> {
+                        aggregates.record(queryResults);
+                        onQueryResultsStored.onResponse(null);
+                    }, onQueryResultsStored::onFailure)),
+                    onFailure
+                ),
+                onFailure::accept
+            )
+        );
+    }
+
+    private void prepareEvaluation(
+        String experimentId,
+        ExperimentType type,
+        List<String> judgmentList,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        ActionListener<JudgmentIndex> listener
+    ) {
+        // cached searches are scoped before the first search of the experiment is sent
+        List<String> indices = indexAndQueries.values().stream().map(indexAndQuery -> indexAndQuery.get(0)).collect(Collectors.toList());
+        searchResultCache.resolveScopes(
+            experimentId,
+            indices,
+            ActionListener.wrap(resolved -> loadJudgmentIndex(type, judgmentList, queryTexts, listener), listener::onFailure)
+        );
+    }
+
+    private void loadJudgmentIndex(
+        ExperimentType type,
+        List<String> judgmentList,
+        List<String> queryTexts,
+        ActionListener<JudgmentIndex> listener
+    ) {
+        if (type == ExperimentType.PAIRWISE_COMPARISON) {
+            listener.onResponse(JudgmentIndex.empty());
+            return;
+        }
+        // judgments are loaded once and shared by every query text of the experiment
+        metricsHelper.loadJudgmentIndex(judgmentList, queryTexts, listener);
+    }
+
+    private void executeExperimentEvaluation(
+        String experimentId,
+        ExperimentType type,
+        int size,
+        List<String> judgmentList,
+        Map<String, List<String>> indexAndQueries,
+        List<ExperimentVariantHybridSearchDTO> hybridVariants,
+        List<String> queryTexts,
+        JudgmentIndex judgmentIndex,
+        SearchRelevanceTask task,
+        BiConsumer<String, Map<String, Object>> onQueryResults,
+        Consumer<Exception> onFailure
+    ) {
+        // the variants stored for the experiment, shared by every query text
+        List<ExperimentVariant> experimentVariants = toExperimentVariants(experimentId, hybridVariants);
+        HybridSearchPlan hybridSearchPlan = new HybridSearchPlan(size);
+        for (String queryText : queryTexts) {
+            if (task != null && task.isCancelled()) {
+                return;
+            }
+            ActionListener<Map<String, Object>> queryListener = ActionListener.wrap(
+                queryResults -> onQueryResults.accept(queryText, new HashMap<>(queryResults)),
+                onFailure::accept
+            );
+            if (type == ExperimentType.PAIRWISE_COMPARISON) {
+                metricsHelper.processPairwiseMetrics(experimentId, queryText, indexAndQueries, size, queryListener);
+            } else if (type == ExperimentType.HYBRID_OPTIMIZER) {
+                metricsHelper.processEvaluationMetrics(
+                    experimentId,
+                    queryText,
+                    indexAndQueries,
+                    size,
+                    judgmentList,
+                    judgmentIndex,
+                    queryListener,
+                    experimentVariants,
+                    hybridSearchPlan
+                );
+            } else if (type == ExperimentType.POINTWISE_EVALUATION) {
+                metricsHelper.processEvaluationMetrics(
+                    experimentId,
+                    queryText,
+                    indexAndQueries,
+                    size,
+                    judgmentList,
+                    judgmentIndex,
+                    queryListener
+                );
+            } else {
+                throw new SearchRelevanceException("Unknown experimentType" + type, RestStatus.BAD_REQUEST);
+            }
+        }
+    }
+
+    private void handleQueryResults(
+        String queryText,
+        Map<String, Object> queryResults,
+        ExperimentProgress progress,
+        Experiment experiment,
+        SearchRelevanceTask task,
+        AtomicBoolean finished
+    ) {
+        if (finished.get()) return;
+
+        // the query text only counts as completed once its results are stored
+        storeQueryResults(
+            experiment.id(),
+            queryText,
+            queryResults,
+            ActionListener.wrap(stored -> {
+                progress.aggregates().record(queryResults);
+                handleQueryResultsStored(progress, experiment, task, finished);
+            }, error -> handleFailure(error, finished, experiment, task, progress))
+        );
+    }
+
+    private void storeQueryResults(String experimentId, String queryText, Map<String, Object> queryResults, ActionListener<Void> listener) {
+        try {
+            queryResults.put(PAIRWISE_FIELD_NAME_QUERY_TEXT, queryText);
+            ExperimentResult experimentResult = new ExperimentResult(
+                ExperimentResult.generateId(experimentId, queryText),
+                TimeUtils.getTimestamp(),
+                experimentId,
+                queryText,
+                queryResults
+            );
+            experimentResultDao.bulkPutExperimentResult(experimentResult, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void handleQueryResultsStored(
+        ExperimentProgress progress,
+        Experiment experiment,
+        SearchRelevanceTask task,
+        AtomicBoolean finished
+    ) {
+        if (finished.get()) return;
+
+        try {
+            ExperimentProgress.Step step = progress.complete(settingsAccessor.getExperimentCheckpointInterval());
+            task.incrementProgress();
+            switch (step) {
+                case CHECKPOINT -> writeCheckpoint(experiment, progress, finished);
+                case FINISH -> {
+                    if (finished.compareAndSet(false, true)) {
+                        progress.whenNoCheckpointInFlight(() -> updateFinalExperiment(experiment, task, progress));
+                    }
+                }
+                default -> {}
+            }
+        } catch (Exception e) {
+            handleFailure(e, finished, experiment, task, progress);
+        }
+    }
+
+    private void handleFailure(
+        Exception error,
+        AtomicBoolean finished,
+        Experiment experiment,
+        SearchRelevanceTask task,
+        ExperimentProgress progress
+    ) {
+        if (finished.compareAndSet(false, true)) {
+            progress.whenNoCheckpointInFlight(
+                () -> handleAsyncFailure(experiment, task, summary(progress), "Failed to process metrics", error)
+            );
+        }
+    }
+
+    private void handleCancellation(Experiment experiment, SearchRelevanceTask task, ExperimentProgress progress, AtomicBoolean finished) {
+        if (finished.compareAndSet(false, true) == false) {
+            return;
+        }
+        log.info("Cancelling experiment {}: {}", experiment.id(), task.getReasonCancelled());
+        // queued searches are dropped, searches in flight fail once they return and so write nothing
+        experimentSearchScheduler.cancel(experiment.id());
+        progress.whenNoCheckpointInFlight(() -> updateCancelledExperiment(experiment, task, summary(progress)));
+    }
+
+    private static Map<String, Object> summary(ExperimentProgress progress) {
+        return progress.summary(SearchRelevanceIndices.EXPERIMENT_RESULT.getIndexName());
+    }
+
+    private void writeCheckpoint(Experiment experiment, ExperimentProgress progress, AtomicBoolean finished) {
+        if (finished.get()) {
+            // the final status is being written, a checkpoint would overwrite it
+            progress.checkpointDone();
+            return;
+        }
+        Map<String, Object> summary = summary(progress);
+        Experiment checkpoint = new Experiment(
+            experiment.id(),
+            TimeUtils.getTimestamp(),
+            experiment.type(),
+            AsyncStatus.PROCESSING,
+            experiment.querySetId(),
+            experiment.searchConfigurationList(),
+            experiment.judgmentList(),
+            experiment.size(),
+            List.of(),
+            experiment.nodeId(),
+            summary
+        );
+        experimentDao.updateExperiment(checkpoint, ActionListener.wrap(response -> {
+            log.debug("Checkpointed experiment {}: {}", experiment.id(), summary);
+            progress.checkpointDone();
+        }, e -> {
+            // a missed checkpoint only widens the work redone on resume
+            log.warn("Failed to checkpoint experiment: " + experiment.id(), e);
+            progress.checkpointDone();
+        }));
+    }
+
+    private void updateFinalExperiment(Experiment experiment, SearchRelevanceTask task, ExperimentProgress progress) {
+        searchResultCache.release(experiment.id());
+        Map<String, Object> summary = summary(progress);
+        // evaluation results and variants are written behind without refresh, make them visible before completing
+        bulkWriter.refresh(experiment.id(), ActionListener.wrap(refreshed -> {
+            if (progress.aggregates().isEmpty()) {
+                completeExperiment(experiment, task, summary);
+                return;
+            }
+            compareSignificance(experiment, progress.completedQueries(), ActionListener.wrap(significance -> {
+                if (significance.isEmpty() == false) {
+                    summary.put(ExperimentProgress.SUMMARY_SIGNIFICANCE, significance);
+                }
+                completeExperiment(experiment, task, summary);
+            }, error -> {
+                log.warn("Failed to compute the significance of experiment: " + experiment.id(), error);
+                completeExperiment(experiment, task, summary);
+            }));
+        }, error -> handleAsyncFailure(experiment, task, summary, "Failed to refresh experiment results", error)));
+    }
+
+    /**
+     * Significance tests need the metrics of every query text, including the ones evaluated by slices or before a
+     * resume, so they are read back once from the stored results when the experiment completes. Tests are not run on
+     * the results of only part of the completed query texts, their p-values would not describe the experiment.
+     */
+    private void compareSignificance(
+        Experiment experiment,
+        int completedQueryTexts,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        experimentResultDao.getCompletedQueryResults(experiment.id(), ActionListener.wrap(completedQueryResults -> {
+            if (completedQueryResults.size() < completedQueryTexts) {
+                listener.onFailure(
+                    new SearchRelevanceException(
+                        "Read back the results of "
+                            + completedQueryResults.size()
+                            + " of "
+                            + completedQueryTexts
+                            + " completed query texts",
+                        RestStatus.INTERNAL_SERVER_ERROR
+                    )
+                );
+                return;
+            }
+            experimentSignificance.compare(
+                completedQueryResults,
+                new ThreadedActionListener<>(log, threadPool, SearchRelevanceExecutor.THREAD_POOL_NAME, listener, false)
+            );
+        }, listener::onFailure));
+    }
+
+    private void completeExperiment(Experiment experiment, SearchRelevanceTask task, Map<String, Object> summary) {
+        Experiment finalExperiment = new Experiment(
+            experiment.id(),
+            TimeUtils.getTimestamp(),
+            experiment.type(),
+            AsyncStatus.COMPLETED,
+            experiment.querySetId(),
+            experiment.searchConfigurationList(),
+            experiment.judgmentList(),
+            experiment.size(),
+            List.of(),
+            null,
+            summary
+        );
+        experimentDao.updateExperiment(finalExperiment, ActionListener.wrap(response -> {
+            log.debug("Updated final experiment: {}", experiment.id());
+            unregister(task);
+        }, error -> handleAsyncFailure(experiment, task, summary, "Failed to update final experiment", error)));
+    }
+
+    private void updateCancelledExperiment(Experiment experiment, SearchRelevanceTask task, Map<String, Object> summary) {
+        searchResultCache.release(experiment.id());
+        Experiment cancelledExperiment = new Experiment(
+            experiment.id(),
+            TimeUtils.getTimestamp(),
+            experiment.type(),
+            AsyncStatus.CANCELLED,
+            experiment.querySetId(),
+            experiment.searchConfigurationList(),
+            experiment.judgmentList(),
+            experiment.size(),
+            List.of(),
+            null,
+            summary
+        );
+
+        // keep the evaluation results already written visible next to the partial experiment results
+        bulkWriter.refresh(
+            experiment.id(),
+            ActionListener.wrap(
+                refreshed -> log.debug("Refreshed partial results of experiment: {}", experiment.id()),
+                e -> log.warn("Failed to refresh partial results of experiment: " + experiment.id(), e)
+            )
+        );
+        experimentDao.updateExperiment(cancelledExperiment, ActionListener.wrap(response -> {
+            log.info("Updated experiment {} status to CANCELLED", experiment.id());
+            unregister(task);
+        }, e -> {
+            log.error("Failed to update cancelled status for experiment: " + experiment.id(), e);
+            unregister(task);
+        }));
+    }
+
+    private void handleAsyncFailure(Experiment experiment, SearchRelevanceTask task, String message, Exception error) {
+        // before the run tracks progress, the last checkpoint is the one the experiment was resumed from
+        handleAsyncFailure(experiment, task, experiment.summary(), message, error);
+    }
+
+    private void handleAsyncFailure(
+        Experiment experiment,
+        SearchRelevanceTask task,
+        Map<String, Object> summary,
+        String message,
+        Exception error
+    ) {
+        log.error(message + " for experiment: " + experiment.id(), error);
+        searchResultCache.release(experiment.id());
+        Map<String, Object> errorSummary = summary == null ? new HashMap<>() : new HashMap<>(summary);
+        errorSummary.put(ExperimentProgress.SUMMARY_ERROR, String.valueOf(error.getMessage()));
+
+        Experiment errorExperiment = new Experiment(
+            experiment.id(),
+            TimeUtils.getTimestamp(),
+            experiment.type(),
+            AsyncStatus.ERROR,
+            experiment.querySetId(),
+            experiment.searchConfigurationList(),
+            experiment.judgmentList(),
+            experiment.size(),
+            List.of(Map.of("error", String.valueOf(error.getMessage()))),
+            null,
+            errorSummary
+        );
+
+        bulkWriter.refresh(
+            experiment.id(),
+            ActionListener.wrap(
+                refreshed -> log.debug("Refreshed partial results of experiment: {}", experiment.id()),
+                e -> log.warn("Failed to refresh partial results of experiment: " + experiment.id(), e)
+            )
+        );
+        experimentDao.updateExperiment(errorExperiment, ActionListener.wrap(response -> {
+            log.info("Updated experiment {} status to ERROR", experiment.id());
+            unregister(task);
+        }, e -> {
+            log.error("Failed to update error status for experiment: " + experiment.id(), e);
+            unregister(task);
+        }));
+    }
+
+    private void unregister(SearchRelevanceTask task) {
+        if (task != null) {
+            taskManager.get().unregister(task);
+        }
+    }
+
+    static Experiment parseExperiment(Map<String, Object> source) {
+        Object size = source.get(Experiment.SIZE);
+        return new Experiment(
+            (String) source.get(Experiment.ID),
+            (String) source.get(Experiment.TIME_STAMP),
+            ExperimentType.valueOf((String) source.get(Experiment.TYPE)),
+            AsyncStatus.valueOf((String) source.get(Experiment.STATUS)),
+            (String) source.get(Experiment.QUERY_SET_ID),
+            (List<String>) source.getOrDefault(Experiment.SEARCH_CONFIGURATION_LIST, List.of()),
+            (List<String>) source.getOrDefault(Experiment.JUDGMENT_LIST, List.of()),
+            size instanceof Number ? ((Number) size).intValue() : Integer.parseInt(String.valueOf(size)),
+            (List<Map<String, Object>>) source.getOrDefault(Experiment.RESULTS, List.of()),
+            (String) source.get(Experiment.NODE_ID),
+            (Map<String, Object>) source.get(Experiment.SUMMARY)
+        );
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceResponse;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Spreads the query texts of an experiment over the data nodes of the cluster.
+ * The query texts are partitioned into slices evaluated by
+ * {@link org.opensearch.searchrelevance.transport.experiment.ExperimentSliceTransportAction} on the node they are sent
+ * to. Every node works on one slice at a time and picks up the next pending slice once it is done, so slower nodes get
+ * fewer slices. A failed slice is retried on a node that has not failed it, at most MAX_SLICE_ATTEMPTS times, unless
+ * the searches of the retry do not fit in the search budget of the experiment: the slice is then skipped.
+ */
+@Log4j2
+public class ExperimentSliceDispatcher {
+    static final int MAX_SLICE_ATTEMPTS = 3;
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+
+    public ExperimentSliceDispatcher(Client client, ClusterService clusterService, SearchRelevanceSettingsAccessor settingsAccessor) {
+        this.client = client;
+        this.clusterService = clusterService;
+        this.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * @param queryTexts - number of query texts left to evaluate
+     * @return data nodes to spread the query texts over, empty when they are evaluated on the local node
+     */
+    public List<DiscoveryNode> sliceNodes(int queryTexts) {
+        if (settingsAccessor.isExperimentDistributedEnabled() == false || queryTexts <= settingsAccessor.getExperimentSliceSize()) {
+            return List.of();
+        }
+        List<DiscoveryNode> dataNodes = new ArrayList<>(clusterService.state().nodes().getDataNodes().values());
+        return dataNodes.size() > 1 ? dataNodes : List.of();
+    }
+
+    /**
+     * Evaluate the query texts in slices on the given nodes
+     * @param experiment - experiment the query texts belong to
+     * @param indexAndQueries - index and query of every search configuration
+     * @param hybridVariants - variants hybrid optimizer experiments are evaluated with, empty for other experiments
+     * @param queryTexts - query texts to evaluate
+     * @param nodes - data nodes evaluating the slices
+     * @param task - task of the experiment run, the slices are registered as its children
+     * @param onSliceCompleted - called with the query texts and aggregates of every slice whose results are stored
+     * @param acquireRetry - acquires the searches of the query texts of a slice about to be retried, false if they do
+     *                     not fit in the budget
+     * @param onSliceSkipped - called with the query texts of every failed slice not retried for lack of budget
+     * @param listener - notified once every slice is completed, or with the failure of a slice out of attempts
+     */
+    public void dispatch(
+        Experiment experiment,
+        Map<String, List<String>> indexAndQueries,
+        List<ExperimentVariantHybridSearchDTO> hybridVariants,
+        List<String> queryTexts,
+        List<DiscoveryNode> nodes,
+        SearchRelevanceTask task,
+        BiConsumer<List<String>, ExperimentAggregates> onSliceCompleted,
+        Predicate<List<String>> acquireRetry,
+        Consumer<List<String>> onSliceSkipped,
+        ActionListener<Void> listener
+    ) {
+        int sliceSize = settingsAccessor.getExperimentSliceSize();
+        List<Slice> slices = new ArrayList<>();
+        for (int from = 0; from < queryTexts.size(); from += sliceSize) {
+            slices.add(new Slice(List.copyOf(queryTexts.subList(from, Math.min(from + sliceSize, queryTexts.size())))));
+        }
+        log.info(
+            "Dispatching {} query texts of experiment {} in {} slices to {} nodes",
+            queryTexts.size(),
+            experiment.id(),
+            slices.size(),
+            nodes.size()
+        );
+        new Dispatch(
+            experiment,
+            indexAndQueries,
+            hybridVariants,
+            slices,
+            nodes,
+            task,
+            onSliceCompleted,
+            acquireRetry,
+            onSliceSkipped,
+            listener
+        ).dispatchPending();
+    }
+
+    private static class Slice {
+        private final List<String> queryTexts;
+        private final Set<String> failedNodeIds = new HashSet<>();
+        private int attempts;
+
+        private Slice(List<String> queryTexts) {
+            this.queryTexts = queryTexts;
+        }
+    }
+
+    private class Dispatch {
+        private final Experiment experiment;
+        private final Map<String, List<String>> indexAndQueries;
+        private final List<ExperimentVariantHybridSearchDTO> hybridVariants;
+        private final SearchRelevanceTask task;
+        private final BiConsumer<List<String>, ExperimentAggregates> onSliceCompleted;
+        private final Predicate<List<String>> acquireRetry;
+        private final Consumer<List<String>> onSliceSkipped;
+        private final ActionListener<Void> listener;
+        // guarded by this
+        private final Deque<Slice> pendingSlices;
+        private final Deque<DiscoveryNode> idleNodes;
+        private int remainingSlices;
+        private int slicesInFlight;
+        private boolean done;
+
+        private Dispatch(
+            Experiment experiment,
+            Map<String, List<String>> indexAndQueries,
+            List<ExperimentVariantHybridSearchDTO> hybridVariants,
+            List<Slice> slices,
+            List<DiscoveryNode> nodes,
+            SearchRelevanceTask task,
+            BiConsumer<List<String>, ExperimentAggregates> onSliceCompleted,
+            Predicate<List<String>> acquireRetry,
+            Consumer<List<String>> onSliceSkipped,
+            ActionListener<Void> listener
+        ) {
+            this.experiment = experiment;
+            this.indexAndQueries = indexAndQueries;
+            this.hybridVariants = hybridVariants;
+            this.task = task;
+            this.onSliceCompleted = onSliceCompleted;
+            this.acquireRetry = acquireRetry;
+            this.onSliceSkipped = onSliceSkipped;
+            this.listener = listener;
+            this.pendingSlices = new ArrayDeque<>(slices);
+            this.idleNodes = new ArrayDeque<>(nodes);
+            this.remainingSlices = slices.size();
+        }
+
+        private void dispatchPending() {
+            List<Slice> slicesToSend = new ArrayList<>();
+            List<DiscoveryNode> nodesToSend = new ArrayList<>();
+            Exception failure = null;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (task.isCancelled()) {
+                    done = true;
+                    failure = new TaskCancelledException("experiment [" + experiment.id() + "] was cancelled");
+                } else {
+                    Iterator<DiscoveryNode> nodes = idleNodes.iterator();
+                    while (nodes.hasNext() && pendingSlices.isEmpty() == false) {
+                        DiscoveryNode node = nodes.next();
+                        Slice slice = pendingSlices.stream()
+                            .filter(pending -> pending.failedNodeIds.contains(node.getId()) == false)
+                            .findFirst()
+                            .orElse(null);
+                        if (slice != null) {
+                            pendingSlices.remove(slice);
+                            nodes.remove();
+                            slicesToSend.add(slice);
+                            nodesToSend.add(node);
+                        }
+                    }
+                    slicesInFlight += slicesToSend.size();
+                    if (slicesInFlight == 0 && pendingSlices.isEmpty() == false) {
+                        // every node left has failed the pending slices already
+                        done = true;
+                        failure = new SearchRelevanceException(
+                            "No node left to evaluate " + pendingSlices.size() + " slices of experiment " + experiment.id(),
+                            RestStatus.INTERNAL_SERVER_ERROR
+                        );
+                    }
+                }
+            }
+            if (failure != null) {
+                listener.onFailure(failure);
+                return;
+            }
+            for (int i = 0; i < slicesToSend.size(); i++) {
+                send(slicesToSend.get(i), nodesToSend.get(i));
+            }
+        }
+
+        private void send(Slice slice, DiscoveryNode node) {
+            slice.attempts++;
+            ExperimentSliceRequest request = new ExperimentSliceRequest(
+                node.getId(),
+                experiment.id(),
+                experiment.type(),
+                experiment.size(),
+                experiment.judgmentList(),
+                indexAndQueries,
+                hybridVariants,
+                slice.queryTexts
+            );
+            request.setParentTask(clusterService.localNode().getId(), task.getId());
+            client.execute(
+                ExperimentSliceAction.INSTANCE,
+                request,
+                ActionListener.wrap(response -> onSliceResponse(slice, node, response), e -> onSliceFailure(slice, node, e))
+            );
+        }
+
+        private void onSliceResponse(Slice slice, DiscoveryNode node, ExperimentSliceResponse response) {
+            if (response.hasFailures()) {
+                onSliceFailure(slice, node, response.failures().get(0));
+                return;
+            }
+            if (response.getNodes().isEmpty()) {
+                onSliceFailure(
+                    slice,
+                    node,
+                    new SearchRelevanceException("Node " + node.getId() + " left the cluster", RestStatus.SERVICE_UNAVAILABLE)
+                );
+                return;
+            }
+            boolean completed;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                slicesInFlight--;
+                idleNodes.add(node);
+                completed = --remainingSlices == 0;
+                done = completed;
+            }
+            onSliceCompleted.accept(slice.queryTexts, response.getNodes().get(0).getAggregates());
+            if (completed) {
+                listener.onResponse(null);
+            } else {
+                dispatchPending();
+            }
+        }
+
+        private void onSliceFailure(Slice slice, DiscoveryNode node, Exception e) {
+            boolean exhausted;
+            boolean skipped = false;
+            boolean completed = false;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                slicesInFlight--;
+                // the node is not given new slices, it is likely to fail them as well
+                slice.failedNodeIds.add(node.getId());
+                exhausted = slice.attempts >= MAX_SLICE_ATTEMPTS;
+                if (exhausted) {
+                    done = true;
+                } else if (acquireRetry.test(slice.queryTexts)) {
+                    pendingSlices.addFirst(slice);
+                } else {
+                    skipped = true;
+                    completed = --remainingSlices == 0;
+                    done = completed;
+                }
+            }
+            if (exhausted) {
+                listener.onFailure(e);
+                return;
+            }
+            if (skipped) {
+                log.warn(
+                    "Slice of experiment {} failed on node {} and is skipped, its retry exceeds the search budget",
+                    experiment.id(),
+                    node.getId(),
+                    e
+                );
+                onSliceSkipped.accept(slice.queryTexts);
+                if (completed) {
+                    listener.onResponse(null);
+                } else {
+                    dispatchPending();
+                }
+                return;
+            }
+            log.warn(
+                "Slice of experiment {} failed on node {} after {} attempts, retrying on another node",
+                experiment.id(),
+                node.getId(),
+                slice.attempts,
+                e
+            );
+            dispatchPending();
+        }
+    }
+}
@@ -7,6 +7,21 @@
  */
 package org.opensearch.searchrelevance.experiment;
 
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+
 import lombok.Builder;
 import lombok.Data;
 
@@ -16,4 +31,45 @@ public class ExperimentVariantHybridSearchDTO {
     private final String normalizationTechnique;
     private final String combinationTechnique;
     private final float[] queryWeightsForCombination;
+
+    /**
+     * @return parameters of the experiment variant searching with these options
+     */
+    public Map<String, Object> toParameters() {
+        return new HashMap<>(
+            Map.of(
+                EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE,
+                normalizationTechnique,
+                EXPERIMENT_OPTION_COMBINATION_TECHNIQUE,
+                combinationTechnique,
+                EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION,
+                queryWeightsForCombination
+            )
+        );
+    }
+
+    /**
+     * The variant of these options always gets the same id within an experiment, so every query text, slice and resumed
+     * run of the experiment references the same variant document
+     * @param experimentId - id of the experiment
+     * @return variant searching with these options, its evaluation results are referenced from the experiment results
+     */
+    public ExperimentVariant toExperimentVariant(String experimentId) {
+        String options = String.join(
+            "\n",
+            experimentId,
+            normalizationTechnique,
+            combinationTechnique,
+            Arrays.toString(queryWeightsForCombination)
+        );
+        return new ExperimentVariant(
+            UUID.nameUUIDFromBytes(options.getBytes(StandardCharsets.UTF_8)).toString(),
+            TimeUtils.getTimestamp(),
+            ExperimentType.HYBRID_OPTIMIZER,
+            AsyncStatus.COMPLETED,
+            experimentId,
+            toParameters(),
+            Map.of()
+        );
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.opensearch.searchrelevance.experiment.QuerySourceUtil.createDefinitionOfTemporarySearchPipeline;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.model.builder.HybridSearchTemplate;
+
+/**
+ * Hybrid queries of the search configurations and temporary search pipelines of the variants of a hybrid optimizer
+ * experiment, compiled on first use and shared by every query text the experiment searches for.
+ */
+public class HybridSearchPlan {
+    private final int size;
+    private final Map<String, HybridSearchTemplate> templatesByQuery = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> pipelinesByVariantId = new ConcurrentHashMap<>();
+
+    /**
+     * @param size - number of returned hits of every search of the experiment
+     */
+    public HybridSearchPlan(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @param query - DSL query of a search configuration with a hybrid query
+     * @return the query parsed and validated once
+     */
+    public HybridSearchTemplate template(String query) {
+        return templatesByQuery.computeIfAbsent(query, key -> HybridSearchTemplate.compile(key, size));
+    }
+
+    /**
+     * @param experimentVariant - variant to search with
+     * @return definition of the temporary search pipeline of the variant, built once and read only
+     */
+    public Map<String, Object> pipeline(ExperimentVariant experimentVariant) {
+        return pipelinesByVariantId.computeIfAbsent(
+            experimentVariant.getId(),
+            id -> Collections.unmodifiableMap(createDefinitionOfTemporarySearchPipeline(experimentVariant))
+        );
+    }
+}
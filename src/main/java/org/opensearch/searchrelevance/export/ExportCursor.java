@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+
+/**
+ * Position of an export between two pages, the point in time the export reads and the sort values of the last
+ * exported hit. It is handed to the client as an opaque token and sent back to read the next page.
+ * @param pitId - id of the point in time of the export
+ * @param searchAfter - sort values of the last exported hit
+ */
+public record ExportCursor(String pitId, Object[] searchAfter) {
+    private static final String PIT_ID = "pit_id";
+    private static final String SEARCH_AFTER = "search_after";
+
+    /**
+     * @return the cursor as an url safe token
+     */
+    public String encode() {
+        try {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            builder.startObject().field(PIT_ID, pitId).array(SEARCH_AFTER, searchAfter).endObject();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(BytesReference.bytes(builder)));
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to encode export cursor", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * @param cursor - token returned with the previous page
+     * @return the cursor
+     * @throws SearchRelevanceException BAD_REQUEST when the token is not a cursor
+     */
+    public static ExportCursor decode(String cursor) {
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+            )
+        ) {
+            Map<String, Object> source = parser.map();
+            if (source.get(PIT_ID) instanceof String pitId && source.get(SEARCH_AFTER) instanceof List<?> searchAfter) {
+                return new ExportCursor(pitId, searchAfter.toArray());
+            }
+        } catch (Exception e) {
+            // reported below
+        }
+        throw new SearchRelevanceException("Invalid export cursor: " + cursor, RestStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.export;
+
+import java.util.Locale;
+
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Formats of exported judgment ratings and evaluation results
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    TREC("text/plain; charset=UTF-8"),
+    CSV("text/csv; charset=UTF-8");
+
+    private final String contentType;
+
+    /**
+     * @param format - name of the format, case insensitive
+     * @return the format
+     */
+    public static ExportFormat fromString(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new SearchRelevanceException(
+                "Invalid export format: " + format + ", expected ndjson, trec or csv",
+                RestStatus.BAD_REQUEST
+            );
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.searchrelevance.model.JudgmentRating;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+
+/**
+ * Writes one page of exported hits, one line per judgment rating, per evaluation result metric or per experiment result,
+ * so the content of a page only depends on the page size. Pages are concatenated by the client, only the first page has a CSV header.
+ * Exported judgment ratings can be imported again in the same format.
+ */
+public final class ExportWriter {
+    static final String JUDGMENT_CSV_HEADER = "query,docId,rating";
+    static final String EVALUATION_RESULT_CSV_HEADER = "evaluationId,searchConfigurationId,searchText,metric,value";
+    private static final String METRIC = "metric";
+    private static final String VALUE = "value";
+    // iteration column of TREC qrels, it is not used
+    private static final String TREC_ITERATION = "0";
+
+    private ExportWriter() {}
+
+    /**
+     * @param format - format of the export
+     * @param hits - judgment rating documents of the page, one per query text
+     * @param firstPage - whether the page starts the export
+     * @return content of the page
+     */
+    public static BytesReference writeJudgmentRatings(ExportFormat format, SearchHit[] hits, boolean firstPage) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            if (format == ExportFormat.CSV && firstPage) {
+                writeLine(out, JUDGMENT_CSV_HEADER);
+            }
+            for (SearchHit hit : hits) {
+                Map<String, Object> source = hit.getSourceAsMap();
+                String queryText = (String) source.get(JudgmentRating.QUERY);
+                for (Map.Entry<String, Float> rating : JudgmentRating.parseRatings(source).entrySet()) {
+                    writeJudgmentRating(out, format, queryText, rating.getKey(), rating.getValue());
+                }
+            }
+            return out.bytes();
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to write exported judgment ratings", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Write the ratings of a judgment list stored before the judgment rating index, which only has them in its judgment
+     * document, as a single page. Query texts are written in order, like the pages of the judgment rating index.
+     * @param format - format of the export
+     * @param judgmentRatings - ratings of the judgment document
+     * @param queryText - query text to export, null for every query text
+     * @return content of the page
+     */
+    public static BytesReference writeJudgmentRatings(ExportFormat format, JudgmentRatings judgmentRatings, String queryText) {
+        List<Integer> queries = new ArrayList<>();
+        for (int query = 0; query < judgmentRatings.size(); query++) {
+            if (queryText == null || queryText.equals(judgmentRatings.getQueryText(query))) {
+                queries.add(query);
+            }
+        }
+        queries.sort(Comparator.comparing(judgmentRatings::getQueryText));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            if (format == ExportFormat.CSV) {
+                writeLine(out, JUDGMENT_CSV_HEADER);
+            }
+            for (int query : queries) {
+                String ratedQueryText = judgmentRatings.getQueryText(query);
+                for (int i = judgmentRatings.getStart(query); i < judgmentRatings.getEnd(query); i++) {
+                    writeJudgmentRating(out, format, ratedQueryText, judgmentRatings.getDocId(i), judgmentRatings.getRating(i));
+                }
+            }
+            return out.bytes();
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to write exported judgment ratings", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static void writeJudgmentRating(BytesStreamOutput out, ExportFormat format, String queryText, String docId, float rating)
+        throws IOException {
+        switch (format) {
+            case NDJSON -> {
+                XContentBuilder builder = XContentFactory.jsonBuilder(out);
+                builder.startObject()
+                    .field(JudgmentRating.QUERY, queryText)
+                    .field(JudgmentRating.DOC_ID, docId)
+                    .field(JudgmentRating.RATING, rating)
+                    .endObject();
+                builder.close();
+                out.writeByte((byte) '\n');
+            }
+            case TREC -> writeLine(out, String.join("\t", queryText, TREC_ITERATION, docId, formatRating(rating)));
+            case CSV -> writeLine(out, String.join(",", csv(queryText), csv(docId), formatRating(rating)));
+        }
+    }
+
+    /**
+     * @param format - format of the export, NDJSON or CSV
+     * @param hits - evaluation result documents of the page
+     * @param firstPage - whether the page starts the export
+     * @return content of the page
+     */
+    public static BytesReference writeEvaluationResults(ExportFormat format, SearchHit[] hits, boolean firstPage) {
+        if (format == ExportFormat.TREC) {
+            throw new SearchRelevanceException("Evaluation results cannot be exported as TREC qrels", RestStatus.BAD_REQUEST);
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            if (format == ExportFormat.CSV && firstPage) {
+                writeLine(out, EVALUATION_RESULT_CSV_HEADER);
+            }
+            for (SearchHit hit : hits) {
+                Map<String, Object> source = hit.getSourceAsMap();
+                if (format == ExportFormat.NDJSON) {
+                    XContentBuilder builder = XContentFactory.jsonBuilder(out);
+                    builder.map(source);
+                    builder.close();
+                    out.writeByte((byte) '\n');
+                    continue;
+                }
+                String prefix = String.join(
+                    ",",
+                    csv(source.get(EvaluationResult.ID)),
+                    csv(source.get(EvaluationResult.SEARCH_CONFIGURATION_ID)),
+                    csv(source.get(EvaluationResult.SEARCH_TEXT))
+                );
+                if (source.get(EvaluationResult.METRICS) instanceof List<?> metrics) {
+                    for (Object metric : metrics) {
+                        if (metric instanceof Map<?, ?> metricValue) {
+                            writeLine(out, String.join(",", prefix, csv(metricValue.get(METRIC)), csv(metricValue.get(VALUE))));
+                        }
+                    }
+                }
+            }
+            return out.bytes();
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to write exported evaluation results", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * @param hits - experiment result documents of the page, one per query text
+     * @return content of the page, as NDJSON
+     */
+    public static BytesReference writeExperimentResults(SearchHit[] hits) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            for (SearchHit hit : hits) {
+                XContentBuilder builder = XContentFactory.jsonBuilder(out);
+                builder.map(hit.getSourceAsMap());
+                builder.close();
+                out.writeByte((byte) '\n');
+            }
+            return out.bytes();
+        } catch (IOException e) {
+            throw new SearchRelevanceException("Failed to write exported experiment results", e, RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static void writeLine(BytesStreamOutput out, String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Ratings are stored as floats, whole ratings are written as integers as expected by trec_eval
+     */
+    static String formatRating(float rating) {
+        return rating == Math.rint(rating) && Math.abs(rating) < Long.MAX_VALUE ? Long.toString((long) rating) : Float.toString(rating);
+    }
+
+    /**
+     * Quote a CSV field as in RFC 4180 when it contains a separator, a quote or a line break
+     */
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String field = value.toString();
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.indices;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.shared.StashedThreadContext;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Write-behind buffer for documents produced while an experiment runs.
+ * Documents are flushed with a single bulk request once bulkFlushSize documents are buffered or bulkFlushInterval
+ * has elapsed since the first buffered document, without a per-document refresh. The indices an experiment wrote to
+ * are refreshed once through {@link #refresh(String, ActionListener)} when the experiment is done.
+ */
+@Log4j2
+public class SearchRelevanceBulkWriter {
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+
+    private final Object lock = new Object();
+    private final Map<String, ExperimentWrites> writesByExperiment = new HashMap<>();
+    private List<PendingWrite> buffer = new ArrayList<>();
+    private boolean flushScheduled;
+
+    public SearchRelevanceBulkWriter(Client client, ThreadPool threadPool, SearchRelevanceSettingsAccessor settingsAccessor) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.settingsAccessor = settingsAccessor;
+    }
+
+    /**
+     * Buffer a document of an experiment, it is written with the next bulk flush
+     * @param experimentId - id of the experiment the document belongs to
+     * @param docId - document id
+     * @param xContentBuilder - document content
+     * @param index - system index
+     * @param opType - CREATE for new documents, INDEX to overwrite existing ones
+     * @param listener - notified once the bulk item of this document succeeded or failed
+     */
+    public void write(
+        final String experimentId,
+        final String docId,
+        final XContentBuilder xContentBuilder,
+        final SearchRelevanceIndices index,
+        final OpType opType,
+        final ActionListener<Void> listener
+    ) {
+        PendingWrite pendingWrite = new PendingWrite(
+            experimentId,
+            new IndexRequest(index.getIndexName()).id(docId).opType(opType).source(xContentBuilder),
+            listener
+        );
+        List<PendingWrite> batch = null;
+        boolean scheduleFlush = false;
+        synchronized (lock) {
+            ExperimentWrites experimentWrites = writesByExperiment.computeIfAbsent(experimentId, id -> new ExperimentWrites());
+            experimentWrites.outstanding++;
+            experimentWrites.indices.add(index);
+            buffer.add(pendingWrite);
+            if (buffer.size() >= settingsAccessor.getBulkFlushSize()) {
+                batch = drainBuffer();
+            } else if (flushScheduled == false) {
+                flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+        if (batch != null) {
+            execute(batch);
+        } else if (scheduleFlush) {
+            try {
+                threadPool.schedule(this::flush, settingsAccessor.getBulkFlushInterval(), SearchRelevanceExecutor.THREAD_POOL_NAME);
+            } catch (Exception e) {
+                log.warn("Failed to schedule bulk flush, flushing immediately", e);
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Flush the buffered documents of the experiment, wait for its outstanding bulk items and refresh every index
+     * the experiment wrote to once, so the results become visible to searches.
+     * @param experimentId - id of the experiment
+     * @param listener - notified once the refresh is done
+     */
+    public void refresh(final String experimentId, final ActionListener<Void> listener) {
+        Set<SearchRelevanceIndices> indices = null;
+        List<PendingWrite> batch = List.of();
+        synchronized (lock) {
+            ExperimentWrites experimentWrites = writesByExperiment.get(experimentId);
+            if (experimentWrites == null) {
+                indices = Set.of();
+            } else if (experimentWrites.outstanding == 0) {
+                writesByExperiment.remove(experimentId);
+                indices = experimentWrites.indices;
+            } else {
+                experimentWrites.waiters.add(listener);
+                batch = drainBuffer();
+            }
+        }
+        if (indices != null && indices.isEmpty()) {
+            // nothing was written for this experiment through the writer
+            listener.onResponse(null);
+        } else if (indices != null) {
+            refreshIndices(indices, List.of(listener));
+        } else if (batch.isEmpty() == false) {
+            execute(batch);
+        }
+    }
+
+    /**
+     * @return number of documents waiting for the next bulk flush
+     */
+    public int getBufferedCount() {
+        synchronized (lock) {
+            return buffer.size();
+        }
+    }
+
+    private void flush() {
+        List<PendingWrite> batch;
+        synchronized (lock) {
+            batch = drainBuffer();
+        }
+        if (batch.isEmpty() == false) {
+            execute(batch);
+        }
+    }
+
+    private List<PendingWrite> drainBuffer() {
+        List<PendingWrite> batch = buffer;
+        buffer = new ArrayList<>();
+        flushScheduled = false;
+        return batch;
+    }
+
+    private void execute(List<PendingWrite> batch) {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (PendingWrite pendingWrite : batch) {
+            bulkRequest.add(pendingWrite.indexRequest);
+        }
+        try {
+            StashedThreadContext.run(client, () -> client.bulk(bulkRequest, new ActionListener<>() {
+                @Override
+                public void onResponse(BulkResponse bulkResponse) {
+                    BulkItemResponse[] items = bulkResponse.getItems();
+                    for (int i = 0; i < batch.size(); i++) {
+                        PendingWrite pendingWrite = batch.get(i);
+                        if (items[i].isFailed()) {
+                            log.error(
+                                "Failed to store doc [{}] of experiment [{}]: {}",
+                                items[i].getId(),
+                                pendingWrite.experimentId,
+                                items[i].getFailureMessage()
+                            );
+                            complete(
+                                pendingWrite,
+                                new SearchRelevanceException("Failed to store doc", items[i].getFailure().getCause(), items[i].status())
+                            );
+                        } else {
+                            complete(pendingWrite, null);
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    log.error("Failed to execute bulk request of {} docs", batch.size(), e);
+                    for (PendingWrite pendingWrite : batch) {
+                        complete(pendingWrite, e);
+                    }
+                }
+            }));
+        } catch (Exception e) {
+            log.error("Failed to execute bulk request of {} docs", batch.size(), e);
+            for (PendingWrite pendingWrite : batch) {
+                complete(pendingWrite, e);
+            }
+        }
+    }
+
+    private void complete(PendingWrite pendingWrite, Exception failure) {
+        try {
+            if (failure == null) {
+                pendingWrite.listener.onResponse(null);
+            } else {
+                pendingWrite.listener.onFailure(failure);
+            }
+        } catch (Exception e) {
+            log.error("Bulk item listener of experiment [{}] failed", pendingWrite.experimentId, e);
+        }
+
+        Set<SearchRelevanceIndices> indices = null;
+        List<ActionListener<Void>> waiters = null;
+        synchronized (lock) {
+            ExperimentWrites experimentWrites = writesByExperiment.get(pendingWrite.experimentId);
+            if (experimentWrites != null && --experimentWrites.outstanding == 0 && experimentWrites.waiters.isEmpty() == false) {
+                writesByExperiment.remove(pendingWrite.experimentId);
+                indices = experimentWrites.indices;
+                waiters = experimentWrites.waiters;
+            }
+        }
+        if (waiters != null) {
+            refreshIndices(indices, waiters);
+        }
+    }
+
+    private void refreshIndices(Set<SearchRelevanceIndices> indices, List<ActionListener<Void>> waiters) {
+        String[] indexNames = indices.stream().map(SearchRelevanceIndices::getIndexName).toArray(String[]::new);
+        ActionListener<Void> listener = ActionListener.wrap(
+            response -> waiters.forEach(waiter -> waiter.onResponse(null)),
+            e -> waiters.forEach(waiter -> waiter.onFailure(e))
+        );
+        try {
+            StashedThreadContext.run(
+                client,
+                () -> client.admin().indices().refresh(new RefreshRequest(indexNames), ActionListener.wrap(response -> {
+                    if (response.getFailedShards() > 0) {
+                        log.warn("Refresh of {} failed on {} shards", String.join(",", indexNames), response.getFailedShards());
+                    }
+                    listener.onResponse(null);
+                }, listener::onFailure))
+            );
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private static final class ExperimentWrites {
+        private final Set<SearchRelevanceIndices> indices = EnumSet.noneOf(SearchRelevanceIndices.class);
+        private final List<ActionListener<Void>> waiters = new ArrayList<>();
+        private int outstanding;
+    }
+
+    private static final class PendingWrite {
+        private final String experimentId;
+        private final IndexRequest indexRequest;
+        private final ActionListener<Void> listener;
+
+        private PendingWrite(String experimentId, IndexRequest indexRequest, ActionListener<Void> listener) {
+            this.experimentId = experimentId;
+            this.indexRequest = indexRequest;
+            this.listener = listener;
+        }
+    }
+}
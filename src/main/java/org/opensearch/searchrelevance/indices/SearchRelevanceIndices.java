@@ -11,12 +11,16 @@ import static org.opensearch.searchrelevance.common.PluginConstants.EVALUATION_R
 import static org.opensearch.searchrelevance.common.PluginConstants.EVALUATION_RESULT_INDEX_MAPPING;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX_MAPPING;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_RESULT_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_RESULT_INDEX_MAPPING;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_VARIANT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_VARIANT_INDEX_MAPPING;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX_MAPPING;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_INDEX_MAPPING;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_RATING_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_RATING_INDEX_MAPPING;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERY_SET_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERY_SET_INDEX_MAPPING;
 import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATION_INDEX;
@@ -53,6 +57,11 @@ public enum SearchRelevanceIndices {
      */
     JUDGMENT(JUDGMENT_INDEX, JUDGMENT_INDEX_MAPPING, false),
 
+    /**
+     * Judgment Rating Index, ratings of one query text of a judgment list per document
+     */
+    JUDGMENT_RATING(JUDGMENT_RATING_INDEX, JUDGMENT_RATING_INDEX_MAPPING, false),
+
     /**
      * Evaluation Result Index
      */
@@ -66,7 +75,12 @@ public enum SearchRelevanceIndices {
     /**
      * Experiment Variant Index
      */
-    EXPERIMENT_VARIANT(EXPERIMENT_VARIANT_INDEX, EXPERIMENT_VARIANT_INDEX_MAPPING, false);
+    EXPERIMENT_VARIANT(EXPERIMENT_VARIANT_INDEX, EXPERIMENT_VARIANT_INDEX_MAPPING, false),
+
+    /**
+     * Experiment Result Index
+     */
+    EXPERIMENT_RESULT(EXPERIMENT_RESULT_INDEX, EXPERIMENT_RESULT_INDEX_MAPPING, false);
 
     private final String indexName;
     private final String mapping;
@@ -10,7 +10,11 @@ package org.opensearch.searchrelevance.indices;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 
 import org.opensearch.ResourceAlreadyExistsException;
@@ -19,19 +23,38 @@ import org.opensearch.action.DocWriteRequest.OpType;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.Streams;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.gateway.GatewayService;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
@@ -92,6 +115,56 @@ public class SearchRelevanceIndicesManager {
         }));
     }
 
+    /**
+     * Put the mappings of the search relevance indices that already exist once the cluster state is recovered, so fields
+     * added to a mapping after its index was created are mapped as declared instead of dynamically on their first write.
+     * Mappings only add fields, a field already mapped with another type fails the update of its index, which is logged.
+     * @param listener - notified once the mapping of every existing index was put or failed
+     */
+    public void updateMappingsOnceRecovered(final ActionListener<Void> listener) {
+        if (clusterService.state().blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK) == false) {
+            updateMappings(clusterService.state(), listener);
+            return;
+        }
+        clusterService.addListener(new ClusterStateListener() {
+            private final AtomicBoolean updated = new AtomicBoolean();
+
+            @Override
+            public void clusterChanged(ClusterChangedEvent event) {
+                if (event.state().blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK) == false
+                    && updated.compareAndSet(false, true)) {
+                    clusterService.removeListener(this);
+                    updateMappings(event.state(), listener);
+                }
+            }
+        });
+    }
+
+    private void updateMappings(final ClusterState state, final ActionListener<Void> listener) {
+        List<SearchRelevanceIndices> existingIndices = Arrays.stream(SearchRelevanceIndices.values())
+            .filter(index -> state.metadata().hasIndex(index.getIndexName()))
+            .toList();
+        if (existingIndices.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(
+            ActionListener.map(listener, updated -> null),
+            existingIndices.size()
+        );
+        for (SearchRelevanceIndices index : existingIndices) {
+            String indexName = index.getIndexName();
+            PutMappingRequest putMappingRequest = new PutMappingRequest(indexName).source(index.getMapping(), MediaTypeRegistry.JSON);
+            StashedThreadContext.run(client, () -> client.admin().indices().putMapping(putMappingRequest, ActionListener.wrap(response -> {
+                log.debug("Updated mapping of index [{}]", indexName);
+                groupedListener.onResponse(null);
+            }, e -> {
+                log.warn("Failed to update mapping of index [{}]", indexName, e);
+                groupedListener.onResponse(null);
+            })));
+        }
+    }
+
     /**
      * Create a search relevance index if not exists, using synchronize calls
      * @param index
@@ -108,14 +181,6 @@ public class SearchRelevanceIndicesManager {
         StashedThreadContext.run(client, () -> client.admin().indices().create(createIndexRequest));
     }
 
-    public SearchResponse getDocByDocIdSync(final String docId, final SearchRelevanceIndices index) {
-        SearchRequest searchRequest = new SearchRequest(index.getIndexName());
-        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(QueryBuilders.termQuery("_id", docId)).size(1);
-        searchRequest.source(sourceBuilder);
-
-        return client.search(searchRequest).actionGet();
-    }
-
     /**
      * Put a doc to the system index
      * @param docId - document id need to be executed
@@ -220,6 +285,65 @@ public class SearchRelevanceIndicesManager {
         executeAction(listener, searchOperationContext, action);
     }
 
+    /**
+     * Put or overwrite docs of the system index with a single bulk request, refreshed once the bulk is done
+     * @param docs - document id to content of the docs to be stored
+     * @param index - system index
+     * @param listener - action lister for async action, notified with the bulk response including the failed items
+     */
+    public void bulkUpdateDocs(
+        final Map<String, XContentBuilder> docs,
+        final SearchRelevanceIndices index,
+        final ActionListener<BulkResponse> listener
+    ) {
+        SearchOperationContext searchOperationContext = SearchOperationContext.builder().index(index).build();
+        BiConsumer<SearchOperationContext, ActionListener<?>> action = (context, actionListener) -> StashedThreadContext.run(client, () -> {
+            try {
+                @SuppressWarnings("unchecked")
+                ActionListener<BulkResponse> typedListener = (ActionListener<BulkResponse>) actionListener;
+                BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                docs.forEach(
+                    (docId, xContentBuilder) -> bulkRequest.add(
+                        new IndexRequest(context.getIndex().getIndexName()).id(docId).opType(OpType.INDEX).source(xContentBuilder)
+                    )
+                );
+                client.bulk(bulkRequest, typedListener);
+            } catch (Exception e) {
+                actionListener.onFailure(new SearchRelevanceException("Failed to store docs", e, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        });
+        executeAction(listener, searchOperationContext, action);
+    }
+
+    /**
+     * Delete the docs matching a query, an index that does not exist yet has nothing to delete
+     * @param query - query of the docs to be deleted
+     * @param index - system index
+     * @param listener - action lister for async action
+     */
+    public void deleteDocsByQuery(
+        final QueryBuilder query,
+        final SearchRelevanceIndices index,
+        final ActionListener<BulkByScrollResponse> listener
+    ) {
+        SearchOperationContext searchOperationContext = SearchOperationContext.builder().index(index).build();
+        BiConsumer<SearchOperationContext, ActionListener<?>> action = (context, actionListener) -> StashedThreadContext.run(client, () -> {
+            try {
+                @SuppressWarnings("unchecked")
+                ActionListener<BulkByScrollResponse> typedListener = (ActionListener<BulkByScrollResponse>) actionListener;
+                DeleteByQueryRequest deleteByQueryRequest = new DeleteByQueryRequest(context.getIndex().getIndexName()).setQuery(query)
+                    .setIndicesOptions(IndicesOptions.lenientExpandOpen())
+                    .setRefresh(true);
+                client.execute(DeleteByQueryAction.INSTANCE, deleteByQueryRequest, ActionListener.wrap(typedListener::onResponse, e -> {
+                    typedListener.onFailure(new SearchRelevanceException("Failed to delete docs", e, RestStatus.INTERNAL_SERVER_ERROR));
+                }));
+            } catch (Exception e) {
+                actionListener.onFailure(new SearchRelevanceException("Failed to delete docs", e, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        });
+        executeAction(listener, searchOperationContext, action);
+    }
+
     /**
      * Get a doc by doc id
      * @param docId - document id need to be executed
@@ -332,6 +456,84 @@ public class SearchRelevanceIndicesManager {
         return null;
     }
 
+    /**
+     * Search one page of a point in time, the point in time is opened on the first page and closed once a page is not full,
+     * an abandoned point in time expires after its keep alive
+     * @param searchSourceBuilder - search source of the page, sorted on a unique field with size and search_after set
+     * @param index - index to be searched
+     * @param pitId - point in time of the previous page, null for the first page
+     * @param keepAlive - keep alive of the point in time until the next page
+     * @param listener - action lister notified with the page, its point in time id is the one of the next page
+     */
+    public void searchPage(
+        final SearchSourceBuilder searchSourceBuilder,
+        final SearchRelevanceIndices index,
+        final String pitId,
+        final TimeValue keepAlive,
+        final ActionListener<SearchResponse> listener
+    ) {
+        if (pitId != null) {
+            searchPit(searchSourceBuilder, pitId, keepAlive, listener);
+            return;
+        }
+        SearchOperationContext searchOperationContext = SearchOperationContext.builder().index(index).build();
+        BiConsumer<SearchOperationContext, ActionListener<?>> action = (context, actionListener) -> StashedThreadContext.run(client, () -> {
+            @SuppressWarnings("unchecked")
+            ActionListener<SearchResponse> typedListener = (ActionListener<SearchResponse>) actionListener;
+            try {
+                CreatePitRequest createPitRequest = new CreatePitRequest(keepAlive, false, context.getIndex().getIndexName());
+                client.createPit(
+                    createPitRequest,
+                    ActionListener.wrap(
+                        response -> searchPit(searchSourceBuilder, response.getId(), keepAlive, typedListener),
+                        e -> typedListener.onFailure(
+                            new SearchRelevanceException("Failed to create point in time", e, RestStatus.INTERNAL_SERVER_ERROR)
+                        )
+                    )
+                );
+            } catch (Exception e) {
+                typedListener.onFailure(
+                    new SearchRelevanceException("Failed to create point in time", e, RestStatus.INTERNAL_SERVER_ERROR)
+                );
+            }
+        });
+        executeAction(listener, searchOperationContext, action);
+    }
+
+    private void searchPit(
+        final SearchSourceBuilder searchSourceBuilder,
+        final String pitId,
+        final TimeValue keepAlive,
+        final ActionListener<SearchResponse> listener
+    ) {
+        // a point in time search names no index, the point in time does
+        SearchRequest searchRequest = new SearchRequest().source(
+            searchSourceBuilder.pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive))
+        );
+        StashedThreadContext.run(client, () -> client.search(searchRequest, ActionListener.wrap(response -> {
+            if (response.getHits().getHits().length < searchSourceBuilder.size()) {
+                deletePit(response.pointInTimeId() != null ? response.pointInTimeId() : pitId);
+            }
+            listener.onResponse(response);
+        }, e -> {
+            deletePit(pitId);
+            listener.onFailure(new SearchRelevanceException("Failed to search point in time", e, RestStatus.INTERNAL_SERVER_ERROR));
+        })));
+    }
+
+    private void deletePit(final String pitId) {
+        StashedThreadContext.run(
+            client,
+            () -> client.deletePits(
+                new DeletePitRequest(pitId),
+                ActionListener.wrap(
+                    response -> log.debug("Deleted point in time [{}]", pitId),
+                    e -> log.warn("Failed to delete point in time, it expires after its keep alive", e)
+                )
+            )
+        );
+    }
+
     /**
      * Gets index mapping JSON content from the classpath
      *
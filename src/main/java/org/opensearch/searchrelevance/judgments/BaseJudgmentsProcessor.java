@@ -7,11 +7,12 @@
  */
 package org.opensearch.searchrelevance.judgments;
 
-import java.util.List;
 import java.util.Map;
 
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
 
 /**
  * Common functions for judgment processor.
@@ -26,7 +27,12 @@ public interface BaseJudgmentsProcessor {
     /**
      * Generate judgment rating based on metadata
      * @param metadata used to generate judgment ratings for various judgment type
+     * @param task task tracking the generation, long running processors stop once it is cancelled
      * @param listener async action
      */
-    public void generateJudgmentRating(Map<String, Object> metadata, ActionListener<List<Map<String, Object>>> listener);
+    public void generateJudgmentRating(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        ActionListener<JudgmentRatings> listener
+    );
 }
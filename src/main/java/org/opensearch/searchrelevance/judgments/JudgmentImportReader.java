@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.JudgmentRating;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+
+import lombok.Getter;
+
+/**
+ * Reads imported judgment ratings line by line, so an import of any size is never held as parsed maps on the heap.
+ * Lines are validated as they are read and returned in chunks of complete query texts, a query text is never split
+ * across chunks as all its ratings are stored in one document. The ratings of a query text must be on consecutive
+ * lines. Supported formats:
+ * <ul>
+ *     <li>NDJSON, one rating {"query": "...", "docId": "...", "rating": 1.0} or all ratings of a query text
+ *     {"query": "...", "ratings": [{"docId": "...", "rating": 1.0}]} per line, parsed with the XContent pull parser</li>
+ *     <li>TREC qrels, "query iteration docId rating" per line, tab separated when query texts contain spaces</li>
+ * </ul>
+ */
+public class JudgmentImportReader implements Closeable {
+
+    /**
+     * Formats of imported judgment ratings
+     */
+    public enum Format {
+        NDJSON,
+        TREC;
+
+        /**
+         * @param format - name of the format, case insensitive
+         * @return the format
+         */
+        public static Format fromString(String format) {
+            try {
+                return Format.valueOf(format.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new SearchRelevanceException(
+                    "Invalid import format: " + format + ", expected ndjson or trec",
+                    RestStatus.BAD_REQUEST
+                );
+            }
+        }
+    }
+
+    /**
+     * Ratings of one line, of a single query text
+     */
+    private record Line(String queryText, List<Map.Entry<String, Float>> ratings) {}
+
+    private final BufferedReader reader;
+    private final Format format;
+    // query texts already returned, their ratings must not appear again
+    private final Set<String> completedQueryTexts = new HashSet<>();
+    private String queryText;
+    private Map<String, Float> queryRatings = new LinkedHashMap<>();
+    // first line of the query text following a complete chunk
+    private Line pendingLine;
+    @Getter
+    private int lineNumber;
+    @Getter
+    private long ratings;
+    @Getter
+    private int queryTexts;
+
+    /**
+     * @param content - imported content
+     * @param format - format of the content
+     */
+    public JudgmentImportReader(BytesReference content, Format format) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(content.streamInput(), StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    /**
+     * Read the next chunk of query texts
+     * @param maxRatings - the chunk is returned once it has at least this many ratings
+     * @return ratings of the chunk, empty once everything is read
+     * @throws SearchRelevanceException BAD_REQUEST with the line number when a line is invalid
+     */
+    public JudgmentRatings nextChunk(int maxRatings) throws IOException {
+        JudgmentRatings.Builder chunk = new JudgmentRatings.Builder();
+        while (true) {
+            Line line = pendingLine != null ? pendingLine : readLine();
+            pendingLine = null;
+            if (line == null) {
+                completeQueryText(chunk);
+                return chunk.build();
+            }
+            if (line.queryText().equals(queryText) == false) {
+                if (completedQueryTexts.contains(line.queryText())) {
+                    throw invalidLine("ratings of query text [" + line.queryText() + "] must be on consecutive lines");
+                }
+                completeQueryText(chunk);
+                if (chunk.getRatingCount() >= maxRatings) {
+                    pendingLine = line;
+                    return chunk.build();
+                }
+                queryText = line.queryText();
+            }
+            line.ratings().forEach(rating -> queryRatings.put(rating.getKey(), rating.getValue()));
+        }
+    }
+
+    /**
+     * Read the whole content, validating every line
+     * @param maxRatings - ratings held at a time
+     * @throws SearchRelevanceException BAD_REQUEST with the line number when a line is invalid
+     */
+    public void validate(int maxRatings) throws IOException {
+        while (nextChunk(maxRatings).isEmpty() == false) {
+            // only the counts of the validated lines are kept
+        }
+    }
+
+    /**
+     * @return the next non blank line, null once everything is read
+     */
+    private Line readLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() == false) {
+                return format == Format.NDJSON ? parseNdjsonLine(line) : parseTrecLine(line);
+            }
+        }
+        return null;
+    }
+
+    private Line parseNdjsonLine(String line) {
+        String lineQueryText = null;
+        String docId = null;
+        Float rating = null;
+        List<Map.Entry<String, Float>> lineRatings = null;
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                line
+            )
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                throw invalidLine("expected a JSON object");
+            }
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                token = parser.nextToken();
+                switch (fieldName) {
+                    case JudgmentRating.QUERY -> lineQueryText = token == XContentParser.Token.VALUE_STRING ? parser.text() : null;
+                    case JudgmentRating.DOC_ID -> docId = token.isValue() ? parser.text() : null;
+                    case JudgmentRating.RATING -> rating = token.isValue() ? parseRating(parser.text()) : null;
+                    case JudgmentRating.RATINGS -> lineRatings = parseNdjsonRatings(parser, token);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (token != XContentParser.Token.END_OBJECT || parser.nextToken() != null) {
+                throw invalidLine("expected a single JSON object");
+            }
+        } catch (SearchRelevanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw invalidLine("invalid JSON, " + e.getMessage());
+        }
+        if (lineQueryText == null || lineQueryText.isEmpty()) {
+            throw invalidLine("query must be a non empty string");
+        }
+        if (lineRatings != null) {
+            return new Line(lineQueryText, lineRatings);
+        }
+        return new Line(lineQueryText, List.of(rating(docId, rating)));
+    }
+
+    private List<Map.Entry<String, Float>> parseNdjsonRatings(XContentParser parser, XContentParser.Token token) throws IOException {
+        if (token != XContentParser.Token.START_ARRAY) {
+            throw invalidLine("ratings must be a list of rating data");
+        }
+        List<Map.Entry<String, Float>> lineRatings = new ArrayList<>();
+        while ((token = parser.nextToken()) == XContentParser.Token.START_OBJECT) {
+            String docId = null;
+            Float rating = null;
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                token = parser.nextToken();
+                if (JudgmentRating.DOC_ID.equals(fieldName) && token.isValue()) {
+                    docId = parser.text();
+                } else if (JudgmentRating.RATING.equals(fieldName) && token.isValue()) {
+                    rating = parseRating(parser.text());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            lineRatings.add(rating(docId, rating));
+        }
+        if (token != XContentParser.Token.END_ARRAY) {
+            throw invalidLine("ratings must be a list of rating data");
+        }
+        return lineRatings;
+    }
+
+    private Line parseTrecLine(String line) {
+        String[] columns = line.indexOf('\t') >= 0 ? line.strip().split("\t") : line.strip().split("\\s+");
+        if (columns.length != 4) {
+            throw invalidLine("expected 4 columns: query iteration docId rating");
+        }
+        String lineQueryText = columns[0].strip();
+        if (lineQueryText.isEmpty()) {
+            throw invalidLine("query must be a non empty string");
+        }
+        return new Line(lineQueryText, List.of(rating(columns[2].strip(), parseRating(columns[3].strip()))));
+    }
+
+    private Map.Entry<String, Float> rating(String docId, Float rating) {
+        if (docId == null || docId.isEmpty()) {
+            throw invalidLine("docId must not be null or empty");
+        }
+        if (rating == null) {
+            throw invalidLine("rating must not be null");
+        }
+        return Map.entry(docId, rating);
+    }
+
+    /**
+     * Add the ratings of the current query text to the chunk
+     */
+    private void completeQueryText(JudgmentRatings.Builder chunk) {
+        if (queryText == null) {
+            return;
+        }
+        chunk.add(queryText, queryRatings);
+        completedQueryTexts.add(queryText);
+        queryTexts++;
+        ratings += queryRatings.size();
+        queryText = null;
+        queryRatings = new LinkedHashMap<>();
+    }
+
+    private Float parseRating(String rating) {
+        try {
+            float value = Float.parseFloat(rating);
+            if (Float.isFinite(value)) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw invalidLine("rating '" + rating + "' must be a valid float");
+    }
+
+    private SearchRelevanceException invalidLine(String message) {
+        return new SearchRelevanceException(
+            String.format(Locale.ROOT, "Invalid judgment rating on line %d: %s", lineNumber, message),
+            RestStatus.BAD_REQUEST
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -8,6 +8,8 @@
 package org.opensearch.searchrelevance.judgments;
 
 import static org.opensearch.searchrelevance.common.MLConstants.sanitizeLLMResponse;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_INDEX_AND_QUERIES_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
 import static org.opensearch.searchrelevance.model.JudgmentCache.CONTEXT_FIELDS_STR;
 import static org.opensearch.searchrelevance.model.JudgmentCache.RATING;
 import static org.opensearch.searchrelevance.model.QueryWithReference.DELIMITER;
@@ -18,7 +20,6 @@ import static org.opensearch.searchrelevance.utils.ParserUtils.getDocIdFromCompo
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,11 +33,14 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.search.SearchHit;
+import org.opensearch.searchrelevance.cost.BudgetTracker;
+import org.opensearch.searchrelevance.cost.CostBudget;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
@@ -44,11 +48,11 @@ import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.ml.ChunkResult;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.model.JudgmentCache;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.JudgmentType;
-import org.opensearch.searchrelevance.model.QuerySet;
-import org.opensearch.searchrelevance.model.SearchConfiguration;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.events.EventStatsManager;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.transport.client.Client;
 
@@ -86,7 +90,11 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
     }
 
     @Override
-    public void generateJudgmentRating(Map<String, Object> metadata, ActionListener<List<Map<String, Object>>> listener) {
+    public void generateJudgmentRating(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        ActionListener<JudgmentRatings> listener
+    ) {
         try {
             EventStatsManager.increment(EventStatName.LLM_JUDGMENT_RATING_GENERATIONS);
             String querySetId = (String) metadata.get("querySetId");
@@ -97,126 +105,272 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
             int tokenLimit = (int) metadata.get("tokenLimit");
             List<String> contextFields = (List<String>) metadata.get("contextFields");
             boolean ignoreFailure = (boolean) metadata.get("ignoreFailure");
-
-            QuerySet querySet = querySetDao.getQuerySetSync(querySetId);
-            List<SearchConfiguration> searchConfigurations = searchConfigurationList.stream()
-                .map(id -> searchConfigurationDao.getSearchConfigurationSync(id))
-                .collect(Collectors.toList());
-
-            List<Map<String, Object>> judgments = generateLLMJudgments(
-                modelId,
-                size,
-                tokenLimit,
-                contextFields,
-                querySet,
-                searchConfigurations,
-                ignoreFailure
+            BudgetTracker budget = BudgetTracker.of(CostBudget.parse(metadata));
+
+            Map<String, Object> results = new ConcurrentHashMap<>();
+            StepListener<Map<String, Object>> fetchQuerySetStep = new StepListener<>();
+            querySetDao.getQuerySetWithStepListener(querySetId, results, fetchQuerySetStep);
+
+            StepListener<Map<String, Object>> fetchSearchConfigurationsStep = new StepListener<>();
+            fetchQuerySetStep.whenComplete(
+                querySetResults -> searchConfigurationDao.getSearchConfigsWithStepListener(
+                    searchConfigurationList,
+                    results,
+                    fetchSearchConfigurationsStep
+                ),
+                e -> handleJudgmentFailure(e, listener)
             );
 
-            listener.onResponse(judgments);
+            fetchSearchConfigurationsStep.whenComplete(bootstrapResults -> {
+                List<String> queryTextWithReferences = (List<String>) bootstrapResults.get(METRICS_QUERY_TEXT_FIELD_NAME);
+                Map<String, List<String>> indexAndQueries = (Map<String, List<String>>) bootstrapResults.get(
+                    METRICS_INDEX_AND_QUERIES_FIELD_NAME
+                );
+                // keep the order of the request, the first search configuration decides the index for the judgment cache
+                List<List<String>> searchConfigurations = searchConfigurationList.stream()
+                    .map(indexAndQueries::get)
+                    .collect(Collectors.toList());
+                generateLLMJudgments(
+                    task,
+                    modelId,
+                    size,
+                    tokenLimit,
+                    contextFields,
+                    queryTextWithReferences,
+                    searchConfigurations,
+                    ignoreFailure,
+                    budget,
+                    ActionListener.wrap(judgments -> {
+                        if (budget.isExhausted()) {
+                            // stored with the judgment, whose ratings only cover the query texts judged within the budget
+                            metadata.put("budgetExhausted", true);
+                        }
+                        listener.onResponse(judgments);
+                    }, e -> handleJudgmentFailure(e, listener))
+                );
+            }, e -> handleJudgmentFailure(e, listener));
         } catch (Exception e) {
-            LOGGER.error("Failed to generate LLM judgments", e);
-            listener.onFailure(new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR));
+            handleJudgmentFailure(e, listener);
         }
     }
 
-    private List<Map<String, Object>> generateLLMJudgments(
+    private void handleJudgmentFailure(Exception e, ActionListener<JudgmentRatings> listener) {
+        LOGGER.error("Failed to generate LLM judgments", e);
+        listener.onFailure(new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR));
+    }
+
+    /**
+     * Generate judgments for every queryText one after another, each queryText is chained on the completion of the previous one.
+     * Once the task is cancelled no further search, prediction or judgment cache write is issued. Once the budget is exhausted
+     * the judgments of the query texts processed so far are returned.
+     */
+    private void generateLLMJudgments(
+        SearchRelevanceTask task,
         String modelId,
         int size,
         int tokenLimit,
         List<String> contextFields,
-        QuerySet querySet,
-        List<SearchConfiguration> searchConfigurations,
-        boolean ignoreFailure
+        List<String> queryTextWithReferences,
+        List<List<String>> searchConfigurations,
+        boolean ignoreFailure,
+        BudgetTracker budget,
+        ActionListener<JudgmentRatings> listener
     ) {
-        List<String> queryTextWithReferences = querySet.querySetQueries().stream().map(e -> e.queryText()).collect(Collectors.toList());
-
-        List<Map<String, Object>> allJudgments = new ArrayList<>();
-
-        for (String queryTextWithReference : queryTextWithReferences) {
-            try {
-                Map<String, String> docIdToScore = processQueryText(
-                    modelId,
-                    size,
-                    tokenLimit,
-                    contextFields,
-                    searchConfigurations,
-                    queryTextWithReference,
-                    ignoreFailure
-                );
+        // the query texts are processed one after another, so the ratings are appended by one listener at a time
+        JudgmentRatings.Builder allJudgments = new JudgmentRatings.Builder();
+        task.setProgress(0, queryTextWithReferences.size());
+        generateLLMJudgmentForNextQueryText(
+            task,
+            modelId,
+            size,
+            tokenLimit,
+            contextFields,
+            queryTextWithReferences,
+            0,
+            searchConfigurations,
+            ignoreFailure,
+            budget,
+            allJudgments,
+            listener
+        );
+    }
 
-                Map<String, Object> judgmentForQuery = new HashMap<>();
-                judgmentForQuery.put("query", queryTextWithReference);
-                List<Map<String, String>> docIdRatings = docIdToScore.entrySet()
-                    .stream()
-                    .map(entry -> Map.of("docId", entry.getKey(), "rating", entry.getValue()))
-                    .collect(Collectors.toList());
-                judgmentForQuery.put("ratings", docIdRatings);
-                allJudgments.add(judgmentForQuery);
+    private void generateLLMJudgmentForNextQueryText(
+        SearchRelevanceTask task,
+        String modelId,
+        int size,
+        int tokenLimit,
+        List<String> contextFields,
+        List<String> queryTextWithReferences,
+        int queryIndex,
+        List<List<String>> searchConfigurations,
+        boolean ignoreFailure,
+        BudgetTracker budget,
+        JudgmentRatings.Builder allJudgments,
+        ActionListener<JudgmentRatings> listener
+    ) {
+        if (task.isCancelled()) {
+            listener.onFailure(cancelled(task));
+            return;
+        }
+        if (budget.isExhausted()) {
+            LOGGER.info("Budget exhausted after processing {} of {} queries", queryIndex, queryTextWithReferences.size());
+            listener.onResponse(allJudgments.build());
+            return;
+        }
+        if (queryIndex >= queryTextWithReferences.size()) {
+            LOGGER.info("Completed processing {} queries", queryTextWithReferences.size());
+            listener.onResponse(allJudgments.build());
+            return;
+        }
+        String queryTextWithReference = queryTextWithReferences.get(queryIndex);
+        Runnable processNext = () -> generateLLMJudgmentForNextQueryText(
+            task,
+            modelId,
+            size,
+            tokenLimit,
+            contextFields,
+            queryTextWithReferences,
+            queryIndex + 1,
+            searchConfigurations,
+            ignoreFailure,
+            budget,
+            allJudgments,
+            listener
+        );
 
-                LOGGER.debug("Processed query: {} with {} ratings", queryTextWithReference, docIdRatings.size());
-            } catch (Exception e) {
+        processQueryText(
+            task,
+            modelId,
+            size,
+            tokenLimit,
+            contextFields,
+            searchConfigurations,
+            queryTextWithReference,
+            ignoreFailure,
+            budget,
+            ActionListener.wrap(docIdToScore -> {
+                allJudgments.addQueryText(queryTextWithReference);
+                docIdToScore.forEach((docId, rating) -> allJudgments.addRating(docId, Float.parseFloat(rating)));
+
+                LOGGER.debug("Processed query: {} with {} ratings", queryTextWithReference, docIdToScore.size());
+                task.incrementProgress();
+                processNext.run();
+            }, e -> {
                 LOGGER.error("Failed to process query: {}", queryTextWithReference, e);
-                if (!ignoreFailure) {
-                    throw new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR);
+                if (ignoreFailure || budget.isExhausted()) {
+                    processNext.run();
+                } else {
+                    listener.onFailure(e);
                 }
-            }
-        }
-
-        LOGGER.info("Completed processing {} queries", queryTextWithReferences.size());
-        return allJudgments;
+            })
+        );
     }
 
-    private Map<String, String> processQueryText(
+    private void processQueryText(
+        SearchRelevanceTask task,
         String modelId,
         int size,
         int tokenLimit,
         List<String> contextFields,
-        List<SearchConfiguration> searchConfigurations,
+        List<List<String>> searchConfigurations,
         String queryTextWithReference,
-        boolean ignoreFailure
+        boolean ignoreFailure,
+        BudgetTracker budget,
+        ActionListener<Map<String, String>> listener
     ) {
-        Map<String, String> unionHits = new HashMap<>();
         ConcurrentMap<String, String> docIdToScore = new ConcurrentHashMap<>();
-        Map<String, SearchHit> allHits = new HashMap<>();
+        Map<String, SearchHit> allHits = new ConcurrentHashMap<>();
 
         String queryText = queryTextWithReference.split(DELIMITER, 2)[0];
+        String index = searchConfigurations.get(0).get(0); // All configs use same index
 
-        // Collect all hits
-        for (SearchConfiguration searchConfiguration : searchConfigurations) {
-            String index = searchConfiguration.index();
-            String query = searchConfiguration.query();
-            String searchPipeline = searchConfiguration.searchPipeline();
-
-            try {
-                SearchRequest searchRequest = buildSearchRequest(index, query, queryText, searchPipeline, size);
-                SearchResponse response = client.search(searchRequest).actionGet();
-
-                for (SearchHit hit : response.getHits().getHits()) {
-                    allHits.put(hit.getId(), hit);
-                }
-            } catch (Exception e) {
-                LOGGER.error("Search failed for index: {}", index, e);
-                if (!ignoreFailure) {
-                    throw new SearchRelevanceException("Search failed", e, RestStatus.INTERNAL_SERVER_ERROR);
-                }
-            }
-        }
-
-        // Process all collected hits
-        try {
-            String index = searchConfigurations.get(0).index(); // All configs use same index
+        // Collect all hits, then check them against the judgment cache
+        GroupedActionListener<SearchResponse> searchListener = new GroupedActionListener<>(ActionListener.wrap(responses -> {
             List<String> docIds = new ArrayList<>(allHits.keySet());
-
-            // Deduplicate against cache
-            List<String> unprocessedDocIds = deduplicateFromProcessedDocs(
+            deduplicateFromProcessedDocs(
                 index,
                 queryTextWithReference,
                 docIds,
                 contextFields,
-                docIdToScore
+                docIdToScore,
+                ActionListener.wrap(
+                    unprocessedDocIds -> processUncachedHits(
+                        task,
+                        modelId,
+                        tokenLimit,
+                        contextFields,
+                        queryTextWithReference,
+                        index,
+                        allHits,
+                        unprocessedDocIds,
+                        docIdToScore,
+                        ignoreFailure,
+                        budget,
+                        listener
+                    ),
+                    listener::onFailure
+                )
             );
+        }, e -> listener.onFailure(new SearchRelevanceException("Search failed", e, RestStatus.INTERNAL_SERVER_ERROR))),
+            searchConfigurations.size()
+        );
 
+        for (List<String> searchConfiguration : searchConfigurations) {
+            String configIndex = searchConfiguration.get(0);
+            String query = searchConfiguration.get(1);
+            String searchPipeline = searchConfiguration.get(2);
+
+            try {
+                SearchRequest searchRequest = buildSearchRequest(configIndex, query, queryText, searchPipeline, size);
+                client.search(searchRequest, ActionListener.wrap(response -> {
+                    for (SearchHit hit : response.getHits().getHits()) {
+                        allHits.put(hit.getId(), hit);
+                    }
+                    searchListener.onResponse(response);
+                }, e -> handleSearchFailure(configIndex, e, ignoreFailure, searchListener)));
+            } catch (Exception e) {
+                handleSearchFailure(configIndex, e, ignoreFailure, searchListener);
+            }
+        }
+    }
+
+    private void handleSearchFailure(
+        String index,
+        Exception e,
+        boolean ignoreFailure,
+        GroupedActionListener<SearchResponse> searchListener
+    ) {
+        LOGGER.error("Search failed for index: {}", index, e);
+        if (ignoreFailure) {
+            // count the failed search as done so the remaining configurations still complete the group
+            searchListener.onResponse(null);
+        } else {
+            searchListener.onFailure(e);
+        }
+    }
+
+    private void processUncachedHits(
+        SearchRelevanceTask task,
+        String modelId,
+        int tokenLimit,
+        List<String> contextFields,
+        String queryTextWithReference,
+        String index,
+        Map<String, SearchHit> allHits,
+        List<String> unprocessedDocIds,
+        ConcurrentMap<String, String> docIdToScore,
+        boolean ignoreFailure,
+        BudgetTracker budget,
+        ActionListener<Map<String, String>> listener
+    ) {
+        String queryText = queryTextWithReference.split(DELIMITER, 2)[0];
+        if (task.isCancelled()) {
+            listener.onFailure(cancelled(task));
+            return;
+        }
+        try {
+            Map<String, String> unionHits = new HashMap<>();
             LOGGER.info("Cached docIds: {}", docIdToScore.keySet());
             LOGGER.info("Unprocessed docIds: {}", unprocessedDocIds);
 
@@ -229,40 +383,53 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
             }
 
             LOGGER.info("UnionHits size: {}", unionHits.size());
-
-            // Process unprocessed hits with LLM
-            if (!unionHits.isEmpty()) {
-                LOGGER.info("Processing {} uncached docs with LLM for query: {}", unionHits.size(), queryText);
-                Map<String, String> llmRatings;
-                PlainActionFuture<Map<String, String>> llmFuture = PlainActionFuture.newFuture();
-                generateLLMJudgmentForQueryText(
-                    modelId,
-                    queryTextWithReference,
-                    tokenLimit,
-                    contextFields,
-                    unionHits,
-                    docIdToScore,
-                    ignoreFailure,
-                    llmFuture
-                );
-                llmRatings = llmFuture.actionGet();
-                LOGGER.info("LLM returned ratings: {}", llmRatings);
-                docIdToScore.putAll(llmRatings);
+            if (unionHits.isEmpty()) {
+                listener.onResponse(docIdToScore);
+                return;
             }
 
+            // Process unprocessed hits with LLM
+            LOGGER.info("Processing {} uncached docs with LLM for query: {}", unionHits.size(), queryText);
+            generateLLMJudgmentForQueryText(
+                task,
+                modelId,
+                queryTextWithReference,
+                tokenLimit,
+                contextFields,
+                unionHits,
+                docIdToScore,
+                ignoreFailure,
+                budget,
+                ActionListener.wrap(llmRatings -> {
+                    LOGGER.info("LLM returned ratings: {}", llmRatings);
+                    docIdToScore.putAll(llmRatings);
+                    LOGGER.info("Final docIdToScore size: {}, contents: {}", docIdToScore.size(), docIdToScore);
+                    listener.onResponse(docIdToScore);
+                }, e -> handleHitsFailure(queryText, e, ignoreFailure, docIdToScore, listener))
+            );
         } catch (Exception e) {
-            LOGGER.error("Failed to process hits for query: {}", queryText, e);
-            if (!ignoreFailure) {
-                throw new SearchRelevanceException("Failed to process hits", e, RestStatus.INTERNAL_SERVER_ERROR);
-            }
+            handleHitsFailure(queryText, e, ignoreFailure, docIdToScore, listener);
         }
+    }
 
-        LOGGER.info("Final docIdToScore size: {}, contents: {}", docIdToScore.size(), docIdToScore);
-        return docIdToScore;
+    private void handleHitsFailure(
+        String queryText,
+        Exception e,
+        boolean ignoreFailure,
+        Map<String, String> docIdToScore,
+        ActionListener<Map<String, String>> listener
+    ) {
+        LOGGER.error("Failed to process hits for query: {}", queryText, e);
+        if (ignoreFailure) {
+            listener.onResponse(docIdToScore);
+        } else {
+            listener.onFailure(new SearchRelevanceException("Failed to process hits", e, RestStatus.INTERNAL_SERVER_ERROR));
+        }
     }
 
     /**
      * Generate LLM judgment for each queryText.
+     * @param task - task tracking the judgment generation, ratings returned after its cancellation are not cached
      * @param modelId - modelId to be used for the judgment generation
      * @param queryTextWithReference - queryText with its referenceAnswer
      * @param tokenLimit - llm model token limit
@@ -270,8 +437,10 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
      * @param unprocessedUnionHits - hits pending judged
      * @param docIdToRating - map to store the judgment ratings
      * @param ignoreFailure - boolean to determine how to error handling
+     * @param budget - predict calls and prompt tokens left to the judgment
      */
     private void generateLLMJudgmentForQueryText(
+        SearchRelevanceTask task,
         String modelId,
         String queryTextWithReference,
         int tokenLimit,
@@ -279,6 +448,7 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         Map<String, String> unprocessedUnionHits,
         Map<String, String> docIdToRating,
         boolean ignoreFailure,
+        BudgetTracker budget,
         ActionListener<Map<String, String>> listener
     ) {
         LOGGER.debug("calculating LLM evaluation with modelId: {} and unprocessed unionHits: {}", modelId, unprocessedUnionHits);
@@ -306,6 +476,7 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
             referenceAnswer,
             unprocessedUnionHits,
             ignoreFailure,
+            budget,
             new ActionListener<ChunkResult>() {
                 @Override
                 public void onResponse(ChunkResult chunkResult) {
@@ -347,6 +518,11 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
                                 chunkResult.getFailedChunksCount()
                             );
 
+                            if (task.isCancelled()) {
+                                handleProcessingError(cancelled(task), true);
+                                return;
+                            }
+
                             // Process combined responses
                             for (List<Map<String, Object>> ratings : combinedResponses.values()) {
                                 for (Map<String, Object> rating : ratings) {
@@ -399,51 +575,63 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
      * @param contextFields - contextFields to be deduplicated
      * @param docIds - overall docIds from search
      * @param docIdToRating - add processed docIds and ratings to global docIdToRating map
+     * @param listener - notified with the docIds that have no cached judgment
      */
-    private List<String> deduplicateFromProcessedDocs(
+    private void deduplicateFromProcessedDocs(
         String targetIndex,
         String queryTextWithReference,
         List<String> docIds,
         List<String> contextFields,
-        ConcurrentMap<String, String> docIdToRating
+        ConcurrentMap<String, String> docIdToRating,
+        ActionListener<List<String>> listener
     ) {
-        Set<String> unprocessedDocIds = new HashSet<>(docIds);
+        if (docIds.isEmpty()) {
+            listener.onResponse(new ArrayList<>());
+            return;
+        }
+        Set<String> unprocessedDocIds = ConcurrentHashMap.newKeySet();
+        unprocessedDocIds.addAll(docIds);
+
+        GroupedActionListener<Void> cacheLookupListener = new GroupedActionListener<>(
+            ActionListener.wrap(lookups -> listener.onResponse(new ArrayList<>(unprocessedDocIds)), listener::onFailure),
+            docIds.size()
+        );
 
         for (String docId : docIds) {
             String compositeKey = combinedIndexAndDocId(targetIndex, docId);
 
             try {
-                PlainActionFuture<SearchResponse> future = PlainActionFuture.newFuture();
-                judgmentCacheDao.getJudgmentCache(queryTextWithReference, compositeKey, contextFields, future);
-                SearchResponse response = future.actionGet();
-
-                if (response.getHits().getTotalHits().value() > 0) {
-                    SearchHit hit = response.getHits().getHits()[0];
-                    Map<String, Object> source = hit.getSourceAsMap();
-                    String rating = (String) source.get(RATING);
-                    String storedContextFields = (String) source.get(CONTEXT_FIELDS_STR);
-
-                    LOGGER.info(
-                        "Found existing judgment for docId: {}, rating: {}, storedContextFields: {}",
-                        docId,
-                        rating,
-                        storedContextFields
-                    );
-
-                    docIdToRating.put(docId, rating);
-                    unprocessedDocIds.remove(docId);
-                }
+                judgmentCacheDao.getJudgmentCache(queryTextWithReference, compositeKey, contextFields, ActionListener.wrap(response -> {
+                    if (response.getHits().getTotalHits().value() > 0) {
+                        SearchHit hit = response.getHits().getHits()[0];
+                        Map<String, Object> source = hit.getSourceAsMap();
+                        String rating = (String) source.get(RATING);
+                        String storedContextFields = (String) source.get(CONTEXT_FIELDS_STR);
+
+                        LOGGER.info(
+                            "Found existing judgment for docId: {}, rating: {}, storedContextFields: {}",
+                            docId,
+                            rating,
+                            storedContextFields
+                        );
+
+                        docIdToRating.put(docId, rating);
+                        unprocessedDocIds.remove(docId);
+                    }
+                    cacheLookupListener.onResponse(null);
+                }, e -> {
+                    logCacheLookupFailure(queryTextWithReference, docId, e);
+                    cacheLookupListener.onResponse(null);
+                }));
             } catch (Exception e) {
-                LOGGER.error(
-                    "Failed to check judgment cache for queryTextWithReference: {} and docId: {}",
-                    queryTextWithReference,
-                    docId,
-                    e
-                );
+                logCacheLookupFailure(queryTextWithReference, docId, e);
+                cacheLookupListener.onResponse(null);
             }
         }
+    }
 
-        return new ArrayList<>(unprocessedDocIds);
+    private void logCacheLookupFailure(String queryTextWithReference, String docId, Exception e) {
+        LOGGER.error("Failed to check judgment cache for queryTextWithReference: {} and docId: {}", queryTextWithReference, docId, e);
     }
 
     /**
@@ -492,6 +680,10 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         });
     }
 
+    private static TaskCancelledException cancelled(SearchRelevanceTask task) {
+        return new TaskCancelledException("Judgment generation task [" + task.getId() + "] was cancelled");
+    }
+
     private boolean shouldFailImmediately(boolean ignoreFailure, ChunkResult chunkResult) {
         return !ignoreFailure && !chunkResult.getFailedChunks().isEmpty();
     }
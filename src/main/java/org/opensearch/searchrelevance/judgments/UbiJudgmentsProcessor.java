@@ -7,9 +7,6 @@
  */
 package org.opensearch.searchrelevance.judgments;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
@@ -21,9 +18,11 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.judgments.clickmodel.coec.CoecClickModel;
 import org.opensearch.searchrelevance.judgments.clickmodel.coec.CoecClickModelParameters;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.stats.events.EventStatName;
 import org.opensearch.searchrelevance.stats.events.EventStatsManager;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
 import org.opensearch.transport.client.Client;
 
 public class UbiJudgmentsProcessor implements BaseJudgmentsProcessor {
@@ -41,7 +40,11 @@ public class UbiJudgmentsProcessor implements BaseJudgmentsProcessor {
     }
 
     @Override
-    public void generateJudgmentRating(Map<String, Object> metadata, ActionListener<List<Map<String, Object>>> listener) {
+    public void generateJudgmentRating(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        ActionListener<JudgmentRatings> listener
+    ) {
         EventStatsManager.increment(EventStatName.UBI_JUDGMENT_RATING_GENERATIONS);
         String clickModel = (String) metadata.get("clickModel");
         int maxRank = (int) metadata.get("maxRank");
@@ -56,88 +59,8 @@ public class UbiJudgmentsProcessor implements BaseJudgmentsProcessor {
             try {
                 coecClickModel.calculateJudgments(new ActionListener<>() {
                     @Override
-                    public void onResponse(List<Map<String, Object>> judgments) {
-                        // Create the result map in the expected format
-                        List<Map<String, Object>> formattedRatings = new ArrayList<>();
-                        for (Map<String, Object> queryJudgment : judgments) {
-                            String queryText = (String) queryJudgment.get("query");
-                            Object ratingData = queryJudgment.get("ratings");
-
-                            if (!(ratingData instanceof Map)) {
-                                listener.onFailure(
-                                    new SearchRelevanceException(
-                                        "queryText " + queryText + " must have rating data as a Map.",
-                                        RestStatus.BAD_REQUEST
-                                    )
-                                );
-                                return;
-                            }
-
-                            @SuppressWarnings("unchecked")
-                            Map<String, Object> ratingsMap = (Map<String, Object>) ratingData; // Cast to Map, not List
-
-                            // Prepare a list to hold the docId and score maps for the current query
-                            List<Map<String, String>> docIdScoreList = new ArrayList<>();
-
-                            // Iterate over the entrySet of the HashMap ***
-                            for (Map.Entry<String, Object> entry : ratingsMap.entrySet()) {
-                                String docId = entry.getKey(); // The key is the docId
-                                Object ratingObject = entry.getValue(); // The value is the rating
-
-                                if (docId == null || docId.isEmpty()) {
-                                    // This case is unlikely if the keys of the map are docIds, but good for defensive coding
-                                    listener.onFailure(
-                                        new SearchRelevanceException(
-                                            "docId (map key) for queryText " + queryText + " must not be null or empty",
-                                            RestStatus.BAD_REQUEST
-                                        )
-                                    );
-                                    return;
-                                }
-                                if (ratingObject == null) {
-                                    listener.onFailure(
-                                        new SearchRelevanceException(
-                                            "rating for docId '" + docId + "' in queryText " + queryText + " must not be null",
-                                            RestStatus.BAD_REQUEST
-                                        )
-                                    );
-                                    return;
-                                }
-
-                                String rating = String.valueOf(ratingObject); // Convert rating to String
-
-                                try {
-                                    Float.parseFloat(rating);
-                                } catch (NumberFormatException e) {
-                                    listener.onFailure(
-                                        new SearchRelevanceException(
-                                            "rating '"
-                                                + rating
-                                                + "' for docId '"
-                                                + docId
-                                                + "' in queryText "
-                                                + queryText
-                                                + " must be a valid float",
-                                            RestStatus.BAD_REQUEST
-                                        )
-                                    );
-                                    return;
-                                }
-
-                                // Add the docId and score to the list for the current query
-                                Map<String, String> docScoreMap = new HashMap<>();
-                                docScoreMap.put("docId", docId);
-                                docScoreMap.put("rating", rating);
-                                docIdScoreList.add(docScoreMap);
-                            }
-
-                            // Add the formatted ratings for this query
-                            Map<String, Object> queryRatings = new HashMap<>();
-                            queryRatings.put("query", queryText);
-                            queryRatings.put("ratings", docIdScoreList);
-                            formattedRatings.add(queryRatings);
-                        }
-                        listener.onResponse(formattedRatings);
+                    public void onResponse(JudgmentRatings judgments) {
+                        listener.onResponse(judgments);
                     }
 
                     @Override
@@ -7,10 +7,8 @@
  */
 package org.opensearch.searchrelevance.judgments.clickmodel;
 
-import java.util.List;
-import java.util.Map;
-
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 
 /**
  * Base class for creating click models.
@@ -20,5 +18,5 @@ public abstract class ClickModel {
     /**
      * Calculate implicit judgments.
      */
-    public abstract void calculateJudgments(ActionListener<List<Map<String, Object>>> listener);
+    public abstract void calculateJudgments(ActionListener<JudgmentRatings> listener);
 }
@@ -9,11 +9,8 @@ package org.opensearch.searchrelevance.judgments.clickmodel.coec;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.UBI_EVENTS_INDEX;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,6 +34,7 @@ import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.searchrelevance.judgments.clickmodel.ClickModel;
 import org.opensearch.searchrelevance.model.ClickthroughRate;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.ubi.event.UbiEvent;
 import org.opensearch.searchrelevance.utils.JsonUtils;
 import org.opensearch.transport.client.Client;
@@ -59,7 +57,7 @@ public class CoecClickModel extends ClickModel {
     }
 
     @Override
-    public void calculateJudgments(ActionListener<List<Map<String, Object>>> listener) {
+    public void calculateJudgments(ActionListener<JudgmentRatings> listener) {
         // Step 1: Calculate rank-aggregated click-through
         getRankAggregatedClickThrough(ActionListener.wrap(rankAggregatedClickThrough -> {
             // Step 2: Get clickthrough rates
@@ -573,23 +571,7 @@ public class CoecClickModel extends ClickModel {
                 getUserQuery(queryId, ActionListener.wrap(userQuery -> {
                     if (userQuery != null) {
                         synchronized (queriesToClickthroughRates) {
-                            Set<ClickthroughRate> clickthroughRates = queriesToClickthroughRates.computeIfAbsent(
-                                userQuery,
-                                k -> new HashSet<>()
-                            );
-
-                            ClickthroughRate clickthroughRate = clickthroughRates.stream()
-                                .filter(ctr -> ctr.getObjectId().equals(ubiEvent.getEventAttributes().getObject().getObjectId()))
-                                .findFirst()
-                                .orElseGet(() -> new ClickthroughRate(ubiEvent.getEventAttributes().getObject().getObjectId()));
-
-                            if ("click".equalsIgnoreCase(ubiEvent.getActionName())) {
-                                clickthroughRate.logClick();
-                            } else if ("impression".equalsIgnoreCase(ubiEvent.getActionName())) {
-                                clickthroughRate.logImpression();
-                            }
-
-                            clickthroughRates.add(clickthroughRate);
+                            accumulateClickthrough(queriesToClickthroughRates, userQuery, ubiEvent);
                         }
                     }
                     checkBatchCompletion(pendingHits, hasError, response.getScrollId(), queriesToClickthroughRates, listener);
@@ -661,17 +643,68 @@ public class CoecClickModel extends ClickModel {
         );
     }
 
-    private void calculateCoecJudgments(
+    /**
+     * Notify the listener once with the ratings of every user query, empty ratings when there are no clickthrough rates
+     */
+    static void calculateCoecJudgments(
         Map<Integer, Double> rankAggregatedClickThrough,
         Map<String, Set<ClickthroughRate>> clickthroughRates,
-        ActionListener<List<Map<String, Object>>> listener
+        ActionListener<JudgmentRatings> listener
     ) {
         LOGGER.debug("Starting COEC calculation with rank CTR: {}", rankAggregatedClickThrough);
-        List<Map<String, Object>> judgmentRatings = new ArrayList<>();
+        JudgmentRatings judgmentRatings = coecJudgments(rankAggregatedClickThrough, clickthroughRates);
+        LOGGER.debug(
+            "Final judgment ratings size - Queries: {}, Total Documents: {}",
+            judgmentRatings.size(),
+            judgmentRatings.getRatingCount()
+        );
+        listener.onResponse(judgmentRatings);
+    }
+
+    /**
+     * Count a click or impression event of a user query on the clickthrough rate of its object
+     * @param queriesToClickthroughRates - clickthrough rates by user query, not thread safe
+     * @param userQuery - user query of the event
+     * @param ubiEvent - click or impression event, other actions are not counted
+     */
+    public static void accumulateClickthrough(
+        Map<String, Set<ClickthroughRate>> queriesToClickthroughRates,
+        String userQuery,
+        UbiEvent ubiEvent
+    ) {
+        Set<ClickthroughRate> clickthroughRates = queriesToClickthroughRates.computeIfAbsent(userQuery, k -> new HashSet<>());
+
+        ClickthroughRate clickthroughRate = clickthroughRates.stream()
+            .filter(ctr -> ctr.getObjectId().equals(ubiEvent.getEventAttributes().getObject().getObjectId()))
+            .findFirst()
+            .orElseGet(() -> new ClickthroughRate(ubiEvent.getEventAttributes().getObject().getObjectId()));
+
+        if ("click".equalsIgnoreCase(ubiEvent.getActionName())) {
+            clickthroughRate.logClick();
+        } else if ("impression".equalsIgnoreCase(ubiEvent.getActionName())) {
+            clickthroughRate.logImpression();
+        }
+
+        clickthroughRates.add(clickthroughRate);
+    }
+
+    /**
+     * @param rankAggregatedClickThrough - clickthrough rate by rank over all queries
+     * @param clickthroughRates - clickthrough rates of the objects by user query
+     * @return COEC ratings of the objects of every user query with at least one object
+     */
+    public static JudgmentRatings coecJudgments(
+        Map<Integer, Double> rankAggregatedClickThrough,
+        Map<String, Set<ClickthroughRate>> clickthroughRates
+    ) {
+        JudgmentRatings.Builder judgmentRatings = new JudgmentRatings.Builder();
 
         for (Map.Entry<String, Set<ClickthroughRate>> entry : clickthroughRates.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
             String userQuery = entry.getKey();
-            Map<String, String> docScores = new HashMap<>();
+            judgmentRatings.addQueryText(userQuery);
 
             for (ClickthroughRate ctr : entry.getValue()) {
                 // Get the lowest rank at which this query-document pair was interacted with
@@ -689,22 +722,11 @@ public class CoecClickModel extends ClickModel {
                     rating = 0.0;
                 }
                 LOGGER.debug("judgment rating: {}, query: {}, doc: {}, rank: {}", rating, userQuery, ctr.getObjectId(), observedRank);
-                docScores.put(ctr.getObjectId(), String.format(Locale.ROOT, "%.3f", rating));
+                // ratings are rounded to three decimals
+                judgmentRatings.addRating(ctr.getObjectId(), (float) (Math.round(rating * 1000) / 1000.0));
             }
-
-            if (!docScores.isEmpty()) {
-                Map<String, Object> queryRating = new HashMap<>();
-                queryRating.put("query", userQuery);
-                queryRating.put("ratings", docScores);
-                judgmentRatings.add(queryRating);
-            }
-            LOGGER.debug(
-                "Final judgment ratings size - Queries: {}, Total Documents: {}",
-                judgmentRatings.size(),
-                judgmentRatings.stream().mapToInt(item -> ((Map<String, Object>) item.get("ratings")).size()).sum()
-            );
-            listener.onResponse(judgmentRatings);
         }
+        return judgmentRatings.build();
     }
 
 }
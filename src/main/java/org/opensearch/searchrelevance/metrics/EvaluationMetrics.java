@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.opensearch.searchrelevance.metrics.calculator.QueryJudgments;
+
 /**
  * Evaluation Metrics.
  */
@@ -37,22 +39,34 @@ public class EvaluationMetrics {
     /**
      * calculate evaluation metrics with evaluation calculators.
      */
-    public static List<Map<String, Object>> calculateEvaluationMetrics(List<String> docIds, Map<String, String> judgments, int k) {
+    public static List<Map<String, Object>> calculateEvaluationMetrics(List<String> docIds, Map<String, ?> judgments, int k) {
+        return calculateEvaluationMetrics(docIds, QueryJudgments.parse(judgments), k);
+    }
+
+    /**
+     * calculate evaluation metrics with evaluation calculators, over judgments compiled once per query text.
+     */
+    public static List<Map<String, Object>> calculateEvaluationMetrics(List<String> docIds, QueryJudgments queryJudgments, int k) {
         List<Map<String, Object>> metrics = new ArrayList<>();
-        List<String> docsWithScores = docIds.stream().filter(judgments::containsKey).toList();
+        float[] rankedRatings = queryJudgments.ratingsOf(docIds);
 
         // calculate coverage statistics
-        int totalCount = docIds.size();
-        int totalDocsWithScores = docsWithScores.size();
+        int totalCount = rankedRatings.length;
+        int totalDocsWithScores = 0;
+        for (float rating : rankedRatings) {
+            if (Float.isNaN(rating) == false) {
+                totalDocsWithScores++;
+            }
+        }
 
         double coverage = totalCount > 0 ? Math.round((double) totalDocsWithScores / totalCount * 100.0) / 100.0 : 0.0;
 
         // TODO: it's not guarantee that each docId will have its score, especially for UBI data.
         // Need to define a reliable rate. say, coverage > 80%, then the results become reliable
         addMetric(metrics, String.format(Locale.ROOT, "Coverage@%d", k), coverage);
-        addMetric(metrics, METRICS_PRECISION_AT + k, calculatePrecisionAtK(docIds, judgments, k));
-        addMetric(metrics, METRICS_MEAN_AVERAGE_PRECISION_AT + k, calculateMAPAtK(docIds, judgments, k));
-        addMetric(metrics, METRICS_NORMALIZED_DISCOUNTED_CUMULATIVE_GAIN_AT + k, calculateNDCGAtK(docIds, judgments, k));
+        addMetric(metrics, METRICS_PRECISION_AT + k, calculatePrecisionAtK(rankedRatings, k));
+        addMetric(metrics, METRICS_MEAN_AVERAGE_PRECISION_AT + k, calculateMAPAtK(rankedRatings, queryJudgments, k));
+        addMetric(metrics, METRICS_NORMALIZED_DISCOUNTED_CUMULATIVE_GAIN_AT + k, calculateNDCGAtK(rankedRatings, queryJudgments, k));
 
         return metrics;
     }
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Aggregates of the evaluation metrics of an experiment per search configuration and, for hybrid optimizer
+ * experiments, per variant. The metrics of a query text are folded in once its results are stored, so the aggregates
+ * cover exactly the completed query texts and are stored in the experiment summary without reading the evaluation
+ * results back. Thread safe.
+ */
+public class ExperimentAggregates implements Writeable {
+    // ordered by search configuration id and variant id, so the summary lists them in the same order on every update
+    private final Map<Key, Map<String, MetricAggregate>> aggregates = new TreeMap<>();
+
+    /**
+     * Search configuration and, for hybrid optimizer experiments, variant the evaluation metrics belong to
+     */
+    record Key(String searchConfigurationId, String experimentVariantId) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byConfiguration = searchConfigurationId.compareTo(other.searchConfigurationId);
+            if (byConfiguration != 0) {
+                return byConfiguration;
+            }
+            return String.valueOf(experimentVariantId).compareTo(String.valueOf(other.experimentVariantId));
+        }
+    }
+
+    public ExperimentAggregates() {}
+
+    public ExperimentAggregates(StreamInput in) throws IOException {
+        int size = in.readVInt();
+        for (int i = 0; i < size; i++) {
+            Key key = new Key(in.readString(), in.readOptionalString());
+            aggregates.put(key, in.readMap(StreamInput::readString, MetricAggregate::new));
+        }
+    }
+
+    @Override
+    public synchronized void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(aggregates.size());
+        for (Map.Entry<Key, Map<String, MetricAggregate>> entry : aggregates.entrySet()) {
+            out.writeString(entry.getKey().searchConfigurationId());
+            out.writeOptionalString(entry.getKey().experimentVariantId());
+            out.writeMap(entry.getValue(), StreamOutput::writeString, (output, aggregate) -> aggregate.writeTo(output));
+        }
+    }
+
+    /**
+     * Fold the evaluation metrics of a query text into the aggregates
+     * @param queryResults - results of a query text, see {@link MetricsHelper#processEvaluationMetrics}
+     */
+    public synchronized void record(Map<String, Object> queryResults) {
+        forEachMetric(
+            queryResults,
+            (key, name, value) -> aggregates.computeIfAbsent(key, k -> new TreeMap<>())
+                .computeIfAbsent(name, n -> new MetricAggregate())
+                .add(value)
+        );
+    }
+
+    /**
+     * @param queryResults - results of a query text, see {@link MetricsHelper#processEvaluationMetrics}
+     * @param consumer - called with every numeric evaluation metric of the query text
+     */
+    static void forEachMetric(Map<String, Object> queryResults, MetricConsumer consumer) {
+        Object evaluationMetrics = queryResults.get(POINTWISE_FIELD_NAME_EVALUATION_METRICS);
+        if (evaluationMetrics instanceof List<?> == false) {
+            return;
+        }
+        for (Object evaluation : (List<?>) evaluationMetrics) {
+            Map<String, Object> evaluationMap = (Map<String, Object>) evaluation;
+            Key key = new Key(
+                (String) evaluationMap.get(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID),
+                (String) evaluationMap.get(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID)
+            );
+            for (Map.Entry<String, Object> metric : ((Map<String, Object>) evaluationMap.get(POINTWISE_FIELD_NAME_METRICS)).entrySet()) {
+                if (metric.getValue() instanceof Number) {
+                    consumer.accept(key, metric.getKey(), ((Number) metric.getValue()).doubleValue());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface MetricConsumer {
+        void accept(Key key, String name, double value);
+    }
+
+    /**
+     * Merge the aggregates of query texts evaluated elsewhere, e.g. by a slice on another node
+     */
+    public void merge(ExperimentAggregates other) {
+        Map<Key, Map<String, MetricAggregate>> otherAggregates;
+        synchronized (other) {
+            otherAggregates = new TreeMap<>(other.aggregates);
+        }
+        synchronized (this) {
+            for (Map.Entry<Key, Map<String, MetricAggregate>> entry : otherAggregates.entrySet()) {
+                Map<String, MetricAggregate> metricAggregates = aggregates.computeIfAbsent(entry.getKey(), k -> new TreeMap<>());
+                entry.getValue()
+                    .forEach((name, aggregate) -> metricAggregates.computeIfAbsent(name, n -> new MetricAggregate()).merge(aggregate));
+            }
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return aggregates.isEmpty();
+    }
+
+    /**
+     * aggregates example:
+     * [
+     *     {
+     *         "searchConfigurationId": "config-1",
+     *         "experimentVariantId": "variant-1",
+     *         "metrics": {
+     *             "NDCG@10": {"count": 120, "mean": 0.61, "variance": 0.04, "stdDev": 0.2, "min": 0.0, "max": 1.0, "p50": 0.63, ...}
+     *         }
+     *     }
+     * ]
+     */
+    public synchronized List<Map<String, Object>> toSummary() {
+        List<Map<String, Object>> summary = new ArrayList<>(aggregates.size());
+        for (Map.Entry<Key, Map<String, MetricAggregate>> entry : aggregates.entrySet()) {
+            Map<String, Object> aggregate = new LinkedHashMap<>();
+            aggregate.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, entry.getKey().searchConfigurationId());
+            if (entry.getKey().experimentVariantId() != null) {
+                aggregate.put(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, entry.getKey().experimentVariantId());
+            }
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            entry.getValue().forEach((name, metricAggregate) -> metrics.put(name, metricAggregate.toMap()));
+            aggregate.put(POINTWISE_FIELD_NAME_METRICS, metrics);
+            summary.add(aggregate);
+        }
+        return summary;
+    }
+}
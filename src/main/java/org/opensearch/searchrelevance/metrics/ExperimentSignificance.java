@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_METRIC;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates.Key;
+import org.opensearch.searchrelevance.metrics.calculator.PairedSignificance;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+
+/**
+ * Paired significance tests of the evaluation metrics of a completed experiment, computed from the evaluation metrics
+ * stored with the results of every query text, see {@link PairedSignificance}. The search configurations of pointwise
+ * experiments are compared pair by pair. The variants of hybrid optimizer experiments are compared with the variant of
+ * the same search configuration that has the best mean of the metric, comparing every pair of variants of the grid
+ * would not scale. Samples are paired on the query texts evaluated for both sides.
+ */
+public class ExperimentSignificance {
+    public static final String BASELINE = "baseline";
+    public static final String CANDIDATE = "candidate";
+    public static final String SAMPLE_SIZE = "sampleSize";
+    public static final String MEAN_DIFFERENCE = "meanDifference";
+    public static final String PAIRED_T_TEST = "pairedTTest";
+    public static final String PERMUTATION_TEST = "permutationTest";
+    public static final String BOOTSTRAP = "bootstrap";
+    public static final String STATISTIC = "statistic";
+    public static final String P_VALUE = "pValue";
+    public static final String ITERATIONS = "iterations";
+    public static final String CONFIDENCE_LEVEL = "confidenceLevel";
+    public static final String LOWER = "lower";
+    public static final String UPPER = "upper";
+
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param settingsAccessor - settings of the number of resampling iterations and of their seed
+     * @param pool - bounded fork join pool the tests run on
+     */
+    public ExperimentSignificance(SearchRelevanceSettingsAccessor settingsAccessor, ForkJoinPool pool) {
+        this.settingsAccessor = settingsAccessor;
+        this.pool = pool;
+    }
+
+    /**
+     * Run the tests on the fork join pool, the calling thread is not blocked
+     * @param queryResults - results of every completed query text by query text
+     * @param listener - notified with the tests, empty when there is nothing to compare
+     */
+    public void compare(Map<String, Map<String, Object>> queryResults, ActionListener<List<Map<String, Object>>> listener) {
+        int iterations = settingsAccessor.getSignificanceIterations();
+        long seed = settingsAccessor.getSignificanceSeed();
+        pool.execute(() -> {
+            List<Map<String, Object>> significance;
+            try {
+                significance = compare(queryResults, iterations, seed);
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            listener.onResponse(significance);
+        });
+    }
+
+    /**
+     * significance example:
+     * [
+     *     {
+     *         "metric": "NDCG@10",
+     *         "baseline": {"searchConfigurationId": "config-1"},
+     *         "candidate": {"searchConfigurationId": "config-2"},
+     *         "sampleSize": 120,
+     *         "meanDifference": 0.04,
+     *         "pairedTTest": {"statistic": 2.3, "pValue": 0.02},
+     *         "permutationTest": {"pValue": 0.021, "iterations": 10000},
+     *         "bootstrap": {"confidenceLevel": 0.95, "lower": 0.01, "upper": 0.07, "iterations": 10000}
+     *     }
+     * ]
+     */
+    List<Map<String, Object>> compare(Map<String, Map<String, Object>> queryResults, int iterations, long seed) {
+        // metric name to query text to value, per search configuration and variant, ordered so tests are reproducible
+        Map<Key, Map<String, Map<String, Double>>> values = new TreeMap<>();
+        for (Map.Entry<String, Map<String, Object>> queryResult : new TreeMap<>(queryResults).entrySet()) {
+            ExperimentAggregates.forEachMetric(
+                queryResult.getValue(),
+                (key, name, value) -> values.computeIfAbsent(key, k -> new TreeMap<>())
+                    .computeIfAbsent(name, n -> new TreeMap<>())
+                    .put(queryResult.getKey(), value)
+            );
+        }
+
+        List<Map<String, Object>> significance = new ArrayList<>();
+        List<Key> keys = new ArrayList<>(values.keySet());
+        boolean variants = keys.stream().anyMatch(key -> key.experimentVariantId() != null);
+        if (variants == false) {
+            for (int i = 0; i < keys.size(); i++) {
+                for (int j = i + 1; j < keys.size(); j++) {
+                    for (String metric : values.get(keys.get(i)).keySet()) {
+                        test(values, metric, keys.get(i), keys.get(j), iterations, seed, significance);
+                    }
+                }
+            }
+            return significance;
+        }
+
+        Map<String, List<Key>> keysByConfiguration = new TreeMap<>();
+        keys.forEach(key -> keysByConfiguration.computeIfAbsent(key.searchConfigurationId(), id -> new ArrayList<>()).add(key));
+        for (List<Key> configurationKeys : keysByConfiguration.values()) {
+            Map<String, Key> bestByMetric = new TreeMap<>();
+            Map<String, Double> bestMeans = new TreeMap<>();
+            for (Key key : configurationKeys) {
+                for (Map.Entry<String, Map<String, Double>> metric : values.get(key).entrySet()) {
+                    double mean = metric.getValue().values().stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+                    if (bestMeans.containsKey(metric.getKey()) == false || mean > bestMeans.get(metric.getKey())) {
+                        bestMeans.put(metric.getKey(), mean);
+                        bestByMetric.put(metric.getKey(), key);
+                    }
+                }
+            }
+            for (Map.Entry<String, Key> best : bestByMetric.entrySet()) {
+                for (Key key : configurationKeys) {
+                    if (key.equals(best.getValue()) == false) {
+                        test(values, best.getKey(), best.getValue(), key, iterations, seed, significance);
+                    }
+                }
+            }
+        }
+        return significance;
+    }
+
+    private void test(
+        Map<Key, Map<String, Map<String, Double>>> values,
+        String metric,
+        Key baseline,
+        Key candidate,
+        int iterations,
+        long seed,
+        List<Map<String, Object>> significance
+    ) {
+        Map<String, Double> baselineValues = values.get(baseline).get(metric);
+        Map<String, Double> candidateValues = values.get(candidate).get(metric);
+        if (candidateValues == null) {
+            return;
+        }
+        List<double[]> pairs = new ArrayList<>();
+        baselineValues.forEach((queryText, value) -> {
+            Double candidateValue = candidateValues.get(queryText);
+            if (candidateValue != null) {
+                pairs.add(new double[] { value, candidateValue });
+            }
+        });
+        double[] baselineSample = new double[pairs.size()];
+        double[] candidateSample = new double[pairs.size()];
+        for (int i = 0; i < pairs.size(); i++) {
+            baselineSample[i] = pairs.get(i)[0];
+            candidateSample[i] = pairs.get(i)[1];
+        }
+        // every comparison has its own seed, so its tests do not depend on which other comparisons run
+        long comparisonSeed = seed * 31 + Objects.hash(metric, baseline, candidate);
+        PairedSignificance.Result result = PairedSignificance.test(baselineSample, candidateSample, iterations, comparisonSeed, pool);
+        if (result != null) {
+            significance.add(toMap(metric, baseline, candidate, result));
+        }
+    }
+
+    private static Map<String, Object> toMap(String metric, Key baseline, Key candidate, PairedSignificance.Result result) {
+        Map<String, Object> test = new LinkedHashMap<>();
+        test.put(PAIRWISE_FIELD_NAME_METRIC, metric);
+        test.put(BASELINE, toMap(baseline));
+        test.put(CANDIDATE, toMap(candidate));
+        test.put(SAMPLE_SIZE, result.getSampleSize());
+        test.put(MEAN_DIFFERENCE, result.getMeanDifference());
+        Map<String, Object> tTest = new LinkedHashMap<>();
+        if (result.getTStatistic() != null) {
+            tTest.put(STATISTIC, result.getTStatistic());
+        }
+        tTest.put(P_VALUE, result.getTTestPValue());
+        test.put(PAIRED_T_TEST, tTest);
+        if (result.getIterations() > 0) {
+            Map<String, Object> permutationTest = new LinkedHashMap<>();
+            permutationTest.put(P_VALUE, result.getPermutationPValue());
+            permutationTest.put(ITERATIONS, result.getIterations());
+            test.put(PERMUTATION_TEST, permutationTest);
+            Map<String, Object> bootstrap = new LinkedHashMap<>();
+            bootstrap.put(CONFIDENCE_LEVEL, PairedSignificance.CONFIDENCE_LEVEL);
+            bootstrap.put(LOWER, result.getConfidenceIntervalLower());
+            bootstrap.put(UPPER, result.getConfidenceIntervalUpper());
+            bootstrap.put(ITERATIONS, result.getIterations());
+            test.put(BOOTSTRAP, bootstrap);
+        }
+        return test;
+    }
+
+    private static Map<String, Object> toMap(Key key) {
+        Map<String, Object> side = new LinkedHashMap<>();
+        side.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, key.searchConfigurationId());
+        if (key.experimentVariantId() != null) {
+            side.put(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, key.experimentVariantId());
+        }
+        return side;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.model.Judgment.JUDGMENT_RATINGS;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.searchrelevance.metrics.calculator.QueryJudgments;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+
+/**
+ * In-memory lookup of judgment ratings, queryText -> (docId -> rating).
+ * It is built once per experiment from all of its judgment lists and shared by every query text and search configuration,
+ * instead of fetching and scanning the judgment documents for each query text.
+ * Instances are immutable and safe to read from concurrent listeners; they are only referenced by the running
+ * experiment and released with it.
+ */
+public class JudgmentIndex {
+    private static final JudgmentIndex EMPTY = new JudgmentIndex(Map.of());
+
+    private final Map<String, QueryJudgments> queryToJudgments;
+
+    private JudgmentIndex(Map<String, QueryJudgments> queryToJudgments) {
+        this.queryToJudgments = queryToJudgments;
+    }
+
+    public static JudgmentIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Merge parsed judgment lists into one index of the query texts of an experiment. When the same docId is rated for
+     * the same query in several judgment lists, the rating of the later list wins.
+     * @param judgmentRatingsList - parsed judgment lists in judgmentIds order, they may hold other query texts as well
+     * @param queryTexts - query texts of the experiment, ratings of other query texts are not indexed
+     * @return the merged judgment index
+     */
+    public static JudgmentIndex merge(List<JudgmentRatings> judgmentRatingsList, Collection<String> queryTexts) {
+        Set<String> indexed = new HashSet<>(queryTexts);
+        Map<String, Map<String, Float>> merged = new HashMap<>();
+        for (JudgmentRatings judgmentRatings : judgmentRatingsList) {
+            for (int query = 0; query < judgmentRatings.size(); query++) {
+                String queryText = judgmentRatings.getQueryText(query);
+                if (indexed.contains(queryText) == false) {
+                    continue;
+                }
+                Map<String, Float> ratings = merged.computeIfAbsent(queryText, q -> new HashMap<>());
+                for (int i = judgmentRatings.getStart(query); i < judgmentRatings.getEnd(query); i++) {
+                    ratings.put(judgmentRatings.getDocId(i), judgmentRatings.getRating(i));
+                }
+            }
+        }
+        // the judgments of every query text are compiled for the metric kernels once per experiment
+        Map<String, QueryJudgments> compiled = new HashMap<>(merged.size());
+        merged.forEach((query, ratings) -> compiled.put(query, QueryJudgments.of(ratings)));
+        return new JudgmentIndex(Collections.unmodifiableMap(compiled));
+    }
+
+    /**
+     * @param queryText - query text to look up
+     * @return read only copy of the docId to rating map of the query text, empty if the query text has no judgments
+     */
+    public Map<String, Float> getRatings(String queryText) {
+        return getQueryJudgments(queryText).getRatings();
+    }
+
+    /**
+     * @param queryText - query text to look up
+     * @return compiled judgments of the query text, empty if the query text has no judgments
+     */
+    public QueryJudgments getQueryJudgments(String queryText) {
+        return queryToJudgments.getOrDefault(queryText, QueryJudgments.EMPTY);
+    }
+
+    /**
+     * @return number of query texts with ratings
+     */
+    public int size() {
+        return queryToJudgments.size();
+    }
+
+    public boolean isEmpty() {
+        return queryToJudgments.isEmpty();
+    }
+
+    /**
+     * Stream the judgmentRatings of a judgment document source into {@link JudgmentRatings},
+     * skipping every other field instead of materializing the whole source as a map.
+     * Ratings stored as strings or numbers are both accepted.
+     * @param source - judgment document source
+     * @return parsed ratings of the judgment document
+     */
+    public static JudgmentRatings parseJudgmentRatings(BytesReference source) throws IOException {
+        JudgmentRatings.Builder builder = new JudgmentRatings.Builder();
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                source,
+                MediaTypeRegistry.xContentType(source)
+            )
+        ) {
+            XContentParser.Token token = parser.nextToken();
+            if (token != XContentParser.Token.START_OBJECT) {
+                return builder.build();
+            }
+            while ((token = parser.nextToken()) == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                token = parser.nextToken();
+                if (JUDGMENT_RATINGS.equals(fieldName) && token == XContentParser.Token.START_ARRAY) {
+                    while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                        builder.parseQueryRatings(parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.SearchHit;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.stats.events.EventStatName;
+import org.opensearch.searchrelevance.stats.events.EventStatsManager;
+import org.opensearch.searchrelevance.transport.judgment.InvalidateJudgmentCacheAction;
+import org.opensearch.searchrelevance.transport.judgment.InvalidateJudgmentCacheRequest;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local cache of the parsed ratings of judgment lists by judgment id, so experiments sharing a judgment list do
+ * not read and parse it again. Ratings are kept as the {@link JudgmentRatings} they are read into, served as they are on
+ * a hit, and the cache is bounded by their estimated size in bytes and drops judgment lists that are not read for a while.
+ * Judgment lists looked up in the judgment rating index only hold the query texts looked up so far, the missing ones
+ * are fetched and merged on the next lookup. Judgment lists read from their judgment document are complete.
+ * Entries are invalidated on every node when a judgment list is deleted or its generation completes.
+ */
+@Log4j2
+public class JudgmentListCache {
+    /** Estimated bytes of a cached query text or doc id besides its characters */
+    static final int ENTRY_OVERHEAD_BYTES = 48;
+
+    private final Client client;
+    private final JudgmentDao judgmentDao;
+    private final ThreadPool threadPool;
+    private final Cache<String, CachedJudgmentList> cache;
+    /** Bumped by every invalidation, loads started before it are not cached */
+    private long generation;
+
+    /**
+     * @param client - client broadcasting invalidations to the other nodes
+     * @param judgmentDao - reads the ratings of judgment lists on a miss
+     * @param threadPool - thread pool judgment documents are parsed on
+     * @param settingsAccessor - settings of the size and expiry of the cache
+     */
+    public JudgmentListCache(
+        Client client,
+        JudgmentDao judgmentDao,
+        ThreadPool threadPool,
+        SearchRelevanceSettingsAccessor settingsAccessor
+    ) {
+        this(client, judgmentDao, threadPool, settingsAccessor, Ticker.systemTicker());
+    }
+
+    JudgmentListCache(
+        Client client,
+        JudgmentDao judgmentDao,
+        ThreadPool threadPool,
+        SearchRelevanceSettingsAccessor settingsAccessor,
+        Ticker ticker
+    ) {
+        this.client = client;
+        this.judgmentDao = judgmentDao;
+        this.threadPool = threadPool;
+        // lookups and updates are serialized by the lock anyway, a single segment keeps the memory budget exact
+        this.cache = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .maximumWeight(settingsAccessor.getJudgmentCacheSize().getBytes())
+            .<String, CachedJudgmentList>weigher((judgmentId, judgmentList) -> judgmentList.getWeight())
+            .expireAfterAccess(settingsAccessor.getJudgmentCacheExpireAfterAccess().millis(), TimeUnit.MILLISECONDS)
+            .ticker(ticker)
+            .removalListener(notification -> {
+                if (notification.wasEvicted()) {
+                    EventStatsManager.increment(EventStatName.JUDGMENT_CACHE_EVICTIONS);
+                }
+            })
+            .build();
+    }
+
+    /**
+     * Get the ratings of query texts of a judgment list, from the cache when all of them are cached
+     * @param judgmentId - id of the judgment list
+     * @param queryTexts - query texts to get the ratings of
+     * @param listener - notified with the ratings of the judgment list holding every rated query text of queryTexts, and
+     *                   possibly other query texts cached before, null when the judgment list does not exist
+     */
+    public void getRatings(String judgmentId, Collection<String> queryTexts, ActionListener<JudgmentRatings> listener) {
+        long loadGeneration;
+        CachedJudgmentList cached;
+        synchronized (this) {
+            loadGeneration = generation;
+            cached = cache.getIfPresent(judgmentId);
+        }
+        List<String> missing = cached == null ? new ArrayList<>(new LinkedHashSet<>(queryTexts)) : cached.missing(queryTexts);
+        if (cached != null && missing.isEmpty()) {
+            EventStatsManager.increment(EventStatName.JUDGMENT_CACHE_HITS);
+            listener.onResponse(cached.getJudgmentRatings());
+            return;
+        }
+        EventStatsManager.increment(EventStatName.JUDGMENT_CACHE_MISSES);
+        judgmentDao.getQueryRatings(judgmentId, missing, ActionListener.wrap(queryRatings -> {
+            if (cached == null && queryRatings.isEmpty()) {
+                loadUnratedQueryTexts(judgmentId, loadGeneration, queryTexts, missing, listener);
+                return;
+            }
+            CachedJudgmentList loaded = put(judgmentId, loadGeneration, CachedJudgmentList.of(queryRatings, missing, false));
+            listener.onResponse(loaded.getJudgmentRatings());
+        }, listener::onFailure));
+    }
+
+    /**
+     * None of the query texts has ratings in the judgment rating index. Read the judgment document only when the judgment
+     * list has no ratings there at all, e.g. judgment lists created before it, otherwise the query texts are just unrated.
+     */
+    private void loadUnratedQueryTexts(
+        String judgmentId,
+        long loadGeneration,
+        Collection<String> queryTexts,
+        List<String> missing,
+        ActionListener<JudgmentRatings> listener
+    ) {
+        judgmentDao.hasJudgmentRatings(judgmentId, ActionListener.wrap(hasJudgmentRatings -> {
+            if (hasJudgmentRatings == false) {
+                loadJudgmentDocument(judgmentId, loadGeneration, queryTexts, listener);
+                return;
+            }
+            CachedJudgmentList loaded = put(judgmentId, loadGeneration, CachedJudgmentList.of(JudgmentRatings.EMPTY, missing, false));
+            listener.onResponse(loaded.getJudgmentRatings());
+        }, listener::onFailure));
+    }
+
+    private void loadJudgmentDocument(
+        String judgmentId,
+        long loadGeneration,
+        Collection<String> queryTexts,
+        ActionListener<JudgmentRatings> listener
+    ) {
+        ActionListener<SearchResponse> judgmentListener = ActionListener.wrap(judgmentResponse -> {
+            if (judgmentResponse.getHits().getTotalHits().value() == 0) {
+                log.warn("No judgment found for ID: {}", judgmentId);
+                listener.onResponse(null);
+                return;
+            }
+            SearchHit hit = judgmentResponse.getHits().getHits()[0];
+            JudgmentRatings judgmentRatings = JudgmentIndex.parseJudgmentRatings(hit.getSourceRef());
+            if (judgmentRatings.isEmpty()) {
+                // ratings not stored yet, e.g. judgment lists still processing, so nothing is known to be complete
+                listener.onResponse(judgmentRatings);
+                return;
+            }
+            CachedJudgmentList loaded = put(judgmentId, loadGeneration, CachedJudgmentList.of(judgmentRatings, List.of(), true));
+            listener.onResponse(loaded.getJudgmentRatings());
+        }, listener::onFailure);
+        judgmentDao.getJudgment(
+            judgmentId,
+            new ThreadedActionListener<>(log, threadPool, SearchRelevanceExecutor.THREAD_POOL_NAME, judgmentListener, false)
+        );
+    }
+
+    /**
+     * Cache loaded ratings merged with the cached ones, unless the judgment list was invalidated since the load started
+     * @return the merged ratings, or the loaded ones when they are not cached
+     */
+    private synchronized CachedJudgmentList put(String judgmentId, long loadGeneration, CachedJudgmentList loaded) {
+        if (loadGeneration != generation) {
+            return loaded;
+        }
+        CachedJudgmentList cached = cache.getIfPresent(judgmentId);
+        CachedJudgmentList merged = cached == null ? loaded : cached.merge(loaded);
+        cache.put(judgmentId, merged);
+        return merged;
+    }
+
+    /**
+     * Invalidate judgment lists on this node
+     * @param judgmentIds - ids of the judgment lists
+     */
+    public synchronized void invalidate(Collection<String> judgmentIds) {
+        generation++;
+        cache.invalidateAll(judgmentIds);
+    }
+
+    /**
+     * Invalidate a judgment list on this node and broadcast the invalidation to the other nodes. Failures of the
+     * broadcast are logged, entries that could not be invalidated on a node still expire after access.
+     * @param judgmentId - id of the judgment list
+     */
+    public void invalidateOnAllNodes(String judgmentId) {
+        invalidate(List.of(judgmentId));
+        client.execute(
+            InvalidateJudgmentCacheAction.INSTANCE,
+            new InvalidateJudgmentCacheRequest(List.of(judgmentId)),
+            ActionListener.wrap(response -> {
+                if (response.hasFailures()) {
+                    log.warn("Failed to invalidate judgment {} in the cache of some nodes: {}", judgmentId, response.failures());
+                }
+            }, e -> log.warn("Failed to invalidate judgment {} in the cache of other nodes", judgmentId, e))
+        );
+    }
+
+    /**
+     * @return number of cached judgment lists
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * Immutable ratings of a judgment list with the query texts looked up so far, rated or not
+     */
+    static final class CachedJudgmentList {
+        private final JudgmentRatings judgmentRatings;
+        private final Set<String> queryTexts;
+        private final boolean complete;
+        private final int weight;
+
+        private CachedJudgmentList(JudgmentRatings judgmentRatings, Set<String> queryTexts, boolean complete) {
+            this.judgmentRatings = judgmentRatings;
+            this.queryTexts = queryTexts;
+            this.complete = complete;
+            // rated query texts are counted with the ratings and again with the set, the estimate errs on the large side
+            long bytes = ENTRY_OVERHEAD_BYTES + judgmentRatings.ramBytesUsed();
+            for (String queryText : queryTexts) {
+                bytes += ENTRY_OVERHEAD_BYTES + 2L * queryText.length();
+            }
+            this.weight = (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        /**
+         * @param judgmentRatings - ratings of the rated query texts
+         * @param lookedUp - query texts looked up, cached without ratings when they are not in judgmentRatings
+         * @param complete - whether judgmentRatings holds every query text of the judgment list
+         */
+        static CachedJudgmentList of(JudgmentRatings judgmentRatings, Collection<String> lookedUp, boolean complete) {
+            Set<String> queryTexts = new HashSet<>(lookedUp);
+            for (int query = 0; query < judgmentRatings.size(); query++) {
+                queryTexts.add(judgmentRatings.getQueryText(query));
+            }
+            return new CachedJudgmentList(judgmentRatings, queryTexts, complete);
+        }
+
+        /**
+         * @return query texts not cached yet, in order and without duplicates
+         */
+        List<String> missing(Collection<String> queryTexts) {
+            if (complete) {
+                return List.of();
+            }
+            List<String> missing = new ArrayList<>();
+            for (String queryText : new LinkedHashSet<>(queryTexts)) {
+                if (this.queryTexts.contains(queryText) == false) {
+                    missing.add(queryText);
+                }
+            }
+            return missing;
+        }
+
+        JudgmentRatings getJudgmentRatings() {
+            return judgmentRatings;
+        }
+
+        /**
+         * @return the query texts of both, the ones of other win
+         */
+        CachedJudgmentList merge(CachedJudgmentList other) {
+            JudgmentRatings.Builder builder = new JudgmentRatings.Builder();
+            for (int query = 0; query < judgmentRatings.size(); query++) {
+                if (other.queryTexts.contains(judgmentRatings.getQueryText(query)) == false) {
+                    builder.add(judgmentRatings, query);
+                }
+            }
+            for (int query = 0; query < other.judgmentRatings.size(); query++) {
+                builder.add(other.judgmentRatings, query);
+            }
+            Set<String> mergedQueryTexts = new HashSet<>(queryTexts);
+            mergedQueryTexts.addAll(other.queryTexts);
+            return new CachedJudgmentList(builder.build(), mergedQueryTexts, complete || other.complete);
+        }
+
+        int getWeight() {
+            return weight;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+/**
+ * Streaming statistics of the values of one metric: count, mean and variance with Welford's algorithm, min, max and a
+ * t-digest sketch of the quantiles. Values are added one at a time as evaluation results arrive, and aggregates built
+ * on different nodes are merged, so the full list of values is never kept. Not thread safe.
+ */
+public class MetricAggregate implements Writeable {
+    public static final String COUNT = "count";
+    public static final String MEAN = "mean";
+    public static final String VARIANCE = "variance";
+    public static final String STANDARD_DEVIATION = "stdDev";
+    public static final String MIN = "min";
+    public static final String MAX = "max";
+    public static final String P50 = "p50";
+    public static final String P90 = "p90";
+    public static final String P99 = "p99";
+
+    // default compression of the percentiles aggregation
+    private static final double COMPRESSION = 100.0;
+
+    private long count;
+    private double mean;
+    // sum of the squared differences from the mean
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final TDigestState quantiles;
+
+    public MetricAggregate() {
+        this.quantiles = new TDigestState(COMPRESSION);
+    }
+
+    public MetricAggregate(StreamInput in) throws IOException {
+        this.count = in.readVLong();
+        this.mean = in.readDouble();
+        this.m2 = in.readDouble();
+        this.min = in.readDouble();
+        this.max = in.readDouble();
+        this.quantiles = TDigestState.read(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(m2);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        TDigestState.write(quantiles, out);
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        quantiles.add(value);
+    }
+
+    /**
+     * Merge the values of another aggregate into this one, see Chan et al. for the combined variance
+     * @param other - aggregate of other values of the same metric
+     */
+    public void merge(MetricAggregate other) {
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        quantiles.add(other.quantiles);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return sample variance of the values, 0 for less than two values
+     */
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0.0;
+    }
+
+    /**
+     * @param quantile - quantile between 0 and 1
+     * @return estimated value of the quantile
+     */
+    public double quantile(double quantile) {
+        return quantiles.quantile(quantile);
+    }
+
+    /**
+     * @return the statistics as stored in the experiment summary, empty without values
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        if (count == 0) {
+            return statistics;
+        }
+        statistics.put(COUNT, count);
+        statistics.put(MEAN, mean);
+        statistics.put(VARIANCE, getVariance());
+        statistics.put(STANDARD_DEVIATION, Math.sqrt(getVariance()));
+        statistics.put(MIN, min);
+        statistics.put(MAX, max);
+        statistics.put(P50, quantile(0.5));
+        statistics.put(P90, quantile(0.9));
+        statistics.put(P99, quantile(0.99));
+        return statistics;
+    }
+}
@@ -8,49 +8,55 @@
 package org.opensearch.searchrelevance.metrics;
 
 import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISON_FIELD_NAME;
-import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_A;
-import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_B;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_PAIRS;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_SNAPSHOTS;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_DOC_IDS;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_METRIC;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_VALUE;
 import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_ID;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_METRICS;
 import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID;
 import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_RESULTS;
 import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
-import static org.opensearch.searchrelevance.experiment.QuerySourceUtil.createDefinitionOfTemporarySearchPipeline;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
 import static org.opensearch.searchrelevance.metrics.EvaluationMetrics.calculateEvaluationMetrics;
 import static org.opensearch.searchrelevance.metrics.PairwiseComparisonMetrics.calculatePairwiseMetrics;
 import static org.opensearch.searchrelevance.model.builder.SearchRequestBuilder.buildSearchRequest;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
-import org.opensearch.action.StepListener;
-import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.search.SearchHit;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
-import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
-import org.opensearch.searchrelevance.dao.JudgmentDao;
-import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.experiment.HybridSearchPlan;
+import org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination;
+import org.opensearch.searchrelevance.metrics.calculator.PairComparisonMatrix;
+import org.opensearch.searchrelevance.metrics.calculator.QueryJudgments;
 import org.opensearch.searchrelevance.model.EvaluationResult;
 import org.opensearch.searchrelevance.model.ExperimentVariant;
-import org.opensearch.searchrelevance.model.builder.SearchRequestBuilder;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.model.builder.HybridSearchTemplate;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.transport.client.Client;
 
@@ -64,37 +70,42 @@ import reactor.util.annotation.NonNull;
 public class MetricsHelper {
     private final ClusterService clusterService;
     private final Client client;
-    private final JudgmentDao judgmentDao;
+    private final JudgmentListCache judgmentListCache;
     private final EvaluationResultDao evaluationResultDao;
-    private final ExperimentVariantDao experimentVariantDao;
+    private final SearchResultCache searchResultCache;
+    private final SearchRelevanceSettingsAccessor settingsAccessor;
 
     @Inject
     public MetricsHelper(
         @NonNull ClusterService clusterService,
         @NonNull Client client,
-        @NonNull JudgmentDao judgmentDao,
+        @NonNull JudgmentListCache judgmentListCache,
         @NonNull EvaluationResultDao evaluationResultDao,
-        @NonNull ExperimentVariantDao experimentVariantDao
+        @NonNull SearchResultCache searchResultCache,
+        @NonNull SearchRelevanceSettingsAccessor settingsAccessor
     ) {
         this.clusterService = clusterService;
         this.client = client;
-        this.judgmentDao = judgmentDao;
+        this.judgmentListCache = judgmentListCache;
         this.evaluationResultDao = evaluationResultDao;
-        this.experimentVariantDao = experimentVariantDao;
+        this.searchResultCache = searchResultCache;
+        this.settingsAccessor = settingsAccessor;
     }
 
     /**
      * Create a pairwise comparison metrics in experiment results
      * Pairwise comparison will not read any judgment but directly comparing two docIds
      * Pairwise comparison will not create evaluation results
+     * Searches go through {@link SearchResultCache}, identical searches of an experiment are sent once
      */
     public void processPairwiseMetrics(
+        String experimentId,
         String queryText,
         Map<String, List<String>> indexAndQueries,
         int size,
         ActionListener<Map<String, Object>> listener
     ) {
-        Map<String, List<String>> searchConfigToDocIds = Collections.synchronizedMap(new HashMap<>());
+        Map<String, List<String>> searchConfigToDocIds = new ConcurrentHashMap<>();
         AtomicBoolean hasFailure = new AtomicBoolean(false);
         AtomicInteger pendingSearches = new AtomicInteger(indexAndQueries.size());
 
@@ -105,16 +116,13 @@ public class MetricsHelper {
 
             SearchRequest searchRequest = buildSearchRequest(index, query, queryText, null, size);
 
-            client.search(searchRequest, new ActionListener<SearchResponse>() {
+            searchResultCache.search(experimentId, searchRequest, new ActionListener<List<String>>() {
                 @Override
-                public void onResponse(SearchResponse response) {
+                public void onResponse(List<String> rankedDocIds) {
                     if (hasFailure.get()) return;
 
                     try {
-                        List<String> docIds = Arrays.stream(response.getHits().getHits())
-                            .map(SearchHit::getId)
-                            .distinct()
-                            .collect(Collectors.toList());
+                        List<String> docIds = rankedDocIds.stream().distinct().collect(Collectors.toList());
 
                         searchConfigToDocIds.put(searchConfigId, docIds);
                         if (pendingSearches.decrementAndGet() == 0) {
@@ -152,17 +160,13 @@ public class MetricsHelper {
             });
             results.put(PAIRWISE_FIELD_NAME_SNAPSHOTS, snapShots);
 
-            // Prepare input for pairwise calculation
-            Map<String, List<String>> pairwiseInput = new HashMap<>();
-            List<String> configIds = new ArrayList<>(searchConfigToDocIds.keySet());
-
-            if (configIds.size() >= 2) {
-                pairwiseInput.put(PAIRWISE_FIELD_NAME_A, searchConfigToDocIds.get(configIds.get(0)));
-                pairwiseInput.put(PAIRWISE_FIELD_NAME_B, searchConfigToDocIds.get(configIds.get(1)));
-            }
-
-            // Calculate and add pairwise metrics
-            results.put(METRICS_PAIRWISE_COMPARISON_FIELD_NAME, calculatePairwiseMetrics(pairwiseInput));
+            // Compare every pair of search configurations, metrics keeps the first pair for results of two configurations
+            List<Map<String, Object>> pairs = calculatePairwiseMetrics(PairComparisonMatrix.of(searchConfigToDocIds));
+            results.put(PAIRWISE_FIELD_NAME_PAIRS, pairs);
+            results.put(
+                METRICS_PAIRWISE_COMPARISON_FIELD_NAME,
+                pairs.isEmpty() ? Collections.emptyList() : pairs.get(0).get(METRICS_PAIRWISE_COMPARISON_FIELD_NAME)
+            );
 
             listener.onResponse(results);
         } catch (Exception e) {
@@ -176,34 +180,94 @@ public class MetricsHelper {
         }
     }
 
+    /**
+     * Load all judgment lists of an experiment once into a {@link JudgmentIndex}.
+     * Only the ratings of the query texts of the experiment are read, through the node-local {@link JudgmentListCache}.
+     * Missing or failed judgment lists are skipped, the load only fails when none of the judgment lists could be fetched.
+     * @param judgmentIds - judgment lists of the experiment
+     * @param queryTexts - query texts of the experiment
+     * @param listener - notified with the merged judgment index
+     */
+    public void loadJudgmentIndex(List<String> judgmentIds, List<String> queryTexts, ActionListener<JudgmentIndex> listener) {
+        if (judgmentIds == null || judgmentIds.isEmpty()) {
+            listener.onResponse(JudgmentIndex.empty());
+            return;
+        }
+        AtomicReferenceArray<JudgmentRatings> judgmentRatingsByPosition = new AtomicReferenceArray<>(judgmentIds.size());
+        AtomicInteger failedJudgments = new AtomicInteger(0);
+
+        GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(ActionListener.wrap(loaded -> {
+            if (failedJudgments.get() == judgmentIds.size()) {
+                listener.onFailure(new IllegalStateException("Failed to fetch any valid judgments"));
+                return;
+            }
+            List<JudgmentRatings> judgmentRatingsList = new ArrayList<>();
+            for (int i = 0; i < judgmentRatingsByPosition.length(); i++) {
+                if (judgmentRatingsByPosition.get(i) != null) {
+                    judgmentRatingsList.add(judgmentRatingsByPosition.get(i));
+                }
+            }
+            JudgmentIndex judgmentIndex = JudgmentIndex.merge(judgmentRatingsList, queryTexts);
+            log.debug("Loaded judgments for {} query texts from {} judgment lists", judgmentIndex.size(), judgmentIds.size());
+            listener.onResponse(judgmentIndex);
+        }, listener::onFailure), judgmentIds.size());
+
+        for (int i = 0; i < judgmentIds.size(); i++) {
+            final int position = i;
+            final String judgmentId = judgmentIds.get(i);
+            ActionListener<JudgmentRatings> judgmentListener = ActionListener.wrap(judgmentRatings -> {
+                judgmentRatingsByPosition.set(position, judgmentRatings);
+                groupedListener.onResponse(null);
+            }, e -> {
+                log.error("Failed to fetch judgment {}: {}", judgmentId, e);
+                failedJudgments.incrementAndGet();
+                groupedListener.onResponse(null);
+            });
+            judgmentListCache.getRatings(judgmentId, queryTexts, judgmentListener);
+        }
+    }
+
     /**
      * Create evaluation results for provided queryText
+     * @param experimentId - experiment the evaluation searches are scheduled for
      * @param queryText - queryText to be evaluated against
      * @param indexAndQueries - "${searchConfigId}" to ["$index", "$queryPattern"] map
+     * @param judgmentIndex - judgments of the experiment, loaded once by {@link #loadJudgmentIndex}
      * And will add evaluationId back to experiment results
      *  "results" {
      *     "${queryText}": {
-     *         "${searchConfigId}": "${evaluationId}"
+     *         "${searchConfigId}": "${evaluationId}",
+     *         "evaluationMetrics": [{"searchConfigurationId": "${searchConfigId}", "metrics": {"${metric}": ${value}}}]
      *     }
      *  }
      */
     public void processEvaluationMetrics(
+        String experimentId,
         String queryText,
         Map<String, List<String>> indexAndQueries,
         int size,
         List<String> judgmentIds,
+        JudgmentIndex judgmentIndex,
         ActionListener<Map<String, Object>> listener
     ) {
-        processEvaluationMetrics(queryText, indexAndQueries, size, judgmentIds, listener, List.of());
+        processEvaluationMetrics(experimentId, queryText, indexAndQueries, size, judgmentIds, judgmentIndex, listener, List.of(), null);
     }
 
+    /**
+     * Create evaluation results for provided queryText with every hybrid search variant, see above
+     * @param experimentVariants - variants of the hybrid optimizer experiment, empty for a pointwise evaluation
+     * @param hybridSearchPlan - hybrid queries and search pipelines compiled once for the experiment
+     */
     public void processEvaluationMetrics(
+        String experimentId,
         String queryText,
         Map<String, List<String>> indexAndQueries,
         int size,
         List<String> judgmentIds,
+        JudgmentIndex judgmentIndex,
         ActionListener<Map<String, Object>> listener,
-        List<ExperimentVariant> experimentVariants
+        List<ExperimentVariant> experimentVariants,
+        HybridSearchPlan hybridSearchPlan
     ) {
         if (indexAndQueries.isEmpty() || judgmentIds.isEmpty()) {
             listener.onFailure(new IllegalArgumentException("Missing required parameters"));
@@ -211,80 +275,25 @@ public class MetricsHelper {
         }
 
         try {
-            Map<String, Object> configToEvalIds = Collections.synchronizedMap(new HashMap<>());
-            Map<String, String> docIdToRatings = new HashMap<>();
-            AtomicInteger completedJudgments = new AtomicInteger(0);
-
-            for (String judgmentId : judgmentIds) {
-                judgmentDao.getJudgment(judgmentId, new ActionListener<>() {
-                    @Override
-                    public void onResponse(SearchResponse judgmentResponse) {
-                        try {
-                            if (judgmentResponse.getHits().getTotalHits().value() == 0) {
-                                log.warn("No judgment found for ID: {}", judgmentId);
-                            } else {
-                                Map<String, Object> sourceAsMap = judgmentResponse.getHits().getHits()[0].getSourceAsMap();
-                                List<Map<String, Object>> judgmentRatings = (List<Map<String, Object>>) sourceAsMap.getOrDefault(
-                                    "judgmentRatings",
-                                    Collections.emptyList()
-                                );
-                                // TODO change this to more efficient approach, this is O(n) because we need to scan all list to find query
-                                for (Map<String, Object> rating : judgmentRatings) {
-                                    if (queryText.equals(rating.get("query"))) {
-                                        List<Map<String, String>> docScoreRatings = (List<Map<String, String>>) rating.get("ratings");
-                                        docScoreRatings.forEach(
-                                            docScoreRating -> docIdToRatings.put(docScoreRating.get("docId"), docScoreRating.get("rating"))
-                                        );
-                                        break;
-                                    }
-                                }
-                            }
-
-                            // Check if all judgments have been processed
-                            if (completedJudgments.incrementAndGet() == judgmentIds.size()) {
-                                if (docIdToRatings.isEmpty()) {
-                                    log.warn("No ratings found for query: {} in any judgments", queryText);
-                                }
-
-                                processSearchConfigurations(
-                                    queryText,
-                                    indexAndQueries,
-                                    size,
-                                    judgmentIds,
-                                    docIdToRatings,
-                                    configToEvalIds,
-                                    listener,
-                                    experimentVariants
-                                );
-                            }
-                        } catch (Exception e) {
-                            listener.onFailure(e);
-                        }
-                    }
-
-                    @Override
-                    public void onFailure(Exception e) {
-                        log.error("Failed to fetch judgment {}: {}", judgmentId, e);
-                        if (completedJudgments.incrementAndGet() == judgmentIds.size()) {
-                            if (docIdToRatings.isEmpty()) {
-                                listener.onFailure(new IllegalStateException("Failed to fetch any valid judgments"));
-                            } else {
-                                // Proceed with the judgments we were able to fetch
-                                processSearchConfigurations(
-                                    queryText,
-                                    indexAndQueries,
-                                    size,
-                                    judgmentIds,
-                                    docIdToRatings,
-                                    configToEvalIds,
-                                    listener,
-                                    experimentVariants
-                                );
-                            }
-                        }
-                    }
-                });
+            Map<String, Object> configToEvalIds = new ConcurrentHashMap<>();
+            // compiled once, shared by all configurations and variants of this query text
+            QueryJudgments queryJudgments = judgmentIndex.getQueryJudgments(queryText);
+            if (queryJudgments.isEmpty()) {
+                log.warn("No ratings found for query: {} in any judgments", queryText);
             }
+
+            processSearchConfigurations(
+                experimentId,
+                queryText,
+                indexAndQueries,
+                size,
+                judgmentIds,
+                queryJudgments,
+                configToEvalIds,
+                listener,
+                experimentVariants,
+                hybridSearchPlan
+            );
         } catch (Exception e) {
             log.error("Unexpected error in evaluateQueryTextAsync: {}", e.getMessage());
             listener.onFailure(e);
@@ -292,14 +301,16 @@ public class MetricsHelper {
     }
 
     private void processSearchConfigurations(
+        String experimentId,
         String queryText,
         Map<String, List<String>> indexAndQueries,
         int size,
         List<String> judgmentIds,
-        Map<String, String> docIdToScores,
+        QueryJudgments queryJudgments,
         Map<String, Object> configToEvalIds,
         ActionListener<Map<String, Object>> listener,
-        List<ExperimentVariant> experimentVariants
+        List<ExperimentVariant> experimentVariants,
+        HybridSearchPlan hybridSearchPlan
     ) {
         AtomicBoolean hasFailure = new AtomicBoolean(false);
         AtomicInteger pendingConfigurations = getNumberOfExperimentRuns(indexAndQueries, experimentVariants);
@@ -319,10 +330,11 @@ public class MetricsHelper {
 
             if (Objects.isNull(experimentVariants) || experimentVariants.isEmpty()) {
                 processSearchConfigurationWithEmptyExperimentOptions(
+                    experimentId,
                     queryText,
                     size,
                     judgmentIds,
-                    docIdToScores,
+                    queryJudgments,
                     configToEvalIds,
                     listener,
                     searchConfigurationId,
@@ -334,10 +346,11 @@ public class MetricsHelper {
                 );
             } else {
                 processSearchConfigurationWithHybridExperimentOptions(
+                    experimentId,
                     queryText,
                     size,
                     judgmentIds,
-                    docIdToScores,
+                    queryJudgments,
                     configToEvalIds,
                     listener,
                     searchConfigurationId,
@@ -345,7 +358,8 @@ public class MetricsHelper {
                     query,
                     hasFailure,
                     pendingConfigurations,
-                    experimentVariants
+                    experimentVariants,
+                    hybridSearchPlan
                 );
             }
         }
@@ -367,10 +381,11 @@ public class MetricsHelper {
     }
 
     private void processSearchConfigurationWithEmptyExperimentOptions(
+        String experimentId,
         String queryText,
         int size,
         List<String> judgmentIds,
-        Map<String, String> docIdToScores,
+        QueryJudgments queryJudgments,
         Map<String, Object> configToEvalIds,
         ActionListener<Map<String, Object>> listener,
         String searchConfigurationId,
@@ -390,13 +405,13 @@ public class MetricsHelper {
             searchPipeline,
             evaluationId
         );
-        client.search(searchRequest, new ActionListener<>() {
+        searchResultCache.search(experimentId, searchRequest, new ActionListener<>() {
             @Override
-            public void onResponse(SearchResponse response) {
+            public void onResponse(List<String> docIds) {
                 if (hasFailure.get()) return;
 
                 try {
-                    if (response.getHits().getTotalHits().value() == 0) {
+                    if (docIds.isEmpty()) {
                         log.warn("No hits found for search config: {}", searchConfigurationId);
                         if (pendingConfigurations.decrementAndGet() == 0) {
                             listener.onResponse(configToEvalIds);
@@ -404,13 +419,11 @@ public class MetricsHelper {
                         return;
                     }
 
-                    SearchHit[] hits = response.getHits().getHits();
-                    List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
-
-                    List<Map<String, Object>> metrics = calculateEvaluationMetrics(docIds, docIdToScores, size);
+                    List<Map<String, Object>> metrics = calculateEvaluationMetrics(docIds, queryJudgments, size);
                     EvaluationResult evaluationResult = new EvaluationResult(
                         evaluationId,
                         TimeUtils.getTimestamp(),
+                        experimentId,
                         searchConfigurationId,
                         queryText,
                         judgmentIds,
@@ -418,9 +431,10 @@ public class MetricsHelper {
                         metrics
                     );
 
-                    evaluationResultDao.putEvaluationResult(evaluationResult, ActionListener.wrap(success -> {
+                    evaluationResultDao.bulkPutEvaluationResult(experimentId, evaluationResult, ActionListener.wrap(success -> {
                         configToEvalIds.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, searchConfigurationId);
                         configToEvalIds.put(POINTWISE_FIELD_NAME_EVALUATION_ID, evaluationId);
+                        addEvaluationMetrics(configToEvalIds, searchConfigurationId, null, metrics);
                         if (pendingConfigurations.decrementAndGet() == 0) {
                             listener.onResponse(configToEvalIds);
                         }
@@ -443,10 +457,11 @@ public class MetricsHelper {
     }
 
     private void processSearchConfigurationWithHybridExperimentOptions(
+        String experimentId,
         String queryText,
         int size,
         List<String> judgmentIds,
-        Map<String, String> docIdToScores,
+        QueryJudgments queryJudgments,
         Map<String, Object> configToExperimentVariants,
         ActionListener<Map<String, Object>> listener,
         String searchConfigurationId,
@@ -454,126 +469,264 @@ public class MetricsHelper {
         String query,
         AtomicBoolean hasFailure,
         AtomicInteger pendingConfigurations,
-        List<ExperimentVariant> experimentVariants
+        List<ExperimentVariant> experimentVariants,
+        HybridSearchPlan hybridSearchPlan
     ) {
         if (Objects.isNull(experimentVariants) || experimentVariants.isEmpty()) {
             throw new IllegalArgumentException("experiment variant for hybrid search cannot be empty");
         }
-        synchronized (configToExperimentVariants) {
-            if (configToExperimentVariants.containsKey(searchConfigurationId) == false) {
-                configToExperimentVariants.put(searchConfigurationId, new HashMap<String, Object>());
-            }
-        }
+        Map<String, Object> variantToEvaluationIds = (Map<String, Object>) configToExperimentVariants.computeIfAbsent(
+            searchConfigurationId,
+            id -> new ConcurrentHashMap<String, Object>()
+        );
+        Map<ExperimentVariant, ActionListener<List<String>>> variantListeners = new LinkedHashMap<>();
         for (ExperimentVariant experimentVariant : experimentVariants) {
-            Map<String, Object> temporarySearchPipeline = createDefinitionOfTemporarySearchPipeline(experimentVariant);
-            SearchRequest searchRequest = SearchRequestBuilder.buildRequestForHybridSearch(
-                index,
-                query,
-                temporarySearchPipeline,
-                queryText,
-                size
+            variantListeners.put(
+                experimentVariant,
+                hybridVariantListener(
+                    experimentId,
+                    queryText,
+                    size,
+                    judgmentIds,
+                    queryJudgments,
+                    configToExperimentVariants,
+                    variantToEvaluationIds,
+                    listener,
+                    searchConfigurationId,
+                    hasFailure,
+                    pendingConfigurations,
+                    experimentVariant
+                )
             );
-            final String evaluationId = UUID.randomUUID().toString();
+        }
+
+        searchHybridVariants(experimentId, queryText, size, index, query, searchConfigurationId, hybridSearchPlan, variantListeners);
+    }
+
+    /**
+     * Rank the hits of a query text for every hybrid search variant, without evaluating or storing them.
+     * Searches go through {@link SearchResultCache} and are scored locally when hybrid local scoring is enabled.
+     * @param experimentId - id of the experiment the searches belong to
+     * @param queryText - query text to search for
+     * @param index - index of the search configuration
+     * @param query - hybrid query of the search configuration
+     * @param size - number of hits ranked per variant
+     * @param experimentVariants - variants to rank the hits for
+     * @param hybridSearchPlan - hybrid queries and search pipelines compiled once for the experiment
+     * @param listener - notified with the ranked doc ids of every variant, in the order of the variants
+     */
+    public void rankHybridVariants(
+        String experimentId,
+        String queryText,
+        String index,
+        String query,
+        int size,
+        List<ExperimentVariant> experimentVariants,
+        HybridSearchPlan hybridSearchPlan,
+        ActionListener<List<List<String>>> listener
+    ) {
+        AtomicReferenceArray<List<String>> rankedDocIds = new AtomicReferenceArray<>(experimentVariants.size());
+        GroupedActionListener<Void> variantsListener = new GroupedActionListener<>(ActionListener.wrap(ranked -> {
+            List<List<String>> docIdsByVariant = new ArrayList<>(experimentVariants.size());
+            for (int i = 0; i < experimentVariants.size(); i++) {
+                docIdsByVariant.add(rankedDocIds.get(i));
+            }
+            listener.onResponse(docIdsByVariant);
+        }, listener::onFailure), experimentVariants.size());
+        Map<ExperimentVariant, ActionListener<List<String>>> variantListeners = new LinkedHashMap<>();
+        for (int i = 0; i < experimentVariants.size(); i++) {
+            int variant = i;
+            variantListeners.put(experimentVariants.get(i), ActionListener.wrap(docIds -> {
+                rankedDocIds.set(variant, docIds);
+                variantsListener.onResponse(null);
+            }, variantsListener::onFailure));
+        }
+        searchHybridVariants(experimentId, queryText, size, index, query, null, hybridSearchPlan, variantListeners);
+    }
+
+    private void searchHybridVariants(
+        String experimentId,
+        String queryText,
+        int size,
+        String index,
+        String query,
+        String searchConfigurationId,
+        HybridSearchPlan hybridSearchPlan,
+        Map<ExperimentVariant, ActionListener<List<String>>> variantListeners
+    ) {
+        // the search configuration is parsed and validated once per experiment, only the query text is filled in here
+        HybridSearchTemplate template = hybridSearchPlan.template(query);
+        if (settingsAccessor.isHybridLocalScoringEnabled()) {
+            scoreHybridVariantsLocally(experimentId, queryText, size, index, template, variantListeners);
+            return;
+        }
+        for (Map.Entry<ExperimentVariant, ActionListener<List<String>>> variantListener : variantListeners.entrySet()) {
+            ExperimentVariant experimentVariant = variantListener.getKey();
+            SearchRequest searchRequest = template.buildRequest(index, hybridSearchPlan.pipeline(experimentVariant), queryText);
             log.debug(
-                "Processing hybrid search sub-experiment: {} configuration: {} index: {}, query: {}, evaluationId: {}",
+                "Processing hybrid search sub-experiment: {} configuration: {} index: {}, query: {}",
                 experimentVariant.getId(),
                 searchConfigurationId,
                 index,
-                query,
-                evaluationId
+                query
             );
-            client.search(searchRequest, new ActionListener<>() {
-                @Override
-                public void onResponse(SearchResponse response) {
-                    if (hasFailure.get()) return;
+            searchResultCache.search(experimentId, searchRequest, variantListener.getValue());
+        }
+    }
 
-                    try {
-                        if (response.getHits().getTotalHits().value() == 0) {
-                            log.warn("No hits found for search config: {}", searchConfigurationId);
-                            if (pendingConfigurations.decrementAndGet() == 0) {
-                                listener.onResponse(configToExperimentVariants);
-                            }
-                            return;
-                        }
+    /**
+     * Retrieve the hits of every sub-query of the hybrid query once and rank them for every variant in process
+     */
+    private void scoreHybridVariantsLocally(
+        String experimentId,
+        String queryText,
+        int size,
+        String index,
+        HybridSearchTemplate template,
+        Map<ExperimentVariant, ActionListener<List<String>>> variantListeners
+    ) {
+        List<SearchRequest> subQueryRequests = template.buildSubQueryRequests(index, queryText);
+        AtomicReferenceArray<SearchResultCache.RankedHits> subQueryHits = new AtomicReferenceArray<>(subQueryRequests.size());
+        GroupedActionListener<Void> subQueriesListener = new GroupedActionListener<>(ActionListener.wrap(retrieved -> {
+            List<List<String>> subQueryDocIds = new ArrayList<>(subQueryRequests.size());
+            List<float[]> subQueryScores = new ArrayList<>(subQueryRequests.size());
+            for (int i = 0; i < subQueryRequests.size(); i++) {
+                subQueryDocIds.add(subQueryHits.get(i).docIds());
+                subQueryScores.add(subQueryHits.get(i).scores());
+            }
+            HybridScoreCombination scoreCombination = new HybridScoreCombination(subQueryDocIds, subQueryScores);
+            for (Map.Entry<ExperimentVariant, ActionListener<List<String>>> variantListener : variantListeners.entrySet()) {
+                Map<String, Object> parameters = variantListener.getKey().getParameters();
+                List<String> docIds;
+                try {
+                    docIds = scoreCombination.rank(
+                        (String) parameters.get(EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE),
+                        (String) parameters.get(EXPERIMENT_OPTION_COMBINATION_TECHNIQUE),
+                        (float[]) parameters.get(EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION),
+                        size
+                    );
+                } catch (Exception e) {
+                    variantListener.getValue().onFailure(e);
+                    continue;
+                }
+                variantListener.getValue().onResponse(docIds);
+            }
+        }, e -> variantListeners.values().forEach(variantListener -> variantListener.onFailure(e))), subQueryRequests.size());
+
+        for (int i = 0; i < subQueryRequests.size(); i++) {
+            int subQuery = i;
+            searchResultCache.searchWithScores(experimentId, subQueryRequests.get(i), ActionListener.wrap(hits -> {
+                subQueryHits.set(subQuery, hits);
+                subQueriesListener.onResponse(null);
+            }, subQueriesListener::onFailure));
+        }
+    }
 
-                        SearchHit[] hits = response.getHits().getHits();
-                        List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
-
-                        List<Map<String, Object>> metrics = calculateEvaluationMetrics(docIds, docIdToScores, size);
-                        EvaluationResult evaluationResult = new EvaluationResult(
-                            evaluationId,
-                            TimeUtils.getTimestamp(),
-                            searchConfigurationId,
-                            queryText,
-                            judgmentIds,
-                            docIds,
-                            metrics
-                        );
-
-                        evaluationResultDao.putEvaluationResult(evaluationResult, ActionListener.wrap(success -> {
-                            ExperimentVariant experimentVariantResult = new ExperimentVariant(
-                                experimentVariant.getId(),
-                                TimeUtils.getTimestamp(),
-                                experimentVariant.getType(),
-                                AsyncStatus.COMPLETED,
-                                experimentVariant.getExperimentId(),
-                                experimentVariant.getParameters(),
-                                Map.of("evaluationResultId", evaluationId)
-                            );
-                            StepListener<IndexResponse> voidStepListener = new StepListener<>();
-                            experimentVariantDao.updateExperimentVariant(experimentVariantResult, voidStepListener);
-                            voidStepListener.whenComplete(indexResponse -> {
-                                synchronized (configToExperimentVariants) {
-                                    Map<String, Object> map = (Map<String, Object>) configToExperimentVariants.get(searchConfigurationId);
-                                    map.put(experimentVariant.getId(), evaluationId);
-                                }
-                                if (pendingConfigurations.decrementAndGet() == 0) {
-                                    Map<String, Object> transformedConfigToExperimentVariants = new HashMap<>();
-                                    transformedConfigToExperimentVariants.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, searchConfigurationId);
-                                    
-                                    List<Map<String, Object>> evaluationResults = new ArrayList<>();
-                                    Map<String, Object> configMap = (Map<String, Object>) configToExperimentVariants.get(searchConfigurationId);
-                                    configMap.forEach((variantId, evalId) -> {
-                                        Map<String, Object> result = new HashMap<>();
-                                        result.put(POINTWISE_FIELD_NAME_EVALUATION_ID, evalId);
-                                        result.put(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, variantId);
-                                        evaluationResults.add(result);
-                                    });
-                                    transformedConfigToExperimentVariants.put(POINTWISE_FIELD_NAME_EVALUATION_RESULTS, evaluationResults);
-                                    
-                                    listener.onResponse(transformedConfigToExperimentVariants);
-                                }
-                            }, listener::onFailure);
-                        }, error -> {
-                            hasFailure.set(true);
-                            listener.onFailure(error);
-                        }));
-                    } catch (Exception e) {
-                        hasFailure.set(true);
-                        listener.onFailure(e);
+    /**
+     * Keep the metric values of an evaluation with the results of the query text, they are folded into the
+     * {@link ExperimentAggregates} of the experiment once the results are stored
+     */
+    private static void addEvaluationMetrics(
+        Map<String, Object> queryResults,
+        String searchConfigurationId,
+        String experimentVariantId,
+        List<Map<String, Object>> metrics
+    ) {
+        Map<String, Object> evaluationMetrics = new HashMap<>();
+        evaluationMetrics.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, searchConfigurationId);
+        if (experimentVariantId != null) {
+            evaluationMetrics.put(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, experimentVariantId);
+        }
+        Map<String, Object> values = new HashMap<>();
+        for (Map<String, Object> metric : metrics) {
+            values.put((String) metric.get(PAIRWISE_FIELD_NAME_METRIC), metric.get(PAIRWISE_FIELD_NAME_VALUE));
+        }
+        evaluationMetrics.put(POINTWISE_FIELD_NAME_METRICS, values);
+        ((List<Map<String, Object>>) queryResults.computeIfAbsent(
+            POINTWISE_FIELD_NAME_EVALUATION_METRICS,
+            key -> Collections.synchronizedList(new ArrayList<>())
+        )).add(evaluationMetrics);
+    }
+
+    private ActionListener<List<String>> hybridVariantListener(
+        String experimentId,
+        String queryText,
+        int size,
+        List<String> judgmentIds,
+        QueryJudgments queryJudgments,
+        Map<String, Object> configToExperimentVariants,
+        Map<String, Object> variantToEvaluationIds,
+        ActionListener<Map<String, Object>> listener,
+        String searchConfigurationId,
+        AtomicBoolean hasFailure,
+        AtomicInteger pendingConfigurations,
+        ExperimentVariant experimentVariant
+    ) {
+        final String evaluationId = UUID.randomUUID().toString();
+        return new ActionListener<>() {
+            @Override
+            public void onResponse(List<String> docIds) {
+                if (hasFailure.get()) return;
+
+                try {
+                    if (docIds.isEmpty()) {
+                        log.warn("No hits found for search config: {}", searchConfigurationId);
+                        if (pendingConfigurations.decrementAndGet() == 0) {
+                            listener.onResponse(configToExperimentVariants);
+                        }
+                        return;
                     }
-                }
 
-                @Override
-                public void onFailure(Exception e) {
-                    ExperimentVariant experimentVariantResult = new ExperimentVariant(
-                        experimentVariant.getId(),
+                    List<Map<String, Object>> metrics = calculateEvaluationMetrics(docIds, queryJudgments, size);
+                    EvaluationResult evaluationResult = new EvaluationResult(
+                        evaluationId,
                         TimeUtils.getTimestamp(),
-                        experimentVariant.getType(),
-                        AsyncStatus.ERROR,
-                        experimentVariant.getExperimentId(),
-                        experimentVariant.getParameters(),
-                        Map.of("evaluationResultId", evaluationId)
+                        experimentId,
+                        searchConfigurationId,
+                        queryText,
+                        judgmentIds,
+                        docIds,
+                        metrics
                     );
-                    experimentVariantDao.updateExperimentVariant(experimentVariantResult, ActionListener.wrap(success -> {}, error -> {
-                        hasFailure.set(true);
-                        listener.onFailure(error);
-                    }));
 
-                    hasFailure.set(true);
-                    listener.onFailure(e);
+                    // the variant is shared by every query text of the experiment, the experiment result of the query text
+                    // references the evaluation result next to the variant instead of the variant storing it
+                    evaluationResultDao.bulkPutEvaluationResult(experimentId, evaluationResult, ActionListener.wrap(success -> {
+                        variantToEvaluationIds.put(experimentVariant.getId(), evaluationId);
+                        addEvaluationMetrics(configToExperimentVariants, searchConfigurationId, experimentVariant.getId(), metrics);
+                        if (pendingConfigurations.decrementAndGet() == 0) {
+                            Map<String, Object> transformedConfigToExperimentVariants = new HashMap<>();
+                            transformedConfigToExperimentVariants.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, searchConfigurationId);
+
+                            List<Map<String, Object>> evaluationResults = new ArrayList<>();
+                            variantToEvaluationIds.forEach((variantId, evalId) -> {
+                                Map<String, Object> result = new HashMap<>();
+                                result.put(POINTWISE_FIELD_NAME_EVALUATION_ID, evalId);
+                                result.put(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, variantId);
+                                evaluationResults.add(result);
+                            });
+                            transformedConfigToExperimentVariants.put(POINTWISE_FIELD_NAME_EVALUATION_RESULTS, evaluationResults);
+                            transformedConfigToExperimentVariants.put(
+                                POINTWISE_FIELD_NAME_EVALUATION_METRICS,
+                                configToExperimentVariants.get(POINTWISE_FIELD_NAME_EVALUATION_METRICS)
+                            );
+
+                            listener.onResponse(transformedConfigToExperimentVariants);
+                        }
+                    }, this::onFailure));
+                } catch (Exception e) {
+                    onFailure(e);
                 }
-            });
-        }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                // a failed sub-query retrieval fails every variant of the query text, it is reported once. The variants
+                // are shared by every query text, so the failure is reported with the experiment and not on a variant
+                if (hasFailure.compareAndSet(false, true) == false) return;
+
+                listener.onFailure(e);
+            }
+        };
     }
 }
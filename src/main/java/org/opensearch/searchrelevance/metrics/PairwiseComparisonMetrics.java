@@ -7,23 +7,24 @@
  */
 package org.opensearch.searchrelevance.metrics;
 
-import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_A;
-import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_B;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISON_FIELD_NAME;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_METRIC;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_SEARCH_CONFIGURATION_IDS;
 import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_VALUE;
+import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.EXTRAPOLATED_RBO_50_SIMILARITY_FIELD_NAME;
+import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.EXTRAPOLATED_RBO_90_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.FREQUENCY_WEIGHTED_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.JACCARD_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.RBO_50_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.RBO_90_SIMILARITY_FIELD_NAME;
-import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateFrequencyWeightedSimilarity;
-import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateJaccardSimilarity;
-import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateRBOSimilarity;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.searchrelevance.metrics.calculator.PairComparisonMatrix;
+
 /**
  * Pairwise Comparison Metrics.
  */
@@ -37,26 +38,48 @@ public class PairwiseComparisonMetrics {
     }
 
     /**
-     * calculate pairwise metrics with pairwise comparison calculators
-     * @param indexToDocIdMap - searchConfigId to list of docIds map
+     * calculate pairwise metrics of every pair of search configurations with pairwise comparison calculators
+     * @param matrix - rankings of the search configurations of a query text
+     * pairwise metrics example:
+     * [
+     *     {
+     *         "searchConfigurationIds": ["config-a", "config-b"],
+     *         "metrics": [{"metric": "jaccard", "value": 0.33}, {"metric": "rbo50", "value": 0.05}, ...]
+     *     }
+     * ]
+     */
+    public static List<Map<String, Object>> calculatePairwiseMetrics(PairComparisonMatrix matrix) {
+        List<Map<String, Object>> pairs = new ArrayList<>();
+        for (int a = 0; a < matrix.size(); a++) {
+            for (int b = a + 1; b < matrix.size(); b++) {
+                Map<String, Object> pair = new HashMap<>();
+                pair.put(PAIRWISE_FIELD_NAME_SEARCH_CONFIGURATION_IDS, List.of(matrix.name(a), matrix.name(b)));
+                pair.put(METRICS_PAIRWISE_COMPARISON_FIELD_NAME, calculatePairwiseMetrics(matrix.compare(a, b)));
+                pairs.add(pair);
+            }
+        }
+        return pairs;
+    }
+
+    /**
      * pairwise metrics example:
      * {
      *     "jaccard":0.33,
      *     "rbo90":0.1,
      *     "frequencyWeighted":0.67,
-     *     "rbo50":0.05
+     *     "rbo50":0.05,
+     *     "rbo50Extrapolated":0.06,
+     *     "rbo90Extrapolated":0.12
      * }
      */
-    public static List<Map<String, Object>> calculatePairwiseMetrics(Map<String, List<String>> indexToDocIdMap) {
+    public static List<Map<String, Object>> calculatePairwiseMetrics(PairComparisonMatrix.PairSimilarity similarity) {
         List<Map<String, Object>> pairwiseMetrics = new ArrayList<>();
-        List<String> docIdListA = indexToDocIdMap.get(PAIRWISE_FIELD_NAME_A);
-        List<String> docIdListB = indexToDocIdMap.get(PAIRWISE_FIELD_NAME_B);
-
-        addMetric(pairwiseMetrics, JACCARD_SIMILARITY_FIELD_NAME, calculateJaccardSimilarity(docIdListA, docIdListB));
-        addMetric(pairwiseMetrics, RBO_50_SIMILARITY_FIELD_NAME, calculateRBOSimilarity(docIdListA, docIdListB, 0.5));
-        addMetric(pairwiseMetrics, RBO_90_SIMILARITY_FIELD_NAME, calculateRBOSimilarity(docIdListA, docIdListB, 0.9));
-        addMetric(pairwiseMetrics, FREQUENCY_WEIGHTED_SIMILARITY_FIELD_NAME, calculateFrequencyWeightedSimilarity(docIdListA, docIdListB));
-
+        addMetric(pairwiseMetrics, JACCARD_SIMILARITY_FIELD_NAME, similarity.getJaccard());
+        addMetric(pairwiseMetrics, RBO_50_SIMILARITY_FIELD_NAME, similarity.getRbo50());
+        addMetric(pairwiseMetrics, RBO_90_SIMILARITY_FIELD_NAME, similarity.getRbo90());
+        addMetric(pairwiseMetrics, EXTRAPOLATED_RBO_50_SIMILARITY_FIELD_NAME, similarity.getExtrapolatedRbo50());
+        addMetric(pairwiseMetrics, EXTRAPOLATED_RBO_90_SIMILARITY_FIELD_NAME, similarity.getExtrapolatedRbo90());
+        addMetric(pairwiseMetrics, FREQUENCY_WEIGHTED_SIMILARITY_FIELD_NAME, similarity.getFrequencyWeighted());
         return pairwiseMetrics;
     }
 }
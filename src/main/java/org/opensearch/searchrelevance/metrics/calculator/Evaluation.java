@@ -7,11 +7,14 @@
  */
 package org.opensearch.searchrelevance.metrics.calculator;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Metrics of a ranked list of documents against the judgments of its query text. The kernels run over the ratings of
+ * the ranked documents, looked up once with {@link QueryJudgments#ratingsOf}. The overloads taking a judgment map
+ * compile it into {@link QueryJudgments} on every call, experiments compile the judgments once per query text instead.
+ */
 public class Evaluation {
     public static final String METRICS_PRECISION_AT = "Precision@";
     public static final String METRICS_MEAN_AVERAGE_PRECISION_AT = "MAP@";
@@ -20,95 +23,84 @@ public class Evaluation {
     /**
      * Precision@K - measures precision at a specific rank k
      */
-    public static double calculatePrecisionAtK(List<String> docIds, Map<String, String> judgmentScores, int k) {
-        int relevantCount = 0;
-        int count = 0;
+    public static double calculatePrecisionAtK(List<String> docIds, Map<String, ?> judgmentScores, int k) {
+        return calculatePrecisionAtK(QueryJudgments.parse(judgmentScores).ratingsOf(docIds), k);
+    }
 
-        for (String docId : docIds) {
-            if (count >= k) break;
-            if (judgmentScores.containsKey(docId) && Double.valueOf(judgmentScores.get(docId)) > 0) {
+    /**
+     * Precision@K - measures precision at a specific rank k
+     * @param rankedRatings - ratings of the ranked documents, NaN for documents without judgment
+     * @param k - rank to measure at
+     */
+    public static double calculatePrecisionAtK(float[] rankedRatings, int k) {
+        int size = Math.min(k, rankedRatings.length);
+        int relevantCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (rankedRatings[i] > 0) {
                 relevantCount++;
             }
-            count++;
         }
 
-        double precision = k > 0 ? (double) relevantCount / Math.min(k, docIds.size()) : 0.0;
+        double precision = k > 0 ? (double) relevantCount / size : 0.0;
         return Math.round(precision * 100.0) / 100.0;
     }
 
     /**
-     *
-     * @param judgmentRatings the docid->judgment mapping for a query
-     * @return the total number of documents with judgment > 0 in the ratings
+     * Mean Average Precision (MAP)
      */
-    private static int countRelevant(Map<String, String> judgmentRatings) {
-        int numRel = 0;
-        for (String value : judgmentRatings.values()) {
-            if (Double.valueOf(value) > 0) {
-                numRel++;
-            }
-        }
-        return numRel;
+    public static double calculateMAPAtK(List<String> docIds, Map<String, ?> judgmentScores, int k) {
+        QueryJudgments queryJudgments = QueryJudgments.parse(judgmentScores);
+        return calculateMAPAtK(queryJudgments.ratingsOf(docIds), queryJudgments, k);
     }
 
     /**
      * Mean Average Precision (MAP)
+     * @param rankedRatings - ratings of the ranked documents, NaN for documents without judgment
+     * @param queryJudgments - judgments of the query text the documents are ranked for
+     * @param k - rank to measure at
      */
-    public static double calculateMAPAtK(List<String> docIds, Map<String, String> judgmentScores, int k) {
+    public static double calculateMAPAtK(float[] rankedRatings, QueryJudgments queryJudgments, int k) {
         double sum = 0.0;
         int relevantCount = 0;
-        int numRel = countRelevant(judgmentScores);
-        int size = Math.min(k, docIds.size());
+        int size = Math.min(k, rankedRatings.length);
         for (int i = 0; i < size; i++) {
-            String docId = docIds.get(i);
-            if (judgmentScores.containsKey(docId) && Double.valueOf(judgmentScores.get(docId)) > 0) {
+            if (rankedRatings[i] > 0) {
                 relevantCount++;
                 sum += (double) relevantCount / (i + 1);
             }
         }
         // MAP is computed over the full set of relevant documents, not just the ones retrieved.
         // see https://en.wikipedia.org/wiki/Evaluation_measures_(information_retrieval)#Average_precision
-        double map = relevantCount > 0 ? sum / numRel : 0.0;
+        double map = relevantCount > 0 ? sum / queryJudgments.getRelevantCount() : 0.0;
         return Math.round(map * 100.0) / 100.0;
     }
 
     /**
      * Normalized Discounted Cumulative Gain (NDCG)
      */
-    public static double calculateNDCGAtK(List<String> docIds, Map<String, String> judgmentScores, int k) {
+    public static double calculateNDCGAtK(List<String> docIds, Map<String, ?> judgmentScores, int k) {
+        QueryJudgments queryJudgments = QueryJudgments.parse(judgmentScores);
+        return calculateNDCGAtK(queryJudgments.ratingsOf(docIds), queryJudgments, k);
+    }
+
+    /**
+     * Normalized Discounted Cumulative Gain (NDCG)
+     * @param rankedRatings - ratings of the ranked documents, NaN for documents without judgment
+     * @param queryJudgments - judgments of the query text the documents are ranked for
+     * @param k - rank to measure at
+     */
+    public static double calculateNDCGAtK(float[] rankedRatings, QueryJudgments queryJudgments, int k) {
         double dcg = 0.0;
-        double idcg = calculateIDCG(docIds, judgmentScores, k);
-        int size = Math.min(k, docIds.size());
+        double idcg = queryJudgments.idealDcg(k);
+        int size = Math.min(k, rankedRatings.length);
 
         for (int i = 0; i < size; i++) {
-            String docId = docIds.get(i);
-            if (judgmentScores.containsKey(docId)) {
-                double relevance = Double.valueOf(judgmentScores.get(docId));
-                dcg += (Math.pow(2, relevance) - 1) / (Math.log(i + 2) / Math.log(2));
+            if (Float.isNaN(rankedRatings[i]) == false) {
+                dcg += QueryJudgments.gain(rankedRatings[i]) / QueryJudgments.discount(i);
             }
         }
 
         double ndcg = idcg > 0 ? dcg / idcg : 0.0;
         return Math.round(ndcg * 100.0) / 100.0;
     }
-
-    private static double calculateIDCG(List<String> docIds, Map<String, String> judgmentScores, int k) {
-        List<Double> relevanceScores = new ArrayList<>();
-        // IDCG is computed on the full set of relevant documents
-        // we truncate the list after sorting
-        for (String rel : judgmentScores.values()) {
-            relevanceScores.add(Double.valueOf(rel));
-        }
-
-        Collections.sort(relevanceScores, Collections.reverseOrder());
-        // we truncate the list to k if the list is larger than k. Otherwise we keep the full list
-        relevanceScores = relevanceScores.subList(0, Math.min(relevanceScores.size(), k));
-        double idcg = 0.0;
-
-        for (int i = 0; i < relevanceScores.size(); i++) {
-            idcg += (Math.pow(2, relevanceScores.get(i)) - 1) / (Math.log(i + 2) / Math.log(2));
-        }
-
-        return idcg;
-    }
 }
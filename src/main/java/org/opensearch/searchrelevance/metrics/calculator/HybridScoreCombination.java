@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Scores the variants of a hybrid optimizer experiment in process, from the raw hits of every sub-query of the hybrid
+ * query retrieved once. Normalization and combination follow the normalization-processor of the neural-search plugin:
+ * sub-query scores are normalized over the hits of that sub-query and combined with the weights of the variant, a
+ * sub-query that did not return a document is left out of both the weighted scores and the weights of that document.
+ * The hybrid query collects the top hits of every sub-query per shard while they are retrieved here over the whole
+ * index, so the rankings match the ones of the search pipeline on single shard indices and may differ in the tail
+ * otherwise. Instances are built once per query text and configuration and are not thread safe.
+ */
+public class HybridScoreCombination {
+    public static final String NORMALIZATION_MIN_MAX = "min_max";
+    public static final String NORMALIZATION_L2 = "l2";
+    public static final String COMBINATION_ARITHMETIC_MEAN = "arithmetic_mean";
+    public static final String COMBINATION_GEOMETRIC_MEAN = "geometric_mean";
+    public static final String COMBINATION_HARMONIC_MEAN = "harmonic_mean";
+
+    // same constants as the normalization techniques of the neural-search plugin
+    private static final float MIN_SCORE = 0.001f;
+    private static final float SINGLE_RESULT_SCORE = 1.0f;
+    // normalized score of a document a sub-query did not return, as in the score combiner of the neural-search plugin
+    private static final float MISSING_SCORE = -1.0f;
+
+    private final List<String> docIds;
+    // raw score of every document per sub-query, NaN when the sub-query did not return the document
+    private final float[][] rawScores;
+    private final Map<String, float[][]> normalizedScoresByTechnique = new HashMap<>();
+
+    /**
+     * @param subQueryDocIds - ids of the hits of every sub-query in rank order
+     * @param subQueryScores - raw scores of the hits of every sub-query, aligned with their ids
+     */
+    public HybridScoreCombination(List<List<String>> subQueryDocIds, List<float[]> subQueryScores) {
+        if (subQueryDocIds.size() != subQueryScores.size()) {
+            throw new IllegalArgumentException("every sub-query needs both its doc ids and scores");
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        this.docIds = new ArrayList<>();
+        for (List<String> ids : subQueryDocIds) {
+            for (String docId : ids) {
+                if (positions.putIfAbsent(docId, docIds.size()) == null) {
+                    docIds.add(docId);
+                }
+            }
+        }
+        this.rawScores = new float[subQueryDocIds.size()][docIds.size()];
+        for (int subQuery = 0; subQuery < subQueryDocIds.size(); subQuery++) {
+            Arrays.fill(rawScores[subQuery], Float.NaN);
+            List<String> ids = subQueryDocIds.get(subQuery);
+            float[] scores = subQueryScores.get(subQuery);
+            for (int i = 0; i < ids.size(); i++) {
+                rawScores[subQuery][positions.get(ids.get(i))] = scores[i];
+            }
+        }
+    }
+
+    /**
+     * Rank the documents the way a hybrid query with the given search pipeline parameters would
+     * @param normalization - normalization technique, min_max or l2
+     * @param combination - combination technique, arithmetic_mean, geometric_mean or harmonic_mean
+     * @param weights - weight of every sub-query
+     * @param size - maximum number of doc ids returned
+     * @return doc ids by descending combined score, ties keep the order the documents were first retrieved in
+     */
+    public List<String> rank(String normalization, String combination, float[] weights, int size) {
+        if (weights.length != rawScores.length) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "expected [%d] weights but found [%d]", rawScores.length, weights.length)
+            );
+        }
+        float[][] normalizedScores = normalizedScoresByTechnique.computeIfAbsent(normalization, this::normalize);
+        // combined score in the high bits, inverted so an ascending sort ranks the best first, position in the low bits
+        long[] ranking = new long[docIds.size()];
+        float[] docScores = new float[rawScores.length];
+        for (int doc = 0; doc < ranking.length; doc++) {
+            for (int subQuery = 0; subQuery < rawScores.length; subQuery++) {
+                docScores[subQuery] = normalizedScores[subQuery][doc];
+            }
+            float score = combine(combination, docScores, weights);
+            if (Float.isNaN(score) || score < 0) {
+                score = 0;
+            }
+            ranking[doc] = ((long) (Integer.MAX_VALUE - Float.floatToIntBits(score)) << 32) | doc;
+        }
+        Arrays.sort(ranking);
+        int rankedSize = Math.min(size, ranking.length);
+        List<String> rankedDocIds = new ArrayList<>(rankedSize);
+        for (int i = 0; i < rankedSize; i++) {
+            rankedDocIds.add(docIds.get((int) ranking[i]));
+        }
+        return rankedDocIds;
+    }
+
+    private float[][] normalize(String technique) {
+        float[][] normalizedScores = new float[rawScores.length][];
+        for (int subQuery = 0; subQuery < rawScores.length; subQuery++) {
+            float[] scores = rawScores[subQuery];
+            float[] normalized = new float[scores.length];
+            Arrays.fill(normalized, MISSING_SCORE);
+            switch (technique) {
+                case NORMALIZATION_MIN_MAX -> normalizeMinMax(scores, normalized);
+                case NORMALIZATION_L2 -> normalizeL2(scores, normalized);
+                default -> throw new IllegalArgumentException("unsupported normalization technique: " + technique);
+            }
+            normalizedScores[subQuery] = normalized;
+        }
+        return normalizedScores;
+    }
+
+    private static void normalizeMinMax(float[] scores, float[] normalized) {
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+        for (float score : scores) {
+            if (Float.isNaN(score) == false) {
+                min = Math.min(min, score);
+                max = Math.max(max, score);
+            }
+        }
+        for (int i = 0; i < scores.length; i++) {
+            float score = scores[i];
+            if (Float.isNaN(score)) {
+                continue;
+            }
+            if (Float.compare(max, min) == 0) {
+                normalized[i] = SINGLE_RESULT_SCORE;
+            } else {
+                float normalizedScore = (score - min) / (max - min);
+                normalized[i] = normalizedScore == 0.0f ? MIN_SCORE : normalizedScore;
+            }
+        }
+    }
+
+    private static void normalizeL2(float[] scores, float[] normalized) {
+        double sumOfSquares = 0;
+        for (float score : scores) {
+            if (Float.isNaN(score) == false) {
+                sumOfSquares += (double) score * score;
+            }
+        }
+        float l2Norm = (float) Math.sqrt(sumOfSquares);
+        for (int i = 0; i < scores.length; i++) {
+            if (Float.isNaN(scores[i]) == false) {
+                normalized[i] = l2Norm == 0 ? MIN_SCORE : scores[i] / l2Norm;
+            }
+        }
+    }
+
+    private static float combine(String technique, float[] scores, float[] weights) {
+        float sumOfWeights = 0;
+        switch (technique) {
+            case COMBINATION_ARITHMETIC_MEAN -> {
+                float combinedScore = 0;
+                for (int i = 0; i < scores.length; i++) {
+                    if (scores[i] >= 0) {
+                        combinedScore += weights[i] * scores[i];
+                        sumOfWeights += weights[i];
+                    }
+                }
+                return sumOfWeights == 0 ? 0 : combinedScore / sumOfWeights;
+            }
+            case COMBINATION_GEOMETRIC_MEAN -> {
+                double weightedLnSum = 0;
+                for (int i = 0; i < scores.length; i++) {
+                    if (scores[i] > 0) {
+                        weightedLnSum += weights[i] * Math.log(scores[i]);
+                        sumOfWeights += weights[i];
+                    }
+                }
+                return sumOfWeights == 0 ? 0 : (float) Math.exp(weightedLnSum / sumOfWeights);
+            }
+            case COMBINATION_HARMONIC_MEAN -> {
+                float sumOfHarmonics = 0;
+                for (int i = 0; i < scores.length; i++) {
+                    if (scores[i] > 0) {
+                        sumOfHarmonics += weights[i] / scores[i];
+                        sumOfWeights += weights[i];
+                    }
+                }
+                return sumOfHarmonics > 0 ? sumOfWeights / sumOfHarmonics : 0;
+            }
+            default -> throw new IllegalArgumentException("unsupported combination technique: " + technique);
+        }
+    }
+}
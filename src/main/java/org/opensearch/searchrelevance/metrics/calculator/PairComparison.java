@@ -24,6 +24,8 @@ public class PairComparison {
     public static final String JACCARD_SIMILARITY_FIELD_NAME = "jaccard";
     public static final String RBO_50_SIMILARITY_FIELD_NAME = "rbo50";
     public static final String RBO_90_SIMILARITY_FIELD_NAME = "rbo90";
+    public static final String EXTRAPOLATED_RBO_50_SIMILARITY_FIELD_NAME = "rbo50Extrapolated";
+    public static final String EXTRAPOLATED_RBO_90_SIMILARITY_FIELD_NAME = "rbo90Extrapolated";
     public static final String FREQUENCY_WEIGHTED_SIMILARITY_FIELD_NAME = "frequencyWeighted";
 
     /**
@@ -48,7 +50,7 @@ public class PairComparison {
     }
 
     /**
-     * RankBiasedOverlap
+     * RankBiasedOverlap, in one pass over the lists
      */
     public static double calculateRBOSimilarity(List<String> listA, List<String> listB, double p) {
         if (p <= 0 || p >= 1) {
@@ -56,23 +58,26 @@ public class PairComparison {
         }
 
         int maxDepth = Math.max(listA.size(), listB.size());
+        if (maxDepth == 0) {
+            return 0.0;
+        }
         double sum = 0;
         double weight = 1;
-        double sumWeight = 0;
 
-        // Calculate overlap at each depth
+        // Overlap of the prefixes is counted incrementally as each depth adds an item to both prefixes
+        Set<String> setA = new HashSet<>();
+        Set<String> setB = new HashSet<>();
+        int overlap = 0;
         for (int d = 0; d < maxDepth; d++) {
-            Set<String> setA = new HashSet<>(listA.subList(0, Math.min(d + 1, listA.size())));
-            Set<String> setB = new HashSet<>(listB.subList(0, Math.min(d + 1, listB.size())));
-
-            // Calculate overlap at current depth
-            Set<String> intersection = new HashSet<>(setA);
-            intersection.retainAll(setB);
-            double overlap = intersection.size() / (double) Math.max(setA.size(), setB.size());
+            if (d < listA.size() && setA.add(listA.get(d)) && setB.contains(listA.get(d))) {
+                overlap++;
+            }
+            if (d < listB.size() && setB.add(listB.get(d)) && setA.contains(listB.get(d))) {
+                overlap++;
+            }
 
-            // Add weighted overlap to sum
-            sum += weight * overlap;
-            sumWeight += weight;
+            // Add weighted overlap at current depth to sum
+            sum += weight * (overlap / (double) Math.max(setA.size(), setB.size()));
             weight *= p;
         }
 
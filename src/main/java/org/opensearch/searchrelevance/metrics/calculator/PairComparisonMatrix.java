@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rankings of the search configurations of one query text, compared pair by pair. Doc ids are replaced once by
+ * ordinals shared by all rankings and the rank of every ordinal in every ranking is indexed, so each pair of rankings is
+ * compared in a single pass over its ranks without hashing or allocation. Rankings are expected without duplicate doc
+ * ids, as returned by a search.
+ */
+public class PairComparisonMatrix {
+    private static final int NOT_RANKED = Integer.MAX_VALUE;
+    // persistence parameters of the rank biased overlaps
+    private static final double[] RBO_PERSISTENCE = { 0.5, 0.9 };
+
+    private final List<String> names;
+    private final int[][] rankings;
+    // ranks[i][ordinal] is the zero based rank of the doc id in ranking i, NOT_RANKED if it is not in the ranking
+    private final int[][] ranks;
+
+    private PairComparisonMatrix(List<String> names, int[][] rankings, int ordinals) {
+        this.names = names;
+        this.rankings = rankings;
+        this.ranks = new int[rankings.length][ordinals];
+        for (int i = 0; i < rankings.length; i++) {
+            Arrays.fill(ranks[i], NOT_RANKED);
+            for (int rank = 0; rank < rankings[i].length; rank++) {
+                ranks[i][rankings[i][rank]] = rank;
+            }
+        }
+    }
+
+    /**
+     * @param docIdsByName - ranked doc ids by search configuration id
+     * @return rankings ordered by search configuration id, so pairs are listed in the same order for every query text
+     */
+    public static PairComparisonMatrix of(Map<String, List<String>> docIdsByName) {
+        List<String> names = new ArrayList<>(docIdsByName.keySet());
+        names.sort(null);
+        Map<String, Integer> ordinals = new HashMap<>();
+        int[][] rankings = new int[names.size()][];
+        for (int i = 0; i < names.size(); i++) {
+            List<String> docIds = docIdsByName.get(names.get(i));
+            rankings[i] = new int[docIds.size()];
+            for (int rank = 0; rank < docIds.size(); rank++) {
+                rankings[i][rank] = ordinals.computeIfAbsent(docIds.get(rank), docId -> ordinals.size());
+            }
+        }
+        return new PairComparisonMatrix(List.copyOf(names), rankings, ordinals.size());
+    }
+
+    /**
+     * @return number of compared rankings
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * @param i - index of a ranking
+     * @return search configuration id of the ranking
+     */
+    public String name(int i) {
+        return names.get(i);
+    }
+
+    /**
+     * Compare two rankings in one pass over their ranks. The overlap of the prefixes is counted incrementally: the doc
+     * id entering a prefix overlaps if the other prefix already holds it.
+     * @param a - index of the first ranking
+     * @param b - index of the second ranking
+     */
+    public PairSimilarity compare(int a, int b) {
+        int[] rankingA = rankings[a];
+        int[] rankingB = rankings[b];
+        int[] ranksA = ranks[a];
+        int[] ranksB = ranks[b];
+        int shorter = Math.min(rankingA.length, rankingB.length);
+        int longer = Math.max(rankingA.length, rankingB.length);
+
+        int overlap = 0;
+        int overlapAtShorter = 0;
+        double[] weights = new double[RBO_PERSISTENCE.length];
+        Arrays.fill(weights, 1.0);
+        double[] truncatedSums = new double[RBO_PERSISTENCE.length];
+        double[] extrapolatedSums = new double[RBO_PERSISTENCE.length];
+        for (int depth = 0; depth < longer; depth++) {
+            if (depth < rankingA.length && ranksB[rankingA[depth]] <= depth) {
+                overlap++;
+            }
+            // a doc id at the same rank of both rankings is counted once
+            if (depth < rankingB.length && ranksA[rankingB[depth]] < depth) {
+                overlap++;
+            }
+            if (depth + 1 == shorter) {
+                overlapAtShorter = overlap;
+            }
+            int prefixSize = Math.max(Math.min(depth + 1, rankingA.length), Math.min(depth + 1, rankingB.length));
+            for (int i = 0; i < RBO_PERSISTENCE.length; i++) {
+                truncatedSums[i] += weights[i] * (overlap / (double) prefixSize);
+                weights[i] *= RBO_PERSISTENCE[i];
+                // weights[i] is p^d of the one based depth d = depth + 1 now
+                extrapolatedSums[i] += weights[i] * overlap / (depth + 1);
+                if (depth + 1 > shorter && shorter > 0) {
+                    extrapolatedSums[i] += weights[i] * overlapAtShorter * (depth + 1 - shorter) / ((double) shorter * (depth + 1));
+                }
+            }
+        }
+
+        double[] rbo = new double[RBO_PERSISTENCE.length];
+        double[] extrapolatedRbo = new double[RBO_PERSISTENCE.length];
+        for (int i = 0; i < RBO_PERSISTENCE.length; i++) {
+            double p = RBO_PERSISTENCE[i];
+            // rank biased overlap of the evaluated depth, normalized by the weight of that depth
+            rbo[i] = longer == 0 ? 0.0 : truncatedSums[i] * (1 - p) / (1 - weights[i]);
+            // extrapolated rank biased overlap of rankings of uneven length, see Webber, Moffat and Zobel (2010), equation 32
+            if (shorter > 0) {
+                double agreementBeyondDepth = (double) (overlap - overlapAtShorter) / longer + (double) overlapAtShorter / shorter;
+                extrapolatedRbo[i] = (1 - p) / p * extrapolatedSums[i] + agreementBeyondDepth * weights[i];
+            }
+        }
+
+        int union = rankingA.length + rankingB.length - overlap;
+        double jaccard = union == 0 ? 0.0 : (double) overlap / union;
+        // every doc id weighs 1 / ranking size in its ranking, the weights of both rankings are averaged
+        double frequencyWeighted = shorter == 0 ? 0.0 : overlap * (1.0 / rankingA.length + 1.0 / rankingB.length) / 2;
+        return new PairSimilarity(
+            round(jaccard),
+            round(rbo[0]),
+            round(rbo[1]),
+            round(extrapolatedRbo[0]),
+            round(extrapolatedRbo[1]),
+            round(frequencyWeighted)
+        );
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * Similarities of two rankings, rounded to two decimals like the other metrics of an experiment
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PairSimilarity {
+        private final double jaccard;
+        private final double rbo50;
+        private final double rbo90;
+        private final double extrapolatedRbo50;
+        private final double extrapolatedRbo90;
+        private final double frequencyWeighted;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.apache.commons.math3.stat.inference.TTest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Paired significance tests of a metric of two search configurations or variants over the same query texts: the
+ * paired t-test, the sign-flip randomization test and the percentile bootstrap confidence interval of the mean
+ * difference. The resampling iterations run in chunks on a bounded fork join pool, every chunk with a random generator
+ * split in order from the seed, so the results only depend on the seed and never on the parallelism.
+ */
+public class PairedSignificance {
+    public static final double CONFIDENCE_LEVEL = 0.95;
+    // iterations of a resampling test run by one task of the fork join pool
+    static final int CHUNK_SIZE = 1024;
+
+    private PairedSignificance() {}
+
+    /**
+     * @param baseline - metric values of the baseline, one per query text
+     * @param candidate - metric values of the candidate for the same query texts, in the same order
+     * @param iterations - iterations of the randomization test and of the bootstrap, 0 to only run the t-test
+     * @param seed - seed of the resampling tests
+     * @param pool - fork join pool running the resampling iterations
+     * @return tests of the differences candidate - baseline, null with less than two query texts
+     */
+    public static Result test(double[] baseline, double[] candidate, int iterations, long seed, ForkJoinPool pool) {
+        if (baseline.length != candidate.length) {
+            throw new IllegalArgumentException("paired samples must have the same size");
+        }
+        int n = baseline.length;
+        if (n < 2) {
+            return null;
+        }
+        double[] differences = new double[n];
+        for (int i = 0; i < n; i++) {
+            differences[i] = candidate[i] - baseline[i];
+        }
+        double meanDifference = mean(differences);
+
+        Double tStatistic = null;
+        double tTestPValue;
+        double variance = 0.0;
+        for (double difference : differences) {
+            variance += (difference - meanDifference) * (difference - meanDifference);
+        }
+        variance /= n - 1;
+        if (variance > 0) {
+            TTest tTest = new TTest();
+            tStatistic = tTest.pairedT(candidate, baseline);
+            tTestPValue = tTest.pairedTTest(candidate, baseline);
+        } else {
+            // every query text differs by the same amount, the t statistic is not defined
+            tTestPValue = meanDifference == 0.0 ? 1.0 : 0.0;
+        }
+
+        if (iterations == 0) {
+            return new Result(n, meanDifference, tStatistic, tTestPValue, 0, null, null, null);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        double permutationPValue = permutationTest(differences, iterations, random.split(), pool);
+        double[] bootstrapMeans = bootstrapMeans(differences, iterations, random.split(), pool);
+        Percentile percentile = new Percentile();
+        percentile.setData(bootstrapMeans);
+        double alpha = 1.0 - CONFIDENCE_LEVEL;
+        return new Result(
+            n,
+            meanDifference,
+            tStatistic,
+            tTestPValue,
+            iterations,
+            permutationPValue,
+            percentile.evaluate(100.0 * alpha / 2),
+            percentile.evaluate(100.0 * (1.0 - alpha / 2))
+        );
+    }
+
+    /**
+     * Two sided sign-flip randomization test: under the null hypothesis the sign of every difference is exchangeable
+     * @return (number of sign assignments with an absolute sum at least the observed one + 1) / (iterations + 1)
+     */
+    static double permutationTest(double[] differences, int iterations, SplittableRandom random, ForkJoinPool pool) {
+        double observed = Math.abs(sum(differences));
+        // sums of random sign assignments reorder the additions, ties with the observed sum must not be lost to rounding
+        double tolerance = 1e-9 * Math.max(1.0, observed);
+        int[] extremeCounts = new int[chunks(iterations)];
+        runChunks(iterations, random, pool, (chunk, chunkIterations, chunkRandom) -> {
+            int extreme = 0;
+            for (int iteration = 0; iteration < chunkIterations; iteration++) {
+                double permuted = 0.0;
+                for (double difference : differences) {
+                    permuted += chunkRandom.nextBoolean() ? difference : -difference;
+                }
+                if (Math.abs(permuted) >= observed - tolerance) {
+                    extreme++;
+                }
+            }
+            extremeCounts[chunk] = extreme;
+        });
+        long extreme = 0;
+        for (int count : extremeCounts) {
+            extreme += count;
+        }
+        return (extreme + 1.0) / (iterations + 1.0);
+    }
+
+    /**
+     * @return mean of the differences resampled with replacement, once per iteration
+     */
+    static double[] bootstrapMeans(double[] differences, int iterations, SplittableRandom random, ForkJoinPool pool) {
+        double[] means = new double[iterations];
+        runChunks(iterations, random, pool, (chunk, chunkIterations, chunkRandom) -> {
+            int offset = chunk * CHUNK_SIZE;
+            for (int iteration = 0; iteration < chunkIterations; iteration++) {
+                double resampled = 0.0;
+                for (int i = 0; i < differences.length; i++) {
+                    resampled += differences[chunkRandom.nextInt(differences.length)];
+                }
+                means[offset + iteration] = resampled / differences.length;
+            }
+        });
+        return means;
+    }
+
+    private static void runChunks(int iterations, SplittableRandom random, ForkJoinPool pool, ChunkBody body) {
+        List<RecursiveAction> tasks = new ArrayList<>(chunks(iterations));
+        for (int chunk = 0; chunk < chunks(iterations); chunk++) {
+            int chunkIndex = chunk;
+            int chunkIterations = Math.min(CHUNK_SIZE, iterations - chunk * CHUNK_SIZE);
+            // generators are split in chunk order on the calling thread, whichever worker runs the chunk
+            SplittableRandom chunkRandom = random.split();
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    body.run(chunkIndex, chunkIterations, chunkRandom);
+                }
+            });
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    private static int chunks(int iterations) {
+        return (iterations + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    private static double sum(double[] values) {
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static double mean(double[] values) {
+        return sum(values) / values.length;
+    }
+
+    @FunctionalInterface
+    private interface ChunkBody {
+        void run(int chunk, int chunkIterations, SplittableRandom random);
+    }
+
+    /**
+     * Tests of the differences of a metric between a candidate and a baseline
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final int sampleSize;
+        private final double meanDifference;
+        // null when every query text differs by the same amount
+        private final Double tStatistic;
+        private final double tTestPValue;
+        private final int iterations;
+        // null when no resampling iterations ran
+        private final Double permutationPValue;
+        private final Double confidenceIntervalLower;
+        private final Double confidenceIntervalUpper;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Judgments of one query text compiled once for the metric kernels of {@link Evaluation}: float ratings by doc id,
+ * the number of relevant documents and the ideal discounted cumulative gain at every rank. Every search configuration
+ * and variant evaluated for the query text shares it, so the judgments are neither parsed nor sorted per evaluation.
+ * The doc ids are kept in an open addressing table with their ratings in a float array, so looking up the ratings of
+ * a ranked list neither boxes nor allocates beyond the returned array. Instances are immutable.
+ */
+public class QueryJudgments {
+    public static final QueryJudgments EMPTY = new QueryJudgments(Map.of());
+
+    // log2(rank + 2) of the first zero based ranks, the gain at a rank is divided by it
+    private static final int PRECOMPUTED_DISCOUNTS = 1024;
+    private static final double[] DISCOUNTS = new double[PRECOMPUTED_DISCOUNTS];
+
+    static {
+        for (int i = 0; i < PRECOMPUTED_DISCOUNTS; i++) {
+            DISCOUNTS[i] = Math.log(i + 2) / Math.log(2);
+        }
+    }
+
+    // linear probing table at most half full, ratings[slot] is the rating of docIds[slot], empty slots are null
+    private final String[] docIds;
+    private final float[] ratings;
+    private final int mask;
+    private final int size;
+    private final int relevantCount;
+    // idealGains[i] is the ideal discounted cumulative gain of the first i + 1 ranks
+    private final double[] idealGains;
+
+    private QueryJudgments(Map<String, ?> judgments) {
+        int capacity = 2;
+        while (capacity < judgments.size() * 2) {
+            capacity <<= 1;
+        }
+        this.docIds = new String[capacity];
+        this.ratings = new float[capacity];
+        this.mask = capacity - 1;
+        this.size = judgments.size();
+        float[] sortedRatings = new float[size];
+        int relevant = 0;
+        int i = 0;
+        for (Map.Entry<String, ?> judgment : judgments.entrySet()) {
+            float rating = toFloat(judgment.getValue());
+            int slot = slot(judgment.getKey());
+            docIds[slot] = judgment.getKey();
+            ratings[slot] = rating;
+            sortedRatings[i++] = rating;
+            if (rating > 0) {
+                relevant++;
+            }
+        }
+        this.relevantCount = relevant;
+        // IDCG is computed on the full set of judged documents and truncated to k when it is read
+        Arrays.sort(sortedRatings);
+        this.idealGains = new double[sortedRatings.length];
+        double idealGain = 0.0;
+        for (int rank = 0; rank < sortedRatings.length; rank++) {
+            idealGain += gain(sortedRatings[sortedRatings.length - 1 - rank]) / discount(rank);
+            idealGains[rank] = idealGain;
+        }
+    }
+
+    /**
+     * @param ratings - docId to rating of a query text
+     */
+    public static QueryJudgments of(Map<String, Float> ratings) {
+        return ratings.isEmpty() ? EMPTY : new QueryJudgments(ratings);
+    }
+
+    /**
+     * Judgment ratings are either numbers, e.g. from an experiment JudgmentIndex, or their string form
+     * @param judgmentScores - docId to rating of a query text
+     */
+    public static QueryJudgments parse(Map<String, ?> judgmentScores) {
+        return judgmentScores.isEmpty() ? EMPTY : new QueryJudgments(judgmentScores);
+    }
+
+    private static float toFloat(Object rating) {
+        return rating instanceof Number ? ((Number) rating).floatValue() : Float.parseFloat(rating.toString());
+    }
+
+    /**
+     * @return slot of the doc id, or the empty slot it would be stored in
+     */
+    private int slot(String docId) {
+        int hash = docId.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (docIds[slot] != null && docIds[slot].equals(docId) == false) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * @param docIds - ranked doc ids of a search
+     * @return ratings in rank order, NaN for documents without judgment
+     */
+    public float[] ratingsOf(List<String> docIds) {
+        float[] rankedRatings = new float[docIds.size()];
+        for (int i = 0; i < rankedRatings.length; i++) {
+            rankedRatings[i] = getRating(docIds.get(i));
+        }
+        return rankedRatings;
+    }
+
+    /**
+     * @param docId - doc id to look up
+     * @return rating of the document, NaN if it has no judgment
+     */
+    public float getRating(String docId) {
+        int slot = slot(docId);
+        return docIds[slot] == null ? Float.NaN : ratings[slot];
+    }
+
+    /**
+     * Copied out of the table, the metric kernels read the ratings with {@link #ratingsOf} instead
+     * @return docId to rating of the query text, read only
+     */
+    public Map<String, Float> getRatings() {
+        Map<String, Float> ratingsByDocId = new HashMap<>(size);
+        for (int slot = 0; slot < docIds.length; slot++) {
+            if (docIds[slot] != null) {
+                ratingsByDocId.put(docIds[slot], ratings[slot]);
+            }
+        }
+        return Collections.unmodifiableMap(ratingsByDocId);
+    }
+
+    /**
+     * @return number of judged documents
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of judged documents with a rating above 0
+     */
+    public int getRelevantCount() {
+        return relevantCount;
+    }
+
+    /**
+     * @param k - number of ranks
+     * @return ideal discounted cumulative gain of the first k ranks
+     */
+    public double idealDcg(int k) {
+        int ranks = Math.min(k, idealGains.length);
+        return ranks > 0 ? idealGains[ranks - 1] : 0.0;
+    }
+
+    static double gain(double rating) {
+        return Math.pow(2, rating) - 1;
+    }
+
+    /**
+     * @param rank - zero based rank
+     * @return log2(rank + 2)
+     */
+    static double discount(int rank) {
+        return rank < PRECOMPUTED_DISCOUNTS ? DISCOUNTS[rank] : Math.log(rank + 2) / Math.log(2);
+    }
+}
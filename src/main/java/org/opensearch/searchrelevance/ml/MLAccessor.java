@@ -35,6 +35,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.FunctionName;
@@ -44,6 +45,8 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.searchrelevance.cost.BudgetTracker;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 
 /**
  * This is a ml-commons accessor that will call predict API and process ml input/output.
@@ -59,6 +62,10 @@ public class MLAccessor {
         this.mlClient = mlClient;
     }
 
+    /**
+     * Judge the hits with the model, in chunks that fit in the token limit
+     * @param budget - predict calls and prompt tokens left to the judgment, the chunks are only sent if they all fit in it
+     */
     public void predict(
         String modelId,
         int tokenLimit,
@@ -66,10 +73,27 @@ public class MLAccessor {
         String reference,
         Map<String, String> hits,
         boolean ignoreFailure,
+        BudgetTracker budget,
         ActionListener<ChunkResult> progressListener  // For individual chunk
     ) {
         List<MLInput> mlInputs = getMLInputs(tokenLimit, searchText, reference, hits);
         LOGGER.info("Number of chunks: {}", mlInputs.size());
+        long promptTokens = 0;
+        if (budget.isLimited()) {
+            for (MLInput mlInput : mlInputs) {
+                RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+                promptTokens += TokenizerUtil.countTokens(inputDataSet.getParameters().get(PARAM_MESSAGES_FIELD));
+            }
+        }
+        if (budget.tryAcquire(mlInputs.size(), promptTokens) == false) {
+            progressListener.onFailure(
+                new SearchRelevanceException(
+                    String.format(Locale.ROOT, "Budget exhausted, %d chunks of %d tokens were not sent", mlInputs.size(), promptTokens),
+                    RestStatus.TOO_MANY_REQUESTS
+                )
+            );
+            return;
+        }
 
         ConcurrentMap<Integer, String> succeededChunks = new ConcurrentHashMap<>();
         ConcurrentHashMap<Integer, String> failedChunks = new ConcurrentHashMap<>();
@@ -153,7 +177,16 @@ public class MLAccessor {
         );
     }
 
-    private List<MLInput> getMLInputs(int tokenLimit, String searchText, String reference, Map<String, String> hits) {
+    /**
+     * Split the hits into the prompts of the predict calls, every prompt fits in the token limit and a hit that does
+     * not fit on its own is truncated
+     * @param tokenLimit - maximum number of tokens of a prompt
+     * @param searchText - query text the hits are judged for
+     * @param reference - reference answer, null or empty for none
+     * @param hits - source of the hits by doc id
+     * @return one predict input per chunk of hits
+     */
+    public List<MLInput> getMLInputs(int tokenLimit, String searchText, String reference, Map<String, String> hits) {
         List<MLInput> mlInputs = new ArrayList<>();
         Map<String, String> currentChunk = new HashMap<>();
 
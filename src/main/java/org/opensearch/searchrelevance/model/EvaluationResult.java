@@ -21,6 +21,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 public class EvaluationResult implements ToXContentObject {
     public static final String ID = "id";
     public static final String TIMESTAMP = "timestamp";
+    public static final String EXPERIMENT_ID = "experimentId";
     public static final String SEARCH_CONFIGURATION_ID = "searchConfigurationId";
     public static final String SEARCH_TEXT = "searchText";
     public static final String JUDGMENT_IDS = "judgmentIds";
@@ -32,6 +33,10 @@ public class EvaluationResult implements ToXContentObject {
      */
     private final String id;
     private final String timestamp;
+    /**
+     * Experiment that produced the evaluation result, so the results of an experiment are filtered by term
+     */
+    private final String experimentId;
     private final String searchConfigurationId;
     private final String searchText;
     private final List<String> judgmentIds;
@@ -41,6 +46,7 @@ public class EvaluationResult implements ToXContentObject {
     public EvaluationResult(
         String id,
         String timestamp,
+        String experimentId,
         String searchConfigurationId,
         String searchText,
         List<String> judgmentIds,
@@ -49,6 +55,7 @@ public class EvaluationResult implements ToXContentObject {
     ) {
         this.id = id;
         this.timestamp = timestamp;
+        this.experimentId = experimentId;
         this.searchConfigurationId = searchConfigurationId;
         this.searchText = searchText;
         this.judgmentIds = judgmentIds;
@@ -61,6 +68,9 @@ public class EvaluationResult implements ToXContentObject {
         XContentBuilder xContentBuilder = builder.startObject();
         xContentBuilder.field(ID, this.id.trim());
         xContentBuilder.field(TIMESTAMP, this.timestamp.trim());
+        if (this.experimentId != null) {
+            xContentBuilder.field(EXPERIMENT_ID, this.experimentId.trim());
+        }
         xContentBuilder.field(SEARCH_CONFIGURATION_ID, this.searchConfigurationId.trim());
         xContentBuilder.field(SEARCH_TEXT, this.searchText.trim());
         xContentBuilder.field(JUDGMENT_IDS, this.judgmentIds == null ? new ArrayList<>() : this.judgmentIds);
@@ -77,6 +87,10 @@ public class EvaluationResult implements ToXContentObject {
         return timestamp;
     }
 
+    public String experimentId() {
+        return experimentId;
+    }
+
     public String searchConfigurationId() {
         return searchConfigurationId;
     }
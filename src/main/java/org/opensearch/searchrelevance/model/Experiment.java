@@ -29,6 +29,8 @@ public class Experiment implements ToXContentObject {
     public static final String JUDGMENT_LIST = "judgmentList";
     public static final String SIZE = "size";
     public static final String RESULTS = "results";
+    public static final String NODE_ID = "nodeId";
+    public static final String SUMMARY = "summary";
     private static final int DEFAULTED_SIZE = 10;
 
     /**
@@ -43,6 +45,14 @@ public class Experiment implements ToXContentObject {
     private final List<String> judgmentList;
     private final int size;
     private final List<Map<String, Object>> results;
+    /**
+     * Node running the experiment, set while the experiment is PROCESSING
+     */
+    private final String nodeId;
+    /**
+     * Compact summary of a streamed experiment, its per queryText results are stored as {@link ExperimentResult}
+     */
+    private final Map<String, Object> summary;
 
     public Experiment(
         String id,
@@ -54,6 +64,37 @@ public class Experiment implements ToXContentObject {
         List<String> judgmentList,
         int size,
         List<Map<String, Object>> results
+    ) {
+        this(id, timestamp, type, status, querySetId, searchConfigurationList, judgmentList, size, results, null);
+    }
+
+    public Experiment(
+        String id,
+        String timestamp,
+        ExperimentType type,
+        AsyncStatus status,
+        String querySetId,
+        List<String> searchConfigurationList,
+        List<String> judgmentList,
+        int size,
+        List<Map<String, Object>> results,
+        String nodeId
+    ) {
+        this(id, timestamp, type, status, querySetId, searchConfigurationList, judgmentList, size, results, nodeId, null);
+    }
+
+    public Experiment(
+        String id,
+        String timestamp,
+        ExperimentType type,
+        AsyncStatus status,
+        String querySetId,
+        List<String> searchConfigurationList,
+        List<String> judgmentList,
+        int size,
+        List<Map<String, Object>> results,
+        String nodeId,
+        Map<String, Object> summary
     ) {
         this.id = id;
         this.timestamp = timestamp;
@@ -64,6 +105,8 @@ public class Experiment implements ToXContentObject {
         this.judgmentList = judgmentList;
         this.size = size;
         this.results = results;
+        this.nodeId = nodeId;
+        this.summary = summary;
     }
 
     @Override
@@ -81,6 +124,12 @@ public class Experiment implements ToXContentObject {
         xContentBuilder.field(JUDGMENT_LIST, this.judgmentList == null ? new ArrayList<>() : this.judgmentList);
         xContentBuilder.field(SIZE, Optional.of(this.size).orElse(DEFAULTED_SIZE));
         xContentBuilder.field(RESULTS, this.results);
+        if (this.nodeId != null) {
+            xContentBuilder.field(NODE_ID, this.nodeId);
+        }
+        if (this.summary != null) {
+            xContentBuilder.field(SUMMARY, this.summary);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -120,4 +169,12 @@ public class Experiment implements ToXContentObject {
         return results;
     }
 
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public Map<String, Object> summary() {
+        return summary;
+    }
+
 }
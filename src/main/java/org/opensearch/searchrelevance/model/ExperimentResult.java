@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * ExperimentResult is a system index object that stores the results of a single queryText of an experiment,
+ * i.e. the pointers to its evaluation results or its pairwise comparison.
+ * Results are written as soon as the queryText completes, the experiment itself only keeps a summary.
+ */
+public class ExperimentResult implements ToXContentObject {
+    public static final String ID = "id";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String EXPERIMENT_ID = "experimentId";
+    public static final String QUERY_TEXT = "queryText";
+    public static final String RESULT = "result";
+
+    /**
+     * Identifier of the system index
+     */
+    private final String id;
+    private final String timestamp;
+    private final String experimentId;
+    private final String queryText;
+    private final Map<String, Object> result;
+
+    public ExperimentResult(String id, String timestamp, String experimentId, String queryText, Map<String, Object> result) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.experimentId = experimentId;
+        this.queryText = queryText;
+        this.result = result;
+    }
+
+    /**
+     * Results of a queryText always get the same id, so evaluating a queryText again after a resume overwrites them
+     * @param experimentId - id of the experiment
+     * @param queryText - queryText of the results
+     * @return id of the results of the queryText
+     */
+    public static String generateId(String experimentId, String queryText) {
+        return UUID.nameUUIDFromBytes((experimentId + "\n" + queryText).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        XContentBuilder xContentBuilder = builder.startObject();
+        xContentBuilder.field(ID, this.id.trim());
+        xContentBuilder.field(TIMESTAMP, this.timestamp.trim());
+        xContentBuilder.field(EXPERIMENT_ID, this.experimentId.trim());
+        xContentBuilder.field(QUERY_TEXT, this.queryText);
+        xContentBuilder.field(RESULT, this.result);
+        return xContentBuilder.endObject();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String timestamp() {
+        return timestamp;
+    }
+
+    public String experimentId() {
+        return experimentId;
+    }
+
+    public String queryText() {
+        return queryText;
+    }
+
+    public Map<String, Object> result() {
+        return result;
+    }
+}
@@ -8,7 +8,6 @@
 package org.opensearch.searchrelevance.model;
 
 import java.io.IOException;
-import java.util.List;
 import java.util.Map;
 
 import org.opensearch.core.xcontent.ToXContentObject;
@@ -37,7 +36,7 @@ public class Judgment implements ToXContentObject {
     private final AsyncStatus status;
     private final JudgmentType type;
     private final Map<String, Object> metadata;
-    private final List<Map<String, Object>> judgmentRatings;
+    private final JudgmentRatings judgmentRatings;
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
@@ -48,24 +47,8 @@ public class Judgment implements ToXContentObject {
         xContentBuilder.field(STATUS, this.status.name().trim());
         xContentBuilder.field(TYPE, this.type.name().trim());
         xContentBuilder.field(METADATA, this.metadata);
-        // Start judgmentRatings object
-        xContentBuilder.startArray(JUDGMENT_RATINGS);
-        for (Map<String, Object> judgment : this.judgmentRatings) {
-            xContentBuilder.startObject();
-            xContentBuilder.field("query", judgment.get("query"));
-            xContentBuilder.startArray("ratings");
-            for (Map<String, Object> rating : (List<Map<String, Object>>) judgment.get("ratings")) {
-                xContentBuilder.startObject();
-                for (Map.Entry<String, Object> entry : rating.entrySet()) {
-                    xContentBuilder.field(entry.getKey(), entry.getValue());
-                }
-                xContentBuilder.endObject();
-            }
-            xContentBuilder.endArray();
-            xContentBuilder.endObject();
-        }
-        xContentBuilder.endArray();
-        // End judgmentRatings object
+        xContentBuilder.field(JUDGMENT_RATINGS);
+        this.judgmentRatings.toXContent(xContentBuilder, params);
         return xContentBuilder.endObject();
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JudgmentRating is a system index object that stores the ratings of one query text of a judgment list, so the
+ * ratings of a query text are looked up by term without fetching and parsing the whole judgment list.
+ */
+@Getter
+@AllArgsConstructor
+public class JudgmentRating implements ToXContentObject {
+    public static final String JUDGMENT_ID = "judgmentId";
+    public static final String QUERY = "query";
+    public static final String RATINGS = "ratings";
+    public static final String DOC_ID = "docId";
+    public static final String RATING = "rating";
+
+    private final String judgmentId;
+    private final String query;
+    /**
+     * docId to rating of the query text, in stored order
+     */
+    private final Map<String, Float> ratings;
+
+    /**
+     * Identifier of the system index, the same judgment list and query text always map to the same document
+     */
+    public String getId() {
+        return id(judgmentId, query);
+    }
+
+    /**
+     * @param judgmentId - id of the judgment list
+     * @param query - query text
+     * @return id of the document of the query text in the judgment rating index
+     */
+    public static String id(String judgmentId, String query) {
+        return UUID.nameUUIDFromBytes((judgmentId + "\n" + query).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        XContentBuilder xContentBuilder = builder.startObject();
+        xContentBuilder.field(JUDGMENT_ID, this.judgmentId);
+        xContentBuilder.field(QUERY, this.query);
+        xContentBuilder.startArray(RATINGS);
+        for (Map.Entry<String, Float> rating : this.ratings.entrySet()) {
+            xContentBuilder.startObject();
+            xContentBuilder.field(DOC_ID, rating.getKey());
+            xContentBuilder.field(RATING, rating.getValue());
+            xContentBuilder.endObject();
+        }
+        xContentBuilder.endArray();
+        return xContentBuilder.endObject();
+    }
+
+    /**
+     * @param source - source of a judgment rating document
+     * @return docId to rating of the query text of the document, in stored order
+     */
+    public static Map<String, Float> parseRatings(Map<String, Object> source) {
+        Map<String, Float> ratings = new LinkedHashMap<>();
+        Object storedRatings = source.get(RATINGS);
+        if (storedRatings instanceof List<?> ratingList) {
+            for (Object storedRating : ratingList) {
+                if (storedRating instanceof Map<?, ?> rating && rating.get(DOC_ID) != null && rating.get(RATING) instanceof Number value) {
+                    ratings.put(rating.get(DOC_ID).toString(), value.floatValue());
+                }
+            }
+        }
+        return ratings;
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+
+/**
+ * Ratings of a judgment list grouped by query text, as they are generated, imported and stored. Doc ids are dictionary
+ * encoded and ratings are kept as floats in flat arrays, the ratings of the query text at position q are the positions
+ * offsets[q] to offsets[q + 1], so a rating costs an int and a float instead of maps of strings.
+ * Instances are immutable, they are built with {@link Builder}.
+ */
+public final class JudgmentRatings implements Accountable, ToXContent, Writeable {
+    public static final JudgmentRatings EMPTY = new Builder().build();
+
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(JudgmentRatings.class);
+
+    private final String[] queryTexts;
+    private final int[] offsets;
+    // dictionary of the doc ids, docs holds the position of the doc id of every rating
+    private final String[] docIds;
+    private final int[] docs;
+    private final float[] ratings;
+
+    private JudgmentRatings(String[] queryTexts, int[] offsets, String[] docIds, int[] docs, float[] ratings) {
+        this.queryTexts = queryTexts;
+        this.offsets = offsets;
+        this.docIds = docIds;
+        this.docs = docs;
+        this.ratings = ratings;
+    }
+
+    public JudgmentRatings(StreamInput in) throws IOException {
+        this.queryTexts = in.readStringArray();
+        this.offsets = in.readVIntArray();
+        this.docIds = in.readStringArray();
+        this.docs = in.readVIntArray();
+        this.ratings = in.readFloatArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeStringArray(queryTexts);
+        out.writeVIntArray(offsets);
+        out.writeStringArray(docIds);
+        out.writeVIntArray(docs);
+        out.writeFloatArray(ratings);
+    }
+
+    /**
+     * @return number of query texts
+     */
+    public int size() {
+        return queryTexts.length;
+    }
+
+    public boolean isEmpty() {
+        return queryTexts.length == 0;
+    }
+
+    /**
+     * @return number of ratings of all query texts
+     */
+    public int getRatingCount() {
+        return ratings.length;
+    }
+
+    public String getQueryText(int query) {
+        return queryTexts[query];
+    }
+
+    /**
+     * @param query - position of the query text
+     * @return position of the first rating of the query text
+     */
+    public int getStart(int query) {
+        return offsets[query];
+    }
+
+    /**
+     * @param query - position of the query text
+     * @return position after the last rating of the query text
+     */
+    public int getEnd(int query) {
+        return offsets[query + 1];
+    }
+
+    public String getDocId(int rating) {
+        return docIds[docs[rating]];
+    }
+
+    public float getRating(int rating) {
+        return ratings[rating];
+    }
+
+    /**
+     * @param query - position of the query text
+     * @return docId to rating of the query text, in generated order
+     */
+    public Map<String, Float> getRatings(int query) {
+        Map<String, Float> queryRatings = new LinkedHashMap<>();
+        for (int i = getStart(query); i < getEnd(query); i++) {
+            queryRatings.put(getDocId(i), ratings[i]);
+        }
+        return queryRatings;
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long bytes = SHALLOW_SIZE + RamUsageEstimator.sizeOf(queryTexts) + RamUsageEstimator.sizeOf(docIds);
+        return bytes + RamUsageEstimator.sizeOf(offsets) + RamUsageEstimator.sizeOf(docs) + RamUsageEstimator.sizeOf(ratings);
+    }
+
+    /**
+     * Write the ratings as an array, {"query": "${queryText}", "ratings": [{"docId": "${docId}", "rating": ${rating}}]}
+     * per query text
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startArray();
+        for (int query = 0; query < queryTexts.length; query++) {
+            builder.startObject();
+            builder.field(JudgmentRating.QUERY, queryTexts[query]);
+            builder.startArray(JudgmentRating.RATINGS);
+            for (int i = getStart(query); i < getEnd(query); i++) {
+                builder.startObject();
+                builder.field(JudgmentRating.DOC_ID, getDocId(i));
+                builder.field(JudgmentRating.RATING, ratings[i]);
+                builder.endObject();
+            }
+            builder.endArray();
+            builder.endObject();
+        }
+        return builder.endArray();
+    }
+
+    /**
+     * Parse ratings written by {@link #toXContent}, ratings may be numbers or strings
+     * @param parser - parser positioned on the array of query texts or before it
+     * @return parsed ratings
+     * @throws SearchRelevanceException BAD_REQUEST when a rating is invalid
+     */
+    public static JudgmentRatings fromXContent(XContentParser parser) throws IOException {
+        XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != XContentParser.Token.START_ARRAY) {
+            throw new SearchRelevanceException("judgmentRatings must be a list of query ratings", RestStatus.BAD_REQUEST);
+        }
+        Builder builder = new Builder();
+        while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+            String queryText = null;
+            Map<String, Float> queryRatings = null;
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                token = parser.nextToken();
+                if (JudgmentRating.QUERY.equals(fieldName) && token.isValue()) {
+                    queryText = parser.text();
+                } else if (JudgmentRating.RATINGS.equals(fieldName) && token == XContentParser.Token.START_ARRAY) {
+                    queryRatings = new LinkedHashMap<>();
+                    while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                        String docId = null;
+                        String rating = null;
+                        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                            String ratingField = parser.currentName();
+                            token = parser.nextToken();
+                            if (JudgmentRating.DOC_ID.equals(ratingField) && token.isValue()) {
+                                docId = parser.text();
+                            } else if (JudgmentRating.RATING.equals(ratingField) && token.isValue()) {
+                                rating = parser.text();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        queryRatings.put(validDocId(docId, queryText), parseRating(rating, queryText));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            builder.add(validQueryText(queryText, queryRatings), queryRatings);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parse the ratings of a request source, {"query": "${queryText}", "ratings": [{"docId": "${docId}", "rating": "${rating}"}]}
+     * per query text. When a doc id is rated twice for a query text the last rating wins.
+     * @param judgmentRatings - judgmentRatings of the request source
+     * @return parsed ratings
+     * @throws SearchRelevanceException BAD_REQUEST when a rating is invalid
+     */
+    public static JudgmentRatings parse(Object judgmentRatings) {
+        if (!(judgmentRatings instanceof List<?> queryRatingsList)) {
+            throw new SearchRelevanceException("judgmentRatings must be a list of query ratings", RestStatus.BAD_REQUEST);
+        }
+        Builder builder = new Builder();
+        for (Object queryJudgment : queryRatingsList) {
+            if (!(queryJudgment instanceof Map<?, ?> queryRatingsMap)) {
+                throw new SearchRelevanceException("judgmentRatings must be a list of query ratings", RestStatus.BAD_REQUEST);
+            }
+            Object query = queryRatingsMap.get(JudgmentRating.QUERY);
+            String queryText = query == null ? null : query.toString();
+            if (!(queryRatingsMap.get(JudgmentRating.RATINGS) instanceof List<?> ratingList)) {
+                throw new SearchRelevanceException("queryText " + queryText + " must have a list of rating data.", RestStatus.BAD_REQUEST);
+            }
+            Map<String, Float> queryRatings = new LinkedHashMap<>();
+            for (Object ratingInfo : ratingList) {
+                Map<?, ?> rating = ratingInfo instanceof Map<?, ?> map ? map : Map.of();
+                Object docId = rating.get(JudgmentRating.DOC_ID);
+                Object value = rating.get(JudgmentRating.RATING);
+                queryRatings.put(
+                    validDocId(docId == null ? null : docId.toString(), queryText),
+                    parseRating(value == null ? null : value.toString(), queryText)
+                );
+            }
+            builder.add(validQueryText(queryText, queryRatings), queryRatings);
+        }
+        return builder.build();
+    }
+
+    private static String validQueryText(String queryText, Map<String, Float> queryRatings) {
+        if (queryText == null || queryText.isEmpty()) {
+            throw new SearchRelevanceException("query must not be null or empty", RestStatus.BAD_REQUEST);
+        }
+        if (queryRatings == null) {
+            throw new SearchRelevanceException("queryText " + queryText + " must have a list of rating data.", RestStatus.BAD_REQUEST);
+        }
+        return queryText;
+    }
+
+    private static String validDocId(String docId, String queryText) {
+        if (docId == null || docId.isEmpty()) {
+            throw new SearchRelevanceException("docId for queryText " + queryText + " must not be null or empty", RestStatus.BAD_REQUEST);
+        }
+        return docId;
+    }
+
+    private static float parseRating(String rating, String queryText) {
+        if (rating == null) {
+            throw new SearchRelevanceException("rating for queryText " + queryText + " must not be null", RestStatus.BAD_REQUEST);
+        }
+        try {
+            float value = Float.parseFloat(rating);
+            if (Float.isFinite(value)) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new SearchRelevanceException(
+            "rating '" + rating + "' for queryText " + queryText + " must be a valid float",
+            RestStatus.BAD_REQUEST
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        JudgmentRatings that = (JudgmentRatings) o;
+        return Arrays.equals(queryTexts, that.queryTexts)
+            && Arrays.equals(offsets, that.offsets)
+            && Arrays.equals(docIds, that.docIds)
+            && Arrays.equals(docs, that.docs)
+            && Arrays.equals(ratings, that.ratings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            Arrays.hashCode(queryTexts),
+            Arrays.hashCode(offsets),
+            Arrays.hashCode(docIds),
+            Arrays.hashCode(docs),
+            Arrays.hashCode(ratings)
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "JudgmentRatings{queryTexts=" + queryTexts.length + ", ratings=" + ratings.length + "}";
+    }
+
+    /**
+     * Appends the ratings of one query text after the other. Not thread safe.
+     */
+    public static class Builder {
+        private final List<String> queryTexts = new ArrayList<>();
+        private final Map<String, Integer> docIdOrdinals = new HashMap<>();
+        private final List<String> docIds = new ArrayList<>();
+        private int[] starts = new int[8];
+        private int[] docs = new int[16];
+        private float[] ratings = new float[16];
+        private int ratingCount;
+
+        /**
+         * Start the ratings of the next query text
+         * @param queryText - query text of the following ratings
+         */
+        public Builder addQueryText(String queryText) {
+            starts = ArrayUtil.grow(starts, queryTexts.size() + 1);
+            starts[queryTexts.size()] = ratingCount;
+            queryTexts.add(queryText);
+            return this;
+        }
+
+        /**
+         * Add a rating of the current query text
+         * @param docId - rated doc id
+         * @param rating - rating of the doc id
+         */
+        public Builder addRating(String docId, float rating) {
+            if (queryTexts.isEmpty()) {
+                throw new IllegalStateException("a query text must be added before its ratings");
+            }
+            docs = ArrayUtil.grow(docs, ratingCount + 1);
+            ratings = ArrayUtil.grow(ratings, ratingCount + 1);
+            docs[ratingCount] = docIdOrdinals.computeIfAbsent(docId, id -> {
+                docIds.add(id);
+                return docIds.size() - 1;
+            });
+            ratings[ratingCount] = rating;
+            ratingCount++;
+            return this;
+        }
+
+        /**
+         * Add a query text with all its ratings
+         * @param queryText - query text
+         * @param docRatings - docId to rating of the query text
+         */
+        public Builder add(String queryText, Map<String, Float> docRatings) {
+            addQueryText(queryText);
+            docRatings.forEach(this::addRating);
+            return this;
+        }
+
+        /**
+         * Add a query text with all its ratings copied from other ratings
+         * @param judgmentRatings - ratings to copy from
+         * @param query - position of the query text in judgmentRatings
+         */
+        public Builder add(JudgmentRatings judgmentRatings, int query) {
+            addQueryText(judgmentRatings.getQueryText(query));
+            for (int i = judgmentRatings.getStart(query); i < judgmentRatings.getEnd(query); i++) {
+                addRating(judgmentRatings.getDocId(i), judgmentRatings.getRating(i));
+            }
+            return this;
+        }
+
+        /**
+         * Add a query text with all its ratings from a stored {"query": "${queryText}", "ratings": [{"docId": "${docId}",
+         * "rating": ${rating}}]} object, e.g. of a judgment document or a judgment rating document. Unlike
+         * {@link JudgmentRatings#fromXContent} it is lenient: other fields and ratings without doc id or rating are skipped,
+         * and so is the object when it has no query text.
+         * @param parser - parser positioned on the start of the object
+         */
+        public Builder parseQueryRatings(XContentParser parser) throws IOException {
+            String queryText = null;
+            List<String> queryDocIds = new ArrayList<>();
+            float[] queryRatings = new float[8];
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                XContentParser.Token token = parser.nextToken();
+                if (JudgmentRating.QUERY.equals(fieldName) && token.isValue()) {
+                    queryText = parser.text();
+                } else if (JudgmentRating.RATINGS.equals(fieldName) && token == XContentParser.Token.START_ARRAY) {
+                    while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                        String docId = null;
+                        float rating = Float.NaN;
+                        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                            String ratingField = parser.currentName();
+                            token = parser.nextToken();
+                            if (JudgmentRating.DOC_ID.equals(ratingField) && token.isValue()) {
+                                docId = parser.text();
+                            } else if (JudgmentRating.RATING.equals(ratingField) && token.isValue()) {
+                                rating = parser.floatValue();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        if (docId != null && Float.isNaN(rating) == false) {
+                            queryRatings = ArrayUtil.grow(queryRatings, queryDocIds.size() + 1);
+                            queryRatings[queryDocIds.size()] = rating;
+                            queryDocIds.add(docId);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (queryText != null) {
+                addQueryText(queryText);
+                for (int i = 0; i < queryDocIds.size(); i++) {
+                    addRating(queryDocIds.get(i), queryRatings[i]);
+                }
+            }
+            return this;
+        }
+
+        /**
+         * @return number of ratings added so far
+         */
+        public int getRatingCount() {
+            return ratingCount;
+        }
+
+        public JudgmentRatings build() {
+            int[] offsets = Arrays.copyOf(starts, queryTexts.size() + 1);
+            offsets[queryTexts.size()] = ratingCount;
+            return new JudgmentRatings(
+                queryTexts.toArray(new String[0]),
+                offsets,
+                docIds.toArray(new String[0]),
+                Arrays.copyOf(docs, ratingCount),
+                Arrays.copyOf(ratings, ratingCount)
+            );
+        }
+    }
+}
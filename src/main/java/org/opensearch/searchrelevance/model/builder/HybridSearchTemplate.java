@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+import static org.opensearch.searchrelevance.experiment.QuerySourceUtil.validateHybridQuery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Hybrid query of a search configuration parsed and validated once, so the search requests of a query text only
+ * substitute the query text into the prebuilt query instead of parsing the search configuration again.
+ */
+@Log4j2
+public class HybridSearchTemplate {
+    private static final Pattern QUERY_TEXT_PLACEHOLDER = Pattern.compile(Pattern.quote(WILDCARD_QUERY_TEXT));
+    private static final String QUERY_FIELD_NAME = "query";
+    private static final String SIZE_FIELD_NAME = "size";
+    private static final String HYBRID_QUERY_NAME = "hybrid";
+    private static final String HYBRID_QUERIES_FIELD_NAME = "queries";
+    private static final String HYBRID_FILTER_FIELD_NAME = "filter";
+
+    private final int size;
+    // hybrid query split around the query text placeholder
+    private final String[] queryParts;
+    // sub-queries with the filter of the hybrid query applied, split around the query text placeholder
+    private final List<String[]> subQueryParts;
+    // source without the query, parsed once unless it references the query text as well
+    private final SearchSourceBuilder sourceWithoutQuery;
+    private final String[] sourceWithoutQueryParts;
+
+    private HybridSearchTemplate(
+        int size,
+        String[] queryParts,
+        List<String[]> subQueryParts,
+        SearchSourceBuilder sourceWithoutQuery,
+        String[] sourceWithoutQueryParts
+    ) {
+        this.size = size;
+        this.queryParts = queryParts;
+        this.subQueryParts = subQueryParts;
+        this.sourceWithoutQuery = sourceWithoutQuery;
+        this.sourceWithoutQueryParts = sourceWithoutQueryParts;
+    }
+
+    /**
+     * Parse and validate the hybrid query of a search configuration
+     * @param query - DSL query of a search configuration with a hybrid query, with the query text placeholder
+     * @param size - number of returned hits of every search
+     * @return template of the search requests of the search configuration
+     */
+    public static HybridSearchTemplate compile(String query, int size) {
+        try {
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                query
+            );
+            Map<String, Object> fullQueryMap = parser.map();
+
+            validateHybridQuery(fullQueryMap);
+
+            // This implementation handles the 'query' field separately from other fields because:
+            // 1. Custom query types (like hybrid, neural) are not registered in the default QueryBuilders
+            // 2. Using WrapperQuery allows passing through any query structure without parsing
+            // 3. All other fields (aggregations, source filtering, etc.) can be parsed normally by SearchSourceBuilder
+            Map<String, Object> queryObject = (Map<String, Object>) fullQueryMap.remove(QUERY_FIELD_NAME);
+            Map<String, Object> hybridQuery = (Map<String, Object>) queryObject.get(HYBRID_QUERY_NAME);
+            Object filter = hybridQuery.get(HYBRID_FILTER_FIELD_NAME);
+            List<String[]> subQueryParts = new ArrayList<>();
+            for (Object subQuery : (List<Object>) hybridQuery.get(HYBRID_QUERIES_FIELD_NAME)) {
+                Object scoredQuery = filter == null
+                    ? subQuery
+                    : Map.of("bool", Map.of("must", List.of(subQuery), "filter", List.of(filter)));
+                subQueryParts.add(split(toJson(scoredQuery)));
+            }
+
+            if (fullQueryMap.containsKey(SIZE_FIELD_NAME) && ((Number) fullQueryMap.get(SIZE_FIELD_NAME)).intValue() != size) {
+                log.debug(
+                    "Size mismatch detected. Query size: {}, Search Configuration Input size: {}. Using Search Configuration Input size.",
+                    fullQueryMap.get(SIZE_FIELD_NAME),
+                    size
+                );
+            }
+
+            XContentBuilder builder = JsonXContent.contentBuilder();
+            builder.map(fullQueryMap);
+            String sourceWithoutQuery = builder.toString();
+            // validate that query does not have internal temporary pipeline definition
+            SearchSourceBuilder parsedSource = parseSource(sourceWithoutQuery);
+            if (Objects.nonNull(parsedSource.searchPipelineSource()) && !parsedSource.searchPipelineSource().isEmpty()) {
+                log.error("query in search configuration does have temporary search pipeline in its source");
+                throw new IllegalArgumentException("search pipeline is not allowed in search request");
+            }
+            boolean sourceReferencesQueryText = sourceWithoutQuery.contains(WILDCARD_QUERY_TEXT);
+            return new HybridSearchTemplate(
+                size,
+                split(toJson(queryObject)),
+                subQueryParts,
+                sourceReferencesQueryText ? null : parsedSource,
+                sourceReferencesQueryText ? split(sourceWithoutQuery) : null
+            );
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to build search request", ex);
+        }
+    }
+
+    /**
+     * Builds the search request of a query text searching with the hybrid query
+     * @param index - target index to be searched against
+     * @param temporarySearchPipeline - definition of the temporary search pipeline of the variant, empty for none
+     * @param queryText - queryText to replace the placeholder with
+     * @return SearchRequest
+     */
+    public SearchRequest buildRequest(String index, Map<String, Object> temporarySearchPipeline, String queryText) {
+        SearchSourceBuilder sourceBuilder = source(queryText);
+        if (temporarySearchPipeline.isEmpty() == false) {
+            sourceBuilder.searchPipelineSource(temporarySearchPipeline);
+        } else {
+            log.debug("no temporary search pipeline");
+        }
+        sourceBuilder.query(QueryBuilders.wrapperQuery(fill(queryParts, queryText)));
+        sourceBuilder.size(size);
+        return new SearchRequest(index).source(sourceBuilder);
+    }
+
+    /**
+     * Builds one search request per sub-query of the hybrid query, see
+     * {@link SearchRequestBuilder#buildRequestsForHybridSubQueries}
+     * @param index - target index to be searched against
+     * @param queryText - queryText to replace the placeholder with
+     * @return search requests in the order of the sub-queries
+     */
+    public List<SearchRequest> buildSubQueryRequests(String index, String queryText) {
+        List<SearchRequest> searchRequests = new ArrayList<>(subQueryParts.size());
+        for (String[] subQuery : subQueryParts) {
+            SearchSourceBuilder sourceBuilder = source(queryText);
+            sourceBuilder.query(QueryBuilders.wrapperQuery(fill(subQuery, queryText)));
+            sourceBuilder.size(size);
+            searchRequests.add(new SearchRequest(index).source(sourceBuilder));
+        }
+        return searchRequests;
+    }
+
+    /**
+     * @return a source of its own for every request, the query, pipeline and size are set on it
+     */
+    private SearchSourceBuilder source(String queryText) {
+        if (sourceWithoutQuery != null) {
+            return sourceWithoutQuery.shallowCopy();
+        }
+        try {
+            return parseSource(fill(sourceWithoutQueryParts, queryText));
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Failed to build search request", ex);
+        }
+    }
+
+    private static SearchSourceBuilder parseSource(String source) throws IOException {
+        XContentParser parser = JsonXContent.jsonXContent.createParser(
+            SearchRequestBuilder.NAMED_CONTENT_REGISTRY,
+            DeprecationHandler.IGNORE_DEPRECATIONS,
+            source
+        );
+        return SearchSourceBuilder.fromXContent(parser);
+    }
+
+    private static String toJson(Object value) throws IOException {
+        XContentBuilder builder = JsonXContent.contentBuilder();
+        builder.value(value);
+        return builder.toString();
+    }
+
+    private static String[] split(String template) {
+        return QUERY_TEXT_PLACEHOLDER.split(template, -1);
+    }
+
+    private static String fill(String[] parts, String queryText) {
+        return String.join(queryText, parts);
+    }
+}
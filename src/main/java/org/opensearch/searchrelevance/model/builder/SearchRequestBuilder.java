@@ -8,12 +8,11 @@
 package org.opensearch.searchrelevance.model.builder;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
-import static org.opensearch.searchrelevance.experiment.QuerySourceUtil.validateHybridQuery;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.common.settings.Settings;
@@ -34,7 +33,7 @@ import lombok.extern.log4j.Log4j2;
  */
 public class SearchRequestBuilder {
 
-    private static final NamedXContentRegistry NAMED_CONTENT_REGISTRY;
+    static final NamedXContentRegistry NAMED_CONTENT_REGISTRY;
     private static final SearchModule SEARCH_MODULE;
     private static final String QUERY_FIELD_NAME = "query";
     private static final String SIZE_FIELD_NAME = "size";
@@ -121,6 +120,16 @@ public class SearchRequestBuilder {
         }
     }
 
+    /**
+     * Builds a search request with a hybrid query and a temporary search pipeline, see {@link HybridSearchTemplate} to
+     * build the requests of many query texts from one search configuration
+     * @param index - target index to be searched against
+     * @param query - DSL query of a search configuration with a hybrid query
+     * @param temporarySearchPipeline - definition of the temporary search pipeline, empty for none
+     * @param queryText - queryText need to be replaced with placeholder
+     * @param size - number of returned hits from the search
+     * @return SearchRequest
+     */
     public static SearchRequest buildRequestForHybridSearch(
         String index,
         String query,
@@ -128,79 +137,20 @@ public class SearchRequestBuilder {
         String queryText,
         int size
     ) {
-        SearchRequest searchRequest = new SearchRequest(index);
-
-        try {
-            // Replace placeholder with actual query text
-            String processedQuery = query.replace(WILDCARD_QUERY_TEXT, queryText);
-
-            // Parse the full query into a map
-            XContentParser parser = JsonXContent.jsonXContent.createParser(
-                NamedXContentRegistry.EMPTY,
-                DeprecationHandler.IGNORE_DEPRECATIONS,
-                processedQuery
-            );
-            Map<String, Object> fullQueryMap = parser.map();
-
-            validateHybridQuery(fullQueryMap);
-
-            // This implementation handles the 'query' field separately from other fields because:
-            // 1. Custom query types (like hybrid, neural) are not registered in the default QueryBuilders
-            // 2. Using WrapperQuery allows passing through any query structure without parsing
-            // 3. All other fields (aggregations, source filtering, etc.) can be parsed normally by SearchSourceBuilder
-            Object queryObject = fullQueryMap.remove(QUERY_FIELD_NAME);
-
-            // Parse everything except query using SearchSourceBuilder.fromXContent
-            XContentBuilder builder = JsonXContent.contentBuilder();
-            builder.map(fullQueryMap);
-
-            parser = JsonXContent.jsonXContent.createParser(
-                NAMED_CONTENT_REGISTRY,
-                DeprecationHandler.IGNORE_DEPRECATIONS,
-                builder.toString()
-            );
-
-            SearchSourceBuilder sourceBuilder = SearchSourceBuilder.fromXContent(parser);
-
-            // validate that query does not have internal temporary pipeline definition
-            if (Objects.nonNull(sourceBuilder.searchPipelineSource()) && !sourceBuilder.searchPipelineSource().isEmpty()) {
-                log.error("query in search configuration does have temporary search pipeline in its source");
-                throw new IllegalArgumentException("search pipeline is not allowed in search request");
-            }
-
-            if (temporarySearchPipeline.isEmpty() == false) {
-                sourceBuilder.searchPipelineSource(temporarySearchPipeline);
-            } else {
-                log.debug("no temporary search pipeline");
-            }
-
-            // Handle query separately using WrapperQuery
-            if (queryObject != null) {
-                builder = JsonXContent.contentBuilder();
-                builder.value(queryObject);
-                String queryBody = builder.toString();
-                sourceBuilder.query(QueryBuilders.wrapperQuery(queryBody));
-            }
-
-            // Precheck if query contains a different size value
-            if (fullQueryMap.containsKey(SIZE_FIELD_NAME)) {
-                int querySize = ((Number) fullQueryMap.get(SIZE_FIELD_NAME)).intValue();
-                if (querySize != size) {
-                    log.debug(
-                        "Size mismatch detected. Query size: {}, Search Configuration Input size: {}. Using Search Configuration Input size.",
-                        querySize,
-                        size
-                    );
-                }
-            }
-            // Set size
-            sourceBuilder.size(size);
-
-            searchRequest.source(sourceBuilder);
-            return searchRequest;
+        return HybridSearchTemplate.compile(query, size).buildRequest(index, temporarySearchPipeline, queryText);
+    }
 
-        } catch (IOException ex) {
-            throw new IllegalArgumentException("Failed to build search request", ex);
-        }
+    /**
+     * Builds one search request per sub-query of a hybrid query, to retrieve the raw scored hits of every sub-query once
+     * and combine them in process instead of searching once per search pipeline variant.
+     * A filter of the hybrid query is applied to every sub-query, as the hybrid query does.
+     * @param index - target index to be searched against
+     * @param query - DSL query of a search configuration with a hybrid query
+     * @param queryText - queryText need to be replaced with placeholder
+     * @param size - number of returned hits of every sub-query
+     * @return search requests in the order of the sub-queries
+     */
+    public static List<SearchRequest> buildRequestsForHybridSubQueries(String index, String query, String queryText, int size) {
+        return HybridSearchTemplate.compile(query, size).buildSubQueryRequests(index, queryText);
     }
 }
@@ -9,23 +9,48 @@ package org.opensearch.searchrelevance.plugin;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_SEED;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_STATS_ENABLED;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_WORKBENCH_ENABLED;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import org.opensearch.action.ActionRequest;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Module;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -42,14 +67,24 @@ import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
+import org.opensearch.searchrelevance.cost.CostEstimator;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.experiment.ExperimentRunner;
+import org.opensearch.searchrelevance.experiment.ExperimentSliceDispatcher;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.ExperimentSignificance;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.rest.RestCreateQuerySetAction;
@@ -57,10 +92,12 @@ import org.opensearch.searchrelevance.rest.RestDeleteExperimentAction;
 import org.opensearch.searchrelevance.rest.RestDeleteJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestDeleteQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestDeleteSearchConfigurationAction;
+import org.opensearch.searchrelevance.rest.RestExportAction;
 import org.opensearch.searchrelevance.rest.RestGetExperimentAction;
 import org.opensearch.searchrelevance.rest.RestGetJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestGetQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestGetSearchConfigurationAction;
+import org.opensearch.searchrelevance.rest.RestImportJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestPutExperimentAction;
 import org.opensearch.searchrelevance.rest.RestPutJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestPutQuerySetAction;
@@ -69,16 +106,27 @@ import org.opensearch.searchrelevance.rest.RestSearchRelevanceStatsAction;
 import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
 import org.opensearch.searchrelevance.stats.events.EventStatsManager;
 import org.opensearch.searchrelevance.stats.info.InfoStatsManager;
+import org.opensearch.searchrelevance.tasks.LocalTaskManager;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostAction;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.export.ExportAction;
+import org.opensearch.searchrelevance.transport.export.ExportTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.DeleteJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.DeleteJudgmentTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.GetJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.GetJudgmentTransportAction;
+import org.opensearch.searchrelevance.transport.judgment.ImportJudgmentAction;
+import org.opensearch.searchrelevance.transport.judgment.ImportJudgmentTransportAction;
+import org.opensearch.searchrelevance.transport.judgment.InvalidateJudgmentCacheAction;
+import org.opensearch.searchrelevance.transport.judgment.InvalidateJudgmentCacheTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentTransportAction;
 import org.opensearch.searchrelevance.transport.queryset.DeleteQuerySetAction;
@@ -98,6 +146,7 @@ import org.opensearch.searchrelevance.transport.searchConfiguration.PutSearchCon
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsAction;
 import org.opensearch.searchrelevance.transport.stats.SearchRelevanceStatsTransportAction;
 import org.opensearch.searchrelevance.utils.ClusterUtil;
+import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 import org.opensearch.watcher.ResourceWatcherService;
@@ -110,18 +159,27 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
     private Client client;
     private ClusterService clusterService;
     private SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private SearchRelevanceBulkWriter searchRelevanceBulkWriter;
     private QuerySetDao querySetDao;
     private SearchConfigurationDao searchConfigurationDao;
     private ExperimentDao experimentDao;
     private ExperimentVariantDao experimentVariantDao;
+    private ExperimentResultDao experimentResultDao;
     private JudgmentDao judgmentDao;
     private EvaluationResultDao evaluationResultDao;
     private JudgmentCacheDao judgmentCacheDao;
+    private JudgmentListCache judgmentListCache;
     private MLAccessor mlAccessor;
     private MetricsHelper metricsHelper;
+    private ExperimentSearchScheduler experimentSearchScheduler;
+    private SearchResultCache searchResultCache;
+    private ExperimentRunner experimentRunner;
+    private LocalTaskManager localTaskManager;
+    private CostEstimator costEstimator;
     private SearchRelevanceSettingsAccessor settingsAccessor;
     private ClusterUtil clusterUtil;
     private InfoStatsManager infoStatsManager;
+    private ForkJoinPool significancePool;
 
     @Override
     public Collection<SystemIndexDescriptor> getSystemIndexDescriptors(Settings settings) {
@@ -147,37 +205,84 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
     ) {
         this.client = client;
         this.clusterService = clusterService;
+        this.settingsAccessor = new SearchRelevanceSettingsAccessor(clusterService, environment.settings());
         this.searchRelevanceIndicesManager = new SearchRelevanceIndicesManager(clusterService, client);
+        this.searchRelevanceBulkWriter = new SearchRelevanceBulkWriter(client, threadPool, settingsAccessor);
         this.experimentDao = new ExperimentDao(searchRelevanceIndicesManager);
-        this.experimentVariantDao = new ExperimentVariantDao(searchRelevanceIndicesManager);
+        this.experimentVariantDao = new ExperimentVariantDao(searchRelevanceIndicesManager, searchRelevanceBulkWriter);
+        this.experimentResultDao = new ExperimentResultDao(searchRelevanceIndicesManager, searchRelevanceBulkWriter);
         this.querySetDao = new QuerySetDao(searchRelevanceIndicesManager);
         this.searchConfigurationDao = new SearchConfigurationDao(searchRelevanceIndicesManager);
-        this.judgmentDao = new JudgmentDao(searchRelevanceIndicesManager);
-        this.evaluationResultDao = new EvaluationResultDao(searchRelevanceIndicesManager);
+        this.judgmentDao = new JudgmentDao(searchRelevanceIndicesManager, settingsAccessor);
+        this.evaluationResultDao = new EvaluationResultDao(searchRelevanceIndicesManager, searchRelevanceBulkWriter);
         this.judgmentCacheDao = new JudgmentCacheDao(searchRelevanceIndicesManager);
         MachineLearningNodeClient mlClient = new MachineLearningNodeClient(client);
         this.mlAccessor = new MLAccessor(mlClient);
-        this.metricsHelper = new MetricsHelper(clusterService, client, judgmentDao, evaluationResultDao, experimentVariantDao);
-        this.settingsAccessor = new SearchRelevanceSettingsAccessor(clusterService, environment.settings());
+        this.experimentSearchScheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        this.searchResultCache = new SearchResultCache(client, experimentSearchScheduler, settingsAccessor);
+        this.judgmentListCache = new JudgmentListCache(client, judgmentDao, threadPool, settingsAccessor);
+        this.metricsHelper = new MetricsHelper(
+            clusterService,
+            client,
+            judgmentListCache,
+            evaluationResultDao,
+            searchResultCache,
+            settingsAccessor
+        );
+        this.significancePool = SearchRelevanceExecutor.newSignificancePool(environment.settings());
+        this.localTaskManager = new LocalTaskManager();
+        this.costEstimator = new CostEstimator(querySetDao, settingsAccessor);
+        this.experimentRunner = new ExperimentRunner(
+            clusterService,
+            experimentDao,
+            experimentVariantDao,
+            experimentResultDao,
+            querySetDao,
+            searchConfigurationDao,
+            metricsHelper,
+            experimentSearchScheduler,
+            searchResultCache,
+            new ExperimentSliceDispatcher(client, clusterService, settingsAccessor),
+            searchRelevanceBulkWriter,
+            settingsAccessor,
+            threadPool,
+            localTaskManager,
+            new ExperimentSignificance(settingsAccessor, significancePool),
+            costEstimator
+        );
         this.clusterUtil = new ClusterUtil(clusterService);
         this.infoStatsManager = new InfoStatsManager(settingsAccessor);
         EventStatsManager.instance().initialize(settingsAccessor);
 
         return List.of(
             searchRelevanceIndicesManager,
+            searchRelevanceBulkWriter,
             querySetDao,
             searchConfigurationDao,
             experimentDao,
             experimentVariantDao,
+            experimentResultDao,
             judgmentDao,
             evaluationResultDao,
             judgmentCacheDao,
+            judgmentListCache,
             mlAccessor,
             metricsHelper,
+            experimentSearchScheduler,
+            searchResultCache,
+            experimentRunner,
+            localTaskManager,
+            costEstimator,
             infoStatsManager
         );
     }
 
+    @Override
+    public Collection<Module> createGuiceModules() {
+        // the task manager of the transport service reaches the components once the node injector is created
+        return List.of(binder -> binder.bind(LocalTaskManager.Binding.class).asEagerSingleton());
+    }
+
     @Override
     public List<RestHandler> getRestHandlers(
         Settings settings,
@@ -196,6 +301,8 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new RestPutJudgmentAction(settingsAccessor),
             new RestDeleteJudgmentAction(settingsAccessor),
             new RestGetJudgmentAction(settingsAccessor),
+            new RestImportJudgmentAction(settingsAccessor),
+            new RestExportAction(settingsAccessor),
             new RestPutSearchConfigurationAction(settingsAccessor),
             new RestDeleteSearchConfigurationAction(settingsAccessor),
             new RestGetSearchConfigurationAction(settingsAccessor),
@@ -216,18 +323,69 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new ActionHandler<>(PutJudgmentAction.INSTANCE, PutJudgmentTransportAction.class),
             new ActionHandler<>(DeleteJudgmentAction.INSTANCE, DeleteJudgmentTransportAction.class),
             new ActionHandler<>(GetJudgmentAction.INSTANCE, GetJudgmentTransportAction.class),
+            new ActionHandler<>(ImportJudgmentAction.INSTANCE, ImportJudgmentTransportAction.class),
+            new ActionHandler<>(InvalidateJudgmentCacheAction.INSTANCE, InvalidateJudgmentCacheTransportAction.class),
             new ActionHandler<>(PutSearchConfigurationAction.INSTANCE, PutSearchConfigurationTransportAction.class),
             new ActionHandler<>(DeleteSearchConfigurationAction.INSTANCE, DeleteSearchConfigurationTransportAction.class),
             new ActionHandler<>(GetSearchConfigurationAction.INSTANCE, GetSearchConfigurationTransportAction.class),
             new ActionHandler<>(PutExperimentAction.INSTANCE, PutExperimentTransportAction.class),
             new ActionHandler<>(DeleteExperimentAction.INSTANCE, DeleteExperimentTransportAction.class),
             new ActionHandler<>(GetExperimentAction.INSTANCE, GetExperimentTransportAction.class),
+            new ActionHandler<>(ExperimentSliceAction.INSTANCE, ExperimentSliceTransportAction.class),
+            new ActionHandler<>(EstimateCostAction.INSTANCE, EstimateCostTransportAction.class),
+            new ActionHandler<>(ExportAction.INSTANCE, ExportTransportAction.class),
             new ActionHandler<>(SearchRelevanceStatsAction.INSTANCE, SearchRelevanceStatsTransportAction.class)
         );
     }
 
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(SEARCH_RELEVANCE_WORKBENCH_ENABLED, SEARCH_RELEVANCE_STATS_ENABLED, SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT);
+        return List.of(
+            SEARCH_RELEVANCE_WORKBENCH_ENABLED,
+            SEARCH_RELEVANCE_STATS_ENABLED,
+            SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT,
+            SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE,
+            SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT,
+            SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE,
+            SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS,
+            SEARCH_RELEVANCE_BULK_FLUSH_SIZE,
+            SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL,
+            SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL,
+            SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED,
+            SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED,
+            SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE,
+            SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE,
+            SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED,
+            SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED,
+            SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED,
+            SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE,
+            SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS,
+            SEARCH_RELEVANCE_SIGNIFICANCE_SEED,
+            SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED,
+            SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE,
+            SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS
+        );
+    }
+
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
+        return List.of(SearchRelevanceExecutor.getExecutorBuilder(settings));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (significancePool != null) {
+            significancePool.shutdownNow();
+        }
+        super.close();
+    }
+
+    @Override
+    public void onNodeStarted(DiscoveryNode localNode) {
+        // fields added to the mappings are mapped before orphaned experiments are looked up by them
+        searchRelevanceIndicesManager.updateMappingsOnceRecovered(
+            // experiments this node was running before it stopped are still PROCESSING
+            ActionListener.wrap(experimentRunner::resumeOrphanedExperiments)
+        );
     }
 }
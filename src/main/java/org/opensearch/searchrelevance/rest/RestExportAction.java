@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.searchrelevance.common.PluginConstants.CURSOR;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOCUMENT_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPORT_CURSOR_HEADER;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPORT_PATH;
+import static org.opensearch.searchrelevance.common.PluginConstants.FORMAT;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
+import static org.opensearch.searchrelevance.common.PluginConstants.QUERY_TEXT;
+import static org.opensearch.searchrelevance.common.PluginConstants.RESULTS_PATH;
+import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATION_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.SIZE;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.export.ExportFormat;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.export.ExportAction;
+import org.opensearch.searchrelevance.transport.export.ExportRequest;
+import org.opensearch.searchrelevance.transport.export.ExportResponse;
+import org.opensearch.searchrelevance.transport.export.ExportTransportAction;
+import org.opensearch.transport.client.node.NodeClient;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Rest Action to export the ratings of a judgment list as NDJSON, TREC qrels or CSV, or the evaluation results of an
+ * experiment as NDJSON or CSV, one page per request, e.g.
+ * GET _plugins/_search_relevance/judgments/{id}/_export?format=trec&amp;size=1000.
+ * The per query text results of an experiment are exported as NDJSON with GET .../experiments/{id}/results/_export.
+ * Every page but the last returns the cursor of the next page in the X-Search-Relevance-Export-Cursor header, the next
+ * page is read with the same parameters and cursor=${cursor}. Evaluation results are filtered with query_text and
+ * search_configuration_id, judgment ratings and experiment results with query_text.
+ */
+@AllArgsConstructor
+public class RestExportAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestExportAction.class);
+    private static final String EXPORT_ACTION = "export_action";
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+
+    @Override
+    public String getName() {
+        return EXPORT_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(
+            new Route(GET, String.format(Locale.ROOT, "%s/{%s}/%s", JUDGMENTS_URL, DOCUMENT_ID, EXPORT_PATH)),
+            new Route(GET, String.format(Locale.ROOT, "%s/{%s}/%s", EXPERIMENTS_URI, DOCUMENT_ID, EXPORT_PATH)),
+            new Route(GET, String.format(Locale.ROOT, "%s/{%s}/%s/%s", EXPERIMENTS_URI, DOCUMENT_ID, RESULTS_PATH, EXPORT_PATH))
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        if (!settingsAccessor.isWorkbenchEnabled()) {
+            return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, "Search Relevance Workbench is disabled"));
+        }
+        ExportRequest.Source source;
+        if (request.path().startsWith(JUDGMENTS_URL)) {
+            source = ExportRequest.Source.JUDGMENT;
+        } else if (request.path().endsWith("/" + RESULTS_PATH + "/" + EXPORT_PATH)) {
+            source = ExportRequest.Source.EXPERIMENT_RESULT;
+        } else {
+            source = ExportRequest.Source.EXPERIMENT;
+        }
+        ExportFormat format = ExportFormat.fromString(request.param(FORMAT, "ndjson"));
+        ExportRequest exportRequest = new ExportRequest(
+            source,
+            request.param(DOCUMENT_ID),
+            format,
+            request.param(QUERY_TEXT),
+            source == ExportRequest.Source.EXPERIMENT ? request.param(SEARCH_CONFIGURATION_ID) : null,
+            request.paramAsInt(SIZE, ExportTransportAction.DEFAULT_EXPORT_SIZE),
+            request.param(CURSOR)
+        );
+
+        return channel -> client.execute(ExportAction.INSTANCE, exportRequest, new ActionListener<ExportResponse>() {
+            @Override
+            public void onResponse(ExportResponse response) {
+                BytesRestResponse restResponse = new BytesRestResponse(RestStatus.OK, format.getContentType(), response.getContent());
+                if (response.getCursor() != null) {
+                    restResponse.addHeader(EXPORT_CURSOR_HEADER, response.getCursor());
+                }
+                channel.sendResponse(restResponse);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    // invalid formats, cursors or sources are reported with their status, e.g. 400
+                    RestStatus status = e instanceof SearchRelevanceException searchRelevanceException
+                        ? searchRelevanceException.getRestStatus()
+                        : ExceptionsHelper.status(e);
+                    channel.sendResponse(new BytesRestResponse(channel, status, e));
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to send error response", ex);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.searchrelevance.common.PluginConstants.DESCRIPTION;
+import static org.opensearch.searchrelevance.common.PluginConstants.FORMAT;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_IMPORT_URL;
+import static org.opensearch.searchrelevance.common.PluginConstants.NAME;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.judgments.JudgmentImportReader;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.judgment.ImportJudgmentAction;
+import org.opensearch.searchrelevance.transport.judgment.ImportJudgmentRequest;
+import org.opensearch.searchrelevance.utils.TextValidationUtil;
+import org.opensearch.transport.client.node.NodeClient;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Rest Action to import a judgment from NDJSON or TREC qrels content, e.g.
+ * POST _plugins/_search_relevance/judgments/_import?name=my-judgments&amp;format=trec with Content-Type application/x-ndjson.
+ * The content is not parsed here, it is read line by line while the ratings are stored.
+ */
+@AllArgsConstructor
+public class RestImportJudgmentAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestImportJudgmentAction.class);
+    private static final String IMPORT_JUDGMENT_ACTION = "import_judgment_action";
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+
+    @Override
+    public String getName() {
+        return IMPORT_JUDGMENT_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(POST, JUDGMENTS_IMPORT_URL));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        if (!settingsAccessor.isWorkbenchEnabled()) {
+            return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, "Search Relevance Workbench is disabled"));
+        }
+        String name = request.param(NAME);
+        TextValidationUtil.ValidationResult nameValidation = TextValidationUtil.validateText(name);
+        if (!nameValidation.isValid()) {
+            return channel -> channel.sendResponse(
+                new BytesRestResponse(RestStatus.BAD_REQUEST, "Invalid name: " + nameValidation.getErrorMessage())
+            );
+        }
+        String description = request.param(DESCRIPTION);
+        if (description != null) {
+            TextValidationUtil.ValidationResult descriptionValidation = TextValidationUtil.validateText(description);
+            if (!descriptionValidation.isValid()) {
+                return channel -> channel.sendResponse(
+                    new BytesRestResponse(RestStatus.BAD_REQUEST, "Invalid description: " + descriptionValidation.getErrorMessage())
+                );
+            }
+        }
+        JudgmentImportReader.Format format = JudgmentImportReader.Format.fromString(request.param(FORMAT, "ndjson"));
+        if (request.hasContent() == false) {
+            throw new SearchRelevanceException("Judgment ratings to import are required", RestStatus.BAD_REQUEST);
+        }
+
+        ImportJudgmentRequest importRequest = new ImportJudgmentRequest(name, description, format, request.content());
+        return channel -> client.execute(ImportJudgmentAction.INSTANCE, importRequest, new ActionListener<IndexResponse>() {
+            @Override
+            public void onResponse(IndexResponse response) {
+                try {
+                    XContentBuilder builder = channel.newBuilder();
+                    builder.startObject();
+                    builder.field("judgment_id", response.getId());
+                    builder.endObject();
+                    channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+                } catch (IOException e) {
+                    onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, RestStatus.INTERNAL_SERVER_ERROR, e));
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to send error response", ex);
+                }
+            }
+        });
+    }
+}
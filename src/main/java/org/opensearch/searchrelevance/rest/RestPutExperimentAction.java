@@ -9,6 +9,7 @@ package org.opensearch.searchrelevance.rest;
 
 import static java.util.Collections.singletonList;
 import static org.opensearch.rest.RestRequest.Method.PUT;
+import static org.opensearch.searchrelevance.common.PluginConstants.DRY_RUN;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_LIST;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERYSET_ID;
@@ -28,8 +29,12 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.searchrelevance.cost.CostBudget;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostAction;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostRequest;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
 import org.opensearch.searchrelevance.utils.ParserUtils;
@@ -62,6 +67,7 @@ public class RestPutExperimentAction extends BaseRestHandler {
         if (!settingsAccessor.isWorkbenchEnabled()) {
             return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, "Search Relevance Workbench is disabled"));
         }
+        boolean dryRun = request.paramAsBoolean(DRY_RUN, false);
         XContentParser parser = request.contentParser();
         Map<String, Object> source = parser.map();
 
@@ -78,7 +84,22 @@ public class RestPutExperimentAction extends BaseRestHandler {
             throw new IllegalArgumentException("Invalid or missing experiment type", e);
         }
 
-        PutExperimentRequest createRequest = new PutExperimentRequest(type, querySetId, searchConfigurationList, judgmentList, size);
+        PutExperimentRequest createRequest = new PutExperimentRequest(
+            type,
+            querySetId,
+            searchConfigurationList,
+            judgmentList,
+            size,
+            CostBudget.parse(source)
+        );
+        if (dryRun) {
+            // estimate the cost of the experiment without creating it
+            return channel -> client.execute(
+                EstimateCostAction.INSTANCE,
+                new EstimateCostRequest(createRequest),
+                new RestToXContentListener<>(channel)
+            );
+        }
 
         return channel -> client.execute(PutExperimentAction.INSTANCE, createRequest, new ActionListener<IndexResponse>() {
             @Override
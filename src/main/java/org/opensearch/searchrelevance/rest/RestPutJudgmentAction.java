@@ -14,6 +14,7 @@ import static org.opensearch.searchrelevance.common.MetricsConstants.MODEL_ID;
 import static org.opensearch.searchrelevance.common.PluginConstants.CLICK_MODEL;
 import static org.opensearch.searchrelevance.common.PluginConstants.CONTEXT_FIELDS;
 import static org.opensearch.searchrelevance.common.PluginConstants.DESCRIPTION;
+import static org.opensearch.searchrelevance.common.PluginConstants.DRY_RUN;
 import static org.opensearch.searchrelevance.common.PluginConstants.IGNORE_FAILURE;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_RATINGS;
@@ -39,9 +40,14 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.searchrelevance.cost.CostBudget;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostAction;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostRequest;
 import org.opensearch.searchrelevance.transport.judgment.PutImportJudgmentRequest;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentRequest;
@@ -77,6 +83,7 @@ public class RestPutJudgmentAction extends BaseRestHandler {
         if (!settingsAccessor.isWorkbenchEnabled()) {
             return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, "Search Relevance Workbench is disabled"));
         }
+        boolean dryRun = request.paramAsBoolean(DRY_RUN, false);
         XContentParser parser = request.contentParser();
         Map<String, Object> source = parser.map();
 
@@ -131,7 +138,8 @@ public class RestPutJudgmentAction extends BaseRestHandler {
                     size,
                     tokenLimit,
                     contextFields,
-                    ignoreFailure
+                    ignoreFailure,
+                    CostBudget.parse(source)
                 );
             }
             case UBI_JUDGMENT -> {
@@ -140,7 +148,7 @@ public class RestPutJudgmentAction extends BaseRestHandler {
                 createRequest = new PutUbiJudgmentRequest(type, name, description, clickModel, maxRank);
             }
             case IMPORT_JUDGMENT -> {
-                List<Map<String, Object>> judgmentRatings = (List<Map<String, Object>>) source.get(JUDGMENT_RATINGS);
+                JudgmentRatings judgmentRatings = JudgmentRatings.parse(source.get(JUDGMENT_RATINGS));
                 createRequest = new PutImportJudgmentRequest(type, name, description, judgmentRatings);
             }
             default -> {
@@ -148,6 +156,17 @@ public class RestPutJudgmentAction extends BaseRestHandler {
             }
         }
 
+        if (dryRun) {
+            if (createRequest instanceof PutLlmJudgmentRequest == false) {
+                throw new SearchRelevanceException("dry_run is only supported for LLM_JUDGMENT", RestStatus.BAD_REQUEST);
+            }
+            // estimate the cost of the judgment without creating it
+            return channel -> client.execute(
+                EstimateCostAction.INSTANCE,
+                new EstimateCostRequest((PutLlmJudgmentRequest) createRequest),
+                new RestToXContentListener<>(channel)
+            );
+        }
         return channel -> client.execute(PutJudgmentAction.INSTANCE, createRequest, new ActionListener<IndexResponse>() {
             @Override
             public void onResponse(IndexResponse response) {
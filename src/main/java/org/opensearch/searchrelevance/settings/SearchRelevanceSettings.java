@@ -8,6 +8,8 @@
 package org.opensearch.searchrelevance.settings;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -53,4 +55,257 @@ public class SearchRelevanceSettings {
         Setting.Property.NodeScope,
         Setting.Property.Dynamic
     );
+
+    /**
+     * Caps the number of evaluation searches an experiment run may have in flight on a single node.
+     * Searches above the limit are queued by the experiment scheduler instead of being sent to the search thread pool.
+     */
+    public static final String SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE_KEY =
+        "plugins.search_relevance.experiment.max_concurrent_searches_per_node";
+    public static final Setting<Integer> SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE = Setting.intSetting(
+        SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE_KEY,
+        8,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Caps the number of evaluation searches a single experiment may have in flight on a node,
+     * so one large experiment cannot take the whole node budget.
+     */
+    public static final String SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT_KEY =
+        "plugins.search_relevance.experiment.max_concurrent_searches_per_experiment";
+    public static final Setting<Integer> SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT = Setting.intSetting(
+        SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT_KEY,
+        4,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of evaluation searches grouped into one multi-search request.
+     * A batch never holds more searches than the free in-flight permits of the node.
+     */
+    public static final String SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE_KEY = "plugins.search_relevance.experiment.msearch_batch_size";
+    public static final Setting<Integer> SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE = Setting.intSetting(
+        SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE_KEY,
+        10,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * maxConcurrentSearchRequests of the multi-search requests sent for evaluation searches
+     */
+    public static final String SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS_KEY =
+        "plugins.search_relevance.experiment.msearch_max_concurrent_search_requests";
+    public static final Setting<Integer> SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS = Setting.intSetting(
+        SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS_KEY,
+        4,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Number of buffered evaluation result and experiment variant documents that triggers a bulk flush
+     */
+    public static final String SEARCH_RELEVANCE_BULK_FLUSH_SIZE_KEY = "plugins.search_relevance.experiment.bulk_flush_size";
+    public static final Setting<Integer> SEARCH_RELEVANCE_BULK_FLUSH_SIZE = Setting.intSetting(
+        SEARCH_RELEVANCE_BULK_FLUSH_SIZE_KEY,
+        500,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum time a buffered document waits before it is flushed with a bulk request
+     */
+    public static final String SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL_KEY = "plugins.search_relevance.experiment.bulk_flush_interval";
+    public static final Setting<TimeValue> SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL = Setting.timeSetting(
+        SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL_KEY,
+        TimeValue.timeValueSeconds(1),
+        TimeValue.timeValueMillis(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Number of completed query texts after which the progress of a running experiment is checkpointed
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL_KEY =
+        "plugins.search_relevance.experiment.checkpoint_interval";
+    public static final Setting<Integer> SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL = Setting.intSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL_KEY,
+        10,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Whether experiments left in PROCESSING by a restarted node are resumed from their last checkpoint.
+     * When disabled they are marked as ERROR instead.
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED_KEY = "plugins.search_relevance.experiment.resume_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED_KEY,
+        true,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Whether the query texts of an experiment are split into slices evaluated on the data nodes of the cluster.
+     * When disabled every query text is evaluated on the node running the experiment.
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED_KEY =
+        "plugins.search_relevance.experiment.distributed_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED_KEY,
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Number of query texts in a slice sent to a data node when experiments are distributed
+     */
+    public static final String SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE_KEY = "plugins.search_relevance.experiment.slice_size";
+    public static final Setting<Integer> SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE = Setting.intSetting(
+        SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE_KEY,
+        100,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Memory budget of the node-local cache of the ranked doc ids returned by experiment searches
+     */
+    public static final String SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE_KEY =
+        "plugins.search_relevance.experiment.search_result_cache_size";
+    public static final Setting<ByteSizeValue> SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE = Setting.memorySizeSetting(
+        SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE_KEY,
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Whether cached experiment searches are reused by later experiments as long as the searched indices are unchanged.
+     * When disabled cached searches are only reused within the experiment that issued them.
+     */
+    public static final String SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED_KEY =
+        "plugins.search_relevance.experiment.search_result_cache_cross_experiment_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED_KEY,
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Whether hybrid optimizer experiments retrieve the hits of every sub-query once per query text and score all
+     * variants in process, instead of sending one hybrid search with a temporary search pipeline per variant.
+     */
+    public static final String SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED_KEY =
+        "plugins.search_relevance.experiment.hybrid_local_scoring_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED_KEY,
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Whether hybrid optimizer experiments search the variants adaptively on a sample of the query texts and only
+     * evaluate the selected variant on every query text, instead of evaluating the full grid of variants.
+     */
+    public static final String SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED_KEY =
+        "plugins.search_relevance.experiment.hybrid_adaptive_search_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED_KEY,
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Maximum number of query texts the adaptive search of hybrid optimizer experiments evaluates variants on
+     */
+    public static final String SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE_KEY =
+        "plugins.search_relevance.experiment.hybrid_adaptive_search_sample_size";
+    public static final Setting<Integer> SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE = Setting.intSetting(
+        SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE_KEY,
+        50,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Number of iterations of the randomization test and of the bootstrap comparing the search configurations or
+     * variants of a completed experiment, 0 to only run the paired t-test
+     */
+    public static final String SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS_KEY = "plugins.search_relevance.experiment.significance_iterations";
+    public static final Setting<Integer> SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS = Setting.intSetting(
+        SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS_KEY,
+        10000,
+        0,
+        1000000,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Seed of the randomization test and of the bootstrap, experiments evaluated with the same seed report the same
+     * significance
+     */
+    public static final String SEARCH_RELEVANCE_SIGNIFICANCE_SEED_KEY = "plugins.search_relevance.experiment.significance_seed";
+    public static final Setting<Long> SEARCH_RELEVANCE_SIGNIFICANCE_SEED = Setting.longSetting(
+        SEARCH_RELEVANCE_SIGNIFICANCE_SEED_KEY,
+        42L,
+        Long.MIN_VALUE,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Whether completed judgment lists keep their ratings inline in the judgment document. The ratings of every query
+     * text are always stored in the judgment rating index as well; without the inline copy large judgment lists are
+     * not rewritten as one document and their ratings are only read per query text.
+     */
+    public static final String SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED_KEY =
+        "plugins.search_relevance.judgment.inline_ratings_enabled";
+    public static final Setting<Boolean> SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED = Setting.boolSetting(
+        SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED_KEY,
+        true,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Memory budget of the node-local cache of parsed judgment lists, a size or a percentage of the heap
+     */
+    public static final String SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE_KEY = "plugins.search_relevance.judgment.cache_size";
+    public static final Setting<ByteSizeValue> SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE = Setting.memorySizeSetting(
+        SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE_KEY,
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Judgment lists not read by any experiment for this long are dropped from the node-local judgment cache
+     */
+    public static final String SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS_KEY =
+        "plugins.search_relevance.judgment.cache_expire_after_access";
+    public static final Setting<TimeValue> SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS = Setting.positiveTimeSetting(
+        SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS_KEY,
+        TimeValue.timeValueMinutes(30),
+        Setting.Property.NodeScope
+    );
 }
@@ -10,6 +10,8 @@ package org.opensearch.searchrelevance.settings;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.searchrelevance.stats.events.EventStatsManager;
 
 import lombok.Getter;
@@ -24,6 +26,46 @@ public class SearchRelevanceSettingsAccessor {
     private volatile boolean isStatsEnabled;
     @Getter
     private volatile int maxQuerySetAllowed;
+    @Getter
+    private volatile int maxConcurrentSearchesPerNode;
+    @Getter
+    private volatile int maxConcurrentSearchesPerExperiment;
+    @Getter
+    private volatile int msearchBatchSize;
+    @Getter
+    private volatile int msearchMaxConcurrentSearchRequests;
+    @Getter
+    private volatile int bulkFlushSize;
+    @Getter
+    private volatile TimeValue bulkFlushInterval;
+    @Getter
+    private volatile int experimentCheckpointInterval;
+    @Getter
+    private volatile boolean isExperimentResumeEnabled;
+    @Getter
+    private volatile boolean isExperimentDistributedEnabled;
+    @Getter
+    private volatile int experimentSliceSize;
+    @Getter
+    private final ByteSizeValue searchResultCacheSize;
+    @Getter
+    private volatile boolean isSearchResultCacheCrossExperimentEnabled;
+    @Getter
+    private volatile boolean isHybridLocalScoringEnabled;
+    @Getter
+    private volatile boolean isHybridAdaptiveSearchEnabled;
+    @Getter
+    private volatile int hybridAdaptiveSearchSampleSize;
+    @Getter
+    private volatile int significanceIterations;
+    @Getter
+    private volatile long significanceSeed;
+    @Getter
+    private volatile boolean isJudgmentInlineRatingsEnabled;
+    @Getter
+    private final ByteSizeValue judgmentCacheSize;
+    @Getter
+    private final TimeValue judgmentCacheExpireAfterAccess;
 
     /**
      * Constructor, registers callbacks to update settings
@@ -35,6 +77,27 @@ public class SearchRelevanceSettingsAccessor {
         isWorkbenchEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_WORKBENCH_ENABLED.get(settings);
         isStatsEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_STATS_ENABLED.get(settings);
         maxQuerySetAllowed = SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT.get(settings);
+        maxConcurrentSearchesPerNode = SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE.get(settings);
+        maxConcurrentSearchesPerExperiment = SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT.get(settings);
+        msearchBatchSize = SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE.get(settings);
+        msearchMaxConcurrentSearchRequests = SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS.get(settings);
+        bulkFlushSize = SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_SIZE.get(settings);
+        bulkFlushInterval = SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL.get(settings);
+        experimentCheckpointInterval = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL.get(settings);
+        isExperimentResumeEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED.get(settings);
+        isExperimentDistributedEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED.get(settings);
+        experimentSliceSize = SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE.get(settings);
+        searchResultCacheSize = SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE.get(settings);
+        isSearchResultCacheCrossExperimentEnabled =
+            SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED.get(settings);
+        isHybridLocalScoringEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED.get(settings);
+        isHybridAdaptiveSearchEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED.get(settings);
+        hybridAdaptiveSearchSampleSize = SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE.get(settings);
+        significanceIterations = SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS.get(settings);
+        significanceSeed = SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_SEED.get(settings);
+        isJudgmentInlineRatingsEnabled = SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED.get(settings);
+        judgmentCacheSize = SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE.get(settings);
+        judgmentCacheExpireAfterAccess = SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS.get(settings);
         registerSettingsCallbacks(clusterService);
     }
 
@@ -55,5 +118,88 @@ public class SearchRelevanceSettingsAccessor {
             .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT, value -> {
                 maxQuerySetAllowed = value;
             });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE, value -> {
+                maxConcurrentSearchesPerNode = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT, value -> {
+                maxConcurrentSearchesPerExperiment = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE, value -> {
+                msearchBatchSize = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS, value -> {
+                msearchMaxConcurrentSearchRequests = value;
+            });
+
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_SIZE, value -> {
+            bulkFlushSize = value;
+        });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL, value -> {
+                bulkFlushInterval = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL, value -> {
+                experimentCheckpointInterval = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED, value -> {
+                isExperimentResumeEnabled = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED, value -> {
+                isExperimentDistributedEnabled = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE, value -> {
+                experimentSliceSize = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED, value -> {
+                isSearchResultCacheCrossExperimentEnabled = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED, value -> {
+                isHybridLocalScoringEnabled = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED, value -> {
+                isHybridAdaptiveSearchEnabled = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE, value -> {
+                hybridAdaptiveSearchSampleSize = value;
+            });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS, value -> {
+                significanceIterations = value;
+            });
+
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_SEED, value -> {
+            significanceSeed = value;
+        });
+
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED, value -> {
+                isJudgmentInlineRatingsEnabled = value;
+            });
     }
 }
@@ -40,6 +40,9 @@ public enum EventStatName implements StatName {
         EventStatType.TIMESTAMPED_EVENT_COUNTER,
         Version.V_3_1_0
     ),
+    JUDGMENT_CACHE_HITS("judgment_cache_hits", "judgments", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
+    JUDGMENT_CACHE_MISSES("judgment_cache_misses", "judgments", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
+    JUDGMENT_CACHE_EVICTIONS("judgment_cache_evictions", "judgments", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
     EXPERIMENT_EXECUTIONS("experiment_executions", "experiments", EventStatType.TIMESTAMPED_EVENT_COUNTER, Version.V_3_1_0),
     EXPERIMENT_PAIRWISE_COMPARISON_EXECUTIONS(
         "experiment_pairwise_comparison_executions",
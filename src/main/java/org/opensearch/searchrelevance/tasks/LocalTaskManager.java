@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.tasks;
+
+import java.util.function.Supplier;
+
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Task manager of the local node, for the plugin components created before the transport service that owns it.
+ * It is filled in by {@link Binding}, an eager singleton of the node injector, so it is available before the node
+ * starts and before any transport action runs.
+ */
+public class LocalTaskManager implements Supplier<TaskManager> {
+    private final SetOnce<TaskManager> taskManager = new SetOnce<>();
+
+    @Override
+    public TaskManager get() {
+        TaskManager localTaskManager = taskManager.get();
+        if (localTaskManager == null) {
+            throw new IllegalStateException("The task manager is only available once the node injector is created");
+        }
+        return localTaskManager;
+    }
+
+    /**
+     * Hands the task manager of the transport service to the {@link LocalTaskManager} of the plugin components
+     */
+    public static class Binding {
+        @Inject
+        public Binding(TransportService transportService, LocalTaskManager localTaskManager) {
+            localTaskManager.taskManager.set(transportService.getTaskManager());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Cancellable task tracking background work that outlives the REST call which started it, such as running an
+ * experiment or generating judgments. It is listed by the task management API with its progress in the description
+ * and stops the work through its cancellation listeners when cancelled with {@code POST _tasks/<task_id>/_cancel}.
+ */
+@Log4j2
+public class SearchRelevanceTask extends CancellableTask {
+    public static final String TASK_TYPE = "transport";
+
+    private final String baseDescription;
+    private final List<Runnable> cancellationListeners = new ArrayList<>();
+    private final AtomicInteger completed = new AtomicInteger();
+    private volatile int total;
+
+    public SearchRelevanceTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
+        super(id, type, action, description, parentTaskId, headers);
+        this.baseDescription = description;
+    }
+
+    /**
+     * Register a task with the task manager so it is visible in the task management API
+     * @param taskManager - task manager of the local node
+     * @param action - action name the task is listed under
+     * @param description - description of the work, the progress is appended to it
+     * @return registered task, to be unregistered once the work is done
+     */
+    public static SearchRelevanceTask register(TaskManager taskManager, String action, String description) {
+        return (SearchRelevanceTask) taskManager.register(TASK_TYPE, action, new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {}
+
+            @Override
+            public TaskId getParentTask() {
+                return TaskId.EMPTY_TASK_ID;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new SearchRelevanceTask(id, type, action, description, parentTaskId, headers);
+            }
+        });
+    }
+
+    @Override
+    public String getDescription() {
+        int total = this.total;
+        if (total <= 0) {
+            return baseDescription;
+        }
+        return String.format(Locale.ROOT, "%s, progress[%d/%d]", baseDescription, completed.get(), total);
+    }
+
+    /**
+     * @param completed - number of work items already done, e.g. restored from a checkpoint
+     * @param total - total number of work items
+     */
+    public void setProgress(int completed, int total) {
+        this.completed.set(completed);
+        this.total = total;
+    }
+
+    /**
+     * Count one more work item as done
+     */
+    public void incrementProgress() {
+        completed.incrementAndGet();
+    }
+
+    /**
+     * Run the listener when the task is cancelled, or right away if it already is
+     * @param listener - stops the work of the task
+     */
+    public void addCancellationListener(Runnable listener) {
+        synchronized (cancellationListeners) {
+            if (isCancelled() == false) {
+                cancellationListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+
+    @Override
+    protected void onCancelled() {
+        List<Runnable> listeners;
+        synchronized (cancellationListeners) {
+            listeners = new ArrayList<>(cancellationListeners);
+            cancellationListeners.clear();
+        }
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.warn("Failed to notify cancellation of task " + getId(), e);
+            }
+        }
+    }
+}
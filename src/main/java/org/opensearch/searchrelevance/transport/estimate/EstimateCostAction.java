@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.estimate;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * External Action for the dry run of RestPutExperimentAction and RestPutJudgmentAction
+ */
+public class EstimateCostAction extends ActionType<EstimateCostResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "cost/estimate";
+
+    /** An instance of this action */
+    public static final EstimateCostAction INSTANCE = new EstimateCostAction();
+
+    private EstimateCostAction() {
+        super(NAME, EstimateCostResponse::new);
+    }
+}
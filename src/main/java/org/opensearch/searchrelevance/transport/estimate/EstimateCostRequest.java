@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.estimate;
+
+import java.io.IOException;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.searchrelevance.transport.judgment.PutLlmJudgmentRequest;
+
+/**
+ * Create request of an experiment or of an LLM judgment to estimate the cost of, without creating it
+ */
+public class EstimateCostRequest extends ActionRequest {
+    private final PutExperimentRequest experimentRequest;
+    private final PutLlmJudgmentRequest judgmentRequest;
+
+    public EstimateCostRequest(PutExperimentRequest experimentRequest) {
+        this.experimentRequest = experimentRequest;
+        this.judgmentRequest = null;
+    }
+
+    public EstimateCostRequest(PutLlmJudgmentRequest judgmentRequest) {
+        this.experimentRequest = null;
+        this.judgmentRequest = judgmentRequest;
+    }
+
+    public EstimateCostRequest(StreamInput in) throws IOException {
+        super(in);
+        this.experimentRequest = in.readOptionalWriteable(PutExperimentRequest::new);
+        this.judgmentRequest = in.readOptionalWriteable(PutLlmJudgmentRequest::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalWriteable(experimentRequest);
+        out.writeOptionalWriteable(judgmentRequest);
+    }
+
+    /**
+     * @return the experiment to estimate, null when estimating an LLM judgment
+     */
+    public PutExperimentRequest getExperimentRequest() {
+        return experimentRequest;
+    }
+
+    /**
+     * @return the LLM judgment to estimate, null when estimating an experiment
+     */
+    public PutLlmJudgmentRequest getJudgmentRequest() {
+        return judgmentRequest;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.estimate;
+
+import java.io.IOException;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.searchrelevance.cost.CostEstimate;
+
+/**
+ * Estimated cost of an experiment or of an LLM judgment
+ */
+public class EstimateCostResponse extends ActionResponse implements ToXContentObject {
+    private final CostEstimate estimate;
+
+    public EstimateCostResponse(CostEstimate estimate) {
+        this.estimate = estimate;
+    }
+
+    public EstimateCostResponse(StreamInput in) throws IOException {
+        super(in);
+        this.estimate = new CostEstimate(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        estimate.writeTo(out);
+    }
+
+    public CostEstimate getEstimate() {
+        return estimate;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return estimate.toXContent(builder, params);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.estimate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.cost.CostEstimate;
+import org.opensearch.searchrelevance.cost.CostEstimator;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles the dry run of experiment and LLM judgment create requests, estimating their cost without creating them
+ */
+public class EstimateCostTransportAction extends HandledTransportAction<EstimateCostRequest, EstimateCostResponse> {
+
+    private final CostEstimator costEstimator;
+
+    private static final Logger LOGGER = LogManager.getLogger(EstimateCostTransportAction.class);
+
+    @Inject
+    public EstimateCostTransportAction(TransportService transportService, ActionFilters actionFilters, CostEstimator costEstimator) {
+        super(EstimateCostAction.NAME, transportService, actionFilters, EstimateCostRequest::new);
+        this.costEstimator = costEstimator;
+    }
+
+    @Override
+    protected void doExecute(Task task, EstimateCostRequest request, ActionListener<EstimateCostResponse> listener) {
+        ActionListener<CostEstimate> estimateListener = ActionListener.wrap(
+            estimate -> listener.onResponse(new EstimateCostResponse(estimate)),
+            e -> {
+                LOGGER.error("Failed to estimate the cost of the request", e);
+                listener.onFailure(e);
+            }
+        );
+        if (request.getExperimentRequest() != null) {
+            costEstimator.estimateExperiment(request.getExperimentRequest(), estimateListener);
+        } else if (request.getJudgmentRequest() != null) {
+            costEstimator.estimateLlmJudgment(request.getJudgmentRequest(), estimateListener);
+        } else {
+            listener.onFailure(new SearchRelevanceException("Request cannot be null", RestStatus.BAD_REQUEST));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Internal Action evaluating a slice of the query texts of an experiment on a data node
+ */
+public class ExperimentSliceAction extends ActionType<ExperimentSliceResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "experiment/slice";
+
+    /** An instance of this action */
+    public static final ExperimentSliceAction INSTANCE = new ExperimentSliceAction();
+
+    private ExperimentSliceAction() {
+        super(NAME, ExperimentSliceResponse::new);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+/**
+ * ExperimentSliceNodeRequest represents the request to the node evaluating a slice
+ */
+public class ExperimentSliceNodeRequest extends TransportRequest {
+    @Getter
+    private final ExperimentSliceRequest request;
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException in case of I/O errors
+     */
+    public ExperimentSliceNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        request = new ExperimentSliceRequest(in);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param request ExperimentSliceRequest
+     */
+    public ExperimentSliceNodeRequest(ExperimentSliceRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        request.writeTo(out);
+    }
+
+    @Override
+    public String getDescription() {
+        return request.getDescription();
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new SearchRelevanceTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+}
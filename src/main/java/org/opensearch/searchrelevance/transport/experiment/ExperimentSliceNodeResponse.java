@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+
+import lombok.Getter;
+
+/**
+ * ExperimentSliceNodeResponse reports how many query texts of a slice a node evaluated and the aggregates of their
+ * evaluation metrics. The results themselves are already stored in the experiment result index by that node.
+ */
+public class ExperimentSliceNodeResponse extends BaseNodeResponse {
+    @Getter
+    private final int completedQueryTexts;
+    @Getter
+    private final ExperimentAggregates aggregates;
+
+    /**
+     * Constructor
+     *
+     * @param in stream
+     * @throws IOException in case of I/O errors
+     */
+    public ExperimentSliceNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.completedQueryTexts = in.readVInt();
+        this.aggregates = new ExperimentAggregates(in);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node node
+     * @param completedQueryTexts number of query texts with stored results
+     * @param aggregates aggregates of the evaluation metrics of the query texts
+     */
+    public ExperimentSliceNodeResponse(DiscoveryNode node, int completedQueryTexts, ExperimentAggregates aggregates) {
+        super(node);
+        this.completedQueryTexts = completedQueryTexts;
+        this.aggregates = aggregates;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(completedQueryTexts);
+        aggregates.writeTo(out);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.tasks.Task;
+
+import lombok.Getter;
+
+/**
+ * ExperimentSliceRequest sends a slice of the query texts of an experiment to the data node evaluating it,
+ * together with everything the node needs to evaluate them without reading the experiment
+ */
+@Getter
+public class ExperimentSliceRequest extends BaseNodesRequest<ExperimentSliceRequest> {
+    private final String experimentId;
+    private final ExperimentType type;
+    private final int size;
+    private final List<String> judgmentList;
+    private final Map<String, List<String>> indexAndQueries;
+    private final List<ExperimentVariantHybridSearchDTO> hybridVariants;
+    private final List<String> queryTexts;
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException in case of I/O errors
+     */
+    public ExperimentSliceRequest(StreamInput in) throws IOException {
+        super(in);
+        this.experimentId = in.readString();
+        this.type = in.readEnum(ExperimentType.class);
+        this.size = in.readInt();
+        this.judgmentList = in.readStringList();
+        this.indexAndQueries = in.readMap(StreamInput::readString, StreamInput::readStringList);
+        this.hybridVariants = in.readList(
+            input -> ExperimentVariantHybridSearchDTO.builder()
+                .normalizationTechnique(input.readString())
+                .combinationTechnique(input.readString())
+                .queryWeightsForCombination(input.readFloatArray())
+                .build()
+        );
+        this.queryTexts = in.readStringList();
+    }
+
+    /**
+     * Constructor
+     *
+     * @param nodeId id of the data node evaluating the slice
+     * @param experimentId id of the experiment
+     * @param type type of the experiment
+     * @param size number of documents retrieved per search
+     * @param judgmentList ids of the judgments of the experiment
+     * @param indexAndQueries index and query of every search configuration
+     * @param hybridVariants variants hybrid optimizer experiments are evaluated with, selected by the node running it
+     * @param queryTexts query texts of the slice
+     */
+    public ExperimentSliceRequest(
+        String nodeId,
+        String experimentId,
+        ExperimentType type,
+        int size,
+        List<String> judgmentList,
+        Map<String, List<String>> indexAndQueries,
+        List<ExperimentVariantHybridSearchDTO> hybridVariants,
+        List<String> queryTexts
+    ) {
+        super(nodeId);
+        this.experimentId = experimentId;
+        this.type = type;
+        this.size = size;
+        this.judgmentList = judgmentList;
+        this.indexAndQueries = indexAndQueries;
+        this.hybridVariants = hybridVariants;
+        this.queryTexts = queryTexts;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(experimentId);
+        out.writeEnum(type);
+        out.writeInt(size);
+        out.writeStringCollection(judgmentList);
+        out.writeMap(indexAndQueries, StreamOutput::writeString, StreamOutput::writeStringCollection);
+        out.writeCollection(hybridVariants, (output, hybridVariant) -> {
+            output.writeString(hybridVariant.getNormalizationTechnique());
+            output.writeString(hybridVariant.getCombinationTechnique());
+            output.writeFloatArray(hybridVariant.getQueryWeightsForCombination());
+        });
+        out.writeStringCollection(queryTexts);
+    }
+
+    @Override
+    public String getDescription() {
+        return String.format(Locale.ROOT, "experiment[%s] slice[%d query texts]", experimentId, queryTexts.size());
+    }
+
+    /**
+     * Cancellable, so cancelling the experiment run also cancels the slices it sent
+     */
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new SearchRelevanceTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * ExperimentSliceResponse holds the response of the node a slice was sent to, or its failure
+ */
+public class ExperimentSliceResponse extends BaseNodesResponse<ExperimentSliceNodeResponse> {
+
+    /**
+     * Constructor
+     *
+     * @param in StreamInput
+     * @throws IOException thrown when unable to read from stream
+     */
+    public ExperimentSliceResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param clusterName the cluster name
+     * @param nodes the nodes responses
+     * @param failures the failures
+     */
+    public ExperimentSliceResponse(ClusterName clusterName, List<ExperimentSliceNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<ExperimentSliceNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(ExperimentSliceNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<ExperimentSliceNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ChannelActionListener;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.experiment.ExperimentRunner;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * ExperimentSliceTransportAction evaluates a slice of the query texts of an experiment on the node it is sent to,
+ * see {@link org.opensearch.searchrelevance.experiment.ExperimentSliceDispatcher}. The evaluation is asynchronous, so
+ * node requests are sent to a handler that responds on its channel once the slice completes, instead of the blocking
+ * {@link #nodeOperation} of the nodes action, which waits for the same evaluation.
+ */
+public class ExperimentSliceTransportAction extends TransportNodesAction<
+    ExperimentSliceRequest,
+    ExperimentSliceResponse,
+    ExperimentSliceNodeRequest,
+    ExperimentSliceNodeResponse> {
+    /** The name of the node level action evaluating a slice */
+    public static final String NODE_ACTION_NAME = ExperimentSliceAction.NAME + "[n][async]";
+
+    private final ExperimentRunner experimentRunner;
+
+    /**
+     * Constructor
+     *
+     * @param threadPool ThreadPool to use
+     * @param clusterService ClusterService
+     * @param transportService TransportService
+     * @param actionFilters Action Filters
+     * @param experimentRunner evaluates the query texts of the slice
+     */
+    @Inject
+    public ExperimentSliceTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentRunner experimentRunner
+    ) {
+        super(
+            ExperimentSliceAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            ExperimentSliceRequest::new,
+            ExperimentSliceNodeRequest::new,
+            ThreadPool.Names.GENERIC,
+            ExperimentSliceNodeResponse.class
+        );
+        this.experimentRunner = experimentRunner;
+        // the evaluation only hands the query texts over to the experiment pool, no thread waits for it
+        transportService.registerRequestHandler(
+            NODE_ACTION_NAME,
+            ThreadPool.Names.GENERIC,
+            ExperimentSliceNodeRequest::new,
+            (request, channel, task) -> nodeOperationAsync(request, task, new ChannelActionListener<>(channel, NODE_ACTION_NAME, request))
+        );
+    }
+
+    @Override
+    protected ExperimentSliceResponse newResponse(
+        ExperimentSliceRequest request,
+        List<ExperimentSliceNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new ExperimentSliceResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected ExperimentSliceNodeRequest newNodeRequest(ExperimentSliceRequest request) {
+        return new ExperimentSliceNodeRequest(request);
+    }
+
+    @Override
+    protected ExperimentSliceNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new ExperimentSliceNodeResponse(in);
+    }
+
+    @Override
+    protected String getTransportNodeAction(DiscoveryNode node) {
+        return NODE_ACTION_NAME;
+    }
+
+    @Override
+    protected ExperimentSliceNodeResponse nodeOperation(ExperimentSliceNodeRequest request) {
+        return nodeOperation(request, null);
+    }
+
+    /**
+     * Blocking node operation of the inherited node action. Slices are sent to {@link #NODE_ACTION_NAME}, this only
+     * evaluates requests that still reach the inherited action and waits for them on its thread.
+     */
+    @Override
+    protected ExperimentSliceNodeResponse nodeOperation(ExperimentSliceNodeRequest request, Task task) {
+        PlainActionFuture<ExperimentSliceNodeResponse> future = new PlainActionFuture<>();
+        nodeOperationAsync(request, task, future);
+        return future.actionGet();
+    }
+
+    /**
+     * Node operation evaluating the query texts of the slice and storing their results
+     * @param request the node level request
+     * @param task the node level task, cancelled together with the experiment run
+     * @param listener notified with the number of evaluated query texts and the aggregates of their metrics
+     */
+    void nodeOperationAsync(ExperimentSliceNodeRequest request, Task task, ActionListener<ExperimentSliceNodeResponse> listener) {
+        experimentRunner.evaluateSlice(
+            request.getRequest(),
+            task instanceof SearchRelevanceTask ? (SearchRelevanceTask) task : null,
+            ActionListener.map(
+                listener,
+                aggregates -> new ExperimentSliceNodeResponse(
+                    clusterService.localNode(),
+                    request.getRequest().getQueryTexts().size(),
+                    aggregates
+                )
+            )
+        );
+    }
+}
@@ -43,7 +43,8 @@ public class GetExperimentTransportAction extends HandledTransportAction<OpenSea
     protected void doExecute(Task task, OpenSearchDocRequest request, ActionListener<SearchResponse> listener) {
         try {
             if (request.getId() != null) {
-                // Handle single experiment request
+                // Handle single experiment request, experiments with a summary do not carry their results, they are
+                // read page by page with the export of the experiment results
                 experimentDao.getExperiment(request.getId(), listener);
             } else {
                 // Handle list request
@@ -14,6 +14,7 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.cost.CostBudget;
 import org.opensearch.searchrelevance.model.ExperimentType;
 
 import reactor.util.annotation.NonNull;
@@ -24,6 +25,8 @@ public class PutExperimentRequest extends ActionRequest {
     private final List<String> searchConfigurationList;
     private final List<String> judgmentList;
     private final int size;
+    // optional, the experiment is rejected when it needs more searches than its budget and stops once they exhaust it
+    private final CostBudget budget;
 
     public PutExperimentRequest(
         @NonNull ExperimentType type,
@@ -31,12 +34,24 @@ public class PutExperimentRequest extends ActionRequest {
         @NonNull List<String> searchConfigurationList,
         @NonNull List<String> judgmentList,
         int size
+    ) {
+        this(type, querySetId, searchConfigurationList, judgmentList, size, null);
+    }
+
+    public PutExperimentRequest(
+        @NonNull ExperimentType type,
+        @NonNull String querySetId,
+        @NonNull List<String> searchConfigurationList,
+        @NonNull List<String> judgmentList,
+        int size,
+        CostBudget budget
     ) {
         this.type = type;
         this.querySetId = querySetId;
         this.searchConfigurationList = searchConfigurationList;
         this.judgmentList = judgmentList;
         this.size = size;
+        this.budget = budget;
     }
 
     public PutExperimentRequest(StreamInput in) throws IOException {
@@ -46,6 +61,7 @@ public class PutExperimentRequest extends ActionRequest {
         this.searchConfigurationList = in.readStringList();
         this.judgmentList = in.readStringList();
         this.size = in.readInt();
+        this.budget = in.readOptionalWriteable(CostBudget::new);
     }
 
     @Override
@@ -56,6 +72,7 @@ public class PutExperimentRequest extends ActionRequest {
         out.writeStringArray(searchConfigurationList.toArray(new String[0]));
         out.writeStringArray(judgmentList.toArray(new String[0]));
         out.writeInt(size);
+        out.writeOptionalWriteable(budget);
     }
 
     public ExperimentType getType() {
@@ -78,6 +95,10 @@ public class PutExperimentRequest extends ActionRequest {
         return judgmentList;
     }
 
+    public CostBudget getBudget() {
+        return budget;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         return null;
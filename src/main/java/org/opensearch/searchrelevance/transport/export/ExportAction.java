@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.export;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * External Action for RestExportAction, reading one page of an export
+ */
+public class ExportAction extends ActionType<ExportResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "export";
+
+    /** An instance of this action */
+    public static final ExportAction INSTANCE = new ExportAction();
+
+    private ExportAction() {
+        super(NAME, ExportResponse::new);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.export;
+
+import java.io.IOException;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.export.ExportFormat;
+
+import lombok.Getter;
+
+/**
+ * Request of one page of the export of the ratings of a judgment list, or of the evaluation results or the per query text
+ * results of an experiment.
+ * The filters and the format are sent with every page, the cursor of the previous page continues the export.
+ */
+@Getter
+public class ExportRequest extends ActionRequest {
+    /**
+     * What is exported
+     */
+    public enum Source {
+        JUDGMENT,
+        EXPERIMENT,
+        EXPERIMENT_RESULT
+    }
+
+    private final Source source;
+    /**
+     * Id of the judgment list or of the experiment
+     */
+    private final String id;
+    private final ExportFormat format;
+    /**
+     * Query text to export, null for every query text
+     */
+    private final String queryText;
+    /**
+     * Search configuration to export, null for every search configuration, only for experiments
+     */
+    private final String searchConfigurationId;
+    private final int size;
+    /**
+     * Cursor returned with the previous page, null for the first page
+     */
+    private final String cursor;
+
+    public ExportRequest(
+        Source source,
+        String id,
+        ExportFormat format,
+        String queryText,
+        String searchConfigurationId,
+        int size,
+        String cursor
+    ) {
+        this.source = source;
+        this.id = id;
+        this.format = format;
+        this.queryText = queryText;
+        this.searchConfigurationId = searchConfigurationId;
+        this.size = size;
+        this.cursor = cursor;
+    }
+
+    public ExportRequest(StreamInput in) throws IOException {
+        super(in);
+        this.source = in.readEnum(Source.class);
+        this.id = in.readString();
+        this.format = in.readEnum(ExportFormat.class);
+        this.queryText = in.readOptionalString();
+        this.searchConfigurationId = in.readOptionalString();
+        this.size = in.readVInt();
+        this.cursor = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeEnum(source);
+        out.writeString(id);
+        out.writeEnum(format);
+        out.writeOptionalString(queryText);
+        out.writeOptionalString(searchConfigurationId);
+        out.writeVInt(size);
+        out.writeOptionalString(cursor);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+}
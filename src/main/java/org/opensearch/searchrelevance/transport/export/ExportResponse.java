@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.export;
+
+import java.io.IOException;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * One page of an export, already written in the format of the export
+ */
+@Getter
+public class ExportResponse extends ActionResponse {
+    private final BytesReference content;
+    /**
+     * Cursor of the next page, null once the export is complete
+     */
+    private final String cursor;
+
+    public ExportResponse(BytesReference content, String cursor) {
+        this.content = content;
+        this.cursor = cursor;
+    }
+
+    public ExportResponse(StreamInput in) throws IOException {
+        super(in);
+        this.content = in.readBytesReference();
+        this.cursor = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBytesReference(content);
+        out.writeOptionalString(cursor);
+    }
+}
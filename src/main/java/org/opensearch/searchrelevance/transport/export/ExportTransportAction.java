@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.export;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.export.ExportCursor;
+import org.opensearch.searchrelevance.export.ExportFormat;
+import org.opensearch.searchrelevance.export.ExportWriter;
+import org.opensearch.searchrelevance.metrics.JudgmentIndex;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Reads one page of an export with a point in time and search_after, so an export of any size is read page by page
+ * from the same snapshot of the index and a page never holds more than its size of hits. The point in time is opened
+ * with the first page and deleted with the last one. Judgment lists stored before the judgment rating index are exported
+ * from their judgment document in a single page.
+ */
+public class ExportTransportAction extends HandledTransportAction<ExportRequest, ExportResponse> {
+    public static final int DEFAULT_EXPORT_SIZE = 1000;
+    // the default max result window of an index
+    public static final int MAX_EXPORT_SIZE = 10000;
+    // time to read the next page before the point in time expires
+    static final TimeValue EXPORT_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
+    private static final Logger LOGGER = LogManager.getLogger(ExportTransportAction.class);
+
+    private final JudgmentDao judgmentDao;
+    private final EvaluationResultDao evaluationResultDao;
+    private final ExperimentResultDao experimentResultDao;
+
+    @Inject
+    public ExportTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        JudgmentDao judgmentDao,
+        EvaluationResultDao evaluationResultDao,
+        ExperimentResultDao experimentResultDao
+    ) {
+        super(ExportAction.NAME, transportService, actionFilters, ExportRequest::new);
+        this.judgmentDao = judgmentDao;
+        this.evaluationResultDao = evaluationResultDao;
+        this.experimentResultDao = experimentResultDao;
+    }
+
+    @Override
+    protected void doExecute(Task task, ExportRequest request, ActionListener<ExportResponse> listener) {
+        if (request == null || request.getSource() == null || request.getFormat() == null) {
+            listener.onFailure(new SearchRelevanceException("Request cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        if (request.getId() == null || request.getId().isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("id must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        if (request.getSize() <= 0 || request.getSize() > MAX_EXPORT_SIZE) {
+            listener.onFailure(
+                new SearchRelevanceException("size must be between 1 and " + MAX_EXPORT_SIZE, RestStatus.BAD_REQUEST)
+            );
+            return;
+        }
+        if (request.getSource() == ExportRequest.Source.EXPERIMENT && request.getFormat() == ExportFormat.TREC) {
+            listener.onFailure(new SearchRelevanceException("Evaluation results cannot be exported as TREC qrels", RestStatus.BAD_REQUEST));
+            return;
+        }
+        if (request.getSource() == ExportRequest.Source.EXPERIMENT_RESULT && request.getFormat() != ExportFormat.NDJSON) {
+            listener.onFailure(new SearchRelevanceException("Experiment results can only be exported as NDJSON", RestStatus.BAD_REQUEST));
+            return;
+        }
+        ExportCursor cursor;
+        try {
+            cursor = request.getCursor() == null ? null : ExportCursor.decode(request.getCursor());
+        } catch (SearchRelevanceException e) {
+            listener.onFailure(e);
+            return;
+        }
+
+        ActionListener<SearchResponse> pageListener = ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            BytesReference content = switch (request.getSource()) {
+                case JUDGMENT -> ExportWriter.writeJudgmentRatings(request.getFormat(), hits, cursor == null);
+                case EXPERIMENT -> ExportWriter.writeEvaluationResults(request.getFormat(), hits, cursor == null);
+                case EXPERIMENT_RESULT -> ExportWriter.writeExperimentResults(hits);
+            };
+            // a page that is not full is the last one, its point in time is already deleted
+            String nextCursor = hits.length < request.getSize()
+                ? null
+                : new ExportCursor(response.pointInTimeId(), hits[hits.length - 1].getSortValues()).encode();
+            listener.onResponse(new ExportResponse(content, nextCursor));
+        }, e -> {
+            LOGGER.error("Failed to export " + request.getSource() + " " + request.getId(), e);
+            listener.onFailure(e);
+        });
+
+        switch (request.getSource()) {
+            case JUDGMENT -> judgmentDao.exportJudgmentRatings(
+                request.getId(),
+                request.getQueryText(),
+                request.getSize(),
+                cursor,
+                EXPORT_KEEP_ALIVE,
+                cursor == null ? firstJudgmentPageListener(request, pageListener, listener) : pageListener
+            );
+            case EXPERIMENT -> evaluationResultDao.exportEvaluationResults(
+                request.getId(),
+                request.getSearchConfigurationId(),
+                request.getQueryText(),
+                request.getSize(),
+                cursor,
+                EXPORT_KEEP_ALIVE,
+                pageListener
+            );
+            case EXPERIMENT_RESULT -> experimentResultDao.exportExperimentResults(
+                request.getId(),
+                request.getQueryText(),
+                request.getSize(),
+                cursor,
+                EXPORT_KEEP_ALIVE,
+                pageListener
+            );
+        }
+    }
+
+    /**
+     * An empty first page of a judgment list either has no ratings of the query text, or is a judgment list stored before
+     * the judgment rating index, whose ratings are only in its judgment document. Those are exported from the document.
+     */
+    private ActionListener<SearchResponse> firstJudgmentPageListener(
+        ExportRequest request,
+        ActionListener<SearchResponse> pageListener,
+        ActionListener<ExportResponse> listener
+    ) {
+        return ActionListener.wrap(response -> {
+            if (response.getHits().getHits().length > 0) {
+                pageListener.onResponse(response);
+                return;
+            }
+            judgmentDao.hasJudgmentRatings(request.getId(), ActionListener.wrap(hasJudgmentRatings -> {
+                if (hasJudgmentRatings) {
+                    pageListener.onResponse(response);
+                } else {
+                    exportJudgmentDocument(request, listener);
+                }
+            }, pageListener::onFailure));
+        }, pageListener::onFailure);
+    }
+
+    private void exportJudgmentDocument(ExportRequest request, ActionListener<ExportResponse> listener) {
+        judgmentDao.getJudgment(request.getId(), ActionListener.wrap(response -> {
+            if (response.getHits().getTotalHits().value() == 0) {
+                listener.onFailure(new SearchRelevanceException("Judgment not found: " + request.getId(), RestStatus.NOT_FOUND));
+                return;
+            }
+            JudgmentRatings judgmentRatings = JudgmentIndex.parseJudgmentRatings(response.getHits().getHits()[0].getSourceRef());
+            // the judgment document holds every rating of the judgment list, they are exported as a single page
+            listener.onResponse(
+                new ExportResponse(ExportWriter.writeJudgmentRatings(request.getFormat(), judgmentRatings, request.getQueryText()), null)
+            );
+        }, e -> {
+            LOGGER.error("Failed to export judgment " + request.getId(), e);
+            listener.onFailure(e);
+        }));
+    }
+}
@@ -16,6 +16,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
 import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -23,17 +24,20 @@ import org.opensearch.transport.TransportService;
 public class DeleteJudgmentTransportAction extends HandledTransportAction<OpenSearchDocRequest, DeleteResponse> {
     private final ClusterService clusterService;
     private final JudgmentDao judgmentDao;
+    private final JudgmentListCache judgmentListCache;
 
     @Inject
     public DeleteJudgmentTransportAction(
         ClusterService clusterService,
         TransportService transportService,
         ActionFilters actionFilters,
-        JudgmentDao judgmentDao
+        JudgmentDao judgmentDao,
+        JudgmentListCache judgmentListCache
     ) {
         super(DeleteJudgmentAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
         this.clusterService = clusterService;
         this.judgmentDao = judgmentDao;
+        this.judgmentListCache = judgmentListCache;
     }
 
     @Override
@@ -44,7 +48,11 @@ public class DeleteJudgmentTransportAction extends HandledTransportAction<OpenSe
                 listener.onFailure(new SearchRelevanceException("judgmentId cannot be null or empty", RestStatus.BAD_REQUEST));
                 return;
             }
-            judgmentDao.deleteJudgment(judgmentId, listener);
+            // invalidated whether or not the delete succeeded, a partial delete leaves no stale ratings cached
+            judgmentDao.deleteJudgment(
+                judgmentId,
+                ActionListener.runBefore(listener, () -> judgmentListCache.invalidateOnAllNodes(judgmentId))
+            );
         } catch (Exception e) {
             listener.onFailure(e);
         }
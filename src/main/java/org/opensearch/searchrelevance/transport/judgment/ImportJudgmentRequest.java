@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.judgments.JudgmentImportReader;
+import org.opensearch.searchrelevance.model.JudgmentType;
+
+import reactor.util.annotation.NonNull;
+
+/**
+ * ImportJudgmentRequest carries the raw content of a streaming judgment import, it is only parsed line by line by
+ * {@link JudgmentImportReader} while the ratings are stored
+ */
+public class ImportJudgmentRequest extends PutJudgmentRequest {
+    private final JudgmentImportReader.Format format;
+    private final BytesReference content;
+
+    public ImportJudgmentRequest(
+        @NonNull String name,
+        String description,
+        @NonNull JudgmentImportReader.Format format,
+        @NonNull BytesReference content
+    ) {
+        super(JudgmentType.IMPORT_JUDGMENT, name, description);
+        this.format = format;
+        this.content = content;
+    }
+
+    public ImportJudgmentRequest(StreamInput in) throws IOException {
+        super(in);
+        this.format = in.readEnum(JudgmentImportReader.Format.class);
+        this.content = in.readBytesReference();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeEnum(format);
+        out.writeBytesReference(content);
+    }
+
+    public JudgmentImportReader.Format getFormat() {
+        return format;
+    }
+
+    public BytesReference getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.FORMAT;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.judgments.JudgmentImportReader;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.stats.events.EventStatName;
+import org.opensearch.searchrelevance.stats.events.EventStatsManager;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Streaming import of judgment ratings. The content is validated line by line before the judgment is created, then
+ * its ratings are read again in chunks of at least {@link #IMPORT_CHUNK_RATINGS} ratings, each stored in the judgment
+ * rating index before the next one is read, so the parsed ratings held at a time do not depend on the import size.
+ * The progress is stored in the metadata of the judgment after every chunk. Imported ratings are only stored in the
+ * judgment rating index, not inline in the judgment document.
+ */
+public class ImportJudgmentTransportAction extends HandledTransportAction<ImportJudgmentRequest, IndexResponse> {
+    public static final String IMPORT_JUDGMENT_ACTION_NAME = ImportJudgmentAction.NAME + "[store]";
+    public static final String TOTAL_RATINGS = "totalRatings";
+    public static final String IMPORTED_RATINGS = "importedRatings";
+    public static final String TOTAL_QUERY_TEXTS = "totalQueryTexts";
+    public static final String IMPORTED_QUERY_TEXTS = "importedQueryTexts";
+    // ratings read and stored at a time, a single query text with more ratings is stored whole
+    static final int IMPORT_CHUNK_RATINGS = 10000;
+
+    private static final Logger LOGGER = LogManager.getLogger(ImportJudgmentTransportAction.class);
+
+    private final TaskManager taskManager;
+    private final ThreadPool threadPool;
+    private final JudgmentDao judgmentDao;
+    private final JudgmentListCache judgmentListCache;
+
+    @Inject
+    public ImportJudgmentTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ThreadPool threadPool,
+        JudgmentDao judgmentDao,
+        JudgmentListCache judgmentListCache
+    ) {
+        super(ImportJudgmentAction.NAME, transportService, actionFilters, ImportJudgmentRequest::new);
+        this.taskManager = transportService.getTaskManager();
+        this.threadPool = threadPool;
+        this.judgmentDao = judgmentDao;
+        this.judgmentListCache = judgmentListCache;
+    }
+
+    @Override
+    protected void doExecute(Task task, ImportJudgmentRequest request, ActionListener<IndexResponse> listener) {
+        if (request == null) {
+            listener.onFailure(new SearchRelevanceException("Request cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        // validating a large import reads it whole, not on the transport thread
+        threadPool.executor(SearchRelevanceExecutor.THREAD_POOL_NAME).execute(() -> {
+            Map<String, Object> metadata;
+            try (JudgmentImportReader reader = new JudgmentImportReader(request.getContent(), request.getFormat())) {
+                reader.validate(IMPORT_CHUNK_RATINGS);
+                if (reader.getRatings() == 0) {
+                    throw new SearchRelevanceException("No judgment ratings to import", RestStatus.BAD_REQUEST);
+                }
+                metadata = new HashMap<>();
+                metadata.put(FORMAT, request.getFormat().name().toLowerCase(Locale.ROOT));
+                metadata.put(TOTAL_QUERY_TEXTS, reader.getQueryTexts());
+                metadata.put(TOTAL_RATINGS, reader.getRatings());
+                metadata.put(IMPORTED_QUERY_TEXTS, 0);
+                metadata.put(IMPORTED_RATINGS, 0L);
+            } catch (SearchRelevanceException e) {
+                listener.onFailure(e);
+                return;
+            } catch (Exception e) {
+                listener.onFailure(new SearchRelevanceException("Failed to read judgment ratings", e, RestStatus.BAD_REQUEST));
+                return;
+            }
+            createJudgment(request, metadata, listener);
+        });
+    }
+
+    private void createJudgment(ImportJudgmentRequest request, Map<String, Object> metadata, ActionListener<IndexResponse> listener) {
+        String judgmentId = UUID.randomUUID().toString();
+        Judgment initialJudgment = judgment(judgmentId, request, AsyncStatus.PROCESSING, metadata);
+        judgmentDao.putJudgement(initialJudgment, ActionListener.wrap(response -> {
+            listener.onResponse((IndexResponse) response);
+            importRatings(judgmentId, request, metadata);
+        }, e -> {
+            LOGGER.error("Failed to create initial judgment", e);
+            listener.onFailure(new SearchRelevanceException("Failed to create initial judgment", e, RestStatus.INTERNAL_SERVER_ERROR));
+        }));
+    }
+
+    /**
+     * Store the ratings in the background, tracked as a cancellable task.
+     * Cancelling the task marks the judgment as CANCELLED and stops the import after the chunk being stored.
+     */
+    private void importRatings(String judgmentId, ImportJudgmentRequest request, Map<String, Object> metadata) {
+        EventStatsManager.increment(EventStatName.IMPORT_JUDGMENT_RATING_GENERATIONS);
+        SearchRelevanceTask task = SearchRelevanceTask.register(
+            taskManager,
+            IMPORT_JUDGMENT_ACTION_NAME,
+            String.format(Locale.ROOT, "judgment[%s] import[%s ratings]", judgmentId, metadata.get(TOTAL_RATINGS))
+        );
+        JudgmentImportReader reader;
+        try {
+            reader = new JudgmentImportReader(request.getContent(), request.getFormat());
+        } catch (Exception e) {
+            finish(judgmentId, request, AsyncStatus.ERROR, Map.of("error", String.valueOf(e.getMessage())), null, task);
+            return;
+        }
+        // set once the import is completed, failed or cancelled so only one final status is written
+        AtomicBoolean finished = new AtomicBoolean(false);
+        task.addCancellationListener(() -> {
+            if (finished.compareAndSet(false, true)) {
+                LOGGER.info("Cancelling judgment import {}: {}", judgmentId, task.getReasonCancelled());
+                finish(judgmentId, request, AsyncStatus.CANCELLED, progress(metadata, reader), reader, task);
+            }
+        });
+        importChunk(judgmentId, request, metadata, reader, finished, task);
+    }
+
+    private void importChunk(
+        String judgmentId,
+        ImportJudgmentRequest request,
+        Map<String, Object> metadata,
+        JudgmentImportReader reader,
+        AtomicBoolean finished,
+        SearchRelevanceTask task
+    ) {
+        threadPool.executor(SearchRelevanceExecutor.THREAD_POOL_NAME).execute(() -> {
+            if (finished.get()) {
+                return;
+            }
+            JudgmentRatings chunk;
+            try {
+                chunk = reader.nextChunk(IMPORT_CHUNK_RATINGS);
+            } catch (Exception e) {
+                failImport(judgmentId, request, e, reader, finished, task);
+                return;
+            }
+            if (chunk.isEmpty()) {
+                if (finished.compareAndSet(false, true)) {
+                    finish(judgmentId, request, AsyncStatus.COMPLETED, progress(metadata, reader), reader, task);
+                }
+                return;
+            }
+            judgmentDao.putJudgmentRatings(judgmentId, chunk, ActionListener.wrap(stored -> {
+                if (finished.get()) {
+                    return;
+                }
+                Map<String, Object> progress = progress(metadata, reader);
+                task.setProgress((int) Math.min(reader.getRatings(), Integer.MAX_VALUE), progressTotal(metadata));
+                judgmentDao.updateJudgment(
+                    judgment(judgmentId, request, AsyncStatus.PROCESSING, progress),
+                    ActionListener.wrap(
+                        updated -> importChunk(judgmentId, request, metadata, reader, finished, task),
+                        e -> failImport(judgmentId, request, e, reader, finished, task)
+                    )
+                );
+            }, e -> failImport(judgmentId, request, e, reader, finished, task)));
+        });
+    }
+
+    private void failImport(
+        String judgmentId,
+        ImportJudgmentRequest request,
+        Exception error,
+        JudgmentImportReader reader,
+        AtomicBoolean finished,
+        SearchRelevanceTask task
+    ) {
+        LOGGER.error("Failed to import judgment ratings for judgment: " + judgmentId, error);
+        if (finished.compareAndSet(false, true)) {
+            finish(judgmentId, request, AsyncStatus.ERROR, Map.of("error", String.valueOf(error.getMessage())), reader, task);
+        }
+    }
+
+    private void finish(
+        String judgmentId,
+        ImportJudgmentRequest request,
+        AsyncStatus status,
+        Map<String, Object> metadata,
+        JudgmentImportReader reader,
+        SearchRelevanceTask task
+    ) {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Failed to close judgment import of judgment: " + judgmentId, e);
+        }
+        judgmentDao.updateJudgment(judgment(judgmentId, request, status, metadata), ActionListener.wrap(response -> {
+            LOGGER.info("Updated judgment {} status to {}", judgmentId, status);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }, e -> {
+            LOGGER.error("Failed to update " + status + " status for judgment: " + judgmentId, e);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }));
+    }
+
+    private static Map<String, Object> progress(Map<String, Object> metadata, JudgmentImportReader reader) {
+        Map<String, Object> progress = new HashMap<>(metadata);
+        progress.put(IMPORTED_QUERY_TEXTS, reader.getQueryTexts());
+        progress.put(IMPORTED_RATINGS, reader.getRatings());
+        return progress;
+    }
+
+    private static int progressTotal(Map<String, Object> metadata) {
+        return (int) Math.min((long) metadata.get(TOTAL_RATINGS), Integer.MAX_VALUE);
+    }
+
+    private static Judgment judgment(String judgmentId, ImportJudgmentRequest request, AsyncStatus status, Map<String, Object> metadata) {
+        return new Judgment(
+            judgmentId,
+            TimeUtils.getTimestamp(),
+            request.getName(),
+            status,
+            JudgmentType.IMPORT_JUDGMENT,
+            metadata,
+            JudgmentRatings.EMPTY
+        );
+    }
+}
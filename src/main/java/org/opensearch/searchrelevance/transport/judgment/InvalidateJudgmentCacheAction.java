@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Internal Action invalidating judgment lists in the judgment cache of every node
+ */
+public class InvalidateJudgmentCacheAction extends ActionType<InvalidateJudgmentCacheResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "judgment/cache/invalidate";
+
+    /** An instance of this action */
+    public static final InvalidateJudgmentCacheAction INSTANCE = new InvalidateJudgmentCacheAction();
+
+    private InvalidateJudgmentCacheAction() {
+        super(NAME, InvalidateJudgmentCacheResponse::new);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+/**
+ * InvalidateJudgmentCacheNodeRequest represents the request to a node invalidating its judgment cache
+ */
+public class InvalidateJudgmentCacheNodeRequest extends TransportRequest {
+    @Getter
+    private final InvalidateJudgmentCacheRequest request;
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException in case of I/O errors
+     */
+    public InvalidateJudgmentCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        request = new InvalidateJudgmentCacheRequest(in);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param request InvalidateJudgmentCacheRequest
+     */
+    public InvalidateJudgmentCacheNodeRequest(InvalidateJudgmentCacheRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        request.writeTo(out);
+    }
+}
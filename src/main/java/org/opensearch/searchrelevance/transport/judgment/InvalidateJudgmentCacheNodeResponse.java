@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * InvalidateJudgmentCacheNodeResponse acknowledges the invalidation on a node
+ */
+public class InvalidateJudgmentCacheNodeResponse extends BaseNodeResponse {
+
+    /**
+     * Constructor
+     *
+     * @param in stream
+     * @throws IOException in case of I/O errors
+     */
+    public InvalidateJudgmentCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param node node
+     */
+    public InvalidateJudgmentCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+}
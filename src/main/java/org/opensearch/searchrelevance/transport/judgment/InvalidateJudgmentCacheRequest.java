@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * InvalidateJudgmentCacheRequest sends the ids of the judgment lists to invalidate to every node
+ */
+@Getter
+public class InvalidateJudgmentCacheRequest extends BaseNodesRequest<InvalidateJudgmentCacheRequest> {
+    private final List<String> judgmentIds;
+
+    /**
+     * Constructor
+     *
+     * @param in input stream
+     * @throws IOException in case of I/O errors
+     */
+    public InvalidateJudgmentCacheRequest(StreamInput in) throws IOException {
+        super(in);
+        this.judgmentIds = in.readStringList();
+    }
+
+    /**
+     * Constructor, the request is sent to every node
+     *
+     * @param judgmentIds ids of the judgment lists to invalidate
+     */
+    public InvalidateJudgmentCacheRequest(List<String> judgmentIds) {
+        super((String[]) null);
+        this.judgmentIds = judgmentIds;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringCollection(judgmentIds);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * InvalidateJudgmentCacheResponse holds the acknowledgements of the nodes, or their failures
+ */
+public class InvalidateJudgmentCacheResponse extends BaseNodesResponse<InvalidateJudgmentCacheNodeResponse> {
+
+    /**
+     * Constructor
+     *
+     * @param in StreamInput
+     * @throws IOException thrown when unable to read from stream
+     */
+    public InvalidateJudgmentCacheResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param clusterName the cluster name
+     * @param nodes the nodes responses
+     * @param failures the failures
+     */
+    public InvalidateJudgmentCacheResponse(
+        ClusterName clusterName,
+        List<InvalidateJudgmentCacheNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<InvalidateJudgmentCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(InvalidateJudgmentCacheNodeResponse::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<InvalidateJudgmentCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
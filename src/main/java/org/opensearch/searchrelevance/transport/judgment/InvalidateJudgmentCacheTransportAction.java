@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * InvalidateJudgmentCacheTransportAction invalidates judgment lists in the {@link JudgmentListCache} of every node
+ */
+public class InvalidateJudgmentCacheTransportAction extends TransportNodesAction<
+    InvalidateJudgmentCacheRequest,
+    InvalidateJudgmentCacheResponse,
+    InvalidateJudgmentCacheNodeRequest,
+    InvalidateJudgmentCacheNodeResponse> {
+    private final JudgmentListCache judgmentListCache;
+
+    /**
+     * Constructor
+     *
+     * @param threadPool ThreadPool to use
+     * @param clusterService ClusterService
+     * @param transportService TransportService
+     * @param actionFilters Action Filters
+     * @param judgmentListCache cache of the node
+     */
+    @Inject
+    public InvalidateJudgmentCacheTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        JudgmentListCache judgmentListCache
+    ) {
+        super(
+            InvalidateJudgmentCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            InvalidateJudgmentCacheRequest::new,
+            InvalidateJudgmentCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            InvalidateJudgmentCacheNodeResponse.class
+        );
+        this.judgmentListCache = judgmentListCache;
+    }
+
+    @Override
+    protected InvalidateJudgmentCacheResponse newResponse(
+        InvalidateJudgmentCacheRequest request,
+        List<InvalidateJudgmentCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new InvalidateJudgmentCacheResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected InvalidateJudgmentCacheNodeRequest newNodeRequest(InvalidateJudgmentCacheRequest request) {
+        return new InvalidateJudgmentCacheNodeRequest(request);
+    }
+
+    @Override
+    protected InvalidateJudgmentCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new InvalidateJudgmentCacheNodeResponse(in);
+    }
+
+    @Override
+    protected InvalidateJudgmentCacheNodeResponse nodeOperation(InvalidateJudgmentCacheNodeRequest request) {
+        judgmentListCache.invalidate(request.getRequest().getJudgmentIds());
+        return new InvalidateJudgmentCacheNodeResponse(clusterService.localNode());
+    }
+}
@@ -8,23 +8,22 @@
 package org.opensearch.searchrelevance.transport.judgment;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Map;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.JudgmentType;
 
 import reactor.util.annotation.NonNull;
 
 public class PutImportJudgmentRequest extends PutJudgmentRequest {
-    private List<Map<String, Object>> judgmentScores;
+    private JudgmentRatings judgmentScores;
 
     public PutImportJudgmentRequest(
         @NonNull JudgmentType type,
         @NonNull String name,
         @NonNull String description,
-        @NonNull List<Map<String, Object>> judgmentScores
+        @NonNull JudgmentRatings judgmentScores
     ) {
         super(type, name, description);
         this.judgmentScores = judgmentScores;
@@ -32,16 +31,16 @@ public class PutImportJudgmentRequest extends PutJudgmentRequest {
 
     public PutImportJudgmentRequest(StreamInput in) throws IOException {
         super(in);
-        this.judgmentScores = in.readList(StreamInput::readMap);
+        this.judgmentScores = new JudgmentRatings(in);
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
-        out.writeCollection(judgmentScores, StreamOutput::writeMap);
+        judgmentScores.writeTo(out);
     }
 
-    public List<Map<String, Object>> getJudgmentRatings() {
+    public JudgmentRatings getJudgmentRatings() {
         return judgmentScores;
     }
 
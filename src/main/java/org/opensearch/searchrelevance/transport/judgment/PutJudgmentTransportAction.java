@@ -8,12 +8,13 @@
 package org.opensearch.searchrelevance.transport.judgment;
 
 import static org.opensearch.searchrelevance.common.MetricsConstants.MODEL_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.BUDGET;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,20 +25,30 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.cost.CostEstimator;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
 import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
 import org.opensearch.searchrelevance.model.AsyncStatus;
 import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.transport.TransportService;
 
 public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgmentRequest, IndexResponse> {
+    public static final String GENERATE_JUDGMENT_ACTION_NAME = PutJudgmentAction.NAME + "[generate]";
+
     private final ClusterService clusterService;
+    private final TaskManager taskManager;
     private final JudgmentDao judgmentDao;
+    private final JudgmentListCache judgmentListCache;
     private final JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private final CostEstimator costEstimator;
 
     private static final Logger LOGGER = LogManager.getLogger(PutJudgmentTransportAction.class);
 
@@ -47,12 +58,17 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
         TransportService transportService,
         ActionFilters actionFilters,
         JudgmentDao judgmentDao,
-        JudgmentsProcessorFactory judgmentsProcessorFactory
+        JudgmentListCache judgmentListCache,
+        JudgmentsProcessorFactory judgmentsProcessorFactory,
+        CostEstimator costEstimator
     ) {
         super(PutJudgmentAction.NAME, transportService, actionFilters, PutUbiJudgmentRequest::new);
         this.clusterService = clusterService;
+        this.taskManager = transportService.getTaskManager();
         this.judgmentDao = judgmentDao;
+        this.judgmentListCache = judgmentListCache;
         this.judgmentsProcessorFactory = judgmentsProcessorFactory;
+        this.costEstimator = costEstimator;
     }
 
     @Override
@@ -61,6 +77,18 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
             listener.onFailure(new SearchRelevanceException("Request cannot be null", RestStatus.BAD_REQUEST));
             return;
         }
+        if (request instanceof PutLlmJudgmentRequest llmRequest && llmRequest.getBudget() != null) {
+            // reject the judgment before it is created when it needs more searches than its budget
+            costEstimator.estimateLlmJudgment(llmRequest, ActionListener.wrap(estimate -> {
+                llmRequest.getBudget().check(estimate);
+                createJudgment(request, listener);
+            }, listener::onFailure));
+            return;
+        }
+        createJudgment(request, listener);
+    }
+
+    private void createJudgment(PutJudgmentRequest request, ActionListener<IndexResponse> listener) {
         try {
             String id = UUID.randomUUID().toString();
             Judgment initialJudgment = new Judgment(
@@ -70,7 +98,7 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
                 AsyncStatus.PROCESSING,
                 request.getType(),
                 buildMetadata(request),
-                new ArrayList<>()
+                JudgmentRatings.EMPTY
             );
 
             judgmentDao.putJudgement(initialJudgment, ActionListener.wrap(response -> {
@@ -102,6 +130,9 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
                 metadata.put("tokenLimit", llmRequest.getTokenLimit());
                 metadata.put("contextFields", llmRequest.getContextFields());
                 metadata.put("ignoreFailure", llmRequest.isIgnoreFailure());
+                if (llmRequest.getBudget() != null) {
+                    metadata.put(BUDGET, llmRequest.getBudget().toMap());
+                }
             }
             case UBI_JUDGMENT -> {
                 PutUbiJudgmentRequest ubiRequest = (PutUbiJudgmentRequest) request;
@@ -116,25 +147,54 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
         return metadata;
     }
 
+    /**
+     * Generate the judgment ratings in the background, tracked as a cancellable task.
+     * Cancelling the task marks the judgment as CANCELLED right away and stops the generation.
+     */
     private void triggerAsyncProcessing(String judgmentId, PutJudgmentRequest request, Map<String, Object> metadata) {
         LOGGER.info("Starting async processing for judgment: {}, type: {}, metadata: {}", judgmentId, request.getType(), metadata);
         BaseJudgmentsProcessor processor = judgmentsProcessorFactory.getProcessor(request.getType());
+        SearchRelevanceTask task = SearchRelevanceTask.register(
+            taskManager,
+            GENERATE_JUDGMENT_ACTION_NAME,
+            String.format(Locale.ROOT, "judgment[%s] type[%s]", judgmentId, request.getType())
+        );
+        // set once the judgment is completed, failed or cancelled so only one final status is written
+        AtomicBoolean finished = new AtomicBoolean(false);
+        task.addCancellationListener(() -> {
+            if (finished.compareAndSet(false, true)) {
+                updateCancelledJudgment(judgmentId, request, metadata, task);
+            }
+        });
 
-        processor.generateJudgmentRating(metadata, ActionListener.wrap(judgmentRatings -> {
-            LOGGER.info(
-                "Generated judgment ratings for {}, ratings size: {}",
-                judgmentId,
-                judgmentRatings != null ? judgmentRatings.size() : 0
-            );
-            updateFinalJudgment(judgmentId, request, metadata, judgmentRatings);
-        }, error -> handleAsyncFailure(judgmentId, request, "Failed to generate judgment ratings", error)));
+        try {
+            processor.generateJudgmentRating(metadata, task, ActionListener.wrap(judgmentRatings -> {
+                LOGGER.info(
+                    "Generated judgment ratings for {}, ratings size: {}",
+                    judgmentId,
+                    judgmentRatings != null ? judgmentRatings.size() : 0
+                );
+                if (finished.compareAndSet(false, true)) {
+                    updateFinalJudgment(judgmentId, request, metadata, judgmentRatings, task);
+                }
+            }, error -> {
+                if (finished.compareAndSet(false, true)) {
+                    handleAsyncFailure(judgmentId, request, "Failed to generate judgment ratings", error, task);
+                }
+            }));
+        } catch (Exception e) {
+            if (finished.compareAndSet(false, true)) {
+                handleAsyncFailure(judgmentId, request, "Failed to generate judgment ratings", e, task);
+            }
+        }
     }
 
     private void updateFinalJudgment(
         String judgmentId,
         PutJudgmentRequest request,
         Map<String, Object> metadata,
-        List<Map<String, Object>> judgmentScores
+        JudgmentRatings judgmentScores,
+        SearchRelevanceTask task
     ) {
         Judgment finalJudgment = new Judgment(
             judgmentId,
@@ -146,16 +206,48 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
             judgmentScores
         );
 
-        judgmentDao.updateJudgment(
-            finalJudgment,
-            ActionListener.wrap(
-                response -> LOGGER.debug("Updated final judgment: {}", judgmentId),
-                error -> handleAsyncFailure(judgmentId, request, "Failed to update final judgment", error)
-            )
+        judgmentDao.updateJudgment(finalJudgment, ActionListener.wrap(response -> {
+            LOGGER.debug("Updated final judgment: {}", judgmentId);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }, error -> handleAsyncFailure(judgmentId, request, "Failed to update final judgment", error, task)));
+    }
+
+    private void updateCancelledJudgment(
+        String judgmentId,
+        PutJudgmentRequest request,
+        Map<String, Object> metadata,
+        SearchRelevanceTask task
+    ) {
+        LOGGER.info("Cancelling judgment {}: {}", judgmentId, task.getReasonCancelled());
+        Judgment cancelledJudgment = new Judgment(
+            judgmentId,
+            TimeUtils.getTimestamp(),
+            request.getName(),
+            AsyncStatus.CANCELLED,
+            request.getType(),
+            metadata,
+            JudgmentRatings.EMPTY
         );
+
+        judgmentDao.updateJudgment(cancelledJudgment, ActionListener.wrap(response -> {
+            LOGGER.info("Updated judgment {} status to CANCELLED", judgmentId);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }, e -> {
+            LOGGER.error("Failed to update cancelled status for judgment: " + judgmentId, e);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }));
     }
 
-    private void handleAsyncFailure(String judgmentId, PutJudgmentRequest request, String message, Exception error) {
+    private void handleAsyncFailure(
+        String judgmentId,
+        PutJudgmentRequest request,
+        String message,
+        Exception error,
+        SearchRelevanceTask task
+    ) {
         LOGGER.error(message + " for judgment: " + judgmentId, error);
 
         Judgment errorJudgment = new Judgment(
@@ -165,15 +257,17 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
             AsyncStatus.ERROR,
             request.getType(),
             Map.of("error", error.getMessage()),
-            new ArrayList<>()
+            JudgmentRatings.EMPTY
         );
 
-        judgmentDao.updateJudgment(
-            errorJudgment,
-            ActionListener.wrap(
-                response -> LOGGER.info("Updated judgment {} status to ERROR", judgmentId),
-                e -> LOGGER.error("Failed to update error status for judgment: " + judgmentId, e)
-            )
-        );
+        judgmentDao.updateJudgment(errorJudgment, ActionListener.wrap(response -> {
+            LOGGER.info("Updated judgment {} status to ERROR", judgmentId);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }, e -> {
+            LOGGER.error("Failed to update error status for judgment: " + judgmentId, e);
+            judgmentListCache.invalidateOnAllNodes(judgmentId);
+            taskManager.unregister(task);
+        }));
     }
 }
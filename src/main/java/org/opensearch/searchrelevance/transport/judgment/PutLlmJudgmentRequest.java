@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.cost.CostBudget;
 import org.opensearch.searchrelevance.model.JudgmentType;
 
 import reactor.util.annotation.NonNull;
@@ -41,6 +42,12 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
      */
     private boolean ignoreFailure;
 
+    /**
+     * Optional limits on the searches, predict calls and prompt tokens of the judgment. A judgment needing more searches is
+     * rejected, a judgment reaching its predict calls or tokens stops with the ratings generated so far.
+     */
+    private CostBudget budget;
+
     public PutLlmJudgmentRequest(
         @NonNull JudgmentType type,
         @NonNull String name,
@@ -52,6 +59,22 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         int tokenLimit,
         List<String> contextFields,
         boolean ignoreFailure
+    ) {
+        this(type, name, description, modelId, querySetId, searchConfigurationList, size, tokenLimit, contextFields, ignoreFailure, null);
+    }
+
+    public PutLlmJudgmentRequest(
+        @NonNull JudgmentType type,
+        @NonNull String name,
+        @NonNull String description,
+        @NonNull String modelId,
+        @NonNull String querySetId,
+        @NonNull List<String> searchConfigurationList,
+        int size,
+        int tokenLimit,
+        List<String> contextFields,
+        boolean ignoreFailure,
+        CostBudget budget
     ) {
         super(type, name, description);
         this.modelId = modelId;
@@ -61,6 +84,7 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         this.tokenLimit = tokenLimit;
         this.contextFields = contextFields;
         this.ignoreFailure = ignoreFailure;
+        this.budget = budget;
     }
 
     public PutLlmJudgmentRequest(StreamInput in) throws IOException {
@@ -72,6 +96,7 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         this.tokenLimit = in.readOptionalInt();
         this.contextFields = in.readOptionalStringList();
         this.ignoreFailure = Boolean.TRUE.equals(in.readOptionalBoolean()); // by defaulted as false if not provided
+        this.budget = in.readOptionalWriteable(CostBudget::new);
     }
 
     @Override
@@ -84,6 +109,7 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         out.writeOptionalInt(tokenLimit);
         out.writeOptionalStringArray(contextFields.toArray(new String[0]));
         out.writeOptionalBoolean(ignoreFailure);
+        out.writeOptionalWriteable(budget);
     }
 
     public String getModelId() {
@@ -114,4 +140,8 @@ public class PutLlmJudgmentRequest extends PutJudgmentRequest {
         return ignoreFailure;
     }
 
+    public CostBudget getBudget() {
+        return budget;
+    }
+
 }
@@ -7,11 +7,8 @@
  */
 package org.opensearch.searchrelevance.transport.queryset;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.index.IndexResponse;
@@ -62,31 +59,35 @@ public class PostQuerySetTransportAction extends HandledTransportAction<PostQuer
         String name = request.getName();
         String description = request.getDescription();
 
-        // Given sampling type and querySetSize, build the queryset accordingly
-        String sampling = request.getSampling();
-        int querySetSize = request.getQuerySetSize();
-        QuerySampler querySampler = QuerySampler.create(sampling, querySetSize, client);
-        Map<String, Integer> querySetQueries = new HashMap<>();
-        try {
-            querySetQueries = querySampler.sample().get();
-        } catch (InterruptedException | ExecutionException e) {
-            listener.onFailure(
-                new SearchRelevanceException("Failed to build querySetQueries. Request: " + request, RestStatus.BAD_REQUEST)
-            );
-        }
-
         if (name == null || name.trim().isEmpty()) {
             listener.onFailure(new SearchRelevanceException("Name cannot be null or empty. Request: " + request, RestStatus.BAD_REQUEST));
             return;
         }
 
-        // Convert Map<String, Integer> to List<QuerySetEntry> (discarding count values)
-        List<QuerySetEntry> querySetEntries = querySetQueries.entrySet()
-            .stream()
-            .map(entry -> QuerySetEntry.Builder.builder().queryText(entry.getKey()).build())
-            .collect(Collectors.toList());
+        // Given sampling type and querySetSize, build the queryset accordingly
+        String sampling = request.getSampling();
+        int querySetSize = request.getQuerySetSize();
+        QuerySampler querySampler = QuerySampler.create(sampling, querySetSize, client);
+        querySampler.sample().whenComplete((querySetQueries, e) -> {
+            if (e != null) {
+                listener.onFailure(
+                    new SearchRelevanceException("Failed to build querySetQueries. Request: " + request, RestStatus.BAD_REQUEST)
+                );
+                return;
+            }
+            // exceptions thrown here would only complete the returned future, so they are handed to the listener
+            try {
+                // Convert Map<String, Integer> to List<QuerySetEntry> (discarding count values)
+                List<QuerySetEntry> querySetEntries = querySetQueries.entrySet()
+                    .stream()
+                    .map(entry -> QuerySetEntry.Builder.builder().queryText(entry.getKey()).build())
+                    .collect(Collectors.toList());
 
-        QuerySet querySet = new QuerySet(id, name, description, timestamp, sampling, querySetEntries);
-        querySetDao.putQuerySet(querySet, listener);
+                QuerySet querySet = new QuerySet(id, name, description, timestamp, sampling, querySetEntries);
+                querySetDao.putQuerySet(querySet, listener);
+            } catch (Exception ex) {
+                listener.onFailure(new SearchRelevanceException("Failed to create query set", ex, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        });
     }
 }
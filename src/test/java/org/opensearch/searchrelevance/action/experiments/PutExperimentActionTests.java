@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.cost.CostBudget;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
 import org.opensearch.test.OpenSearchTestCase;
@@ -33,6 +34,25 @@ public class PutExperimentActionTests extends OpenSearchTestCase {
         assertEquals("1234", serialized.getQuerySetId());
         assertEquals(2, serialized.getSearchConfigurationList().size());
         assertEquals(10, serialized.getSize());
+        assertNull(serialized.getBudget());
+    }
+
+    public void testStreamsWithBudget() throws IOException {
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.HYBRID_OPTIMIZER,
+            "1234",
+            List.of("5678"),
+            List.of("0000"),
+            10,
+            new CostBudget(1000L, null, null)
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutExperimentRequest serialized = new PutExperimentRequest(in);
+        assertEquals(ExperimentType.HYBRID_OPTIMIZER, serialized.getType());
+        assertEquals(Long.valueOf(1000), serialized.getBudget().getMaxSearches());
+        assertNull(serialized.getBudget().getMaxTokens());
     }
 
     public void testRequestValidation() {
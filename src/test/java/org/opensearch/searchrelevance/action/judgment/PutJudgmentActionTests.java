@@ -13,9 +13,12 @@ import java.util.Map;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.cost.CostBudget;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.transport.judgment.PutImportJudgmentRequest;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentRequest;
+import org.opensearch.searchrelevance.transport.judgment.PutLlmJudgmentRequest;
 import org.opensearch.searchrelevance.transport.judgment.PutUbiJudgmentRequest;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -33,6 +36,31 @@ public class PutJudgmentActionTests extends OpenSearchTestCase {
         assertEquals("coec", serialized.getClickModel());
     }
 
+    public void testLlmJudgmentStreamWithBudget() throws IOException {
+        PutJudgmentRequest request = new PutLlmJudgmentRequest(
+            JudgmentType.LLM_JUDGMENT,
+            "name",
+            "description",
+            "model-1",
+            "query-set-1",
+            List.of("config-1"),
+            10,
+            4000,
+            List.of("title"),
+            true,
+            new CostBudget(null, 50L, 200000L)
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutLlmJudgmentRequest serialized = new PutLlmJudgmentRequest(in);
+        assertEquals("model-1", serialized.getModelId());
+        assertEquals(4000, serialized.getTokenLimit());
+        assertNull(serialized.getBudget().getMaxSearches());
+        assertEquals(Long.valueOf(50), serialized.getBudget().getMaxPredictCalls());
+        assertEquals(Long.valueOf(200000), serialized.getBudget().getMaxTokens());
+    }
+
     public void testRequestValidation() {
         PutJudgmentRequest request = new PutUbiJudgmentRequest(JudgmentType.UBI_JUDGMENT, "name", "description", "coec", 20);
         assertNull(request.validate());
@@ -59,7 +87,8 @@ public class PutJudgmentActionTests extends OpenSearchTestCase {
             Map.of("query", "blue jeans", "ratings", blueJeansScores)
         );
 
-        PutJudgmentRequest request = new PutImportJudgmentRequest(JudgmentType.IMPORT_JUDGMENT, "name", "description", judgmentScores);
+        JudgmentRatings judgmentRatings = JudgmentRatings.parse(judgmentScores);
+        PutJudgmentRequest request = new PutImportJudgmentRequest(JudgmentType.IMPORT_JUDGMENT, "name", "description", judgmentRatings);
         BytesStreamOutput output = new BytesStreamOutput();
         request.writeTo(output);
         StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
@@ -68,10 +97,11 @@ public class PutJudgmentActionTests extends OpenSearchTestCase {
         assertEquals(JudgmentType.IMPORT_JUDGMENT, serialized.getType());
         assertEquals("description", serialized.getDescription());
 
-        Map<String, Object> queryAndRatings = (Map<String, Object>) serialized.getJudgmentRatings().get(0);
-        assertEquals("red dress", queryAndRatings.get("query"));
-        Map<String, String> ratings = (Map<String, String>) ((List<Map<String, String>>) queryAndRatings.get("ratings")).get(0);
-        assertEquals("B077ZJXCTS", ratings.get("docId"));
-        assertEquals("0.700", ratings.get("rating"));
+        JudgmentRatings ratings = serialized.getJudgmentRatings();
+        assertEquals(judgmentRatings, ratings);
+        assertEquals("red dress", ratings.getQueryText(0));
+        assertEquals("B077ZJXCTS", ratings.getDocId(ratings.getStart(0)));
+        assertEquals(0.7f, ratings.getRating(ratings.getStart(0)), 0.0f);
+        assertEquals(Map.of("B07L9V4Y98", 0.0f, "B077ZJXCTS", 0.6f, "B001CRAWCQ", 0.0f), ratings.getRatings(1));
     }
 }
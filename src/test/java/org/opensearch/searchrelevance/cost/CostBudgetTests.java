@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_PREDICT_CALLS;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_SEARCHES;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_TOKENS;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class CostBudgetTests extends OpenSearchTestCase {
+
+    public void testParse_whenLimitsSet_thenReadsThem() {
+        CostBudget budget = CostBudget.parse(Map.of(BUDGET, Map.of(MAX_SEARCHES, 100, MAX_TOKENS, 5_000_000_000L)));
+
+        assertEquals(Long.valueOf(100), budget.getMaxSearches());
+        assertNull(budget.getMaxPredictCalls());
+        assertEquals(Long.valueOf(5_000_000_000L), budget.getMaxTokens());
+        assertEquals(Map.of(MAX_SEARCHES, 100L, MAX_TOKENS, 5_000_000_000L), budget.toMap());
+        assertNull(CostBudget.parse(Map.of()));
+    }
+
+    public void testParse_whenInvalidLimit_thenFail() {
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> CostBudget.parse(Map.of(BUDGET, Map.of(MAX_PREDICT_CALLS, 0)))
+        );
+        assertTrue(exception.getMessage().contains(MAX_PREDICT_CALLS));
+        expectThrows(SearchRelevanceException.class, () -> CostBudget.parse(Map.of(BUDGET, Map.of(MAX_SEARCHES, "ten"))));
+        expectThrows(SearchRelevanceException.class, () -> CostBudget.parse(Map.of(BUDGET, 10)));
+    }
+
+    public void testCheck_whenSearchesExceedBudget_thenReject() {
+        CostBudget budget = new CostBudget(100L, 1L, 1L);
+
+        // predict calls and tokens are upper bounds, only enforced while the judgment runs
+        budget.check(new CostEstimate(10, 100, 1000, 1000, 1_000_000, 1001));
+        SearchRelevanceException exception = expectThrows(
+            SearchRelevanceException.class,
+            () -> budget.check(new CostEstimate(10, 101, 1010, 0, 0, 10))
+        );
+        assertTrue(exception.getMessage().contains("[101] searches"));
+    }
+
+    public void testStreams() throws IOException {
+        CostBudget budget = new CostBudget(null, 20L, 3000L);
+        BytesStreamOutput output = new BytesStreamOutput();
+        budget.writeTo(output);
+        CostBudget serialized = new CostBudget(StreamInput.wrap(output.bytes().toBytesRef().bytes));
+
+        assertNull(serialized.getMaxSearches());
+        assertEquals(Long.valueOf(20), serialized.getMaxPredictCalls());
+        assertEquals(Long.valueOf(3000), serialized.getMaxTokens());
+    }
+
+    public void testBudgetTracker_whenCallsDoNotFit_thenExhausted() {
+        BudgetTracker tracker = BudgetTracker.of(new CostBudget(null, 3L, 100L));
+
+        assertTrue(tracker.tryAcquire(2, 60));
+        // a query text needing more tokens than what is left is refused, and so is everything after it
+        assertFalse(tracker.tryAcquire(1, 41));
+        assertTrue(tracker.isExhausted());
+        assertFalse(tracker.tryAcquire(1, 1));
+        assertEquals(2, tracker.getPredictCalls());
+        assertEquals(60, tracker.getTokens());
+    }
+
+    public void testBudgetTracker_whenNoLimits_thenUnlimited() {
+        BudgetTracker tracker = BudgetTracker.of(new CostBudget(10L, null, null));
+
+        assertFalse(tracker.isLimited());
+        assertTrue(tracker.tryAcquire(1_000, 1_000_000));
+        assertFalse(tracker.isExhausted());
+        assertSame(BudgetTracker.UNLIMITED, BudgetTracker.of(null));
+    }
+
+    public void testSearchBudgetTracker_whenSearchesDoNotFit_thenExhausted() {
+        // a resumed experiment starts from the searches acquired before the restart
+        SearchBudgetTracker tracker = SearchBudgetTracker.of(new CostBudget(10L, null, null), 4);
+
+        assertTrue(tracker.tryAcquire(4));
+        assertFalse(tracker.tryAcquire(3));
+        assertTrue(tracker.isExhausted());
+        assertFalse(tracker.tryAcquire(1));
+        assertEquals(8, tracker.getSearches());
+    }
+
+    public void testSearchBudgetTracker_whenNoSearchLimit_thenUnlimited() {
+        SearchBudgetTracker tracker = SearchBudgetTracker.of(new CostBudget(null, 3L, null), 0);
+
+        assertFalse(tracker.isLimited());
+        assertTrue(tracker.tryAcquire(1_000));
+        assertFalse(tracker.isExhausted());
+        assertSame(SearchBudgetTracker.UNLIMITED, SearchBudgetTracker.of(null, 0));
+    }
+}
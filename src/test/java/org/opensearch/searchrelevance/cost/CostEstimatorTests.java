@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.cost;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.experiment.AdaptiveHybridSearch;
+import org.opensearch.searchrelevance.experiment.ExperimentOptionsFactory;
+import org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.searchrelevance.transport.judgment.PutLlmJudgmentRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class CostEstimatorTests extends OpenSearchTestCase {
+
+    private static final ExperimentOptionsForHybridSearch HYBRID_OPTIONS = (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory
+        .createExperimentOptions(
+            ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS,
+            ExperimentOptionsFactory.createDefaultExperimentParametersForHybridSearch()
+        );
+    private static final int HYBRID_GRID_VARIANTS = HYBRID_OPTIONS.getParameterCombinations(true).size();
+    private static final int HYBRID_TECHNIQUES = HYBRID_OPTIONS.getParameterCombinations(false).size();
+
+    private QuerySetDao querySetDao;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private CostEstimator costEstimator;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        querySetDao = mock(QuerySetDao.class);
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getHybridAdaptiveSearchSampleSize()).thenReturn(50);
+        costEstimator = new CostEstimator(querySetDao, settingsAccessor);
+    }
+
+    public void testExperimentCost_whenPairwise_thenOneSearchPerConfiguration() {
+        CostEstimate estimate = costEstimator.experimentCost(ExperimentType.PAIRWISE_COMPARISON, 10, 2, 5);
+
+        assertEquals(10, estimate.getQueryTexts());
+        assertEquals(20, estimate.getSearches());
+        assertEquals(100, estimate.getHits());
+        assertEquals(0, estimate.getPredictCalls());
+        assertEquals(0, estimate.getTokens());
+        assertEquals(10, estimate.getResultDocuments());
+    }
+
+    public void testExperimentCost_whenPointwise_thenEvaluationResultPerConfiguration() {
+        CostEstimate estimate = costEstimator.experimentCost(ExperimentType.POINTWISE_EVALUATION, 10, 2, 5);
+
+        assertEquals(20, estimate.getSearches());
+        assertEquals(30, estimate.getResultDocuments());
+    }
+
+    public void testExperimentCost_whenHybridGrid_thenOneSearchPerVariant() {
+        CostEstimate estimate = costEstimator.experimentCost(ExperimentType.HYBRID_OPTIMIZER, 10, 1, 5);
+
+        assertEquals(10 * HYBRID_GRID_VARIANTS, estimate.getSearches());
+        assertEquals(10 * HYBRID_GRID_VARIANTS * 5, estimate.getHits());
+        assertEquals(10 + 10 * HYBRID_GRID_VARIANTS + HYBRID_GRID_VARIANTS, estimate.getResultDocuments());
+    }
+
+    public void testExperimentCost_whenHybridLocalScoring_thenOneSearchPerSubQuery() {
+        when(settingsAccessor.isHybridLocalScoringEnabled()).thenReturn(true);
+
+        CostEstimate estimate = costEstimator.experimentCost(ExperimentType.HYBRID_OPTIMIZER, 10, 1, 5);
+
+        assertEquals(10 * CostEstimator.HYBRID_SUB_QUERIES, estimate.getSearches());
+        assertEquals(10 + 10 * HYBRID_GRID_VARIANTS + HYBRID_GRID_VARIANTS, estimate.getResultDocuments());
+    }
+
+    public void testExperimentCost_whenHybridAdaptive_thenSampleSearchesAndSelectedVariant() {
+        when(settingsAccessor.isHybridAdaptiveSearchEnabled()).thenReturn(true);
+
+        CostEstimate estimate = costEstimator.experimentCost(ExperimentType.HYBRID_OPTIMIZER, 100, 1, 5);
+
+        assertEquals(AdaptiveHybridSearch.maxRankings(HYBRID_TECHNIQUES, 50) + 100, estimate.getSearches());
+        assertTrue(estimate.getSearches() < 100 * HYBRID_GRID_VARIANTS);
+        assertEquals(2 * 100 + 1 + AdaptiveHybridSearch.maxCandidates(HYBRID_TECHNIQUES), estimate.getResultDocuments());
+    }
+
+    public void testLlmJudgmentCost_whenEveryHitJudged_thenUpperBounds() {
+        CostEstimate estimate = CostEstimator.llmJudgmentCost(10, 2, 5, 1000);
+
+        assertEquals(20, estimate.getSearches());
+        assertEquals(100, estimate.getHits());
+        assertEquals(100, estimate.getPredictCalls());
+        assertEquals(100 * 1000, estimate.getTokens());
+        assertEquals(101, estimate.getResultDocuments());
+    }
+
+    public void testEstimate_whenQuerySetFetched_thenCountsItsQueryTexts() {
+        mockQuerySet(List.of("red shoes", "blue shoes", "green shoes"));
+        AtomicReference<CostEstimate> experimentEstimate = new AtomicReference<>();
+        AtomicReference<CostEstimate> judgmentEstimate = new AtomicReference<>();
+
+        costEstimator.estimateExperiment(
+            new PutExperimentRequest(ExperimentType.PAIRWISE_COMPARISON, "query-set-1", List.of("config-1", "config-2"), List.of(), 10),
+            ActionListener.wrap(experimentEstimate::set, e -> fail(e.getMessage()))
+        );
+        costEstimator.estimateLlmJudgment(
+            new PutLlmJudgmentRequest(
+                JudgmentType.LLM_JUDGMENT,
+                "judgment",
+                "description",
+                "model-1",
+                "query-set-1",
+                List.of("config-1"),
+                10,
+                4000,
+                List.of(),
+                false
+            ),
+            ActionListener.wrap(judgmentEstimate::set, e -> fail(e.getMessage()))
+        );
+
+        assertEquals(3, experimentEstimate.get().getQueryTexts());
+        assertEquals(6, experimentEstimate.get().getSearches());
+        assertEquals(3, judgmentEstimate.get().getSearches());
+        assertEquals(30, judgmentEstimate.get().getPredictCalls());
+    }
+
+    private void mockQuerySet(List<String> queryTexts) {
+        doAnswer(invocation -> {
+            Map<String, Object> results = invocation.getArgument(1);
+            results.put(METRICS_QUERY_TEXT_FIELD_NAME, new ArrayList<>(queryTexts));
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(2);
+            listener.onResponse(results);
+            return null;
+        }).when(querySetDao).getQuerySetWithStepListener(eq("query-set-1"), anyMap(), any());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentResultDaoTests extends OpenSearchTestCase {
+
+    public void testGetCompletedQueryResults_whenMoreThanOnePage_thenReadsEveryPage() throws IOException {
+        SearchRelevanceIndicesManager indicesManager = mock(SearchRelevanceIndicesManager.class);
+        ExperimentResultDao experimentResultDao = new ExperimentResultDao(indicesManager, mock(SearchRelevanceBulkWriter.class));
+        int resultCount = ExperimentResultDao.RESULTS_PAGE_SIZE + 1;
+        List<SearchHit> hits = new ArrayList<>();
+        for (int i = 0; i < resultCount; i++) {
+            hits.add(experimentResultHit("query " + i));
+        }
+        List<String> pitIds = new ArrayList<>();
+        List<Object[]> searchAfters = new ArrayList<>();
+        doAnswer(invocation -> {
+            SearchSourceBuilder sourceBuilder = invocation.getArgument(0);
+            pitIds.add(invocation.getArgument(2));
+            searchAfters.add(sourceBuilder.searchAfter());
+            int from = sourceBuilder.searchAfter() == null ? 0 : ExperimentResultDao.RESULTS_PAGE_SIZE;
+            List<SearchHit> page = hits.subList(from, Math.min(from + sourceBuilder.size(), hits.size()));
+            ActionListener<SearchResponse> listener = invocation.getArgument(4);
+            listener.onResponse(page(page.toArray(new SearchHit[0])));
+            return null;
+        }).when(indicesManager).searchPage(any(), eq(EXPERIMENT_RESULT), any(), any(), any());
+
+        PlainActionFuture<Map<String, Map<String, Object>>> future = new PlainActionFuture<>();
+        experimentResultDao.getCompletedQueryResults("experiment-1", future);
+        Map<String, Map<String, Object>> completedQueryResults = future.actionGet();
+
+        assertEquals(resultCount, completedQueryResults.size());
+        assertEquals(Map.of("evaluationMetrics", Map.of("ndcg@10", 0.5)), completedQueryResults.get("query 0"));
+        // the second page continues after the last hit of the first one, in the same point in time
+        assertEquals(2, pitIds.size());
+        assertNull(pitIds.get(0));
+        assertEquals("pit-1", pitIds.get(1));
+        assertNull(searchAfters.get(0));
+        assertArrayEquals(hits.get(ExperimentResultDao.RESULTS_PAGE_SIZE - 1).getSortValues(), searchAfters.get(1));
+    }
+
+    private static SearchResponse page(SearchHit... hits) {
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        when(response.pointInTimeId()).thenReturn("pit-1");
+        return response;
+    }
+
+    private static SearchHit experimentResultHit(String queryText) throws IOException {
+        String id = ExperimentResult.generateId("experiment-1", queryText);
+        ExperimentResult experimentResult = new ExperimentResult(
+            id,
+            "2025-06-01T00:00:00.000Z",
+            "experiment-1",
+            queryText,
+            Map.of("evaluationMetrics", Map.of("ndcg@10", 0.5))
+        );
+        SearchHit hit = new SearchHit(0, id, Map.of(), Map.of()).sourceRef(
+            BytesReference.bytes(experimentResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
+        );
+        hit.sortValues(new Object[] { id }, new DocValueFormat[] { DocValueFormat.RAW });
+        return hit;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT_RATING;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.TotalHits;
+import org.mockito.InOrder;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRating;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentDaoTests extends OpenSearchTestCase {
+    private SearchRelevanceIndicesManager indicesManager;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private JudgmentDao judgmentDao;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        judgmentDao = new JudgmentDao(indicesManager, settingsAccessor);
+    }
+
+    public void testUpdateJudgment_whenInlineRatingsDisabled_thenStoresRatingsPerQueryTextOnly() throws Exception {
+        when(settingsAccessor.isJudgmentInlineRatingsEnabled()).thenReturn(false);
+        List<Map<String, XContentBuilder>> bulks = new ArrayList<>();
+        doAnswer(invocation -> {
+            bulks.add(invocation.getArgument(0));
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1L));
+            return null;
+        }).when(indicesManager).bulkUpdateDocs(anyMap(), eq(JUDGMENT_RATING), any());
+        List<String> storedJudgments = new ArrayList<>();
+        doAnswer(invocation -> {
+            storedJudgments.add(BytesReference.bytes((XContentBuilder) invocation.getArgument(1)).utf8ToString());
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(indicesManager).updateDoc(eq("judgment-1"), any(), eq(JUDGMENT), any());
+        int queryTexts = JudgmentDao.RATINGS_BATCH_SIZE + 1;
+
+        PlainActionFuture<Object> future = new PlainActionFuture<>();
+        judgmentDao.updateJudgment(judgment(queryTexts), future);
+        future.actionGet();
+
+        // one bulk request per batch of query texts, every query text in its own document
+        assertEquals(2, bulks.size());
+        assertEquals(JudgmentDao.RATINGS_BATCH_SIZE, bulks.get(0).size());
+        assertEquals(1, bulks.get(1).size());
+        String lastDoc = BytesReference.bytes(bulks.get(1).get(JudgmentRating.id("judgment-1", "query-500"))).utf8ToString();
+        assertTrue(lastDoc.contains("\"judgmentId\":\"judgment-1\""));
+        assertTrue(lastDoc.contains("\"query\":\"query-500\""));
+        assertTrue(lastDoc.contains("{\"docId\":\"doc-1\",\"rating\":2.0}"));
+        // the judgment document no longer holds the ratings
+        assertEquals(1, storedJudgments.size());
+        assertTrue(storedJudgments.get(0).contains("\"judgmentRatings\":[]"));
+    }
+
+    public void testUpdateJudgment_whenInlineRatingsEnabled_thenKeepsRatingsInJudgment() {
+        when(settingsAccessor.isJudgmentInlineRatingsEnabled()).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1L));
+            return null;
+        }).when(indicesManager).bulkUpdateDocs(anyMap(), eq(JUDGMENT_RATING), any());
+        List<String> storedJudgments = new ArrayList<>();
+        doAnswer(invocation -> {
+            storedJudgments.add(BytesReference.bytes((XContentBuilder) invocation.getArgument(1)).utf8ToString());
+            ActionListener<Object> listener = invocation.getArgument(3);
+            listener.onResponse(null);
+            return null;
+        }).when(indicesManager).updateDoc(eq("judgment-1"), any(), eq(JUDGMENT), any());
+
+        PlainActionFuture<Object> future = new PlainActionFuture<>();
+        judgmentDao.updateJudgment(judgment(2), future);
+        future.actionGet();
+
+        assertTrue(storedJudgments.get(0).contains("\"query\":\"query-1\""));
+    }
+
+    public void testUpdateJudgment_whenRatingsFailToStore_thenJudgmentNotUpdated() {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("bulk failed"));
+            return null;
+        }).when(indicesManager).bulkUpdateDocs(anyMap(), eq(JUDGMENT_RATING), any());
+
+        PlainActionFuture<Object> future = new PlainActionFuture<>();
+        judgmentDao.updateJudgment(judgment(2), future);
+
+        IllegalStateException e = expectThrows(IllegalStateException.class, future::actionGet);
+        assertEquals("bulk failed", e.getMessage());
+        verify(indicesManager, never()).updateDoc(anyString(), any(), any(), any());
+    }
+
+    public void testGetQueryRatings_whenBatchOfQueryTexts_thenTermLookupsPerBatch() throws Exception {
+        List<SearchSourceBuilder> searches = new ArrayList<>();
+        doAnswer(invocation -> {
+            SearchSourceBuilder sourceBuilder = invocation.getArgument(0);
+            searches.add(sourceBuilder);
+            BoolQueryBuilder query = (BoolQueryBuilder) sourceBuilder.query();
+            TermsQueryBuilder termsQuery = (TermsQueryBuilder) query.filter().get(1);
+            List<SearchHit> hits = new ArrayList<>();
+            for (Object queryText : termsQuery.values()) {
+                // only the first query text of every batch has ratings stored
+                if (queryText.equals("query-0") || queryText.equals("query-" + JudgmentDao.RATINGS_BATCH_SIZE)) {
+                    JudgmentRating judgmentRating = new JudgmentRating(
+                        "judgment-1",
+                        (String) queryText,
+                        Map.of("doc-1", 3.0f)
+                    );
+                    hits.add(
+                        new SearchHit(hits.size(), judgmentRating.getId(), Map.of(), Map.of()).sourceRef(
+                            BytesReference.bytes(judgmentRating.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
+                        )
+                    );
+                }
+            }
+            SearchResponse searchResponse = mock(SearchResponse.class);
+            when(searchResponse.getHits()).thenReturn(
+                new SearchHits(hits.toArray(new SearchHit[0]), new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO), 1.0f)
+            );
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(indicesManager).listDocsBySearchRequest(any(), eq(JUDGMENT_RATING), any());
+        List<String> queryTexts = new ArrayList<>();
+        for (int i = 0; i < JudgmentDao.RATINGS_BATCH_SIZE + 10; i++) {
+            queryTexts.add("query-" + i);
+        }
+        // duplicated query texts are looked up once
+        queryTexts.add("query-0");
+
+        PlainActionFuture<JudgmentRatings> future = new PlainActionFuture<>();
+        judgmentDao.getQueryRatings("judgment-1", queryTexts, future);
+        JudgmentRatings queryRatings = future.actionGet();
+
+        assertEquals(2, searches.size());
+        assertEquals(JudgmentDao.RATINGS_BATCH_SIZE, searches.get(0).size());
+        assertEquals(10, searches.get(1).size());
+        BoolQueryBuilder query = (BoolQueryBuilder) searches.get(0).query();
+        assertEquals(QueryBuilders.termQuery(JudgmentRating.JUDGMENT_ID, "judgment-1"), query.filter().get(0));
+        JudgmentRatings expected = new JudgmentRatings.Builder().add("query-0", Map.of("doc-1", 3.0f))
+            .add("query-" + JudgmentDao.RATINGS_BATCH_SIZE, Map.of("doc-1", 3.0f))
+            .build();
+        assertEquals(expected, queryRatings);
+
+        PlainActionFuture<Map<String, Float>> single = new PlainActionFuture<>();
+        judgmentDao.getQueryRatings("judgment-1", "query-1", single);
+        assertTrue(single.actionGet().isEmpty());
+    }
+
+    public void testDeleteJudgment_thenDeletesRatingsBeforeJudgment() {
+        doAnswer(invocation -> {
+            ActionListener<BulkByScrollResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(BulkByScrollResponse.class));
+            return null;
+        }).when(indicesManager).deleteDocsByQuery(any(), eq(JUDGMENT_RATING), any());
+        DeleteResponse deleteResponse = mock(DeleteResponse.class);
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(2);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(indicesManager).deleteDocByDocId(eq("judgment-1"), eq(JUDGMENT), any());
+
+        PlainActionFuture<DeleteResponse> future = new PlainActionFuture<>();
+        judgmentDao.deleteJudgment("judgment-1", future);
+
+        assertSame(deleteResponse, future.actionGet());
+        InOrder order = inOrder(indicesManager);
+        QueryBuilder ratingsQuery = QueryBuilders.termQuery(JudgmentRating.JUDGMENT_ID, "judgment-1");
+        order.verify(indicesManager).deleteDocsByQuery(eq(ratingsQuery), eq(JUDGMENT_RATING), any());
+        order.verify(indicesManager).deleteDocByDocId(eq("judgment-1"), eq(JUDGMENT), any());
+    }
+
+    private static Judgment judgment(int queryTexts) {
+        JudgmentRatings.Builder judgmentRatings = new JudgmentRatings.Builder();
+        for (int i = 0; i < queryTexts; i++) {
+            judgmentRatings.addQueryText("query-" + i).addRating("doc-1", 2.0f);
+        }
+        return new Judgment(
+            "judgment-1",
+            "2025-01-01T00:00:00.000Z",
+            "judgment",
+            AsyncStatus.COMPLETED,
+            JudgmentType.IMPORT_JUDGMENT,
+            Map.of(),
+            judgmentRatings.build()
+        );
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class ExperimentSearchSchedulerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private Client client;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private List<MultiSearchRequest> sentRequests;
+    private List<ActionListener<MultiSearchResponse>> sentListeners;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        // a single thread makes every search queued from one task land in the same dispatch round
+        Settings settings = Settings.builder().put("thread_pool." + SearchRelevanceExecutor.THREAD_POOL_NAME + ".size", 1).build();
+        threadPool = new TestThreadPool(getTestName(), SearchRelevanceExecutor.getExecutorBuilder(settings));
+        client = mock(Client.class);
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getMaxConcurrentSearchesPerNode()).thenReturn(2);
+        when(settingsAccessor.getMaxConcurrentSearchesPerExperiment()).thenReturn(1);
+        when(settingsAccessor.getMsearchBatchSize()).thenReturn(10);
+        when(settingsAccessor.getMsearchMaxConcurrentSearchRequests()).thenReturn(3);
+        sentRequests = new CopyOnWriteArrayList<>();
+        sentListeners = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sentListeners.add(invocation.getArgument(1));
+            sentRequests.add(invocation.getArgument(0));
+            return null;
+        }).when(client).multiSearch(any(MultiSearchRequest.class), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    public void testSearch_whenLimitsReached_thenQueuesAndServesExperimentsRoundRobin() throws Exception {
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        SearchRequest firstOfA = new SearchRequest("a1");
+        SearchRequest secondOfA = new SearchRequest("a2");
+        SearchRequest thirdOfA = new SearchRequest("a3");
+        SearchRequest firstOfB = new SearchRequest("b1");
+        SearchRequest firstOfC = new SearchRequest("c1");
+        CountDownLatch responses = new CountDownLatch(2);
+
+        submit(() -> {
+            scheduler.search("A", firstOfA, ActionListener.wrap(r -> responses.countDown(), e -> fail()));
+            scheduler.search("B", firstOfB, ActionListener.wrap(r -> fail(), e -> responses.countDown()));
+            scheduler.search("A", secondOfA, ActionListener.wrap(r -> {}, e -> fail()));
+            scheduler.search("A", thirdOfA, ActionListener.wrap(r -> {}, e -> fail()));
+            scheduler.search("C", firstOfC, ActionListener.wrap(r -> {}, e -> fail()));
+        });
+
+        // node is capped at two searches, experiment A at one
+        assertBusy(() -> assertEquals(1, sentRequests.size()));
+        assertEquals(List.of(firstOfA, firstOfB), sentRequests.get(0).requests());
+        assertEquals(3, sentRequests.get(0).maxConcurrentSearchRequests());
+        assertEquals(2, scheduler.getInFlightCount());
+        assertEquals(3, scheduler.getQueuedCount());
+
+        sentListeners.get(0).onResponse(multiSearchResponse(mock(SearchResponse.class), new RuntimeException("search failed")));
+        assertTrue(responses.await(10, TimeUnit.SECONDS));
+
+        // experiment A was just served, so C goes before the second search of A and the third one keeps waiting
+        assertBusy(() -> assertEquals(2, sentRequests.size()));
+        assertEquals(List.of(firstOfC, secondOfA), sentRequests.get(1).requests());
+        assertEquals(1, scheduler.getQueuedCount());
+
+        sentListeners.get(1).onResponse(multiSearchResponse(mock(SearchResponse.class), mock(SearchResponse.class)));
+        assertBusy(() -> assertEquals(3, sentRequests.size()));
+        assertEquals(List.of(thirdOfA), sentRequests.get(2).requests());
+        assertEquals(0, scheduler.getQueuedCount());
+        assertEquals(1, scheduler.getInFlightCount());
+    }
+
+    public void testSearch_whenMoreSearchesThanBatchSize_thenSplitsIntoSeveralMultiSearches() throws Exception {
+        when(settingsAccessor.getMaxConcurrentSearchesPerNode()).thenReturn(5);
+        when(settingsAccessor.getMaxConcurrentSearchesPerExperiment()).thenReturn(5);
+        when(settingsAccessor.getMsearchBatchSize()).thenReturn(2);
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        List<SearchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(new SearchRequest("a" + i));
+        }
+
+        submit(() -> requests.forEach(request -> scheduler.search("A", request, ActionListener.wrap(r -> {}, e -> {}))));
+
+        assertBusy(() -> assertEquals(3, sentRequests.size()));
+        assertEquals(requests.subList(0, 2), sentRequests.get(0).requests());
+        assertEquals(requests.subList(2, 4), sentRequests.get(1).requests());
+        assertEquals(requests.subList(4, 5), sentRequests.get(2).requests());
+        assertEquals(5, scheduler.getInFlightCount());
+    }
+
+    public void testSearch_whenMultiSearchFails_thenEverySearchOfTheBatchFails() throws Exception {
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        CountDownLatch failures = new CountDownLatch(2);
+
+        submit(() -> {
+            scheduler.search("A", new SearchRequest("a1"), ActionListener.wrap(r -> fail(), e -> failures.countDown()));
+            scheduler.search("B", new SearchRequest("b1"), ActionListener.wrap(r -> fail(), e -> failures.countDown()));
+        });
+        assertBusy(() -> assertEquals(1, sentRequests.size()));
+        sentListeners.get(0).onFailure(new RuntimeException("cluster unavailable"));
+
+        assertTrue(failures.await(10, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.getInFlightCount());
+    }
+
+    public void testSearch_whenClientThrows_thenPermitIsReleased() throws Exception {
+        doAnswer(invocation -> { throw new IllegalStateException("client closed"); }).when(client)
+            .multiSearch(any(MultiSearchRequest.class), any());
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+
+        scheduler.search("A", new SearchRequest("a1"), ActionListener.wrap(r -> fail(), failures::add));
+
+        assertBusy(() -> assertEquals(1, failures.size()));
+        assertEquals(0, scheduler.getInFlightCount());
+        assertEquals(0, scheduler.getQueuedCount());
+    }
+
+    public void testCancel_whenExperimentCancelled_thenFailsQueuedAndInFlightSearches() throws Exception {
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        CountDownLatch otherExperiment = new CountDownLatch(1);
+
+        submit(() -> {
+            scheduler.search("A", new SearchRequest("a1"), ActionListener.wrap(r -> fail(), failures::add));
+            scheduler.search("A", new SearchRequest("a2"), ActionListener.wrap(r -> fail(), failures::add));
+            scheduler.search("B", new SearchRequest("b1"), ActionListener.wrap(r -> otherExperiment.countDown(), e -> fail()));
+        });
+        assertBusy(() -> assertEquals(1, sentRequests.size()));
+        assertEquals(1, scheduler.getQueuedCount());
+
+        scheduler.cancel("A");
+        assertBusy(() -> assertEquals(1, failures.size()));
+        assertEquals(0, scheduler.getQueuedCount());
+        scheduler.search("A", new SearchRequest("a3"), ActionListener.wrap(r -> fail(), failures::add));
+        assertEquals(2, failures.size());
+
+        // the search of A in flight fails once it returns, the one of B is not affected
+        sentListeners.get(0).onResponse(multiSearchResponse(mock(SearchResponse.class), mock(SearchResponse.class)));
+        assertBusy(() -> assertEquals(3, failures.size()));
+        assertTrue(otherExperiment.await(10, TimeUnit.SECONDS));
+        assertTrue(failures.stream().allMatch(e -> e instanceof TaskCancelledException));
+        assertEquals(1, sentRequests.size());
+        assertEquals(0, scheduler.getInFlightCount());
+
+        // the mark outlives the searches in flight
+        scheduler.search("A", new SearchRequest("a4"), ActionListener.wrap(r -> fail(), failures::add));
+        assertEquals(4, failures.size());
+    }
+
+    public void testSearch_whenSubmittedAfterCancelWithNothingInFlight_thenFailsUntilUnregistered() throws Exception {
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+
+        scheduler.cancel("A");
+        scheduler.search("A", new SearchRequest("a1"), ActionListener.wrap(r -> fail(), failures::add));
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof TaskCancelledException);
+        assertEquals(0, scheduler.getQueuedCount());
+
+        scheduler.unregister("A");
+        submit(() -> scheduler.search("A", new SearchRequest("a2"), ActionListener.wrap(r -> {}, e -> fail())));
+        assertBusy(() -> assertEquals(1, sentRequests.size()));
+        assertEquals(1, failures.size());
+    }
+
+    public void testUnregister_whenCancelledSearchStillInFlight_thenItFailsOnceItReturns() throws Exception {
+        ExperimentSearchScheduler scheduler = new ExperimentSearchScheduler(client, threadPool, settingsAccessor);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+
+        submit(() -> scheduler.search("A", new SearchRequest("a1"), ActionListener.wrap(r -> fail(), failures::add)));
+        assertBusy(() -> assertEquals(1, sentRequests.size()));
+        scheduler.cancel("A");
+        scheduler.unregister("A");
+
+        sentListeners.get(0).onResponse(multiSearchResponse(mock(SearchResponse.class)));
+        assertBusy(() -> assertEquals(1, failures.size()));
+        assertTrue(failures.get(0) instanceof TaskCancelledException);
+
+        // forgotten once the search in flight returned
+        submit(() -> scheduler.search("A", new SearchRequest("a2"), ActionListener.wrap(r -> {}, e -> fail())));
+        assertBusy(() -> assertEquals(2, sentRequests.size()));
+    }
+
+    private void submit(Runnable runnable) {
+        threadPool.executor(SearchRelevanceExecutor.THREAD_POOL_NAME).execute(runnable);
+    }
+
+    private static MultiSearchResponse multiSearchResponse(Object... results) {
+        MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[results.length];
+        for (int i = 0; i < results.length; i++) {
+            items[i] = results[i] instanceof Exception
+                ? new MultiSearchResponse.Item(null, (Exception) results[i])
+                : new MultiSearchResponse.Item((SearchResponse) results[i], null);
+        }
+        return new MultiSearchResponse(items, 1L);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.admin.indices.stats.CommonStats;
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
+import org.opensearch.action.admin.indices.stats.ShardStats;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.refresh.RefreshStats;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.AdminClient;
+import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.IndicesAdminClient;
+
+public class SearchResultCacheTests extends OpenSearchTestCase {
+
+    private Client client;
+    private ExperimentSearchScheduler scheduler;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private List<ActionListener<SearchResponse>> scheduledSearches;
+    private long maxSeqNo;
+    private Set<String> unavailableIndices;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        scheduler = mock(ExperimentSearchScheduler.class);
+        scheduledSearches = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            scheduledSearches.add(invocation.getArgument(2));
+            return null;
+        }).when(scheduler).search(anyString(), any(SearchRequest.class), any());
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getSearchResultCacheSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+
+        maxSeqNo = 10;
+        unavailableIndices = Set.of();
+        client = mock(Client.class);
+        AdminClient adminClient = mock(AdminClient.class);
+        IndicesAdminClient indicesAdminClient = mock(IndicesAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        doAnswer(invocation -> {
+            String index = ((IndicesStatsRequest) invocation.getArgument(0)).indices()[0];
+            ActionListener<IndicesStatsResponse> listener = invocation.getArgument(1);
+            if (unavailableIndices.contains(index)) {
+                listener.onFailure(new IllegalStateException("no such index [" + index + "]"));
+                return null;
+            }
+            ShardStats[] shards = new ShardStats[] { shardStats(index, maxSeqNo) };
+            IndicesStatsResponse response = mock(IndicesStatsResponse.class);
+            when(response.getShards()).thenReturn(shards);
+            listener.onResponse(response);
+            return null;
+        }).when(indicesAdminClient).stats(any(IndicesStatsRequest.class), any());
+    }
+
+    public void testSearch_whenIdenticalSearchesInFlight_thenSendsOneSearch() {
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+        List<List<String>> responses = new CopyOnWriteArrayList<>();
+
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(responses::add, e -> fail()));
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(responses::add, e -> fail()));
+        cache.search("experiment-1", searchRequest("phone"), ActionListener.wrap(responses::add, e -> fail()));
+        assertEquals(2, scheduledSearches.size());
+
+        scheduledSearches.get(0).onResponse(searchResponse("doc-1", "doc-2"));
+        assertEquals(List.of(List.of("doc-1", "doc-2"), List.of("doc-1", "doc-2")), responses);
+
+        // completed searches are served from the cache
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(responses::add, e -> fail()));
+        assertEquals(2, scheduledSearches.size());
+        assertEquals(3, responses.size());
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    public void testSearch_whenSearchFails_thenFailsWaitersAndCachesNothing() {
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> fail(), failures::add));
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> fail(), failures::add));
+        scheduledSearches.get(0).onFailure(new IllegalStateException("search failed"));
+
+        assertEquals(2, failures.size());
+        assertEquals(0, cache.count());
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> {}, e -> fail()));
+        assertEquals(2, scheduledSearches.size());
+    }
+
+    public void testRelease_whenExperimentScoped_thenDropsItsSearches() {
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> {}, e -> fail()));
+        scheduledSearches.get(0).onResponse(searchResponse("doc-1"));
+        cache.search("experiment-2", searchRequest("laptop"), ActionListener.wrap(r -> {}, e -> fail()));
+        scheduledSearches.get(1).onResponse(searchResponse("doc-1"));
+        // without index scopes experiments do not share searches
+        assertEquals(2, scheduledSearches.size());
+        assertEquals(2, cache.count());
+
+        cache.release("experiment-1");
+        assertEquals(1, cache.count());
+    }
+
+    public void testSearch_whenCrossExperimentEnabled_thenSharesSearchesUntilIndexChanges() {
+        when(settingsAccessor.isSearchResultCacheCrossExperimentEnabled()).thenReturn(true);
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+
+        cache.resolveScopes("experiment-1", List.of("products"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> {}, e -> fail()));
+        scheduledSearches.get(0).onResponse(searchResponse("doc-1"));
+        cache.release("experiment-1");
+
+        AtomicReference<List<String>> response = new AtomicReference<>();
+        cache.resolveScopes("experiment-2", List.of("products"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-2", searchRequest("laptop"), ActionListener.wrap(response::set, e -> fail()));
+        assertEquals(1, scheduledSearches.size());
+        assertEquals(List.of("doc-1"), response.get());
+
+        // a write to the index changes its fingerprint
+        maxSeqNo++;
+        cache.resolveScopes("experiment-3", List.of("products"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-3", searchRequest("laptop"), ActionListener.wrap(r -> {}, e -> fail()));
+        assertEquals(2, scheduledSearches.size());
+    }
+
+    public void testSearch_whenCrossExperimentOnTwoIndices_thenSharesSearchesWhileBothAreFingerprinted() {
+        when(settingsAccessor.isSearchResultCacheCrossExperimentEnabled()).thenReturn(true);
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+        SearchRequest searchRequest = new SearchRequest("products,reviews").source(
+            new SearchSourceBuilder().query(QueryBuilders.matchQuery("name", "laptop")).size(10)
+        );
+
+        cache.resolveScopes("experiment-1", List.of("products,reviews"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-1", searchRequest, ActionListener.wrap(r -> {}, e -> fail()));
+        scheduledSearches.get(0).onResponse(searchResponse("doc-1"));
+        cache.release("experiment-1");
+
+        // the same indices listed in another order share the search
+        AtomicReference<List<String>> response = new AtomicReference<>();
+        cache.resolveScopes("experiment-2", List.of("reviews, products"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-2", searchRequest, ActionListener.wrap(response::set, e -> fail()));
+        assertEquals(1, scheduledSearches.size());
+        assertEquals(List.of("doc-1"), response.get());
+
+        // an index that cannot be fingerprinted keeps the search scoped to the experiment
+        unavailableIndices = Set.of("reviews");
+        cache.resolveScopes("experiment-3", List.of("products,reviews"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-3", searchRequest, ActionListener.wrap(r -> {}, e -> fail()));
+        assertEquals(2, scheduledSearches.size());
+        scheduledSearches.get(1).onResponse(searchResponse("doc-1"));
+        cache.release("experiment-3");
+        assertEquals(1, cache.count());
+    }
+
+    public void testSearch_whenCrossExperimentLeaderCancelled_thenOtherExperimentsSearchAgain() {
+        when(settingsAccessor.isSearchResultCacheCrossExperimentEnabled()).thenReturn(true);
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        AtomicReference<List<String>> response = new AtomicReference<>();
+
+        cache.resolveScopes("experiment-1", List.of("products"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.resolveScopes("experiment-2", List.of("products"), ActionListener.wrap(r -> {}, e -> fail()));
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> fail(), failures::add));
+        cache.search("experiment-1", searchRequest("laptop"), ActionListener.wrap(r -> fail(), failures::add));
+        cache.search("experiment-2", searchRequest("laptop"), ActionListener.wrap(response::set, e -> fail()));
+        assertEquals(1, scheduledSearches.size());
+
+        scheduledSearches.get(0).onFailure(new TaskCancelledException("experiment-1 cancelled"));
+        assertEquals(2, failures.size());
+        assertTrue(failures.stream().allMatch(e -> e instanceof TaskCancelledException));
+        // the waiter of experiment-2 sends the search again
+        assertEquals(2, scheduledSearches.size());
+        assertNull(response.get());
+
+        scheduledSearches.get(1).onResponse(searchResponse("doc-1"));
+        assertEquals(List.of("doc-1"), response.get());
+        assertEquals(1, cache.count());
+    }
+
+    public void testSearch_whenMemoryBudgetExceeded_thenEvicts() {
+        when(settingsAccessor.getSearchResultCacheSize()).thenReturn(new ByteSizeValue(1024));
+        SearchResultCache cache = new SearchResultCache(client, scheduler, settingsAccessor);
+
+        for (int i = 0; i < 10; i++) {
+            cache.search("experiment-1", searchRequest("query " + i), ActionListener.wrap(r -> {}, e -> fail()));
+            scheduledSearches.get(i).onResponse(searchResponse("doc-1", "doc-2", "doc-3"));
+        }
+
+        assertTrue(cache.count() < 10);
+        assertTrue(cache.stats().getEvictions() > 0);
+    }
+
+    private static SearchRequest searchRequest(String queryText) {
+        return new SearchRequest("products").source(new SearchSourceBuilder().query(QueryBuilders.matchQuery("name", queryText)).size(10));
+    }
+
+    private static SearchResponse searchResponse(String... docIds) {
+        SearchHit[] hits = new SearchHit[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            hits[i] = new SearchHit(i, docIds[i], Map.of(), Map.of());
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(docIds.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+
+    private static ShardStats shardStats(String index, long maxSeqNo) {
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        when(shardRouting.primary()).thenReturn(true);
+        when(shardRouting.shardId()).thenReturn(new ShardId(new Index(index, index + "-uuid"), 0));
+        CommonStats commonStats = mock(CommonStats.class);
+        when(commonStats.getRefresh()).thenReturn(new RefreshStats(3, 0, 0, 0, 0));
+        ShardStats shardStats = mock(ShardStats.class);
+        when(shardStats.getShardRouting()).thenReturn(shardRouting);
+        when(shardStats.getStats()).thenReturn(commonStats);
+        when(shardStats.getSeqNoStats()).thenReturn(new SeqNoStats(maxSeqNo, maxSeqNo, maxSeqNo));
+        return shardStats;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
+import org.opensearch.searchrelevance.metrics.JudgmentIndex;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveHybridSearchTests extends OpenSearchTestCase {
+
+    private static final Map<String, List<String>> INDEX_AND_QUERIES = Map.of("config-1", List.of("products", "hybrid query"));
+
+    private MetricsHelper metricsHelper;
+    private ExperimentVariantDao experimentVariantDao;
+    private List<ExperimentVariant> recordedVariants;
+    private AtomicInteger rankedVariants;
+    private ExperimentOptionsForHybridSearch options;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        options = (ExperimentOptionsForHybridSearch) ExperimentOptionsFactory.createExperimentOptions(
+            ExperimentOptionsFactory.HYBRID_SEARCH_EXPERIMENT_OPTIONS,
+            ExperimentOptionsFactory.createDefaultExperimentParametersForHybridSearch()
+        );
+        // the relevant document ranks higher the closer the variant is to min_max, arithmetic_mean and a weight of 0.7
+        rankedVariants = new AtomicInteger();
+        metricsHelper = mock(MetricsHelper.class);
+        doAnswer(invocation -> {
+            List<ExperimentVariant> experimentVariants = invocation.getArgument(5);
+            ActionListener<List<List<String>>> listener = invocation.getArgument(7);
+            List<List<String>> docIdsByVariant = new ArrayList<>();
+            for (ExperimentVariant experimentVariant : experimentVariants) {
+                rankedVariants.incrementAndGet();
+                docIdsByVariant.add(ranking(experimentVariant.getParameters()));
+            }
+            listener.onResponse(docIdsByVariant);
+            return null;
+        }).when(metricsHelper).rankHybridVariants(anyString(), anyString(), anyString(), anyString(), anyInt(), anyList(), any(), any());
+
+        recordedVariants = new ArrayList<>();
+        experimentVariantDao = mock(ExperimentVariantDao.class);
+        doAnswer(invocation -> {
+            recordedVariants.add(invocation.getArgument(0));
+            ActionListener<Void> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentVariantDao).bulkUpdateExperimentVariant(any(ExperimentVariant.class), any());
+    }
+
+    public void testSearch_whenQueryTextsHaveRatings_thenFindsBestVariantWithFewerSearches() {
+        List<String> queryTexts = queryTexts(20);
+        AtomicReference<List<ExperimentVariantHybridSearchDTO>> selected = new AtomicReference<>();
+
+        new AdaptiveHybridSearch(metricsHelper, experimentVariantDao).search(
+            "experiment-1",
+            INDEX_AND_QUERIES,
+            queryTexts,
+            10,
+            judgmentIndex(queryTexts),
+            10,
+            options,
+            ActionListener.wrap(selected::set, e -> fail(e.getMessage()))
+        );
+
+        assertEquals(1, selected.get().size());
+        ExperimentVariantHybridSearchDTO variant = selected.get().get(0);
+        assertEquals("min_max", variant.getNormalizationTechnique());
+        assertEquals("arithmetic_mean", variant.getCombinationTechnique());
+        assertEquals(0.7f, variant.getQueryWeightsForCombination()[0], 0.05f);
+        assertEquals(1.0f, variant.getQueryWeightsForCombination()[0] + variant.getQueryWeightsForCombination()[1], 0.001f);
+        // the grid ranks its 66 variants on every query text of the sample, most of the adaptive searches are spent on
+        // the golden-section search over the whole sample
+        int gridRankedVariants = options.getParameterCombinations(true).size() * 10;
+        assertTrue(rankedVariants.get() * 3 < gridRankedVariants);
+        // the cost estimate of the experiment is an upper bound of the search
+        assertTrue(rankedVariants.get() <= AdaptiveHybridSearch.maxRankings(options.getParameterCombinations(false).size(), 10));
+    }
+
+    public void testSearch_whenDone_thenRecordsTrajectoryOfEveryCandidate() {
+        List<String> queryTexts = queryTexts(20);
+        AtomicReference<List<ExperimentVariantHybridSearchDTO>> selected = new AtomicReference<>();
+
+        new AdaptiveHybridSearch(metricsHelper, experimentVariantDao).search(
+            "experiment-1",
+            INDEX_AND_QUERIES,
+            queryTexts,
+            10,
+            judgmentIndex(queryTexts),
+            10,
+            options,
+            ActionListener.wrap(selected::set, e -> fail(e.getMessage()))
+        );
+
+        // 6 technique pairs with 5 coarse weights, then the weights of the golden-section search
+        assertTrue(recordedVariants.size() > 30);
+        List<ExperimentVariant> selectedVariants = new ArrayList<>();
+        for (ExperimentVariant variant : recordedVariants) {
+            assertEquals(AsyncStatus.COMPLETED, variant.getStatus());
+            assertEquals(AdaptiveHybridSearch.STRATEGY, variant.getResults().get(AdaptiveHybridSearch.RESULTS_FIELD_STRATEGY));
+            List<Map<String, Object>> trajectory = (List<Map<String, Object>>) variant.getResults()
+                .get(AdaptiveHybridSearch.RESULTS_FIELD_TRAJECTORY);
+            assertFalse(trajectory.isEmpty());
+            if ((boolean) variant.getResults().get(AdaptiveHybridSearch.RESULTS_FIELD_SELECTED)) {
+                selectedVariants.add(variant);
+            }
+        }
+        assertEquals(1, selectedVariants.size());
+        Map<String, Object> selectedParameters = selectedVariants.get(0).getParameters();
+        assertArrayEquals(
+            selected.get().get(0).getQueryWeightsForCombination(),
+            (float[]) selectedParameters.get(EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION),
+            0.0f
+        );
+        // the selected variant was scored on the whole sample
+        List<Map<String, Object>> trajectory = (List<Map<String, Object>>) selectedVariants.get(0)
+            .getResults()
+            .get(AdaptiveHybridSearch.RESULTS_FIELD_TRAJECTORY);
+        assertEquals(10, trajectory.get(trajectory.size() - 1).get(AdaptiveHybridSearch.TRAJECTORY_FIELD_QUERY_TEXTS));
+    }
+
+    public void testSearch_whenNoRatings_thenReturnsFullGrid() {
+        AtomicReference<List<ExperimentVariantHybridSearchDTO>> selected = new AtomicReference<>();
+
+        new AdaptiveHybridSearch(metricsHelper, experimentVariantDao).search(
+            "experiment-1",
+            INDEX_AND_QUERIES,
+            queryTexts(5),
+            10,
+            JudgmentIndex.empty(),
+            10,
+            options,
+            ActionListener.wrap(selected::set, e -> fail(e.getMessage()))
+        );
+
+        assertEquals(options.getParameterCombinations(true).size(), selected.get().size());
+        verify(metricsHelper, never()).rankHybridVariants(
+            anyString(),
+            anyString(),
+            anyString(),
+            anyString(),
+            anyInt(),
+            anyList(),
+            any(),
+            any()
+        );
+        assertTrue(recordedVariants.isEmpty());
+    }
+
+    public void testSearch_whenRankingFails_thenFails() {
+        doAnswer(invocation -> {
+            ActionListener<List<List<String>>> listener = invocation.getArgument(7);
+            listener.onFailure(new IllegalStateException("search failed"));
+            return null;
+        }).when(metricsHelper).rankHybridVariants(anyString(), anyString(), anyString(), anyString(), anyInt(), anyList(), any(), any());
+        List<String> queryTexts = queryTexts(5);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        new AdaptiveHybridSearch(metricsHelper, experimentVariantDao).search(
+            "experiment-1",
+            INDEX_AND_QUERIES,
+            queryTexts,
+            10,
+            judgmentIndex(queryTexts),
+            10,
+            options,
+            ActionListener.wrap(r -> fail(), failure::set)
+        );
+
+        assertEquals("search failed", failure.get().getMessage());
+        assertTrue(recordedVariants.isEmpty());
+    }
+
+    public void testFirstRungQueryTexts() {
+        // 30 candidates are halved 4 times by ETA 3, the last rung is scored on 81 times the query texts of the first
+        assertEquals(1, AdaptiveHybridSearch.firstRungQueryTexts(30, 50));
+        assertEquals(2, AdaptiveHybridSearch.firstRungQueryTexts(30, 200));
+        assertEquals(10, AdaptiveHybridSearch.firstRungQueryTexts(1, 10));
+    }
+
+    private static List<String> ranking(Map<String, Object> parameters) {
+        float weight = ((float[]) parameters.get(EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION))[0];
+        int position = (int) (Math.abs(weight - 0.7f) * 20);
+        if ("min_max".equals(parameters.get(EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE)) == false) {
+            position += 3;
+        }
+        if ("arithmetic_mean".equals(parameters.get(EXPERIMENT_OPTION_COMBINATION_TECHNIQUE)) == false) {
+            position += 2;
+        }
+        List<String> docIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            docIds.add("doc-" + i);
+        }
+        docIds.add(position, "relevant");
+        return docIds;
+    }
+
+    private static List<String> queryTexts(int count) {
+        List<String> queryTexts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            queryTexts.add("query " + i);
+        }
+        return queryTexts;
+    }
+
+    private static JudgmentIndex judgmentIndex(List<String> queryTexts) {
+        JudgmentRatings.Builder ratings = new JudgmentRatings.Builder();
+        for (String queryText : queryTexts) {
+            ratings.add(queryText, Map.of("relevant", 3.0f));
+        }
+        return JudgmentIndex.merge(List.of(ratings.build()), queryTexts);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentProgressTests extends OpenSearchTestCase {
+
+    public void testSummary_whenQueryTextsRestored_thenCountsThem() {
+        ExperimentProgress progress = new ExperimentProgress(1, 2);
+
+        progress.complete(10);
+        Map<String, Object> summary = progress.summary("result-index");
+
+        assertEquals(3, summary.get(ExperimentProgress.SUMMARY_TOTAL_QUERY_TEXTS));
+        assertEquals(2, summary.get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals("result-index", summary.get(ExperimentProgress.SUMMARY_RESULT_INDEX));
+    }
+
+    public void testComplete_whenCheckpointIntervalReached_thenRequestsOneCheckpointAtATime() {
+        ExperimentProgress progress = new ExperimentProgress(1, 5);
+
+        assertEquals(ExperimentProgress.Step.NONE, progress.complete(2));
+        assertEquals(ExperimentProgress.Step.CHECKPOINT, progress.complete(2));
+        assertEquals(ExperimentProgress.Step.NONE, progress.complete(2));
+        // the previous checkpoint is still in flight
+        assertEquals(ExperimentProgress.Step.NONE, progress.complete(2));
+        assertEquals(ExperimentProgress.Step.FINISH, progress.complete(2));
+        assertEquals(6, progress.summary("result-index").get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+    }
+
+    public void testWhenNoCheckpointInFlight_whenCheckpointPending_thenRunsActionAfterIt() {
+        ExperimentProgress progress = new ExperimentProgress(0, 2);
+        List<String> actions = new ArrayList<>();
+
+        assertEquals(ExperimentProgress.Step.CHECKPOINT, progress.complete(1));
+        progress.whenNoCheckpointInFlight(() -> actions.add("final update"));
+        assertTrue(actions.isEmpty());
+
+        progress.checkpointDone();
+        assertEquals(List.of("final update"), actions);
+
+        progress.whenNoCheckpointInFlight(() -> actions.add("error update"));
+        assertEquals(List.of("final update", "error update"), actions);
+    }
+
+    public void testComplete_whenCalledConcurrently_thenFinishesExactlyOnce() throws Exception {
+        int threads = 4;
+        int queriesPerThread = 250;
+        ExperimentProgress progress = new ExperimentProgress(0, threads * queriesPerThread);
+        AtomicInteger finishes = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < queriesPerThread; j++) {
+                    ExperimentProgress.Step step = progress.complete(10);
+                    if (step == ExperimentProgress.Step.CHECKPOINT) {
+                        progress.checkpointDone();
+                    } else if (step == ExperimentProgress.Step.FINISH) {
+                        finishes.incrementAndGet();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(1, finishes.get());
+        assertEquals(threads * queriesPerThread, progress.summary("result-index").get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+    }
+}
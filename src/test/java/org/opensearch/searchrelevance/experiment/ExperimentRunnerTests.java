@@ -0,0 +1,758 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_SEARCHES;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.cost.CostEstimator;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+import org.opensearch.searchrelevance.metrics.ExperimentSignificance;
+import org.opensearch.searchrelevance.metrics.JudgmentIndex;
+import org.opensearch.searchrelevance.metrics.MetricAggregate;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceRequest;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class ExperimentRunnerTests extends OpenSearchTestCase {
+
+    private static final String NODE_ID = "node-1";
+
+    private ThreadPool threadPool;
+    private ExperimentDao experimentDao;
+    private ExperimentResultDao experimentResultDao;
+    private ExperimentVariantDao experimentVariantDao;
+    private QuerySetDao querySetDao;
+    private SearchConfigurationDao searchConfigurationDao;
+    private MetricsHelper metricsHelper;
+    private ExperimentSearchScheduler experimentSearchScheduler;
+    private ExperimentSliceDispatcher experimentSliceDispatcher;
+    private SearchRelevanceBulkWriter bulkWriter;
+    private TaskManager taskManager;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private List<Experiment> updatedExperiments;
+    private List<ExperimentResult> storedResults;
+    private ForkJoinPool significancePool;
+    private List<List<ExperimentVariant>> storedVariants;
+    private Map<String, Map<String, Object>> completedQueryResults;
+    private ExperimentRunner experimentRunner;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName(), SearchRelevanceExecutor.getExecutorBuilder(Settings.EMPTY));
+        ClusterService clusterService = mock(ClusterService.class);
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn(NODE_ID);
+        when(clusterService.localNode()).thenReturn(localNode);
+        experimentDao = mock(ExperimentDao.class);
+        querySetDao = mock(QuerySetDao.class);
+        searchConfigurationDao = mock(SearchConfigurationDao.class);
+        metricsHelper = mock(MetricsHelper.class);
+        experimentSearchScheduler = mock(ExperimentSearchScheduler.class);
+        experimentSliceDispatcher = mock(ExperimentSliceDispatcher.class);
+        when(experimentSliceDispatcher.sliceNodes(anyInt())).thenReturn(List.of());
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Set.of());
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getExperimentCheckpointInterval()).thenReturn(100);
+        when(settingsAccessor.getSearchResultCacheSize()).thenReturn(new ByteSizeValue(1, ByteSizeUnit.MB));
+        when(settingsAccessor.getSignificanceIterations()).thenReturn(1000);
+        when(settingsAccessor.getSignificanceSeed()).thenReturn(42L);
+        significancePool = new ForkJoinPool(2);
+        bulkWriter = mock(SearchRelevanceBulkWriter.class);
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(bulkWriter).refresh(anyString(), any());
+
+        experimentResultDao = mock(ExperimentResultDao.class);
+        doAnswer(invocation -> {
+            StepListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentResultDao).createIndexIfAbsent(any());
+        completedQueryResults = Map.of();
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, Object>>> listener = invocation.getArgument(1);
+            listener.onResponse(completedQueryResults);
+            return null;
+        }).when(experimentResultDao).getCompletedQueryResults(anyString(), any());
+        storedResults = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            storedResults.add(invocation.getArgument(0));
+            ActionListener<Void> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentResultDao).bulkPutExperimentResult(any(ExperimentResult.class), any());
+
+        experimentVariantDao = mock(ExperimentVariantDao.class);
+        doAnswer(invocation -> {
+            StepListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentVariantDao).createIndexIfAbsent(any());
+        storedVariants = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            storedVariants.add(invocation.getArgument(0));
+            ActionListener<Void> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentVariantDao).bulkPutExperimentVariants(anyList(), any());
+
+        updatedExperiments = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            updatedExperiments.add(invocation.getArgument(0));
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentDao).updateExperiment(any(Experiment.class), any());
+
+        experimentRunner = new ExperimentRunner(
+            clusterService,
+            experimentDao,
+            experimentVariantDao,
+            experimentResultDao,
+            querySetDao,
+            searchConfigurationDao,
+            metricsHelper,
+            experimentSearchScheduler,
+            new SearchResultCache(mock(Client.class), experimentSearchScheduler, settingsAccessor),
+            experimentSliceDispatcher,
+            bulkWriter,
+            settingsAccessor,
+            threadPool,
+            () -> taskManager,
+            new ExperimentSignificance(settingsAccessor, significancePool),
+            new CostEstimator(querySetDao, settingsAccessor)
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        terminate(significancePool);
+        super.tearDown();
+    }
+
+    public void testRun_whenResumedFromCheckpoint_thenSkipsCompletedQueryTexts() throws Exception {
+        mockBootstrap(List.of("laptop", "phone"));
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            listener.onResponse(Map.of("pairwiseComparison", Map.of()));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+        completedQueryResults = Map.of("laptop", Map.of());
+
+        experimentRunner.run(experiment(AsyncStatus.PROCESSING, List.of()));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        verify(metricsHelper).processPairwiseMetrics(eq("experiment-1"), eq("phone"), anyMap(), anyInt(), any());
+        verify(metricsHelper, never()).processPairwiseMetrics(anyString(), eq("laptop"), anyMap(), anyInt(), any());
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        assertTrue(finalExperiment.results().isEmpty());
+        assertEquals(2, finalExperiment.summary().get(ExperimentProgress.SUMMARY_TOTAL_QUERY_TEXTS));
+        assertEquals(2, finalExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertNull(finalExperiment.nodeId());
+        assertEquals(1, storedResults.size());
+        assertEquals(ExperimentResult.generateId("experiment-1", "phone"), storedResults.get(0).id());
+        assertEquals("phone", storedResults.get(0).result().get("queryText"));
+        assertBusy(() -> assertTrue(taskManager.getCancellableTasks().isEmpty()));
+    }
+
+    public void testRun_whenCheckpointIntervalReached_thenPersistsProgress() throws Exception {
+        when(settingsAccessor.getExperimentCheckpointInterval()).thenReturn(1);
+        mockBootstrap(List.of("laptop", "phone"));
+        List<ActionListener<Map<String, Object>>> queryListeners = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            queryListeners.add(invocation.getArgument(4));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+
+        experimentRunner.run(experiment(AsyncStatus.PROCESSING, List.of()));
+        assertBusy(() -> assertEquals(2, queryListeners.size()));
+        queryListeners.get(0).onResponse(Map.of());
+
+        assertEquals(1, updatedExperiments.size());
+        Experiment checkpoint = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.PROCESSING, checkpoint.status());
+        assertTrue(checkpoint.results().isEmpty());
+        assertEquals(1, checkpoint.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals(NODE_ID, checkpoint.nodeId());
+    }
+
+    public void testRun_whenQueryTextFailsAfterCheckpoint_thenErrorKeepsProgress() throws Exception {
+        when(settingsAccessor.getExperimentCheckpointInterval()).thenReturn(1);
+        mockBootstrap(List.of("laptop", "phone"));
+        List<ActionListener<Map<String, Object>>> queryListeners = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            queryListeners.add(invocation.getArgument(4));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+
+        experimentRunner.run(experiment(AsyncStatus.PROCESSING, List.of()));
+        assertBusy(() -> assertEquals(2, queryListeners.size()));
+        queryListeners.get(0).onResponse(Map.of());
+        queryListeners.get(1).onFailure(new IllegalStateException("search failed"));
+
+        assertBusy(() -> assertEquals(2, updatedExperiments.size()));
+        Experiment errorExperiment = updatedExperiments.get(1);
+        assertEquals(AsyncStatus.ERROR, errorExperiment.status());
+        assertEquals(2, errorExperiment.summary().get(ExperimentProgress.SUMMARY_TOTAL_QUERY_TEXTS));
+        assertEquals(1, errorExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertNotNull(errorExperiment.summary().get(ExperimentProgress.SUMMARY_RESULT_INDEX));
+        assertEquals("search failed", errorExperiment.summary().get(ExperimentProgress.SUMMARY_ERROR));
+        assertNull(errorExperiment.nodeId());
+        assertBusy(() -> assertTrue(taskManager.getCancellableTasks().isEmpty()));
+    }
+
+    public void testRun_whenSearchBudgetExhausted_thenCompletesWithQueryTextsWithinBudget() throws Exception {
+        mockBootstrap(List.of("laptop", "phone", "tablet"));
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            listener.onResponse(Map.of("pairwiseComparison", Map.of()));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+
+        // every query text searches both search configurations
+        experimentRunner.run(experiment(Map.of(BUDGET, Map.of(MAX_SEARCHES, 5))));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        verify(metricsHelper, never()).processPairwiseMetrics(anyString(), eq("tablet"), anyMap(), anyInt(), any());
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        assertEquals(3, finalExperiment.summary().get(ExperimentProgress.SUMMARY_TOTAL_QUERY_TEXTS));
+        assertEquals(2, finalExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals(4L, finalExperiment.summary().get(ExperimentProgress.SUMMARY_SEARCHES));
+        assertEquals(true, finalExperiment.summary().get(ExperimentProgress.SUMMARY_BUDGET_EXHAUSTED));
+        assertEquals(Map.of(MAX_SEARCHES, 5L), finalExperiment.summary().get(BUDGET));
+        assertEquals(2, storedResults.size());
+        assertBusy(() -> assertTrue(taskManager.getCancellableTasks().isEmpty()));
+    }
+
+    public void testRun_whenResumedWithSearchBudget_thenCountsSearchesAcquiredBefore() throws Exception {
+        mockBootstrap(List.of("laptop", "phone", "tablet"));
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            listener.onResponse(Map.of("pairwiseComparison", Map.of()));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+        completedQueryResults = Map.of("laptop", Map.of());
+
+        // the searches of the query text in flight at the restart were acquired as well
+        experimentRunner.run(experiment(Map.of(BUDGET, Map.of(MAX_SEARCHES, 6), ExperimentProgress.SUMMARY_SEARCHES, 4)));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        verify(metricsHelper).processPairwiseMetrics(eq("experiment-1"), eq("phone"), anyMap(), anyInt(), any());
+        verify(metricsHelper, never()).processPairwiseMetrics(anyString(), eq("tablet"), anyMap(), anyInt(), any());
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(2, finalExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals(6L, finalExperiment.summary().get(ExperimentProgress.SUMMARY_SEARCHES));
+        assertEquals(true, finalExperiment.summary().get(ExperimentProgress.SUMMARY_BUDGET_EXHAUSTED));
+    }
+
+    public void testRun_whenNoQueryTextFitsSearchBudget_thenCompletesWithoutSearching() throws Exception {
+        mockBootstrap(List.of("laptop", "phone"));
+
+        experimentRunner.run(experiment(Map.of(BUDGET, Map.of(MAX_SEARCHES, 1))));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        verify(metricsHelper, never()).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        assertEquals(0, finalExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals(true, finalExperiment.summary().get(ExperimentProgress.SUMMARY_BUDGET_EXHAUSTED));
+        assertBusy(() -> assertTrue(taskManager.getCancellableTasks().isEmpty()));
+    }
+
+    public void testRun_whenTaskCancelled_thenStopsSearchesAndMarksExperimentCancelled() throws Exception {
+        mockBootstrap(List.of("laptop", "phone"));
+        List<ActionListener<Map<String, Object>>> queryListeners = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            queryListeners.add(invocation.getArgument(4));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+
+        experimentRunner.run(experiment(AsyncStatus.PROCESSING, List.of()));
+        assertBusy(() -> assertEquals(2, queryListeners.size()));
+        queryListeners.get(0).onResponse(Map.of());
+
+        assertEquals(1, taskManager.getCancellableTasks().size());
+        CancellableTask task = taskManager.getCancellableTasks().values().iterator().next();
+        assertEquals(ExperimentRunner.RUN_EXPERIMENT_ACTION_NAME, task.getAction());
+        assertEquals("experiment[experiment-1] type[PAIRWISE_COMPARISON], progress[1/2]", task.getDescription());
+
+        taskManager.cancel(task, "by user", () -> {});
+        // the search failing after the cancellation must not overwrite the cancelled status
+        queryListeners.get(1).onFailure(new TaskCancelledException("cancelled"));
+
+        verify(experimentSearchScheduler).cancel("experiment-1");
+        assertEquals(1, updatedExperiments.size());
+        Experiment cancelled = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.CANCELLED, cancelled.status());
+        assertEquals(1, cancelled.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals(1, storedResults.size());
+        assertNull(cancelled.nodeId());
+        assertBusy(() -> assertTrue(taskManager.getCancellableTasks().isEmpty()));
+        assertTrue(task instanceof SearchRelevanceTask);
+    }
+
+    public void testRun_whenDistributed_thenTracksProgressOfSlices() throws Exception {
+        mockBootstrap(List.of("laptop", "phone"));
+        when(experimentSliceDispatcher.sliceNodes(2)).thenReturn(List.of(mock(DiscoveryNode.class), mock(DiscoveryNode.class)));
+        doAnswer(invocation -> {
+            BiConsumer<List<String>, ExperimentAggregates> onSliceCompleted = invocation.getArgument(6);
+            onSliceCompleted.accept(List.of("laptop"), aggregates(evaluationMetrics("config-1", 0.5)));
+            onSliceCompleted.accept(List.of("phone"), aggregates(evaluationMetrics("config-1", 1.0)));
+            ActionListener<Void> listener = invocation.getArgument(9);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentSliceDispatcher)
+            .dispatch(any(Experiment.class), anyMap(), anyList(), anyList(), anyList(), any(), any(), any(), any(), any());
+
+        experimentRunner.run(experiment(AsyncStatus.PROCESSING, List.of()));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        verify(experimentSliceDispatcher).dispatch(
+            any(Experiment.class),
+            anyMap(),
+            eq(List.of()),
+            eq(List.of("laptop", "phone")),
+            anyList(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any()
+        );
+        verify(metricsHelper, never()).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        assertEquals(2, finalExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertEquals(0.75, ndcgAggregate(finalExperiment, "config-1").get(MetricAggregate.MEAN));
+        assertBusy(() -> assertTrue(taskManager.getCancellableTasks().isEmpty()));
+    }
+
+    public void testRun_whenPointwiseEvaluationResumed_thenAggregatesMetricsOfAllCompletedQueryTexts() throws Exception {
+        mockBootstrap(List.of("laptop", "phone"));
+        doAnswer(invocation -> {
+            ActionListener<JudgmentIndex> listener = invocation.getArgument(2);
+            listener.onResponse(JudgmentIndex.empty());
+            return null;
+        }).when(metricsHelper).loadJudgmentIndex(anyList(), anyList(), any());
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            listener.onResponse(evaluationMetrics("config-1", 1.0));
+            return null;
+        }).when(metricsHelper).processEvaluationMetrics(anyString(), anyString(), anyMap(), anyInt(), anyList(), any(), any());
+        // the metrics of the query text completed before the restart are read back from its stored results
+        completedQueryResults = Map.of("laptop", evaluationMetrics("config-1", 0.5));
+
+        experimentRunner.run(experiment(ExperimentType.POINTWISE_EVALUATION, List.of("judgment-1")));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        Map<String, Object> ndcg = ndcgAggregate(finalExperiment, "config-1");
+        assertEquals(2L, ndcg.get(MetricAggregate.COUNT));
+        assertEquals(0.75, ndcg.get(MetricAggregate.MEAN));
+        assertEquals(0.5, ndcg.get(MetricAggregate.MIN));
+        assertEquals(1.0, ndcg.get(MetricAggregate.MAX));
+        assertEquals(0.125, (double) ndcg.get(MetricAggregate.VARIANCE), 1e-9);
+    }
+
+    public void testRun_whenPointwiseEvaluationCompleted_thenStoresSignificanceOfConfigurations() throws Exception {
+        mockBootstrap(List.of("laptop", "phone", "tablet"));
+        // every query text completed before the restart, the experiment completes with the tests of the stored metrics
+        completedQueryResults = Map.of(
+            "laptop",
+            evaluationMetrics(evaluationMetrics("config-1", 0.5), evaluationMetrics("config-2", 0.7)),
+            "phone",
+            evaluationMetrics(evaluationMetrics("config-1", 0.4), evaluationMetrics("config-2", 0.9)),
+            "tablet",
+            evaluationMetrics(evaluationMetrics("config-1", 0.6), evaluationMetrics("config-2", 0.6))
+        );
+
+        experimentRunner.run(experiment(ExperimentType.POINTWISE_EVALUATION, List.of("judgment-1")));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        List<Map<String, Object>> significance = (List<Map<String, Object>>) finalExperiment.summary()
+            .get(ExperimentProgress.SUMMARY_SIGNIFICANCE);
+        assertEquals(1, significance.size());
+        Map<String, Object> test = significance.get(0);
+        assertEquals("NDCG@10", test.get("metric"));
+        assertEquals(Map.of(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, "config-1"), test.get(ExperimentSignificance.BASELINE));
+        assertEquals(Map.of(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, "config-2"), test.get(ExperimentSignificance.CANDIDATE));
+        assertEquals(3, test.get(ExperimentSignificance.SAMPLE_SIZE));
+        assertEquals(0.233, (double) test.get(ExperimentSignificance.MEAN_DIFFERENCE), 1e-3);
+        assertTrue(test.containsKey(ExperimentSignificance.PAIRED_T_TEST));
+        assertTrue(test.containsKey(ExperimentSignificance.PERMUTATION_TEST));
+        assertTrue(test.containsKey(ExperimentSignificance.BOOTSTRAP));
+    }
+
+    public void testRun_whenResultsOfCompletedQueryTextsMissing_thenNoSignificance() throws Exception {
+        mockBootstrap(List.of("laptop", "phone", "tablet"));
+        doAnswer(invocation -> {
+            ActionListener<JudgmentIndex> listener = invocation.getArgument(2);
+            listener.onResponse(JudgmentIndex.empty());
+            return null;
+        }).when(metricsHelper).loadJudgmentIndex(anyList(), anyList(), any());
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            listener.onResponse(evaluationMetrics(evaluationMetrics("config-1", 0.5), evaluationMetrics("config-2", 0.8)));
+            return null;
+        }).when(metricsHelper).processEvaluationMetrics(anyString(), anyString(), anyMap(), anyInt(), anyList(), any(), any());
+        // the stored results of "tablet" are not read back, the tests would only cover part of the query texts
+        completedQueryResults = Map.of(
+            "laptop",
+            evaluationMetrics(evaluationMetrics("config-1", 0.5), evaluationMetrics("config-2", 0.7)),
+            "phone",
+            evaluationMetrics(evaluationMetrics("config-1", 0.4), evaluationMetrics("config-2", 0.9))
+        );
+
+        experimentRunner.run(experiment(ExperimentType.POINTWISE_EVALUATION, List.of("judgment-1")));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        Experiment finalExperiment = updatedExperiments.get(0);
+        assertEquals(AsyncStatus.COMPLETED, finalExperiment.status());
+        assertEquals(3, finalExperiment.summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertFalse(finalExperiment.summary().containsKey(ExperimentProgress.SUMMARY_SIGNIFICANCE));
+    }
+
+    public void testRun_whenHybridOptimizer_thenStoresVariantsOnceForAllQueryTexts() throws Exception {
+        mockBootstrap(List.of("laptop", "phone"));
+        doAnswer(invocation -> {
+            ActionListener<JudgmentIndex> listener = invocation.getArgument(2);
+            listener.onResponse(JudgmentIndex.empty());
+            return null;
+        }).when(metricsHelper).loadJudgmentIndex(anyList(), anyList(), any());
+        List<List<ExperimentVariant>> evaluatedVariants = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            evaluatedVariants.add(invocation.getArgument(7));
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(6);
+            listener.onResponse(Map.of());
+            return null;
+        }).when(metricsHelper)
+            .processEvaluationMetrics(anyString(), anyString(), anyMap(), anyInt(), anyList(), any(), any(), anyList(), any());
+
+        experimentRunner.run(experiment(ExperimentType.HYBRID_OPTIMIZER, List.of("judgment-1")));
+
+        assertBusy(() -> assertEquals(1, updatedExperiments.size()));
+        assertEquals(AsyncStatus.COMPLETED, updatedExperiments.get(0).status());
+        assertEquals(1, storedVariants.size());
+        List<String> storedVariantIds = variantIds(storedVariants.get(0));
+        assertFalse(storedVariantIds.isEmpty());
+        assertEquals(storedVariantIds.size(), Set.copyOf(storedVariantIds).size());
+        assertEquals(2, evaluatedVariants.size());
+        for (List<ExperimentVariant> variants : evaluatedVariants) {
+            assertEquals(storedVariantIds, variantIds(variants));
+        }
+        // a resumed run and the slices of the experiment reference the same variants
+        assertEquals(
+            storedVariantIds,
+            variantIds(
+                storedVariants.get(0)
+                    .stream()
+                    .map(variant -> ExperimentVariantHybridSearchDTO.builder()
+                        .normalizationTechnique((String) variant.getParameters().get(EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE))
+                        .combinationTechnique((String) variant.getParameters().get(EXPERIMENT_OPTION_COMBINATION_TECHNIQUE))
+                        .queryWeightsForCombination((float[]) variant.getParameters().get(EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION))
+                        .build()
+                        .toExperimentVariant("experiment-1"))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    public void testEvaluateSlice_whenQueryTextsEvaluated_thenStoresAndRefreshesResults() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            listener.onResponse(Map.of("pairwiseComparison", Map.of()));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+        ExperimentSliceRequest request = new ExperimentSliceRequest(
+            NODE_ID,
+            "experiment-1",
+            ExperimentType.PAIRWISE_COMPARISON,
+            10,
+            List.of(),
+            Map.of("config-1", List.of("index", "query")),
+            List.of(),
+            List.of("laptop", "phone")
+        );
+        PlainActionFuture<ExperimentAggregates> future = PlainActionFuture.newFuture();
+
+        experimentRunner.evaluateSlice(request, null, future);
+
+        assertTrue(future.actionGet().isEmpty());
+        assertEquals(2, storedResults.size());
+        verify(bulkWriter).refresh(eq("experiment-1"), any());
+        assertTrue(updatedExperiments.isEmpty());
+    }
+
+    public void testEvaluateSlice_whenQueryTextFails_thenFailsTheSlice() {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(4);
+            listener.onFailure(new IllegalStateException("search failed"));
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyString(), anyString(), anyMap(), anyInt(), any());
+        ExperimentSliceRequest request = new ExperimentSliceRequest(
+            NODE_ID,
+            "experiment-1",
+            ExperimentType.PAIRWISE_COMPARISON,
+            10,
+            List.of(),
+            Map.of("config-1", List.of("index", "query")),
+            List.of(),
+            List.of("laptop", "phone")
+        );
+        PlainActionFuture<ExperimentAggregates> future = PlainActionFuture.newFuture();
+
+        experimentRunner.evaluateSlice(request, null, future);
+
+        IllegalStateException e = expectThrows(IllegalStateException.class, future::actionGet);
+        assertEquals("search failed", e.getMessage());
+        assertTrue(storedResults.isEmpty());
+        // the writes of the failed slice are released on this node
+        verify(bulkWriter).refresh(eq("experiment-1"), any());
+    }
+
+    public void testResumeOrphanedExperiments_whenResumeDisabled_thenMarksThemAsError() throws Exception {
+        when(settingsAccessor.isExperimentResumeEnabled()).thenReturn(false);
+        SearchHit hit = new SearchHit(0, "experiment-1", Map.of(), Map.of());
+        Experiment checkpointed = new Experiment(
+            "experiment-1",
+            "2025-01-01T00:00:00.000Z",
+            ExperimentType.PAIRWISE_COMPARISON,
+            AsyncStatus.PROCESSING,
+            "query-set-1",
+            List.of("config-1", "config-2"),
+            List.of(),
+            10,
+            List.of(),
+            NODE_ID,
+            Map.of(ExperimentProgress.SUMMARY_TOTAL_QUERY_TEXTS, 2, ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS, 1)
+        );
+        hit.sourceRef(BytesReference.bytes(checkpointed.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS)));
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(
+            new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f)
+        );
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(experimentDao).listExperiment(any(), any());
+
+        experimentRunner.resumeOrphanedExperiments();
+
+        assertEquals(1, updatedExperiments.size());
+        assertEquals("experiment-1", updatedExperiments.get(0).id());
+        assertEquals(AsyncStatus.ERROR, updatedExperiments.get(0).status());
+        // the progress of the last checkpoint is kept next to the error
+        assertEquals(1, updatedExperiments.get(0).summary().get(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS));
+        assertNotNull(updatedExperiments.get(0).summary().get(ExperimentProgress.SUMMARY_ERROR));
+        verify(querySetDao, never()).getQuerySetWithStepListener(anyString(), anyMap(), any());
+    }
+
+    public void testParseExperiment_whenStoredExperiment_thenRoundTrips() throws Exception {
+        Experiment experiment = new Experiment(
+            "experiment-1",
+            "2025-01-01T00:00:00.000Z",
+            ExperimentType.PAIRWISE_COMPARISON,
+            AsyncStatus.PROCESSING,
+            "query-set-1",
+            List.of("config-1", "config-2"),
+            List.of(),
+            10,
+            List.of(),
+            NODE_ID,
+            Map.of(ExperimentProgress.SUMMARY_COMPLETED_QUERY_TEXTS, 1)
+        );
+        Map<String, Object> source = XContentHelper.convertToMap(
+            BytesReference.bytes(experiment.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS)),
+            false,
+            XContentType.JSON
+        ).v2();
+
+        Experiment parsed = ExperimentRunner.parseExperiment(source);
+
+        assertEquals(experiment.id(), parsed.id());
+        assertEquals(experiment.type(), parsed.type());
+        assertEquals(experiment.size(), parsed.size());
+        assertEquals(experiment.results(), parsed.results());
+        assertEquals(experiment.summary(), parsed.summary());
+        assertEquals(NODE_ID, parsed.nodeId());
+    }
+
+    private void mockBootstrap(List<String> queryTexts) {
+        doAnswer(invocation -> {
+            Map<String, Object> results = invocation.getArgument(1);
+            results.put("queryTexts", queryTexts);
+            StepListener<Map<String, Object>> listener = invocation.getArgument(2);
+            listener.onResponse(results);
+            return null;
+        }).when(querySetDao).getQuerySetWithStepListener(anyString(), anyMap(), any());
+        doAnswer(invocation -> {
+            Map<String, Object> results = invocation.getArgument(1);
+            results.put("indexAndQueries", Map.of("config-1", List.of("index", "query"), "config-2", List.of("index", "query")));
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(2);
+            listener.onResponse(results);
+            return null;
+        }).when(searchConfigurationDao).getSearchConfigsWithStepListener(anyList(), anyMap(), any());
+    }
+
+    private static Map<String, Object> evaluationMetrics(String searchConfigurationId, double ndcg) {
+        Map<String, Object> metrics = Map.of(
+            POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID,
+            searchConfigurationId,
+            POINTWISE_FIELD_NAME_METRICS,
+            Map.of("NDCG@10", ndcg)
+        );
+        return Map.of(POINTWISE_FIELD_NAME_EVALUATION_METRICS, List.of(metrics));
+    }
+
+    private static Map<String, Object> evaluationMetrics(Map<String, Object> first, Map<String, Object> second) {
+        List<Object> metrics = new ArrayList<>((List<?>) first.get(POINTWISE_FIELD_NAME_EVALUATION_METRICS));
+        metrics.addAll((List<?>) second.get(POINTWISE_FIELD_NAME_EVALUATION_METRICS));
+        return Map.of(POINTWISE_FIELD_NAME_EVALUATION_METRICS, metrics);
+    }
+
+    private static ExperimentAggregates aggregates(Map<String, Object> queryResults) {
+        ExperimentAggregates aggregates = new ExperimentAggregates();
+        aggregates.record(queryResults);
+        return aggregates;
+    }
+
+    private static Map<String, Object> ndcgAggregate(Experiment experiment, String searchConfigurationId) {
+        List<Map<String, Object>> aggregates = (List<Map<String, Object>>) experiment.summary().get(ExperimentProgress.SUMMARY_AGGREGATES);
+        Map<String, Object> aggregate = aggregates.stream()
+            .filter(candidate -> searchConfigurationId.equals(candidate.get(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID)))
+            .findFirst()
+            .orElseThrow();
+        return (Map<String, Object>) ((Map<String, Object>) aggregate.get(POINTWISE_FIELD_NAME_METRICS)).get("NDCG@10");
+    }
+
+    private static List<String> variantIds(List<ExperimentVariant> variants) {
+        return variants.stream().map(ExperimentVariant::getId).collect(Collectors.toList());
+    }
+
+    private static Experiment experiment(ExperimentType type, List<String> judgmentList) {
+        return new Experiment(
+            "experiment-1",
+            "2025-01-01T00:00:00.000Z",
+            type,
+            AsyncStatus.PROCESSING,
+            "query-set-1",
+            List.of("config-1", "config-2"),
+            judgmentList,
+            10,
+            List.of(),
+            NODE_ID
+        );
+    }
+
+    private static Experiment experiment(Map<String, Object> summary) {
+        return new Experiment(
+            "experiment-1",
+            "2025-01-01T00:00:00.000Z",
+            ExperimentType.PAIRWISE_COMPARISON,
+            AsyncStatus.PROCESSING,
+            "query-set-1",
+            List.of("config-1", "config-2"),
+            List.of(),
+            10,
+            List.of(),
+            NODE_ID,
+            summary
+        );
+    }
+
+    private static Experiment experiment(AsyncStatus status, List<Map<String, Object>> results) {
+        return new Experiment(
+            "experiment-1",
+            "2025-01-01T00:00:00.000Z",
+            ExperimentType.PAIRWISE_COMPARISON,
+            status,
+            "query-set-1",
+            List.of("config-1", "config-2"),
+            List.of(),
+            10,
+            results,
+            NODE_ID
+        );
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceAction;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceNodeResponse;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceResponse;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+public class ExperimentSliceDispatcherTests extends OpenSearchTestCase {
+
+    private static final ClusterName CLUSTER_NAME = new ClusterName("test-cluster");
+
+    private DiscoveryNode node1;
+    private DiscoveryNode node2;
+    private Client client;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private SearchRelevanceTask task;
+    private List<ExperimentSliceRequest> sentRequests;
+    private Set<String> failingNodeIds;
+    private ExperimentSliceDispatcher dispatcher;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        node1 = new DiscoveryNode("node-1", buildNewFakeTransportAddress(), Version.CURRENT);
+        node2 = new DiscoveryNode("node-2", buildNewFakeTransportAddress(), Version.CURRENT);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(node1);
+        when(clusterService.state()).thenReturn(
+            ClusterState.builder(CLUSTER_NAME).nodes(DiscoveryNodes.builder().add(node1).add(node2).localNodeId("node-1")).build()
+        );
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.isExperimentDistributedEnabled()).thenReturn(true);
+        when(settingsAccessor.getExperimentSliceSize()).thenReturn(2);
+        task = new SearchRelevanceTask(1, "transport", "action[run]", "experiment[experiment-1]", TaskId.EMPTY_TASK_ID, Map.of());
+
+        sentRequests = new ArrayList<>();
+        failingNodeIds = Set.of();
+        client = mock(Client.class);
+        doAnswer(invocation -> {
+            ExperimentSliceRequest request = invocation.getArgument(1);
+            ActionListener<ExperimentSliceResponse> listener = invocation.getArgument(2);
+            sentRequests.add(request);
+            String nodeId = request.nodesIds()[0];
+            DiscoveryNode node = nodeId.equals(node1.getId()) ? node1 : node2;
+            if (failingNodeIds.contains(nodeId)) {
+                listener.onResponse(
+                    new ExperimentSliceResponse(
+                        CLUSTER_NAME,
+                        List.of(),
+                        List.of(new FailedNodeException(nodeId, "slice failed", new IllegalStateException("search failed")))
+                    )
+                );
+            } else {
+                listener.onResponse(
+                    new ExperimentSliceResponse(
+                        CLUSTER_NAME,
+                        List.of(new ExperimentSliceNodeResponse(node, request.getQueryTexts().size(), new ExperimentAggregates())),
+                        List.of()
+                    )
+                );
+            }
+            return null;
+        }).when(client).execute(eq(ExperimentSliceAction.INSTANCE), any(ExperimentSliceRequest.class), any());
+        dispatcher = new ExperimentSliceDispatcher(client, clusterService, settingsAccessor);
+    }
+
+    public void testSliceNodes_whenDistributed_thenReturnsDataNodes() {
+        assertEquals(Set.of(node1, node2), Set.copyOf(dispatcher.sliceNodes(3)));
+        // a single slice is evaluated locally
+        assertTrue(dispatcher.sliceNodes(2).isEmpty());
+
+        when(settingsAccessor.isExperimentDistributedEnabled()).thenReturn(false);
+        assertTrue(dispatcher.sliceNodes(3).isEmpty());
+    }
+
+    public void testDispatch_whenSliceFails_thenRetriesItOnAnotherNode() {
+        failingNodeIds = Set.of("node-2");
+        List<String> completedQueryTexts = new ArrayList<>();
+        AtomicReference<Object> outcome = new AtomicReference<>();
+
+        dispatcher.dispatch(
+            experiment(),
+            Map.of("config-1", List.of("index", "query")),
+            List.of(),
+            List.of("q1", "q2", "q3", "q4", "q5"),
+            List.of(node1, node2),
+            task,
+            (queryTexts, aggregates) -> completedQueryTexts.addAll(queryTexts),
+            queryTexts -> true,
+            queryTexts -> fail(),
+            ActionListener.wrap(done -> outcome.set("done"), outcome::set)
+        );
+
+        assertEquals("done", outcome.get());
+        assertEquals(Set.of("q1", "q2", "q3", "q4", "q5"), Set.copyOf(completedQueryTexts));
+        assertEquals(5, completedQueryTexts.size());
+        // the failed slice is sent again to the node that did not fail it, node-2 gets no new slice
+        assertEquals(1, sentRequests.stream().filter(request -> request.nodesIds()[0].equals("node-2")).count());
+        assertEquals(4, sentRequests.size());
+        assertEquals("experiment-1", sentRequests.get(0).getExperimentId());
+        assertEquals(new TaskId("node-1", 1), sentRequests.get(0).getParentTask());
+    }
+
+    public void testDispatch_whenEveryNodeFailsSlice_thenFails() {
+        failingNodeIds = Set.of("node-1", "node-2");
+        List<String> completedQueryTexts = new ArrayList<>();
+        AtomicReference<Object> outcome = new AtomicReference<>();
+
+        dispatcher.dispatch(
+            experiment(),
+            Map.of("config-1", List.of("index", "query")),
+            List.of(),
+            List.of("q1", "q2", "q3"),
+            List.of(node1, node2),
+            task,
+            (queryTexts, aggregates) -> completedQueryTexts.addAll(queryTexts),
+            queryTexts -> true,
+            queryTexts -> fail(),
+            ActionListener.wrap(done -> outcome.set("done"), outcome::set)
+        );
+
+        assertTrue(outcome.get() instanceof SearchRelevanceException);
+        assertTrue(completedQueryTexts.isEmpty());
+    }
+
+    public void testDispatch_whenRetryExceedsSearchBudget_thenSkipsSlice() {
+        failingNodeIds = Set.of("node-2");
+        List<String> completedQueryTexts = new ArrayList<>();
+        List<String> skippedQueryTexts = new ArrayList<>();
+        AtomicReference<Object> outcome = new AtomicReference<>();
+
+        dispatcher.dispatch(
+            experiment(),
+            Map.of("config-1", List.of("index", "query")),
+            List.of(),
+            List.of("q1", "q2", "q3", "q4"),
+            List.of(node1, node2),
+            task,
+            (queryTexts, aggregates) -> completedQueryTexts.addAll(queryTexts),
+            queryTexts -> false,
+            skippedQueryTexts::addAll,
+            ActionListener.wrap(done -> outcome.set("done"), outcome::set)
+        );
+
+        assertEquals("done", outcome.get());
+        assertEquals(List.of("q1", "q2"), completedQueryTexts);
+        assertEquals(List.of("q3", "q4"), skippedQueryTexts);
+        // the failed slice is not sent again
+        assertEquals(2, sentRequests.size());
+    }
+
+    private static Experiment experiment() {
+        return new Experiment(
+            "experiment-1",
+            "2025-01-01T00:00:00.000Z",
+            ExperimentType.PAIRWISE_COMPARISON,
+            AsyncStatus.PROCESSING,
+            "query-set-1",
+            List.of("config-1"),
+            List.of(),
+            10,
+            List.of()
+        );
+    }
+}
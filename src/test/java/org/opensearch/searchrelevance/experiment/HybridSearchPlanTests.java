@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.experiment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+
+import java.util.Map;
+
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridSearchPlanTests extends OpenSearchTestCase {
+
+    private static final String HYBRID_QUERY = "{\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}},{\"match\":{\"description\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}}]}}}";
+
+    public void testTemplate_whenSameQuery_thenCompiledOnce() {
+        HybridSearchPlan hybridSearchPlan = new HybridSearchPlan(10);
+
+        assertSame(hybridSearchPlan.template(HYBRID_QUERY), hybridSearchPlan.template(HYBRID_QUERY));
+    }
+
+    public void testPipeline_whenSameVariant_thenBuiltOnceAndReadOnly() {
+        HybridSearchPlan hybridSearchPlan = new HybridSearchPlan(10);
+        ExperimentVariant experimentVariant = ExperimentVariantHybridSearchDTO.builder()
+            .normalizationTechnique("min_max")
+            .combinationTechnique("arithmetic_mean")
+            .queryWeightsForCombination(new float[] { 0.3f, 0.7f })
+            .build()
+            .toExperimentVariant("experiment-1");
+
+        Map<String, Object> pipeline = hybridSearchPlan.pipeline(experimentVariant);
+
+        assertSame(pipeline, hybridSearchPlan.pipeline(experimentVariant));
+        assertEquals(QuerySourceUtil.createDefinitionOfTemporarySearchPipeline(experimentVariant), pipeline);
+        expectThrows(UnsupportedOperationException.class, () -> pipeline.put("description", "changed"));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.export;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.search.SearchHit;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.judgments.JudgmentImportReader;
+import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.searchrelevance.model.JudgmentRating;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExportWriterTests extends OpenSearchTestCase {
+
+    public void testWriteJudgmentRatings_whenTrec_thenOneLinePerRating() throws IOException {
+        SearchHit[] hits = { judgmentRatingHit("red shoes", "doc-1", 3, "doc-2", 0.5f), judgmentRatingHit("tv", "doc-3", 1) };
+
+        String content = ExportWriter.writeJudgmentRatings(ExportFormat.TREC, hits, true).utf8ToString();
+
+        assertEquals("red shoes\t0\tdoc-1\t3\nred shoes\t0\tdoc-2\t0.5\ntv\t0\tdoc-3\t1\n", content);
+    }
+
+    public void testWriteJudgmentRatings_whenCsv_thenHeaderOnFirstPageAndQuotedFields() throws IOException {
+        SearchHit[] hits = { judgmentRatingHit("shoes, \"red\"", "doc-1", 2) };
+
+        assertEquals(
+            "query,docId,rating\n\"shoes, \"\"red\"\"\",doc-1,2\n",
+            ExportWriter.writeJudgmentRatings(ExportFormat.CSV, hits, true).utf8ToString()
+        );
+        assertEquals("\"shoes, \"\"red\"\"\",doc-1,2\n", ExportWriter.writeJudgmentRatings(ExportFormat.CSV, hits, false).utf8ToString());
+    }
+
+    public void testWriteJudgmentRatings_whenNdjson_thenImportedAgain() throws IOException {
+        SearchHit[] hits = { judgmentRatingHit("laptop", "doc-1", 3, "doc-2", 1.5f), judgmentRatingHit("tv", "doc-3", 0) };
+        BytesReference content = ExportWriter.writeJudgmentRatings(ExportFormat.NDJSON, hits, true);
+
+        assertEquals(
+            "{\"query\":\"laptop\",\"docId\":\"doc-1\",\"rating\":3.0}\n"
+                + "{\"query\":\"laptop\",\"docId\":\"doc-2\",\"rating\":1.5}\n"
+                + "{\"query\":\"tv\",\"docId\":\"doc-3\",\"rating\":0.0}\n",
+            content.utf8ToString()
+        );
+        try (JudgmentImportReader reader = new JudgmentImportReader(content, JudgmentImportReader.Format.NDJSON)) {
+            reader.validate(10);
+            assertEquals(2, reader.getQueryTexts());
+            assertEquals(3L, reader.getRatings());
+        }
+    }
+
+    public void testWriteJudgmentRatings_whenJudgmentDocumentRatings_thenQueryTextsInOrder() {
+        JudgmentRatings judgmentRatings = new JudgmentRatings.Builder().addQueryText("tv")
+            .addRating("doc-3", 1.0f)
+            .addQueryText("laptop")
+            .addRating("doc-1", 3.0f)
+            .addRating("doc-2", 0.5f)
+            .build();
+
+        assertEquals(
+            "query,docId,rating\nlaptop,doc-1,3\nlaptop,doc-2,0.5\ntv,doc-3,1\n",
+            ExportWriter.writeJudgmentRatings(ExportFormat.CSV, judgmentRatings, null).utf8ToString()
+        );
+        assertEquals("tv\t0\tdoc-3\t1\n", ExportWriter.writeJudgmentRatings(ExportFormat.TREC, judgmentRatings, "tv").utf8ToString());
+    }
+
+    public void testWriteEvaluationResults_whenCsv_thenOneLinePerMetric() throws IOException {
+        SearchHit[] hits = { evaluationResultHit("eval-1", "config-1", "laptop") };
+
+        String content = ExportWriter.writeEvaluationResults(ExportFormat.CSV, hits, true).utf8ToString();
+
+        assertEquals(
+            ExportWriter.EVALUATION_RESULT_CSV_HEADER + "\neval-1,config-1,laptop,NDCG@10,0.75\neval-1,config-1,laptop,Precision@10,0.5\n",
+            content
+        );
+    }
+
+    public void testWriteEvaluationResults_whenNdjson_thenOneDocumentPerLine() throws IOException {
+        SearchHit[] hits = { evaluationResultHit("eval-1", "config-1", "laptop"), evaluationResultHit("eval-2", "config-2", "tv") };
+
+        String[] lines = ExportWriter.writeEvaluationResults(ExportFormat.NDJSON, hits, true).utf8ToString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0], lines[0].contains("\"experimentId\":\"experiment-1\""));
+        assertTrue(lines[1], lines[1].contains("\"id\":\"eval-2\""));
+        expectThrows(SearchRelevanceException.class, () -> ExportWriter.writeEvaluationResults(ExportFormat.TREC, hits, true));
+    }
+
+    public void testExportCursor_whenEncoded_thenDecodedAgain() {
+        ExportCursor cursor = ExportCursor.decode(new ExportCursor("pit-1", new Object[] { "laptop" }).encode());
+
+        assertEquals("pit-1", cursor.pitId());
+        assertArrayEquals(new Object[] { "laptop" }, cursor.searchAfter());
+        expectThrows(SearchRelevanceException.class, () -> ExportCursor.decode("not a cursor"));
+        expectThrows(SearchRelevanceException.class, () -> ExportFormat.fromString("xml"));
+    }
+
+    private static SearchHit judgmentRatingHit(String queryText, Object... docRatings) throws IOException {
+        Map<String, Float> ratings = new LinkedHashMap<>();
+        for (int i = 0; i < docRatings.length; i += 2) {
+            ratings.put((String) docRatings[i], ((Number) docRatings[i + 1]).floatValue());
+        }
+        JudgmentRating judgmentRating = new JudgmentRating("judgment-1", queryText, ratings);
+        return new SearchHit(0, judgmentRating.getId(), Map.of(), Map.of()).sourceRef(
+            BytesReference.bytes(judgmentRating.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
+        );
+    }
+
+    private static SearchHit evaluationResultHit(String id, String searchConfigurationId, String searchText) throws IOException {
+        EvaluationResult evaluationResult = new EvaluationResult(
+            id,
+            "2025-06-01T00:00:00.000Z",
+            "experiment-1",
+            searchConfigurationId,
+            searchText,
+            List.of("judgment-1"),
+            List.of("doc-1", "doc-2"),
+            List.of(Map.of("metric", "NDCG@10", "value", 0.75), Map.of("metric", "Precision@10", "value", 0.5))
+        );
+        return new SearchHit(0, id, Map.of(), Map.of()).sourceRef(
+            BytesReference.bytes(evaluationResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
+        );
+    }
+}
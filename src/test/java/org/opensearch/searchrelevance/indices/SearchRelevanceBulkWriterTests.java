@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.indices;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.AdminClient;
+import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.IndicesAdminClient;
+
+public class SearchRelevanceBulkWriterTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private Client client;
+    private IndicesAdminClient indicesAdminClient;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private List<BulkRequest> bulkRequests;
+    private List<ActionListener<BulkResponse>> bulkListeners;
+    private List<RefreshRequest> refreshRequests;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName(), SearchRelevanceExecutor.getExecutorBuilder(Settings.EMPTY));
+        client = mock(Client.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        AdminClient adminClient = mock(AdminClient.class);
+        indicesAdminClient = mock(IndicesAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getBulkFlushSize()).thenReturn(2);
+        when(settingsAccessor.getBulkFlushInterval()).thenReturn(TimeValue.timeValueHours(1));
+
+        bulkRequests = new CopyOnWriteArrayList<>();
+        bulkListeners = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            bulkListeners.add(invocation.getArgument(1));
+            bulkRequests.add(invocation.getArgument(0));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+
+        refreshRequests = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            refreshRequests.add(invocation.getArgument(0));
+            ActionListener<RefreshResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(RefreshResponse.class));
+            return null;
+        }).when(indicesAdminClient).refresh(any(RefreshRequest.class), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    public void testWrite_whenFlushSizeReached_thenSendsOneBulkAndReportsItemFailures() throws Exception {
+        SearchRelevanceBulkWriter bulkWriter = new SearchRelevanceBulkWriter(client, threadPool, settingsAccessor);
+        List<Object> outcomes = new CopyOnWriteArrayList<>();
+
+        write(bulkWriter, "experiment", "doc1", ActionListener.wrap(r -> outcomes.add("stored"), outcomes::add));
+        assertTrue(bulkRequests.isEmpty());
+        assertEquals(1, bulkWriter.getBufferedCount());
+
+        write(bulkWriter, "experiment", "doc2", ActionListener.wrap(r -> outcomes.add("stored"), outcomes::add));
+        assertEquals(1, bulkRequests.size());
+        assertEquals(0, bulkWriter.getBufferedCount());
+        BulkRequest bulkRequest = bulkRequests.get(0);
+        assertEquals(2, bulkRequest.numberOfActions());
+        assertEquals(WriteRequest.RefreshPolicy.NONE, bulkRequest.getRefreshPolicy());
+
+        bulkListeners.get(0).onResponse(bulkResponse(null, new IllegalStateException("version conflict")));
+
+        assertEquals(2, outcomes.size());
+        assertEquals("stored", outcomes.get(0));
+        assertTrue(outcomes.get(1) instanceof SearchRelevanceException);
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((SearchRelevanceException) outcomes.get(1)).status());
+        verify(indicesAdminClient, never()).refresh(any(RefreshRequest.class), any());
+    }
+
+    public void testWrite_whenFlushIntervalElapsed_thenFlushesBufferedDocs() throws Exception {
+        when(settingsAccessor.getBulkFlushSize()).thenReturn(100);
+        when(settingsAccessor.getBulkFlushInterval()).thenReturn(TimeValue.timeValueMillis(10));
+        SearchRelevanceBulkWriter bulkWriter = new SearchRelevanceBulkWriter(client, threadPool, settingsAccessor);
+
+        write(bulkWriter, "experiment", "doc1", ActionListener.wrap(r -> {}, e -> {}));
+
+        assertBusy(() -> assertEquals(1, bulkRequests.size()));
+        assertEquals(1, bulkRequests.get(0).numberOfActions());
+        assertEquals(0, bulkWriter.getBufferedCount());
+    }
+
+    public void testRefresh_whenWritesOutstanding_thenFlushesAndRefreshesOnceDone() throws Exception {
+        when(settingsAccessor.getBulkFlushSize()).thenReturn(100);
+        SearchRelevanceBulkWriter bulkWriter = new SearchRelevanceBulkWriter(client, threadPool, settingsAccessor);
+        AtomicInteger refreshed = new AtomicInteger();
+
+        write(bulkWriter, "experiment", "doc1", ActionListener.wrap(r -> {}, e -> fail()));
+        bulkWriter.refresh("experiment", ActionListener.wrap(r -> refreshed.incrementAndGet(), e -> fail()));
+
+        // the buffer is flushed right away, the refresh waits for the bulk response
+        assertEquals(1, bulkRequests.size());
+        assertTrue(refreshRequests.isEmpty());
+        assertEquals(0, refreshed.get());
+
+        bulkListeners.get(0).onResponse(bulkResponse((Exception) null));
+
+        assertEquals(1, refreshed.get());
+        assertEquals(1, refreshRequests.size());
+        assertArrayEquals(new String[] { SearchRelevanceIndices.EVALUATION_RESULT.getIndexName() }, refreshRequests.get(0).indices());
+    }
+
+    public void testRefresh_whenNothingWritten_thenRespondsWithoutRefresh() {
+        SearchRelevanceBulkWriter bulkWriter = new SearchRelevanceBulkWriter(client, threadPool, settingsAccessor);
+        AtomicInteger refreshed = new AtomicInteger();
+
+        bulkWriter.refresh("experiment", ActionListener.wrap(r -> refreshed.incrementAndGet(), e -> fail()));
+
+        assertEquals(1, refreshed.get());
+        assertTrue(refreshRequests.isEmpty());
+    }
+
+    private static void write(SearchRelevanceBulkWriter bulkWriter, String experimentId, String docId, ActionListener<Void> listener)
+        throws Exception {
+        bulkWriter.write(
+            experimentId,
+            docId,
+            XContentFactory.jsonBuilder().startObject().field("id", docId).endObject(),
+            SearchRelevanceIndices.EVALUATION_RESULT,
+            OpType.CREATE,
+            listener
+        );
+    }
+
+    private static BulkResponse bulkResponse(Exception... failures) {
+        String indexName = SearchRelevanceIndices.EVALUATION_RESULT.getIndexName();
+        BulkItemResponse[] items = new BulkItemResponse[failures.length];
+        for (int i = 0; i < failures.length; i++) {
+            String docId = "doc" + (i + 1);
+            items[i] = failures[i] == null
+                ? new BulkItemResponse(i, OpType.CREATE, new IndexResponse(new ShardId(indexName, "uuid", 0), docId, 1, 1, 1, true))
+                : new BulkItemResponse(i, OpType.CREATE, new BulkItemResponse.Failure(indexName, docId, failures[i]));
+        }
+        return new BulkResponse(items, 1L);
+    }
+}
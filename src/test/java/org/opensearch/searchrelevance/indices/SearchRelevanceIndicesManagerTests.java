@@ -11,8 +11,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EVALUATION_RESULT;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT;
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.QUERY_SET;
 
 import java.io.IOException;
@@ -30,16 +33,27 @@ import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.delete.DeleteRequestBuilder;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.clustermanager.AcknowledgedResponse;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.block.ClusterBlocks;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
@@ -48,6 +62,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.gateway.GatewayService;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -156,6 +171,60 @@ public class SearchRelevanceIndicesManagerTests extends OpenSearchTestCase {
         listenerCaptor.getValue().onFailure(exception);
     }
 
+    public void testUpdateMappingsOnceRecoveredWhenRecoveredThenExistingIndicesUpdated() {
+        when(clusterState.blocks()).thenReturn(ClusterBlocks.EMPTY_CLUSTER_BLOCK);
+        when(metadata.hasIndex(EXPERIMENT.getIndexName())).thenReturn(true);
+        when(metadata.hasIndex(EVALUATION_RESULT.getIndexName())).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<AcknowledgedResponse> listener = invocation.getArgument(1);
+            PutMappingRequest request = invocation.getArgument(0);
+            if (request.indices()[0].equals(EXPERIMENT.getIndexName())) {
+                listener.onFailure(new IllegalArgumentException("mapper [nodeId] cannot be changed from type [text] to [keyword]"));
+            } else {
+                listener.onResponse(new AcknowledgedResponse(true));
+            }
+            return null;
+        }).when(indicesAdminClient).putMapping(any(PutMappingRequest.class), any());
+        PlainActionFuture<Void> future = new PlainActionFuture<>();
+
+        indicesManager.updateMappingsOnceRecovered(future);
+
+        // a failed index does not fail the others
+        future.actionGet();
+        ArgumentCaptor<PutMappingRequest> requestCaptor = ArgumentCaptor.forClass(PutMappingRequest.class);
+        verify(indicesAdminClient, times(2)).putMapping(requestCaptor.capture(), any());
+        PutMappingRequest evaluationResultRequest = requestCaptor.getAllValues()
+            .stream()
+            .filter(request -> request.indices()[0].equals(EVALUATION_RESULT.getIndexName()))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(evaluationResultRequest.source(), evaluationResultRequest.source().contains("experimentId"));
+    }
+
+    public void testUpdateMappingsOnceRecoveredWhenNotRecoveredThenUpdatedOnRecovery() {
+        ClusterBlocks notRecovered = ClusterBlocks.builder().addGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK).build();
+        when(clusterState.blocks()).thenReturn(notRecovered);
+        PlainActionFuture<Void> future = new PlainActionFuture<>();
+
+        indicesManager.updateMappingsOnceRecovered(future);
+
+        ArgumentCaptor<ClusterStateListener> listenerCaptor = ArgumentCaptor.forClass(ClusterStateListener.class);
+        verify(clusterService).addListener(listenerCaptor.capture());
+        assertFalse(future.isDone());
+
+        ClusterState recovered = mock(ClusterState.class);
+        when(recovered.blocks()).thenReturn(ClusterBlocks.EMPTY_CLUSTER_BLOCK);
+        when(recovered.metadata()).thenReturn(metadata);
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.state()).thenReturn(recovered);
+        listenerCaptor.getValue().clusterChanged(event);
+
+        // no search relevance index exists yet, they are created with their mapping
+        future.actionGet();
+        verify(clusterService).removeListener(listenerCaptor.getValue());
+        verify(indicesAdminClient, never()).putMapping(any(PutMappingRequest.class), any());
+    }
+
     public void testPutDocWhenSucceeded() throws IOException {
         QuerySet querySet = new QuerySet("test_id", "test_name", "test_description", "test_timestamp", "test_sampling", List.of());
         XContentBuilder xContentBuilder = querySet.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
@@ -331,6 +400,71 @@ public class SearchRelevanceIndicesManagerTests extends OpenSearchTestCase {
         assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((SearchRelevanceException) capturedException).status());
     }
 
+    public void testSearchPageWhenFirstPageThenPointInTimeCreatedAndKept() {
+        when(metadata.hasIndex(QUERY_SET.getIndexName())).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<CreatePitResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new CreatePitResponse("pit-1", 0L, 1, 1, 0, 0, ShardSearchFailure.EMPTY_ARRAY));
+            return null;
+        }).when(client).createPit(any(CreatePitRequest.class), any());
+        SearchResponse searchResponse = pageResponse(2);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any(ActionListener.class));
+
+        @SuppressWarnings("unchecked")
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().size(2).sort("id", SortOrder.ASC);
+        indicesManager.searchPage(searchSourceBuilder, QUERY_SET, null, TimeValue.timeValueMinutes(1), listener);
+
+        ArgumentCaptor<CreatePitRequest> pitCaptor = ArgumentCaptor.forClass(CreatePitRequest.class);
+        verify(client).createPit(pitCaptor.capture(), any());
+        assertArrayEquals(new String[] { QUERY_SET.getIndexName() }, pitCaptor.getValue().indices());
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any(ActionListener.class));
+        // the point in time names the index
+        assertEquals(0, requestCaptor.getValue().indices().length);
+        assertEquals("pit-1", requestCaptor.getValue().source().pointInTimeBuilder().getId());
+        verify(listener).onResponse(searchResponse);
+        // a full page is followed by another one
+        verify(client, never()).deletePits(any(), any());
+    }
+
+    public void testSearchPageWhenLastPageThenPointInTimeDeleted() {
+        SearchResponse searchResponse = pageResponse(1);
+        when(searchResponse.pointInTimeId()).thenReturn("pit-2");
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any(ActionListener.class));
+
+        @SuppressWarnings("unchecked")
+        ActionListener<SearchResponse> listener = mock(ActionListener.class);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().size(2)
+            .sort("id", SortOrder.ASC)
+            .searchAfter(new Object[] { "id1" });
+        indicesManager.searchPage(searchSourceBuilder, QUERY_SET, "pit-1", TimeValue.timeValueMinutes(1), listener);
+
+        verify(client, never()).createPit(any(), any());
+        ArgumentCaptor<DeletePitRequest> deleteCaptor = ArgumentCaptor.forClass(DeletePitRequest.class);
+        verify(client).deletePits(deleteCaptor.capture(), any());
+        assertEquals(List.of("pit-2"), deleteCaptor.getValue().getPitIds());
+        verify(listener).onResponse(searchResponse);
+    }
+
+    private static SearchResponse pageResponse(int hitCount) {
+        SearchHit[] hits = new SearchHit[hitCount];
+        for (int i = 0; i < hitCount; i++) {
+            hits[i] = new SearchHit(i, "id" + i, Map.of(), Map.of());
+        }
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return searchResponse;
+    }
+
     public void testDeleteDocByDocIdWhenSucceeded() {
         String docId = "test_id";
 
@@ -36,9 +36,11 @@ public class SearchRelevanceIndicesTests extends OpenSearchTestCase {
         Set<SearchRelevanceIndices> notProtectedIndices = Set.of(
             SearchRelevanceIndices.SEARCH_CONFIGURATION,
             SearchRelevanceIndices.JUDGMENT,
+            SearchRelevanceIndices.JUDGMENT_RATING,
             SearchRelevanceIndices.JUDGMENT_CACHE,
             SearchRelevanceIndices.EVALUATION_RESULT,
             SearchRelevanceIndices.EXPERIMENT_VARIANT,
+            SearchRelevanceIndices.EXPERIMENT_RESULT,
             SearchRelevanceIndices.QUERY_SET
         );
         for (SearchRelevanceIndices index : notProtectedIndices) {
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentImportReaderTests extends OpenSearchTestCase {
+
+    public void testNextChunk_whenNdjson_thenChunksOfCompleteQueryTexts() throws IOException {
+        String content = """
+            {"query": "laptop", "docId": "doc-1", "rating": 3}
+            {"query": "laptop", "docId": "doc-2", "rating": "1.5"}
+
+            {"query": "phone", "ratings": [{"docId": "doc-3", "rating": 2}, {"docId": "doc-4", "rating": 0}]}
+            {"query": "tv", "docId": "doc-5", "rating": 1, "comment": {"ignored": true}}
+            """;
+        try (JudgmentImportReader reader = reader(content, JudgmentImportReader.Format.NDJSON)) {
+            // a chunk is returned once it reaches 2 ratings, query texts are never split
+            assertEquals(new JudgmentRatings.Builder().add("laptop", ratings("doc-1", 3.0f, "doc-2", 1.5f)).build(), reader.nextChunk(2));
+            assertEquals(new JudgmentRatings.Builder().add("phone", ratings("doc-3", 2.0f, "doc-4", 0.0f)).build(), reader.nextChunk(2));
+            assertEquals(new JudgmentRatings.Builder().add("tv", ratings("doc-5", 1.0f)).build(), reader.nextChunk(2));
+            assertTrue(reader.nextChunk(2).isEmpty());
+
+            assertEquals(3, reader.getQueryTexts());
+            assertEquals(5L, reader.getRatings());
+            assertEquals(5, reader.getLineNumber());
+        }
+    }
+
+    public void testNextChunk_whenTrecQrels_thenSpaceOrTabSeparated() throws IOException {
+        String content = "101 0 doc-1 2\n101 0 doc-2 0\nred shoes\t0\tdoc-3\t1\n";
+        try (JudgmentImportReader reader = reader(content, JudgmentImportReader.Format.TREC)) {
+            assertEquals(
+                new JudgmentRatings.Builder().add("101", ratings("doc-1", 2.0f, "doc-2", 0.0f))
+                    .add("red shoes", ratings("doc-3", 1.0f))
+                    .build(),
+                reader.nextChunk(100)
+            );
+            assertTrue(reader.nextChunk(100).isEmpty());
+        }
+    }
+
+    public void testValidate_whenInvalidLine_thenBadRequestWithLineNumber() throws IOException {
+        assertInvalid("{\"query\": \"laptop\", \"docId\": \"doc-1\", \"rating\": \"AWESOME\"}", "line 1: rating 'AWESOME'");
+        assertInvalid("{\"query\": \"laptop\", \"rating\": 1}", "line 1: docId must not be null or empty");
+        assertInvalid("{\"docId\": \"doc-1\", \"rating\": 1}", "line 1: query must be a non empty string");
+        assertInvalid("{\"query\": \"laptop\", \"docId\": \"doc-1\", \"rating\": 1}\n{\"query\": ", "line 2: invalid JSON");
+        assertInvalid("[1, 2]", "line 1: expected a JSON object");
+        // the ratings of a query text are stored as one document, they cannot be split
+        assertInvalid("""
+            {"query": "laptop", "docId": "doc-1", "rating": 1}
+            {"query": "phone", "docId": "doc-2", "rating": 1}
+            {"query": "laptop", "docId": "doc-3", "rating": 1}
+            """, "line 3: ratings of query text [laptop] must be on consecutive lines");
+
+        SearchRelevanceException e = expectThrows(SearchRelevanceException.class, () -> {
+            try (JudgmentImportReader reader = reader("101 0 doc-1\n", JudgmentImportReader.Format.TREC)) {
+                reader.validate(10);
+            }
+        });
+        assertTrue(e.getMessage(), e.getMessage().contains("line 1: expected 4 columns"));
+    }
+
+    public void testFormat_whenUnknown_thenBadRequest() {
+        assertEquals(JudgmentImportReader.Format.TREC, JudgmentImportReader.Format.fromString("trec"));
+        assertEquals(JudgmentImportReader.Format.NDJSON, JudgmentImportReader.Format.fromString("NDJSON"));
+        expectThrows(SearchRelevanceException.class, () -> JudgmentImportReader.Format.fromString("csv"));
+    }
+
+    private static void assertInvalid(String content, String message) throws IOException {
+        try (JudgmentImportReader reader = reader(content, JudgmentImportReader.Format.NDJSON)) {
+            SearchRelevanceException e = expectThrows(SearchRelevanceException.class, () -> reader.validate(10));
+            assertTrue(e.getMessage(), e.getMessage().contains(message));
+        }
+    }
+
+    private static JudgmentImportReader reader(String content, JudgmentImportReader.Format format) throws IOException {
+        return new JudgmentImportReader(new BytesArray(content), format);
+    }
+
+    private static Map<String, Float> ratings(Object... docRatings) {
+        Map<String, Float> ratings = new LinkedHashMap<>();
+        for (int i = 0; i < docRatings.length; i += 2) {
+            ratings.put((String) docRatings[i], (Float) docRatings[i + 1]);
+        }
+        return ratings;
+    }
+}
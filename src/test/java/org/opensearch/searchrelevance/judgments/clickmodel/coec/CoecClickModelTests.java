@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.judgments.clickmodel.coec;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.model.ClickthroughRate;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class CoecClickModelTests extends OpenSearchTestCase {
+
+    public void testCalculateCoecJudgments_whenNoClickthroughRates_thenListenerNotifiedOnceWithEmptyRatings() {
+        ActionListener<JudgmentRatings> listener = mockListener();
+
+        CoecClickModel.calculateCoecJudgments(Map.of(1, 0.5), Map.of(), listener);
+
+        verify(listener, times(1)).onResponse(JudgmentRatings.EMPTY);
+        verify(listener, never()).onFailure(any());
+    }
+
+    public void testCalculateCoecJudgments_whenSeveralUserQueries_thenListenerNotifiedOnceWithAllRatings() {
+        ActionListener<JudgmentRatings> listener = mockListener();
+        Map<String, Set<ClickthroughRate>> clickthroughRates = new HashMap<>();
+        clickthroughRates.put("laptop", Set.of(new ClickthroughRate("doc-1", 1, 4, 1)));
+        clickthroughRates.put("tv", Set.of(new ClickthroughRate("doc-2", 2, 2, 2)));
+        // user queries without objects are not rated
+        clickthroughRates.put("phone", Set.of());
+
+        CoecClickModel.calculateCoecJudgments(Map.of(1, 0.5, 2, 0.25), clickthroughRates, listener);
+
+        ArgumentCaptor<JudgmentRatings> ratingsCaptor = ArgumentCaptor.forClass(JudgmentRatings.class);
+        verify(listener, times(1)).onResponse(ratingsCaptor.capture());
+        verify(listener, never()).onFailure(any());
+        JudgmentRatings judgmentRatings = ratingsCaptor.getValue();
+        assertEquals(2, judgmentRatings.size());
+        Map<String, Map<String, Float>> ratings = new HashMap<>();
+        for (int query = 0; query < judgmentRatings.size(); query++) {
+            ratings.put(judgmentRatings.getQueryText(query), judgmentRatings.getRatings(query));
+        }
+        // clicks divided by the clicks expected at the rank, 1 / (0.5 * 4) and 2 / (0.25 * 2)
+        assertEquals(Map.of("laptop", Map.of("doc-1", 0.5f), "tv", Map.of("doc-2", 4.0f)), ratings);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ActionListener<JudgmentRatings> mockListener() {
+        return mock(ActionListener.class);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentAggregatesTests extends OpenSearchTestCase {
+
+    public void testAdd_whenValues_thenWelfordStatistics() {
+        MetricAggregate aggregate = new MetricAggregate();
+        double[] values = { 0.2, 0.4, 0.4, 0.9, 1.0 };
+        for (double value : values) {
+            aggregate.add(value);
+        }
+
+        Map<String, Object> statistics = aggregate.toMap();
+        assertEquals(5L, statistics.get(MetricAggregate.COUNT));
+        assertEquals(0.58, (double) statistics.get(MetricAggregate.MEAN), 1e-9);
+        // sample variance
+        assertEquals(0.122, (double) statistics.get(MetricAggregate.VARIANCE), 1e-9);
+        assertEquals(Math.sqrt(0.122), (double) statistics.get(MetricAggregate.STANDARD_DEVIATION), 1e-9);
+        assertEquals(0.2, statistics.get(MetricAggregate.MIN));
+        assertEquals(1.0, statistics.get(MetricAggregate.MAX));
+        assertEquals(0.4, (double) statistics.get(MetricAggregate.P50), 1e-9);
+        assertTrue(new MetricAggregate().toMap().isEmpty());
+    }
+
+    public void testMerge_whenSplitValues_thenSameAsOneAggregate() {
+        MetricAggregate all = new MetricAggregate();
+        MetricAggregate first = new MetricAggregate();
+        MetricAggregate second = new MetricAggregate();
+        for (int i = 0; i < 1000; i++) {
+            double value = randomDouble();
+            all.add(value);
+            (i < 300 ? first : second).add(value);
+        }
+
+        first.merge(second);
+        first.merge(new MetricAggregate());
+
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.getMean(), first.getMean(), 1e-9);
+        assertEquals(all.getVariance(), first.getVariance(), 1e-9);
+        assertEquals(all.toMap().get(MetricAggregate.MIN), first.toMap().get(MetricAggregate.MIN));
+        assertEquals(all.toMap().get(MetricAggregate.MAX), first.toMap().get(MetricAggregate.MAX));
+        assertEquals(all.quantile(0.5), first.quantile(0.5), 0.02);
+    }
+
+    public void testRecord_whenEvaluationMetrics_thenAggregatesPerConfigurationAndVariant() {
+        ExperimentAggregates aggregates = new ExperimentAggregates();
+        aggregates.record(queryResults("config-1", null, 0.5));
+        aggregates.record(queryResults("config-1", null, 1.0));
+        aggregates.record(queryResults("config-1", "variant-1", 0.25));
+        aggregates.record(Map.of("pairs", List.of()));
+
+        List<Map<String, Object>> summary = aggregates.toSummary();
+
+        assertEquals(2, summary.size());
+        assertEquals("config-1", summary.get(0).get(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID));
+        assertFalse(summary.get(0).containsKey(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID));
+        assertEquals(0.75, ndcg(summary.get(0)).get(MetricAggregate.MEAN));
+        assertEquals("variant-1", summary.get(1).get(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID));
+        assertEquals(1L, ndcg(summary.get(1)).get(MetricAggregate.COUNT));
+    }
+
+    public void testStreams_whenSerializedAndMerged_thenSameAsRecordedTogether() throws Exception {
+        ExperimentAggregates slice = new ExperimentAggregates();
+        slice.record(queryResults("config-1", "variant-1", 0.5));
+        slice.record(queryResults("config-2", null, 0.1));
+        ExperimentAggregates local = new ExperimentAggregates();
+        local.record(queryResults("config-1", "variant-1", 1.0));
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        slice.writeTo(output);
+        local.merge(new ExperimentAggregates(output.bytes().streamInput()));
+
+        ExperimentAggregates together = new ExperimentAggregates();
+        together.record(queryResults("config-1", "variant-1", 0.5));
+        together.record(queryResults("config-2", null, 0.1));
+        together.record(queryResults("config-1", "variant-1", 1.0));
+        assertEquals(together.toSummary(), local.toSummary());
+    }
+
+    private static Map<String, Object> queryResults(String searchConfigurationId, String experimentVariantId, double ndcg) {
+        Map<String, Object> evaluationMetrics = experimentVariantId == null
+            ? Map.of(
+                POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID,
+                searchConfigurationId,
+                POINTWISE_FIELD_NAME_METRICS,
+                Map.of("NDCG@10", ndcg)
+            )
+            : Map.of(
+                POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID,
+                searchConfigurationId,
+                POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID,
+                experimentVariantId,
+                POINTWISE_FIELD_NAME_METRICS,
+                Map.of("NDCG@10", ndcg)
+            );
+        return Map.of(POINTWISE_FIELD_NAME_EVALUATION_METRICS, List.of(evaluationMetrics));
+    }
+
+    private static Map<String, Object> ndcg(Map<String, Object> aggregate) {
+        return (Map<String, Object>) ((Map<String, Object>) aggregate.get(POINTWISE_FIELD_NAME_METRICS)).get("NDCG@10");
+    }
+}
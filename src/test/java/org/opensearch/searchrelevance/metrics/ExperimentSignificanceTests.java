@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_METRIC;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EVALUATION_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_METRICS;
+import static org.opensearch.searchrelevance.common.MetricsConstants.POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentSignificanceTests extends OpenSearchTestCase {
+    private ForkJoinPool pool;
+    private ExperimentSignificance experimentSignificance;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        pool = new ForkJoinPool(2);
+        SearchRelevanceSettingsAccessor settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getSignificanceIterations()).thenReturn(500);
+        when(settingsAccessor.getSignificanceSeed()).thenReturn(42L);
+        experimentSignificance = new ExperimentSignificance(settingsAccessor, pool);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(pool);
+        super.tearDown();
+    }
+
+    public void testCompare_whenPointwiseConfigurations_thenEveryPairOnSharedQueryTexts() {
+        Map<String, Map<String, Object>> queryResults = new HashMap<>();
+        queryResults.put(
+            "laptop",
+            queryResults(metrics("config-1", null, 0.5), metrics("config-2", null, 0.6), metrics("config-3", null, 0.1))
+        );
+        queryResults.put(
+            "phone",
+            queryResults(metrics("config-1", null, 0.4), metrics("config-2", null, 0.9), metrics("config-3", null, 0.2))
+        );
+        // config-3 has no result for this query text, its comparisons are paired on the other two
+        queryResults.put("tablet", queryResults(metrics("config-1", null, 0.6), metrics("config-2", null, 0.7)));
+
+        List<Map<String, Object>> significance = experimentSignificance.compare(queryResults, 500, 42L);
+
+        assertEquals(3, significance.size());
+        assertComparison(significance.get(0), "config-1", "config-2", 3);
+        assertComparison(significance.get(1), "config-1", "config-3", 2);
+        assertComparison(significance.get(2), "config-2", "config-3", 2);
+        assertEquals(0.233, (double) significance.get(0).get(ExperimentSignificance.MEAN_DIFFERENCE), 1e-3);
+        Map<String, Object> permutationTest = (Map<String, Object>) significance.get(0).get(ExperimentSignificance.PERMUTATION_TEST);
+        assertEquals(500, permutationTest.get(ExperimentSignificance.ITERATIONS));
+        // tests of the same results with the same seed are reproducible
+        assertEquals(significance, experimentSignificance.compare(queryResults, 500, 42L));
+    }
+
+    public void testCompare_whenHybridVariants_thenComparedWithBestVariantOfConfiguration() {
+        Map<String, Map<String, Object>> queryResults = new HashMap<>();
+        queryResults.put(
+            "laptop",
+            queryResults(
+                metrics("config-1", "variant-1", 0.5),
+                metrics("config-1", "variant-2", 0.8),
+                metrics("config-1", "variant-3", 0.1)
+            )
+        );
+        queryResults.put(
+            "phone",
+            queryResults(
+                metrics("config-1", "variant-1", 0.4),
+                metrics("config-1", "variant-2", 0.7),
+                metrics("config-1", "variant-3", 0.3)
+            )
+        );
+
+        List<Map<String, Object>> significance = experimentSignificance.compare(queryResults, 0, 42L);
+
+        assertEquals(2, significance.size());
+        for (Map<String, Object> test : significance) {
+            assertEquals(
+                Map.of(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, "config-1", POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, "variant-2"),
+                test.get(ExperimentSignificance.BASELINE)
+            );
+            assertTrue((double) test.get(ExperimentSignificance.MEAN_DIFFERENCE) < 0);
+            // without resampling iterations only the t-test runs
+            assertFalse(test.containsKey(ExperimentSignificance.PERMUTATION_TEST));
+            assertFalse(test.containsKey(ExperimentSignificance.BOOTSTRAP));
+        }
+    }
+
+    public void testCompare_whenListener_thenTestsRunOnPool() {
+        Map<String, Map<String, Object>> queryResults = Map.of(
+            "laptop",
+            queryResults(metrics("config-1", null, 0.5), metrics("config-2", null, 0.6)),
+            "phone",
+            queryResults(metrics("config-1", null, 0.4), metrics("config-2", null, 0.9))
+        );
+        PlainActionFuture<List<Map<String, Object>>> future = new PlainActionFuture<>();
+
+        experimentSignificance.compare(queryResults, future);
+
+        List<Map<String, Object>> significance = future.actionGet();
+        assertEquals(1, significance.size());
+        assertComparison(significance.get(0), "config-1", "config-2", 2);
+
+        // a single search configuration has nothing to compare with
+        PlainActionFuture<List<Map<String, Object>>> single = new PlainActionFuture<>();
+        experimentSignificance.compare(Map.of("laptop", queryResults(metrics("config-1", null, 0.5))), single);
+        assertTrue(single.actionGet().isEmpty());
+    }
+
+    private static void assertComparison(Map<String, Object> test, String baseline, String candidate, int sampleSize) {
+        assertEquals("NDCG@10", test.get(PAIRWISE_FIELD_NAME_METRIC));
+        assertEquals(Map.of(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, baseline), test.get(ExperimentSignificance.BASELINE));
+        assertEquals(Map.of(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, candidate), test.get(ExperimentSignificance.CANDIDATE));
+        assertEquals(sampleSize, test.get(ExperimentSignificance.SAMPLE_SIZE));
+    }
+
+    private static Map<String, Object> metrics(String searchConfigurationId, String experimentVariantId, double ndcg) {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put(POINTWISE_FIELD_NAME_SEARCH_CONFIGURATION_ID, searchConfigurationId);
+        if (experimentVariantId != null) {
+            metrics.put(POINTWISE_FIELD_NAME_EXPERIMENT_VARIANT_ID, experimentVariantId);
+        }
+        metrics.put(POINTWISE_FIELD_NAME_METRICS, Map.of("NDCG@10", ndcg));
+        return metrics;
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> queryResults(Map<String, Object>... metrics) {
+        return Map.of(POINTWISE_FIELD_NAME_EVALUATION_METRICS, new ArrayList<>(List.of(metrics)));
+    }
+}
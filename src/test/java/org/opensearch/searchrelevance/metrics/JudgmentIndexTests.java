@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentIndexTests extends OpenSearchTestCase {
+
+    private static final float DELTA_FOR_FLOAT_ASSERTION = 0.0001f;
+
+    private static final String JUDGMENT_SOURCE = "{"
+        + "\"id\":\"j1\",\"name\":\"judgment\",\"metadata\":{\"querySetId\":\"q1\",\"nested\":[1,2,{\"a\":\"b\"}]},"
+        + "\"judgmentRatings\":["
+        + "{\"query\":\"laptop\",\"ratings\":[{\"docId\":\"d1\",\"rating\":\"0.700\"},{\"docId\":\"d2\",\"rating\":2}]},"
+        + "{\"ratings\":[{\"rating\":\"1.0\",\"docId\":\"d3\"}],\"query\":\"phone\"},"
+        + "{\"query\":\"tv\",\"ratings\":[]}"
+        + "],\"status\":\"COMPLETED\"}";
+
+    public void testParseJudgmentRatings_whenStringAndNumericRatings_thenParsed() throws IOException {
+        JudgmentRatings ratings = JudgmentIndex.parseJudgmentRatings(new BytesArray(JUDGMENT_SOURCE));
+
+        assertEquals(3, ratings.size());
+        assertEquals("laptop", ratings.getQueryText(0));
+        assertEquals(0.7f, ratings.getRatings(0).get("d1"), DELTA_FOR_FLOAT_ASSERTION);
+        assertEquals(2.0f, ratings.getRatings(0).get("d2"), DELTA_FOR_FLOAT_ASSERTION);
+        assertEquals("phone", ratings.getQueryText(1));
+        assertEquals(1.0f, ratings.getRatings(1).get("d3"), DELTA_FOR_FLOAT_ASSERTION);
+        assertEquals("tv", ratings.getQueryText(2));
+        assertTrue(ratings.getRatings(2).isEmpty());
+    }
+
+    public void testParseJudgmentRatings_whenNoJudgmentRatings_thenEmpty() throws IOException {
+        JudgmentRatings ratings = JudgmentIndex.parseJudgmentRatings(new BytesArray("{\"id\":\"j1\"}"));
+        assertTrue(ratings.isEmpty());
+    }
+
+    public void testMerge_whenSameQueryInSeveralJudgments_thenLaterJudgmentWins() {
+        JudgmentIndex judgmentIndex = JudgmentIndex.merge(
+            List.of(
+                new JudgmentRatings.Builder().add("laptop", Map.of("d1", 1.0f, "d2", 2.0f)).build(),
+                new JudgmentRatings.Builder().add("laptop", Map.of("d2", 3.0f)).add("phone", Map.of("d9", 1.0f)).build()
+            ),
+            List.of("laptop", "phone", "unknown")
+        );
+
+        assertEquals(2, judgmentIndex.size());
+        assertEquals(Map.of("d1", 1.0f, "d2", 3.0f), judgmentIndex.getRatings("laptop"));
+        assertEquals(Map.of("d9", 1.0f), judgmentIndex.getRatings("phone"));
+        assertTrue(judgmentIndex.getRatings("unknown").isEmpty());
+        expectThrows(UnsupportedOperationException.class, () -> judgmentIndex.getRatings("laptop").put("d3", 1.0f));
+    }
+
+    public void testMerge_whenQueryTextNotInExperiment_thenNotIndexed() {
+        JudgmentIndex judgmentIndex = JudgmentIndex.merge(
+            List.of(new JudgmentRatings.Builder().add("laptop", Map.of("d1", 1.0f)).add("phone", Map.of("d9", 1.0f)).build()),
+            List.of("phone")
+        );
+
+        assertEquals(1, judgmentIndex.size());
+        assertTrue(judgmentIndex.getRatings("laptop").isEmpty());
+        assertEquals(Map.of("d9", 1.0f), judgmentIndex.getRatings("phone"));
+    }
+
+    public void testEvaluationMetrics_whenFloatRatings_thenSameAsStringRatings() {
+        List<String> docIds = List.of("d1", "d2", "d3", "d4");
+        Map<String, Float> floatRatings = Map.of("d1", 2.0f, "d2", 0.0f, "d4", 1.0f);
+        Map<String, String> stringRatings = Map.of("d1", "2.0", "d2", "0.0", "d4", "1.0");
+
+        assertEquals(
+            EvaluationMetrics.calculateEvaluationMetrics(docIds, stringRatings, 4),
+            EvaluationMetrics.calculateEvaluationMetrics(docIds, floatRatings, 4)
+        );
+    }
+}
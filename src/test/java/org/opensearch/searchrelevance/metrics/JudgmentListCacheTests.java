@@ -0,0 +1,318 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.searchrelevance.stats.events.EventStatName;
+import org.opensearch.searchrelevance.stats.events.EventStatsManager;
+import org.opensearch.searchrelevance.transport.judgment.InvalidateJudgmentCacheAction;
+import org.opensearch.searchrelevance.transport.judgment.InvalidateJudgmentCacheRequest;
+import org.opensearch.searchrelevance.util.TestUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import com.google.common.base.Ticker;
+
+public class JudgmentListCacheTests extends OpenSearchTestCase {
+    private Client client;
+    private JudgmentDao judgmentDao;
+    private ThreadPool threadPool;
+    private SearchRelevanceSettingsAccessor settingsAccessor;
+    private AtomicLong nanos;
+    private List<List<String>> lookups;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+        client = mock(Client.class);
+        judgmentDao = mock(JudgmentDao.class);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.getJudgmentCacheSize()).thenReturn(new ByteSizeValue(1024 * 1024));
+        when(settingsAccessor.getJudgmentCacheExpireAfterAccess()).thenReturn(TimeValue.timeValueMinutes(30));
+        nanos = new AtomicLong();
+        lookups = new ArrayList<>();
+        // the judgment rating index has ratings for every query text but "tv"
+        doAnswer(invocation -> {
+            List<String> queryTexts = new ArrayList<>(invocation.getArgument(1));
+            lookups.add(queryTexts);
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            JudgmentRatings.Builder judgmentRatings = new JudgmentRatings.Builder();
+            queryTexts.stream()
+                .filter(queryText -> queryText.equals("tv") == false)
+                .forEach(queryText -> judgmentRatings.add(queryText, Map.of(queryText + "-doc", 2.0f)));
+            listener.onResponse(judgmentRatings.build());
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("judgment-1"), anyCollection(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(true);
+            return null;
+        }).when(judgmentDao).hasJudgmentRatings(anyString(), any());
+    }
+
+    public void testGetRatings_whenQueryTextsCached_thenOnlyMissingQueryTextsFetched() {
+        JudgmentListCache judgmentListCache = newCache();
+
+        assertEquals(Map.of("laptop", Map.of("laptop-doc", 2.0f)), getRatings(judgmentListCache, "judgment-1", "laptop", "tv"));
+        assertEquals(Map.of("laptop", Map.of("laptop-doc", 2.0f)), getRatings(judgmentListCache, "judgment-1", "laptop", "tv"));
+        assertEquals(
+            Map.of("laptop", Map.of("laptop-doc", 2.0f), "phone", Map.of("phone-doc", 2.0f)),
+            getRatings(judgmentListCache, "judgment-1", "laptop", "phone", "tv")
+        );
+
+        // unrated query texts are cached as well, only "phone" is fetched again
+        assertEquals(List.of(List.of("laptop", "tv"), List.of("phone")), lookups);
+        assertEquals(1, judgmentListCache.size());
+        assertEquals(1L, statValue(EventStatName.JUDGMENT_CACHE_HITS));
+        assertEquals(2L, statValue(EventStatName.JUDGMENT_CACHE_MISSES));
+    }
+
+    public void testGetRatings_whenCached_thenCachedRatingsServedAsTheyAre() {
+        JudgmentListCache judgmentListCache = newCache();
+
+        JudgmentRatings loaded = getJudgmentRatings(judgmentListCache, "judgment-1", "laptop", "phone");
+
+        assertSame(loaded, getJudgmentRatings(judgmentListCache, "judgment-1", "laptop"));
+        assertSame(loaded, getJudgmentRatings(judgmentListCache, "judgment-1", "phone", "laptop"));
+        assertEquals(List.of(List.of("laptop", "phone")), lookups);
+    }
+
+    public void testGetRatings_whenNotInJudgmentRatingIndex_thenJudgmentDocumentCachedComplete() {
+        JudgmentListCache judgmentListCache = newCache();
+        doAnswer(invocation -> {
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            listener.onResponse(JudgmentRatings.EMPTY);
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("legacy"), anyCollection(), any());
+        mockHasJudgmentRatings("legacy", false);
+        String source = "{\"judgmentRatings\":[{\"query\":\"laptop\",\"ratings\":[{\"docId\":\"doc-1\",\"rating\":\"1.5\"}]},"
+            + "{\"query\":\"phone\",\"ratings\":[{\"docId\":\"doc-2\",\"rating\":3}]}]}";
+        SearchHit hit = new SearchHit(0, "legacy", Map.of(), Map.of());
+        hit.sourceRef(new BytesArray(source));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse(new SearchHit[] { hit }));
+            return null;
+        }).when(judgmentDao).getJudgment(eq("legacy"), any());
+
+        assertEquals(Map.of("laptop", Map.of("doc-1", 1.5f)), getRatings(judgmentListCache, "legacy", "laptop"));
+        // the judgment document has every query text, nothing else is fetched
+        assertEquals(Map.of("phone", Map.of("doc-2", 3.0f)), getRatings(judgmentListCache, "legacy", "phone", "tv"));
+
+        verify(judgmentDao, times(1)).getQueryRatings(eq("legacy"), anyCollection(), any());
+        verify(judgmentDao, times(1)).getJudgment(eq("legacy"), any());
+    }
+
+    public void testGetRatings_whenOnlyOtherQueryTextsInJudgmentRatingIndex_thenJudgmentDocumentNotRead() {
+        JudgmentListCache judgmentListCache = newCache();
+        doAnswer(invocation -> {
+            Collection<String> queryTexts = invocation.getArgument(1);
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            JudgmentRatings phoneRatings = new JudgmentRatings.Builder().add("phone", Map.of("doc-2", 3.0f)).build();
+            listener.onResponse(queryTexts.contains("phone") ? phoneRatings : JudgmentRatings.EMPTY);
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("imported"), anyCollection(), any());
+
+        assertEquals(Map.of(), getRatings(judgmentListCache, "imported", "laptop"));
+        assertEquals(Map.of(), getRatings(judgmentListCache, "imported", "laptop"));
+        // the unrated query text is cached, but the judgment list is not complete
+        assertEquals(Map.of("phone", Map.of("doc-2", 3.0f)), getRatings(judgmentListCache, "imported", "laptop", "phone"));
+
+        verify(judgmentDao, times(2)).getQueryRatings(eq("imported"), anyCollection(), any());
+        verify(judgmentDao, times(1)).hasJudgmentRatings(eq("imported"), any());
+        verify(judgmentDao, never()).getJudgment(anyString(), any());
+    }
+
+    public void testGetRatings_whenJudgmentDocumentHasNoRatings_thenEmptyAndNotCached() {
+        JudgmentListCache judgmentListCache = newCache();
+        doAnswer(invocation -> {
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            listener.onResponse(JudgmentRatings.EMPTY);
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("processing"), anyCollection(), any());
+        mockHasJudgmentRatings("processing", false);
+        SearchHit hit = new SearchHit(0, "processing", Map.of(), Map.of());
+        hit.sourceRef(new BytesArray("{\"status\":\"PROCESSING\"}"));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse(new SearchHit[] { hit }));
+            return null;
+        }).when(judgmentDao).getJudgment(eq("processing"), any());
+
+        assertEquals(Map.of(), getRatings(judgmentListCache, "processing", "laptop"));
+        assertEquals(Map.of(), getRatings(judgmentListCache, "processing", "laptop"));
+
+        assertEquals(0, judgmentListCache.size());
+        verify(judgmentDao, times(2)).getJudgment(eq("processing"), any());
+    }
+
+    public void testGetRatings_whenJudgmentNotFound_thenNullAndNotCached() {
+        JudgmentListCache judgmentListCache = newCache();
+        doAnswer(invocation -> {
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            listener.onResponse(JudgmentRatings.EMPTY);
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("missing"), anyCollection(), any());
+        mockHasJudgmentRatings("missing", false);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse(new SearchHit[0]));
+            return null;
+        }).when(judgmentDao).getJudgment(eq("missing"), any());
+
+        assertNull(getRatings(judgmentListCache, "missing", "laptop"));
+        assertEquals(0, judgmentListCache.size());
+    }
+
+    public void testInvalidate_whenInvalidatedDuringLoad_thenLoadNotCached() {
+        JudgmentListCache judgmentListCache = newCache();
+        getRatings(judgmentListCache, "judgment-1", "laptop");
+        judgmentListCache.invalidate(List.of("judgment-1"));
+        assertEquals(0, judgmentListCache.size());
+
+        doAnswer(invocation -> {
+            // the judgment list is regenerated while its ratings are read
+            judgmentListCache.invalidate(List.of("judgment-1"));
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            listener.onResponse(new JudgmentRatings.Builder().add("laptop", Map.of("stale-doc", 1.0f)).build());
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("judgment-1"), anyCollection(), any());
+
+        assertEquals(Map.of("laptop", Map.of("stale-doc", 1.0f)), getRatings(judgmentListCache, "judgment-1", "laptop"));
+        assertEquals(0, judgmentListCache.size());
+    }
+
+    public void testInvalidateOnAllNodes_thenInvalidatedLocallyAndBroadcast() {
+        JudgmentListCache judgmentListCache = newCache();
+        getRatings(judgmentListCache, "judgment-1", "laptop");
+
+        judgmentListCache.invalidateOnAllNodes("judgment-1");
+
+        assertEquals(0, judgmentListCache.size());
+        verify(client).execute(
+            eq(InvalidateJudgmentCacheAction.INSTANCE),
+            argThat((InvalidateJudgmentCacheRequest request) -> request.getJudgmentIds().equals(List.of("judgment-1"))),
+            any()
+        );
+    }
+
+    public void testEviction_whenOverMemoryBudgetOrIdle_thenEvictedAndCounted() {
+        // room for about one judgment list of a single short query text
+        JudgmentRatings judgmentRatings = new JudgmentRatings.Builder().add("laptop", Map.of("doc-1", 1.0f)).build();
+        int weight = JudgmentListCache.CachedJudgmentList.of(judgmentRatings, List.of("laptop"), false).getWeight();
+        when(settingsAccessor.getJudgmentCacheSize()).thenReturn(new ByteSizeValue(weight + weight / 2));
+        JudgmentListCache judgmentListCache = newCache();
+        doAnswer(invocation -> {
+            ActionListener<JudgmentRatings> listener = invocation.getArgument(2);
+            listener.onResponse(judgmentRatings);
+            return null;
+        }).when(judgmentDao).getQueryRatings(eq("judgment-2"), anyCollection(), any());
+
+        getRatings(judgmentListCache, "judgment-1", "laptop");
+        getRatings(judgmentListCache, "judgment-2", "laptop");
+        assertEquals(1, judgmentListCache.size());
+        assertEquals(1L, statValue(EventStatName.JUDGMENT_CACHE_EVICTIONS));
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(31));
+        getRatings(judgmentListCache, "judgment-2", "laptop");
+        // the idle judgment list expired and was loaded again
+        verify(judgmentDao, times(2)).getQueryRatings(eq("judgment-2"), anyCollection(), any());
+        assertEquals(2L, statValue(EventStatName.JUDGMENT_CACHE_EVICTIONS));
+        verify(judgmentDao, never()).getJudgment(anyString(), any());
+    }
+
+    private JudgmentListCache newCache() {
+        Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        return new JudgmentListCache(client, judgmentDao, threadPool, settingsAccessor, ticker);
+    }
+
+    private static Map<String, Map<String, Float>> getRatings(
+        JudgmentListCache judgmentListCache,
+        String judgmentId,
+        String... queryTexts
+    ) {
+        JudgmentRatings judgmentRatings = getJudgmentRatings(judgmentListCache, judgmentId, queryTexts);
+        if (judgmentRatings == null) {
+            return null;
+        }
+        // the cached ratings may hold other query texts looked up before
+        Map<String, Map<String, Float>> queryRatings = new HashMap<>();
+        for (int query = 0; query < judgmentRatings.size(); query++) {
+            if (List.of(queryTexts).contains(judgmentRatings.getQueryText(query))) {
+                queryRatings.put(judgmentRatings.getQueryText(query), judgmentRatings.getRatings(query));
+            }
+        }
+        return queryRatings;
+    }
+
+    private static JudgmentRatings getJudgmentRatings(JudgmentListCache judgmentListCache, String judgmentId, String... queryTexts) {
+        PlainActionFuture<JudgmentRatings> future = new PlainActionFuture<>();
+        judgmentListCache.getRatings(judgmentId, List.of(queryTexts), future);
+        return future.actionGet();
+    }
+
+    private void mockHasJudgmentRatings(String judgmentId, boolean hasJudgmentRatings) {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(hasJudgmentRatings);
+            return null;
+        }).when(judgmentDao).hasJudgmentRatings(eq(judgmentId), any());
+    }
+
+    private static long statValue(EventStatName statName) {
+        return EventStatsManager.instance().getTimestampedEventStatSnapshots(EnumSet.of(statName)).get(statName).getValue();
+    }
+
+    private static SearchResponse searchResponse(SearchHit[] hits) {
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+}
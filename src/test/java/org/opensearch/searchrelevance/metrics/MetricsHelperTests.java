@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_COMBINATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE;
+import static org.opensearch.searchrelevance.experiment.ExperimentOptionsForHybridSearch.EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.experiment.HybridSearchPlan;
+import org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.ExperimentVariant;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettingsAccessor;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+public class MetricsHelperTests extends OpenSearchTestCase {
+
+    private static final String HYBRID_QUERY = "{\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}},{\"match\":{\"description\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}}]}}}";
+
+    private ExperimentVariantDao experimentVariantDao;
+    private EvaluationResultDao evaluationResultDao;
+    private SearchResultCache searchResultCache;
+    private MetricsHelper metricsHelper;
+    private List<ExperimentVariant> experimentVariants;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentVariantDao = mock(ExperimentVariantDao.class);
+        evaluationResultDao = mock(EvaluationResultDao.class);
+        searchResultCache = mock(SearchResultCache.class);
+        SearchRelevanceSettingsAccessor settingsAccessor = mock(SearchRelevanceSettingsAccessor.class);
+        when(settingsAccessor.isHybridLocalScoringEnabled()).thenReturn(true);
+        metricsHelper = new MetricsHelper(
+            mock(ClusterService.class),
+            mock(Client.class),
+            mock(JudgmentListCache.class),
+            evaluationResultDao,
+            searchResultCache,
+            settingsAccessor
+        );
+        experimentVariants = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            experimentVariants.add(
+                new ExperimentVariant(
+                    "variant-" + i,
+                    "2025-06-01T00:00:00.000Z",
+                    ExperimentType.HYBRID_OPTIMIZER,
+                    AsyncStatus.PROCESSING,
+                    "experiment-1",
+                    Map.of(
+                        EXPERIMENT_OPTION_NORMALIZATION_TECHNIQUE,
+                        HybridScoreCombination.NORMALIZATION_MIN_MAX,
+                        EXPERIMENT_OPTION_COMBINATION_TECHNIQUE,
+                        HybridScoreCombination.COMBINATION_ARITHMETIC_MEAN,
+                        EXPERIMENT_OPTION_WEIGHTS_FOR_COMBINATION,
+                        new float[] { 0.1f * i, 1.0f - 0.1f * i }
+                    ),
+                    Map.of()
+                )
+            );
+        }
+    }
+
+    public void testProcessEvaluationMetrics_whenSubQueryRetrievalFails_thenFailsOnce() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResultCache.RankedHits> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("sub-query failed"));
+            return null;
+        }).when(searchResultCache).searchWithScores(anyString(), any(SearchRequest.class), any());
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+
+        processEvaluationMetrics("laptop", ActionListener.wrap(r -> fail(), failures::add));
+
+        // both sub-queries fail every variant, the query text fails once and the shared variants are left as they are
+        assertEquals(1, failures.size());
+        assertEquals("sub-query failed", failures.get(0).getMessage());
+        verifyNoInteractions(experimentVariantDao);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testProcessEvaluationMetrics_whenOneQueryTextFails_thenOtherQueryTextEvaluated() {
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(evaluationResultDao).bulkPutEvaluationResult(anyString(), any(EvaluationResult.class), any());
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        List<Map<String, Object>> results = new CopyOnWriteArrayList<>();
+
+        doAnswer(invocation -> {
+            ActionListener<SearchResultCache.RankedHits> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("sub-query failed"));
+            return null;
+        }).when(searchResultCache).searchWithScores(anyString(), any(SearchRequest.class), any());
+        processEvaluationMetrics("laptop", ActionListener.wrap(r -> fail(), failures::add));
+        doAnswer(invocation -> {
+            ActionListener<SearchResultCache.RankedHits> listener = invocation.getArgument(2);
+            listener.onResponse(new SearchResultCache.RankedHits(List.of("doc-1", "doc-2"), new float[] { 2.0f, 1.0f }));
+            return null;
+        }).when(searchResultCache).searchWithScores(anyString(), any(SearchRequest.class), any());
+        processEvaluationMetrics("tv", ActionListener.wrap(results::add, e -> fail()));
+
+        assertEquals(1, failures.size());
+        assertEquals(1, results.size());
+        // the results of the query text reference an evaluation result of every variant
+        List<Map<String, Object>> evaluationResults = (List<Map<String, Object>>) results.get(0).get("evaluationResults");
+        assertEquals(experimentVariants.size(), evaluationResults.size());
+        verify(evaluationResultDao, times(experimentVariants.size())).bulkPutEvaluationResult(anyString(), any(), any());
+        verifyNoInteractions(experimentVariantDao);
+    }
+
+    private void processEvaluationMetrics(String queryText, ActionListener<Map<String, Object>> listener) {
+        metricsHelper.processEvaluationMetrics(
+            "experiment-1",
+            queryText,
+            Map.of("config-1", Arrays.asList("products", HYBRID_QUERY, null)),
+            10,
+            List.of("judgment-1"),
+            JudgmentIndex.empty(),
+            listener,
+            experimentVariants,
+            new HybridSearchPlan(10)
+        );
+    }
+}
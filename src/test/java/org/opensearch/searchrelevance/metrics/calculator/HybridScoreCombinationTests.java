@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import static org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination.COMBINATION_ARITHMETIC_MEAN;
+import static org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination.COMBINATION_GEOMETRIC_MEAN;
+import static org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination.COMBINATION_HARMONIC_MEAN;
+import static org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination.NORMALIZATION_L2;
+import static org.opensearch.searchrelevance.metrics.calculator.HybridScoreCombination.NORMALIZATION_MIN_MAX;
+
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridScoreCombinationTests extends OpenSearchTestCase {
+
+    // the lexical sub-query returns a, b, c and the semantic one c, d, a
+    private final HybridScoreCombination scoreCombination = new HybridScoreCombination(
+        List.of(List.of("a", "b", "c"), List.of("c", "d", "a")),
+        List.of(new float[] { 4.0f, 2.0f, 1.0f }, new float[] { 0.9f, 0.6f, 0.3f })
+    );
+
+    public void testRank_whenMinMaxArithmeticMean_thenWeightsDecideRanking() {
+        assertEquals(
+            List.of("a", "d", "b", "c"),
+            scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_ARITHMETIC_MEAN, new float[] { 0.7f, 0.3f }, 10)
+        );
+        assertEquals(
+            List.of("c", "d", "b", "a"),
+            scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_ARITHMETIC_MEAN, new float[] { 0.2f, 0.8f }, 10)
+        );
+    }
+
+    public void testRank_whenDocMissingFromSubQuery_thenArithmeticMeanSkipsIt() {
+        // ranking of the normalization-processor with min_max and arithmetic_mean weights [0.7, 0.3]:
+        // normalized lexical a=1.0, b=0.333, c=0.001 and semantic c=1.0, d=0.5, a=0.001, combined
+        // a=(0.7*1.0+0.3*0.001)/1.0=0.7003, d=0.3*0.5/0.3=0.5, b=0.7*0.333/0.7=0.333, c=(0.7*0.001+0.3*1.0)/1.0=0.3007
+        // counting the missing sub-query as 0 would rank them a, c, b, d instead
+        assertEquals(
+            List.of("a", "d", "b", "c"),
+            scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_ARITHMETIC_MEAN, new float[] { 0.7f, 0.3f }, 10)
+        );
+    }
+
+    public void testRank_whenGeometricOrHarmonicMean_thenMissingSubQueriesAreSkipped() {
+        // a and c are the lowest hit of one sub-query, normalized to the minimum score, b and d only match one sub-query
+        assertEquals(
+            List.of("d", "b", "a", "c"),
+            scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_GEOMETRIC_MEAN, new float[] { 0.5f, 0.5f }, 10)
+        );
+        assertEquals(
+            List.of("d", "b", "a", "c"),
+            scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_HARMONIC_MEAN, new float[] { 0.5f, 0.5f }, 10)
+        );
+    }
+
+    public void testRank_whenL2Normalization_thenRanksBySumOfNormalizedScores() {
+        assertEquals(
+            List.of("a", "d", "c", "b"),
+            scoreCombination.rank(NORMALIZATION_L2, COMBINATION_ARITHMETIC_MEAN, new float[] { 0.5f, 0.5f }, 10)
+        );
+    }
+
+    public void testRank_whenSizeSmallerThanHits_thenTruncates() {
+        assertEquals(
+            List.of("a", "d"),
+            scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_ARITHMETIC_MEAN, new float[] { 0.7f, 0.3f }, 2)
+        );
+    }
+
+    public void testRank_whenSingleHitPerSubQuery_thenScoresIt() {
+        HybridScoreCombination singleHits = new HybridScoreCombination(
+            List.of(List.of("a"), List.of("b")),
+            List.of(new float[] { 3.0f }, new float[] { 0.5f })
+        );
+
+        // both hits have the single result score of the only sub-query they match, ties keep the retrieval order
+        assertEquals(
+            List.of("a", "b"),
+            singleHits.rank(NORMALIZATION_MIN_MAX, COMBINATION_ARITHMETIC_MEAN, new float[] { 0.4f, 0.6f }, 10)
+        );
+    }
+
+    public void testRank_whenInvalidParameters_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> scoreCombination.rank("z_score", COMBINATION_ARITHMETIC_MEAN, new float[] { 0.5f, 0.5f }, 10)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> scoreCombination.rank(NORMALIZATION_MIN_MAX, "max", new float[] { 0.5f, 0.5f }, 10)
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> scoreCombination.rank(NORMALIZATION_MIN_MAX, COMBINATION_ARITHMETIC_MEAN, new float[] { 1.0f }, 10)
+        );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PairComparisonTests extends OpenSearchTestCase {
+
+    public void testCalculateRBOSimilarity_whenRandomLists_thenSameAsOverlapOfEveryPrefix() {
+        for (int iteration = 0; iteration < 50; iteration++) {
+            List<String> listA = randomRanking(randomIntBetween(0, 150), 200);
+            List<String> listB = randomRanking(randomIntBetween(1, 150), 200);
+            // duplicates are counted once in every prefix
+            if (listA.isEmpty() == false && randomBoolean()) {
+                listA.add(listA.get(0));
+            }
+
+            for (double p : new double[] { 0.5, 0.9 }) {
+                assertEquals(rbo(listA, listB, p), PairComparison.calculateRBOSimilarity(listA, listB, p), 0.0);
+            }
+        }
+    }
+
+    public void testCalculateRBOSimilarity_whenEmptyLists_thenZero() {
+        assertEquals(0.0, PairComparison.calculateRBOSimilarity(List.of(), List.of(), 0.9), 0.0);
+    }
+
+    public void testCompare_whenSameRankings_thenSimilarityIsOne() {
+        List<String> ranking = List.of("d1", "d2", "d3", "d4");
+        PairComparisonMatrix matrix = PairComparisonMatrix.of(Map.of("config-a", ranking, "config-b", ranking));
+
+        PairComparisonMatrix.PairSimilarity similarity = matrix.compare(0, 1);
+
+        assertEquals(1.0, similarity.getJaccard(), 0.0);
+        assertEquals(1.0, similarity.getRbo50(), 0.0);
+        assertEquals(1.0, similarity.getRbo90(), 0.0);
+        assertEquals(1.0, similarity.getExtrapolatedRbo50(), 0.0);
+        assertEquals(1.0, similarity.getExtrapolatedRbo90(), 0.0);
+        assertEquals(1.0, similarity.getFrequencyWeighted(), 0.0);
+    }
+
+    public void testCompare_whenDisjointOrEmptyRankings_thenSimilarityIsZero() {
+        PairComparisonMatrix matrix = PairComparisonMatrix.of(
+            Map.of("config-a", List.of("d1", "d2"), "config-b", List.of("d3", "d4", "d5"), "config-c", List.of())
+        );
+
+        for (int[] pair : new int[][] { { 0, 1 }, { 0, 2 }, { 1, 2 } }) {
+            PairComparisonMatrix.PairSimilarity similarity = matrix.compare(pair[0], pair[1]);
+            assertEquals(0.0, similarity.getJaccard(), 0.0);
+            assertEquals(0.0, similarity.getRbo90(), 0.0);
+            assertEquals(0.0, similarity.getExtrapolatedRbo90(), 0.0);
+            assertEquals(0.0, similarity.getFrequencyWeighted(), 0.0);
+        }
+    }
+
+    public void testCompare_whenUnevenRankings_thenExtrapolatedRBO() {
+        // Webber et al. equation 32 with s = 2, l = 3, X_1 = 0, X_2 = 2, X_3 = 2
+        PairComparisonMatrix matrix = PairComparisonMatrix.of(
+            Map.of("config-a", List.of("d1", "d2"), "config-b", List.of("d2", "d1", "d3"))
+        );
+        double p = 0.9;
+        double sum = 2.0 / 2 * Math.pow(p, 2) + 2.0 / 3 * Math.pow(p, 3) + 2.0 * (3 - 2) / (2 * 3) * Math.pow(p, 3);
+        double expected = (1 - p) / p * sum + ((2.0 - 2.0) / 3 + 2.0 / 2) * Math.pow(p, 3);
+
+        assertEquals(Math.round(expected * 100.0) / 100.0, matrix.compare(0, 1).getExtrapolatedRbo90(), 0.0);
+    }
+
+    public void testCompare_whenRandomRankings_thenSameAsListCalculators() {
+        for (int iteration = 0; iteration < 50; iteration++) {
+            List<String> rankingA = randomRanking(randomIntBetween(0, 150), 200);
+            List<String> rankingB = randomRanking(randomIntBetween(0, 150), 200);
+            PairComparisonMatrix matrix = PairComparisonMatrix.of(Map.of("config-a", rankingA, "config-b", rankingB));
+
+            PairComparisonMatrix.PairSimilarity similarity = matrix.compare(0, 1);
+
+            assertEquals(PairComparison.calculateJaccardSimilarity(rankingA, rankingB), similarity.getJaccard(), 0.0);
+            assertEquals(PairComparison.calculateRBOSimilarity(rankingA, rankingB, 0.5), similarity.getRbo50(), 0.0);
+            assertEquals(PairComparison.calculateRBOSimilarity(rankingA, rankingB, 0.9), similarity.getRbo90(), 0.0);
+            // weights are summed in another order, rounding may differ by one hundredth
+            assertEquals(
+                PairComparison.calculateFrequencyWeightedSimilarity(rankingA, rankingB),
+                similarity.getFrequencyWeighted(),
+                0.01 + 1e-9
+            );
+            assertEquals(similarity.getRbo90(), matrix.compare(1, 0).getRbo90(), 0.0);
+        }
+    }
+
+    public void testOf_whenSeveralConfigurations_thenOrderedBySearchConfigurationId() {
+        PairComparisonMatrix matrix = PairComparisonMatrix.of(
+            Map.of("config-c", List.of("d1"), "config-a", List.of("d2"), "config-b", List.of("d3"))
+        );
+
+        assertEquals(3, matrix.size());
+        assertEquals("config-a", matrix.name(0));
+        assertEquals("config-b", matrix.name(1));
+        assertEquals("config-c", matrix.name(2));
+    }
+
+    private static List<String> randomRanking(int size, int docs) {
+        Set<String> ranking = new LinkedHashSet<>();
+        while (ranking.size() < Math.min(size, docs)) {
+            ranking.add("d" + randomIntBetween(0, docs - 1));
+        }
+        return new ArrayList<>(ranking);
+    }
+
+    /**
+     * RBO recomputed from the sets of both prefixes at every depth
+     */
+    private static double rbo(List<String> listA, List<String> listB, double p) {
+        int maxDepth = Math.max(listA.size(), listB.size());
+        double sum = 0;
+        double weight = 1;
+        for (int d = 0; d < maxDepth; d++) {
+            Set<String> setA = new HashSet<>(listA.subList(0, Math.min(d + 1, listA.size())));
+            Set<String> setB = new HashSet<>(listB.subList(0, Math.min(d + 1, listB.size())));
+            Set<String> intersection = new HashSet<>(setA);
+            intersection.retainAll(setB);
+            sum += weight * (intersection.size() / (double) Math.max(setA.size(), setB.size()));
+            weight *= p;
+        }
+        return Math.round(sum * (1 - p) / (1 - Math.pow(p, maxDepth)) * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.math3.stat.inference.TTest;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PairedSignificanceTests extends OpenSearchTestCase {
+    private ForkJoinPool pool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        pool = new ForkJoinPool(4);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(pool);
+        super.tearDown();
+    }
+
+    public void testTest_whenPairedSamples_thenPairedTTestOfDifferences() {
+        double[] baseline = { 0.5, 0.4, 0.6, 0.3 };
+        double[] candidate = { 0.7, 0.9, 0.6, 0.4 };
+
+        PairedSignificance.Result result = PairedSignificance.test(baseline, candidate, 0, 42L, pool);
+
+        assertEquals(4, result.getSampleSize());
+        assertEquals(0.2, result.getMeanDifference(), 1e-9);
+        assertEquals(new TTest().pairedT(candidate, baseline), result.getTStatistic(), 1e-9);
+        assertEquals(new TTest().pairedTTest(candidate, baseline), result.getTTestPValue(), 1e-9);
+        // no resampling iterations
+        assertEquals(0, result.getIterations());
+        assertNull(result.getPermutationPValue());
+        assertNull(result.getConfidenceIntervalLower());
+    }
+
+    public void testTest_whenSameSeed_thenSameResultsWhateverTheParallelism() {
+        double[] baseline = new double[50];
+        double[] candidate = new double[50];
+        for (int i = 0; i < baseline.length; i++) {
+            baseline[i] = randomDouble();
+            candidate[i] = randomDouble();
+        }
+        int iterations = 3 * PairedSignificance.CHUNK_SIZE + 17;
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            PairedSignificance.Result parallel = PairedSignificance.test(baseline, candidate, iterations, 7L, pool);
+            PairedSignificance.Result sequential = PairedSignificance.test(baseline, candidate, iterations, 7L, singleThreadPool);
+
+            assertEquals(iterations, parallel.getIterations());
+            assertEquals(sequential.getPermutationPValue(), parallel.getPermutationPValue());
+            assertEquals(sequential.getConfidenceIntervalLower(), parallel.getConfidenceIntervalLower());
+            assertEquals(sequential.getConfidenceIntervalUpper(), parallel.getConfidenceIntervalUpper());
+        } finally {
+            terminate(singleThreadPool);
+        }
+    }
+
+    public void testTest_whenCandidateConsistentlyBetter_thenSignificant() {
+        double[] baseline = new double[40];
+        double[] candidate = new double[40];
+        for (int i = 0; i < baseline.length; i++) {
+            baseline[i] = 0.3 + 0.01 * (i % 5);
+            candidate[i] = baseline[i] + 0.1 + 0.02 * (i % 3);
+        }
+
+        PairedSignificance.Result result = PairedSignificance.test(baseline, candidate, 2000, 42L, pool);
+
+        assertTrue(result.getTTestPValue() < 0.001);
+        // no random sign assignment reaches the observed sum of positive differences
+        assertEquals(1.0 / 2001, result.getPermutationPValue(), 1e-12);
+        assertTrue(result.getConfidenceIntervalLower() > 0.1);
+        assertTrue(result.getConfidenceIntervalLower() <= result.getMeanDifference());
+        assertTrue(result.getConfidenceIntervalUpper() >= result.getMeanDifference());
+        assertTrue(result.getConfidenceIntervalUpper() < 0.14);
+    }
+
+    public void testTest_whenIdenticalSamples_thenNotSignificant() {
+        double[] values = { 0.2, 0.8, 0.5 };
+
+        PairedSignificance.Result result = PairedSignificance.test(values, values.clone(), 1000, 42L, pool);
+
+        assertEquals(0.0, result.getMeanDifference(), 0.0);
+        assertNull(result.getTStatistic());
+        assertEquals(1.0, result.getTTestPValue(), 0.0);
+        assertEquals(1.0, result.getPermutationPValue(), 0.0);
+        assertEquals(0.0, result.getConfidenceIntervalLower(), 0.0);
+        assertEquals(0.0, result.getConfidenceIntervalUpper(), 0.0);
+    }
+
+    public void testTest_whenLessThanTwoPairs_thenNoResult() {
+        assertNull(PairedSignificance.test(new double[] { 0.5 }, new double[] { 0.7 }, 1000, 42L, pool));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> PairedSignificance.test(new double[] { 0.5, 0.6 }, new double[] { 0.7 }, 1000, 42L, pool)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class QueryJudgmentsTests extends OpenSearchTestCase {
+
+    public void testOf_whenRatings_thenRelevantCountAndIdealGains() {
+        QueryJudgments queryJudgments = QueryJudgments.of(Map.of("d1", 1.0f, "d2", 3.0f, "d3", 0.0f, "d4", 2.0f));
+
+        assertEquals(3, queryJudgments.getRelevantCount());
+        assertEquals(0.0, queryJudgments.idealDcg(0), 0.0);
+        assertEquals(7.0, queryJudgments.idealDcg(1), 1e-9);
+        assertEquals(7.0 + 3.0 / (Math.log(3) / Math.log(2)), queryJudgments.idealDcg(2), 1e-9);
+        // ranks past the judged documents add no gain
+        assertEquals(queryJudgments.idealDcg(4), queryJudgments.idealDcg(10), 0.0);
+    }
+
+    public void testRatingsOf_whenUnjudgedDocuments_thenNaN() {
+        QueryJudgments queryJudgments = QueryJudgments.parse(Map.of("d1", "2", "d2", 0));
+
+        float[] rankedRatings = queryJudgments.ratingsOf(List.of("d2", "d3", "d1"));
+
+        assertEquals(3, rankedRatings.length);
+        assertEquals(0.0f, rankedRatings[0], 0.0f);
+        assertTrue(Float.isNaN(rankedRatings[1]));
+        assertEquals(2.0f, rankedRatings[2], 0.0f);
+    }
+
+    public void testGetRating_whenManyJudgments_thenEveryRatingFound() {
+        Map<String, Float> ratings = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            ratings.put("doc-" + i, (float) (i % 4));
+        }
+
+        QueryJudgments queryJudgments = QueryJudgments.of(ratings);
+
+        assertEquals(1000, queryJudgments.size());
+        assertFalse(queryJudgments.isEmpty());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 4, queryJudgments.getRating("doc-" + i), 0.0f);
+        }
+        assertTrue(Float.isNaN(queryJudgments.getRating("doc-1000")));
+        assertEquals(ratings, queryJudgments.getRatings());
+        expectThrows(UnsupportedOperationException.class, () -> queryJudgments.getRatings().put("doc-1000", 1.0f));
+    }
+
+    public void testOf_whenEmpty_thenNoGain() {
+        QueryJudgments queryJudgments = QueryJudgments.of(Map.of());
+
+        assertSame(QueryJudgments.EMPTY, queryJudgments);
+        assertEquals(0, queryJudgments.getRelevantCount());
+        assertEquals(0.0, queryJudgments.idealDcg(10), 0.0);
+        assertEquals(0.0, Evaluation.calculateNDCGAtK(queryJudgments.ratingsOf(List.of("d1")), queryJudgments, 10), 0.0);
+    }
+
+    public void testKernels_whenRandomJudgments_thenSameAsRecomputingFromTheMap() {
+        for (int iteration = 0; iteration < 20; iteration++) {
+            Map<String, Float> ratings = new HashMap<>();
+            int judged = randomIntBetween(0, 1500);
+            for (int i = 0; i < judged; i++) {
+                ratings.put("d" + i, (float) randomIntBetween(0, 3));
+            }
+            List<String> docIds = new ArrayList<>();
+            for (int i = 0; i < randomIntBetween(0, 1200); i++) {
+                docIds.add("d" + randomIntBetween(0, 2000));
+            }
+            int k = randomIntBetween(1, 1200);
+            QueryJudgments queryJudgments = QueryJudgments.of(ratings);
+            float[] rankedRatings = queryJudgments.ratingsOf(docIds);
+
+            assertEquals(ndcg(docIds, ratings, k), Evaluation.calculateNDCGAtK(rankedRatings, queryJudgments, k), 0.0);
+            assertEquals(
+                Evaluation.calculateMAPAtK(docIds, ratings, k),
+                Evaluation.calculateMAPAtK(rankedRatings, queryJudgments, k),
+                0.0
+            );
+            assertEquals(
+                Evaluation.calculatePrecisionAtK(docIds, ratings, k),
+                Evaluation.calculatePrecisionAtK(rankedRatings, k),
+                0.0
+            );
+        }
+    }
+
+    /**
+     * NDCG recomputed from the judgment map, sorting every rating for the ideal ranking
+     */
+    private static double ndcg(List<String> docIds, Map<String, Float> ratings, int k) {
+        double dcg = 0.0;
+        for (int i = 0; i < Math.min(k, docIds.size()); i++) {
+            Float rating = ratings.get(docIds.get(i));
+            if (rating != null) {
+                dcg += (Math.pow(2, rating) - 1) / (Math.log(i + 2) / Math.log(2));
+            }
+        }
+        List<Float> ideal = new ArrayList<>(ratings.values());
+        ideal.sort(Collections.reverseOrder());
+        double idcg = 0.0;
+        for (int i = 0; i < Math.min(k, ideal.size()); i++) {
+            idcg += (Math.pow(2, ideal.get(i)) - 1) / (Math.log(i + 2) / Math.log(2));
+        }
+        return idcg > 0 ? Math.round(dcg / idcg * 100.0) / 100.0 : 0.0;
+    }
+}
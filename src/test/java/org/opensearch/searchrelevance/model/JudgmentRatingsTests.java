@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentRatingsTests extends OpenSearchTestCase {
+
+    public void testBuild_whenDocIdsRatedForSeveralQueryTexts_thenGroupedByQueryText() {
+        JudgmentRatings judgmentRatings = judgmentRatings();
+
+        assertEquals(2, judgmentRatings.size());
+        assertEquals(3, judgmentRatings.getRatingCount());
+        assertEquals("laptop", judgmentRatings.getQueryText(0));
+        assertEquals(0, judgmentRatings.getStart(0));
+        assertEquals(2, judgmentRatings.getEnd(0));
+        assertEquals("doc-2", judgmentRatings.getDocId(1));
+        assertEquals(1.5f, judgmentRatings.getRating(1), 0.0f);
+        assertEquals(Map.of("doc-1", 2.0f), judgmentRatings.getRatings(1));
+        assertTrue(JudgmentRatings.EMPTY.isEmpty());
+        expectThrows(IllegalStateException.class, () -> new JudgmentRatings.Builder().addRating("doc-1", 1.0f));
+    }
+
+    public void testToXContent_whenParsedAgain_thenSameRatings() throws IOException {
+        JudgmentRatings judgmentRatings = judgmentRatings();
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        judgmentRatings.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = BytesReference.bytes(builder).utf8ToString();
+
+        assertEquals(
+            "[{\"query\":\"laptop\",\"ratings\":[{\"docId\":\"doc-1\",\"rating\":3.0},{\"docId\":\"doc-2\",\"rating\":1.5}]},"
+                + "{\"query\":\"tv\",\"ratings\":[{\"docId\":\"doc-1\",\"rating\":2.0}]}]",
+            json
+        );
+        try (
+            XContentParser parser = JsonXContent.jsonXContent.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.IGNORE_DEPRECATIONS,
+                json
+            )
+        ) {
+            assertEquals(judgmentRatings, JudgmentRatings.fromXContent(parser));
+        }
+    }
+
+    public void testWriteTo_whenReadAgain_thenSameRatings() throws IOException {
+        JudgmentRatings judgmentRatings = judgmentRatings();
+        BytesStreamOutput out = new BytesStreamOutput();
+        judgmentRatings.writeTo(out);
+
+        try (StreamInput in = out.bytes().streamInput()) {
+            assertEquals(judgmentRatings, new JudgmentRatings(in));
+        }
+    }
+
+    public void testParse_whenRequestSource_thenStringRatingsParsed() {
+        JudgmentRatings judgmentRatings = JudgmentRatings.parse(
+            List.of(
+                Map.of(
+                    "query",
+                    "laptop",
+                    "ratings",
+                    List.of(Map.of("docId", "doc-1", "rating", "3"), Map.of("docId", "doc-2", "rating", 1.5))
+                ),
+                Map.of("query", "tv", "ratings", List.of(Map.of("docId", "doc-1", "rating", "2.000")))
+            )
+        );
+
+        assertEquals(judgmentRatings(), judgmentRatings);
+    }
+
+    public void testParse_whenInvalidRating_thenBadRequest() {
+        assertInvalid(Map.of("laptop", List.of()), "judgmentRatings must be a list of query ratings");
+        assertInvalid(List.of(Map.of("query", "laptop", "ratings", Map.of())), "queryText laptop must have a list of rating data.");
+        assertInvalid(List.of(Map.of("query", "laptop", "ratings", List.of(Map.of("rating", "1")))), "docId for queryText laptop");
+        assertInvalid(List.of(Map.of("query", "laptop", "ratings", List.of(Map.of("docId", "doc-1")))), "rating for queryText laptop");
+        assertInvalid(
+            List.of(Map.of("query", "laptop", "ratings", List.of(Map.of("docId", "doc-1", "rating", "AWESOME")))),
+            "rating 'AWESOME' for queryText laptop must be a valid float"
+        );
+    }
+
+    private static void assertInvalid(Object judgmentRatings, String message) {
+        SearchRelevanceException e = expectThrows(SearchRelevanceException.class, () -> JudgmentRatings.parse(judgmentRatings));
+        assertTrue(e.getMessage(), e.getMessage().contains(message));
+    }
+
+    private static JudgmentRatings judgmentRatings() {
+        return new JudgmentRatings.Builder().addQueryText("laptop")
+            .addRating("doc-1", 3.0f)
+            .addRating("doc-2", 1.5f)
+            .addQueryText("tv")
+            .addRating("doc-1", 2.0f)
+            .build();
+    }
+}
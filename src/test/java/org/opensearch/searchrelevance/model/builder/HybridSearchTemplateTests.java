@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.index.query.WrapperQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridSearchTemplateTests extends OpenSearchTestCase {
+
+    private static final String TEST_INDEX = "test_index";
+    private static final int TEST_SIZE = 10;
+    private static final String HYBRID_QUERY = "{\"_source\":{\"exclude\":[\"passage_embedding\"]},\"size\":5,"
+        + "\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}},{\"match\":{\"description\":\""
+        + WILDCARD_QUERY_TEXT
+        + "\"}}],\"filter\":{\"term\":{\"category\":\"books\"}}}}}";
+    private static final Map<String, Object> TEMPORARY_SEARCH_PIPELINE = Map.of(
+        "phase_results_processors",
+        List.of(Map.of("normalization-processor", Map.of("normalization", Map.of("technique", "min_max"))))
+    );
+
+    public void testBuildRequest_whenQueryTexts_thenSameRequestsAsParsingEveryQueryText() {
+        HybridSearchTemplate template = HybridSearchTemplate.compile(HYBRID_QUERY, TEST_SIZE);
+
+        for (String queryText : List.of("laptop", "red shoes")) {
+            for (Map<String, Object> pipeline : List.of(TEMPORARY_SEARCH_PIPELINE, Map.<String, Object>of())) {
+                SearchRequest expected = SearchRequestBuilder.buildRequestForHybridSearch(
+                    TEST_INDEX,
+                    HYBRID_QUERY.replace(WILDCARD_QUERY_TEXT, queryText),
+                    pipeline,
+                    queryText,
+                    TEST_SIZE
+                );
+                SearchRequest searchRequest = template.buildRequest(TEST_INDEX, pipeline, queryText);
+
+                assertEquals(expected.source().toString(), searchRequest.source().toString());
+                assertEquals(TEST_SIZE, searchRequest.source().size());
+                String query = new String(((WrapperQueryBuilder) searchRequest.source().query()).source(), StandardCharsets.UTF_8);
+                assertTrue(query, query.contains("\"name\":\"" + queryText + "\""));
+                assertFalse(query, query.contains(WILDCARD_QUERY_TEXT));
+            }
+        }
+    }
+
+    public void testBuildRequest_whenCalledTwice_thenRequestsDoNotShareTheirSource() {
+        HybridSearchTemplate template = HybridSearchTemplate.compile(HYBRID_QUERY, TEST_SIZE);
+
+        SearchRequest first = template.buildRequest(TEST_INDEX, TEMPORARY_SEARCH_PIPELINE, "laptop");
+        SearchRequest second = template.buildRequest(TEST_INDEX, Map.of(), "phone");
+
+        assertNotSame(first.source(), second.source());
+        assertEquals(TEMPORARY_SEARCH_PIPELINE, first.source().searchPipelineSource());
+        assertNull(second.source().searchPipelineSource());
+    }
+
+    public void testBuildRequest_whenSourceReferencesQueryText_thenFillsItPerQueryText() {
+        String hybridQuery = "{\"highlight\":{\"highlight_query\":{\"match\":{\"name\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}},\"fields\":{\"name\":{}}},\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}},{\"match\":{\"description\":\"books\"}}]}}}";
+        HybridSearchTemplate template = HybridSearchTemplate.compile(hybridQuery, TEST_SIZE);
+
+        SearchRequest searchRequest = template.buildRequest(TEST_INDEX, Map.of(), "laptop");
+
+        assertEquals(
+            SearchRequestBuilder.buildRequestForHybridSearch(TEST_INDEX, hybridQuery, Map.of(), "laptop", TEST_SIZE).source().toString(),
+            searchRequest.source().toString()
+        );
+        assertTrue(searchRequest.source().highlighter().highlightQuery().toString().contains("laptop"));
+    }
+
+    public void testBuildSubQueryRequests_whenQueryText_thenSameRequestsAsParsingTheQueryText() {
+        HybridSearchTemplate template = HybridSearchTemplate.compile(HYBRID_QUERY, TEST_SIZE);
+
+        List<SearchRequest> expected = SearchRequestBuilder.buildRequestsForHybridSubQueries(TEST_INDEX, HYBRID_QUERY, "laptop", TEST_SIZE);
+        List<SearchRequest> searchRequests = template.buildSubQueryRequests(TEST_INDEX, "laptop");
+
+        assertEquals(expected.size(), searchRequests.size());
+        for (int i = 0; i < searchRequests.size(); i++) {
+            assertEquals(expected.get(i).source().toString(), searchRequests.get(i).source().toString());
+        }
+    }
+
+    public void testCompile_whenInvalidQuery_thenFails() {
+        String matchQuery = "{\"query\":{\"match\":{\"name\":\"" + WILDCARD_QUERY_TEXT + "\"}}}";
+        expectThrows(IllegalArgumentException.class, () -> HybridSearchTemplate.compile(matchQuery, TEST_SIZE));
+
+        String queryWithPipeline = "{\"query\":{\"hybrid\":{\"queries\":[{\"match\":{\"name\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}},{\"match\":{\"description\":\"books\"}}]}},\"search_pipeline\":{\"phase_results_processors\":[]}}";
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> HybridSearchTemplate.compile(queryWithPipeline, TEST_SIZE)
+        );
+        assertEquals("search pipeline is not allowed in search request", exception.getMessage());
+    }
+}
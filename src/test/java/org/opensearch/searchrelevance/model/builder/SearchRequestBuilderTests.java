@@ -9,11 +9,13 @@ package org.opensearch.searchrelevance.model.builder;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.index.query.WrapperQueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -140,4 +142,41 @@ public class SearchRequestBuilderTests extends OpenSearchTestCase {
         );
         assertEquals("invalid hybrid query: expected exactly [2] sub-queries but found [1]", exception.getMessage());
     }
+
+    public void testBuildRequestsForHybridSubQueries_whenHybridQueryWithFilter_thenOneRequestPerSubQuery() {
+        String hybridQuery = "{\"_source\":{\"exclude\":[\"passage_embedding\"]},\"query\":{\"hybrid\":{\"queries\":["
+            + "{\"match\":{\"name\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}},{\"match\":{\"description\":\""
+            + WILDCARD_QUERY_TEXT
+            + "\"}}],\"filter\":{\"term\":{\"category\":\"books\"}}}}}";
+
+        List<SearchRequest> searchRequests = SearchRequestBuilder.buildRequestsForHybridSubQueries(
+            TEST_INDEX,
+            hybridQuery,
+            TEST_QUERY_TEXT,
+            TEST_SIZE
+        );
+
+        assertEquals(2, searchRequests.size());
+        String[] fields = { "name", "description" };
+        for (int i = 0; i < searchRequests.size(); i++) {
+            SearchRequest searchRequest = searchRequests.get(i);
+            assertEquals(TEST_INDEX, searchRequest.indices()[0]);
+            assertNull(searchRequest.source().searchPipelineSource());
+            assertEquals(TEST_SIZE, searchRequest.source().size());
+            String subQuery = new String(((WrapperQueryBuilder) searchRequest.source().query()).source(), StandardCharsets.UTF_8);
+            assertTrue(subQuery, subQuery.contains("\"" + fields[i] + "\":\"" + TEST_QUERY_TEXT + "\""));
+            assertTrue(subQuery, subQuery.contains("\"filter\":[{\"term\":{\"category\":\"books\"}}]"));
+            assertFalse(subQuery, subQuery.contains("hybrid"));
+        }
+    }
+
+    public void testBuildRequestsForHybridSubQueries_whenNotHybridQuery_thenFail() {
+        String matchQuery = "{\"query\":{\"match\":{\"name\":\"" + WILDCARD_QUERY_TEXT + "\"}}}";
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> SearchRequestBuilder.buildRequestsForHybridSubQueries(TEST_INDEX, matchQuery, TEST_QUERY_TEXT, TEST_SIZE)
+        );
+    }
 }
@@ -10,7 +10,27 @@ package org.opensearch.searchrelevance.plugin;
 import static org.mockito.Mockito.when;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_BULK_FLUSH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_SIGNIFICANCE_SEED;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_STATS_ENABLED;
 import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RELEVANCE_WORKBENCH_ENABLED;
 
@@ -29,6 +49,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -39,17 +60,26 @@ import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.searchrelevance.cost.CostEstimator;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentVariantDao;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.SearchRelevanceExecutor;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.experiment.ExperimentRunner;
+import org.opensearch.searchrelevance.indices.SearchRelevanceBulkWriter;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.stats.info.InfoStatsManager;
+import org.opensearch.searchrelevance.tasks.LocalTaskManager;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
@@ -61,6 +91,8 @@ import org.opensearch.searchrelevance.transport.searchConfiguration.DeleteSearch
 import org.opensearch.searchrelevance.transport.searchConfiguration.GetSearchConfigurationAction;
 import org.opensearch.searchrelevance.transport.searchConfiguration.PutSearchConfigurationAction;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 import org.opensearch.watcher.ResourceWatcherService;
@@ -99,12 +131,20 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         QuerySetDao.class,
         ExperimentDao.class,
         ExperimentVariantDao.class,
+        ExperimentResultDao.class,
         SearchConfigurationDao.class,
         JudgmentDao.class,
         EvaluationResultDao.class,
         JudgmentCacheDao.class,
+        JudgmentListCache.class,
         MLAccessor.class,
         MetricsHelper.class,
+        ExperimentSearchScheduler.class,
+        SearchResultCache.class,
+        ExperimentRunner.class,
+        LocalTaskManager.class,
+        CostEstimator.class,
+        SearchRelevanceBulkWriter.class,
         InfoStatsManager.class
     );
 
@@ -123,7 +163,31 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
             new ClusterSettings(
                 settings,
                 new HashSet<>(
-                    Arrays.asList(SEARCH_RELEVANCE_WORKBENCH_ENABLED, SEARCH_RELEVANCE_STATS_ENABLED, SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT)
+                    Arrays.asList(
+                        SEARCH_RELEVANCE_WORKBENCH_ENABLED,
+                        SEARCH_RELEVANCE_STATS_ENABLED,
+                        SEARCH_RELEVANCE_QUERY_SET_MAX_LIMIT,
+                        SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_NODE,
+                        SEARCH_RELEVANCE_MAX_CONCURRENT_SEARCHES_PER_EXPERIMENT,
+                        SEARCH_RELEVANCE_MSEARCH_BATCH_SIZE,
+                        SEARCH_RELEVANCE_MSEARCH_MAX_CONCURRENT_SEARCH_REQUESTS,
+                        SEARCH_RELEVANCE_BULK_FLUSH_SIZE,
+                        SEARCH_RELEVANCE_BULK_FLUSH_INTERVAL,
+                        SEARCH_RELEVANCE_EXPERIMENT_CHECKPOINT_INTERVAL,
+                        SEARCH_RELEVANCE_EXPERIMENT_RESUME_ENABLED,
+                        SEARCH_RELEVANCE_EXPERIMENT_DISTRIBUTED_ENABLED,
+                        SEARCH_RELEVANCE_EXPERIMENT_SLICE_SIZE,
+                        SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_SIZE,
+                        SEARCH_RELEVANCE_SEARCH_RESULT_CACHE_CROSS_EXPERIMENT_ENABLED,
+                        SEARCH_RELEVANCE_HYBRID_LOCAL_SCORING_ENABLED,
+                        SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_ENABLED,
+                        SEARCH_RELEVANCE_HYBRID_ADAPTIVE_SEARCH_SAMPLE_SIZE,
+                        SEARCH_RELEVANCE_SIGNIFICANCE_ITERATIONS,
+                        SEARCH_RELEVANCE_SIGNIFICANCE_SEED,
+                        SEARCH_RELEVANCE_JUDGMENT_INLINE_RATINGS_ENABLED,
+                        SEARCH_RELEVANCE_JUDGMENT_CACHE_SIZE,
+                        SEARCH_RELEVANCE_JUDGMENT_CACHE_EXPIRE_AFTER_ACCESS
+                    )
                 )
             )
         );
@@ -165,6 +229,11 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         assertEquals(SUPPORTED_COMPONENTS, registeredComponents);
     }
 
+    public void testCreateGuiceModules() {
+        // binds the eager singleton handing the task manager to the components
+        assertEquals(1, plugin.createGuiceModules().size());
+    }
+
     public void testIsAnActionPlugin() {
         assertTrue(plugin instanceof ActionPlugin);
     }
@@ -174,7 +243,7 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
     }
 
     public void testTotalRestHandlers() {
-        assertEquals(14, plugin.getRestHandlers(Settings.EMPTY, null, null, null, null, null, null).size());
+        assertEquals(16, plugin.getRestHandlers(Settings.EMPTY, null, null, null, null, null, null).size());
     }
 
     public void testQuerySetTransportIsAdded() {
@@ -202,7 +271,7 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
 
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
-        assertEquals(3, settings.size());
+        assertEquals(23, settings.size());
 
         Setting<?> setting0 = settings.get(0);
         assertEquals("plugins.search_relevance.workbench_enabled", setting0.getKey());
@@ -215,5 +284,95 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         Setting<?> setting2 = settings.get(2);
         assertEquals("plugins.search_relevance.query_set.maximum", setting2.getKey());
         assertEquals(1000, setting2.get(Settings.EMPTY));
+
+        Setting<?> setting3 = settings.get(3);
+        assertEquals("plugins.search_relevance.experiment.max_concurrent_searches_per_node", setting3.getKey());
+        assertEquals(8, setting3.get(Settings.EMPTY));
+
+        Setting<?> setting4 = settings.get(4);
+        assertEquals("plugins.search_relevance.experiment.max_concurrent_searches_per_experiment", setting4.getKey());
+        assertEquals(4, setting4.get(Settings.EMPTY));
+
+        Setting<?> setting5 = settings.get(5);
+        assertEquals("plugins.search_relevance.experiment.msearch_batch_size", setting5.getKey());
+        assertEquals(10, setting5.get(Settings.EMPTY));
+
+        Setting<?> setting6 = settings.get(6);
+        assertEquals("plugins.search_relevance.experiment.msearch_max_concurrent_search_requests", setting6.getKey());
+        assertEquals(4, setting6.get(Settings.EMPTY));
+
+        Setting<?> setting7 = settings.get(7);
+        assertEquals("plugins.search_relevance.experiment.bulk_flush_size", setting7.getKey());
+        assertEquals(500, setting7.get(Settings.EMPTY));
+
+        Setting<?> setting8 = settings.get(8);
+        assertEquals("plugins.search_relevance.experiment.bulk_flush_interval", setting8.getKey());
+        assertEquals(TimeValue.timeValueSeconds(1), setting8.get(Settings.EMPTY));
+
+        Setting<?> setting9 = settings.get(9);
+        assertEquals("plugins.search_relevance.experiment.checkpoint_interval", setting9.getKey());
+        assertEquals(10, setting9.get(Settings.EMPTY));
+
+        Setting<?> setting10 = settings.get(10);
+        assertEquals("plugins.search_relevance.experiment.resume_enabled", setting10.getKey());
+        assertEquals(true, setting10.get(Settings.EMPTY));
+
+        Setting<?> setting11 = settings.get(11);
+        assertEquals("plugins.search_relevance.experiment.distributed_enabled", setting11.getKey());
+        assertEquals(false, setting11.get(Settings.EMPTY));
+
+        Setting<?> setting12 = settings.get(12);
+        assertEquals("plugins.search_relevance.experiment.slice_size", setting12.getKey());
+        assertEquals(100, setting12.get(Settings.EMPTY));
+
+        Setting<?> setting13 = settings.get(13);
+        assertEquals("plugins.search_relevance.experiment.search_result_cache_size", setting13.getKey());
+
+        Setting<?> setting14 = settings.get(14);
+        assertEquals("plugins.search_relevance.experiment.search_result_cache_cross_experiment_enabled", setting14.getKey());
+        assertEquals(false, setting14.get(Settings.EMPTY));
+
+        Setting<?> setting15 = settings.get(15);
+        assertEquals("plugins.search_relevance.experiment.hybrid_local_scoring_enabled", setting15.getKey());
+        assertEquals(false, setting15.get(Settings.EMPTY));
+
+        Setting<?> setting16 = settings.get(16);
+        assertEquals("plugins.search_relevance.experiment.hybrid_adaptive_search_enabled", setting16.getKey());
+        assertEquals(false, setting16.get(Settings.EMPTY));
+
+        Setting<?> setting17 = settings.get(17);
+        assertEquals("plugins.search_relevance.experiment.hybrid_adaptive_search_sample_size", setting17.getKey());
+        assertEquals(50, setting17.get(Settings.EMPTY));
+
+        Setting<?> setting18 = settings.get(18);
+        assertEquals("plugins.search_relevance.experiment.significance_iterations", setting18.getKey());
+        assertEquals(10000, setting18.get(Settings.EMPTY));
+
+        Setting<?> setting19 = settings.get(19);
+        assertEquals("plugins.search_relevance.experiment.significance_seed", setting19.getKey());
+        assertEquals(42L, setting19.get(Settings.EMPTY));
+
+        Setting<?> setting20 = settings.get(20);
+        assertEquals("plugins.search_relevance.judgment.inline_ratings_enabled", setting20.getKey());
+        assertEquals(true, setting20.get(Settings.EMPTY));
+
+        Setting<?> setting21 = settings.get(21);
+        assertEquals("plugins.search_relevance.judgment.cache_size", setting21.getKey());
+
+        Setting<?> setting22 = settings.get(22);
+        assertEquals("plugins.search_relevance.judgment.cache_expire_after_access", setting22.getKey());
+        assertEquals(TimeValue.timeValueMinutes(30), setting22.get(Settings.EMPTY));
+    }
+
+    public void testGetExecutorBuilders() {
+        List<ExecutorBuilder<?>> executorBuilders = plugin.getExecutorBuilders(Settings.EMPTY);
+        assertEquals(1, executorBuilders.size());
+        assertTrue(executorBuilders.get(0) instanceof FixedExecutorBuilder);
+        assertTrue(
+            executorBuilders.get(0)
+                .getRegisteredSettings()
+                .stream()
+                .anyMatch(setting -> setting.getKey().equals("thread_pool." + SearchRelevanceExecutor.THREAD_POOL_NAME + ".size"))
+        );
     }
 }
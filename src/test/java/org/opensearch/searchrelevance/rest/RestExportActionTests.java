@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOCUMENT_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPORT_PATH;
+import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENTS_URL;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
+import org.opensearch.searchrelevance.transport.export.ExportAction;
+import org.opensearch.searchrelevance.transport.export.ExportRequest;
+import org.opensearch.searchrelevance.transport.export.ExportResponse;
+import org.opensearch.test.rest.FakeRestRequest;
+
+public class RestExportActionTests extends SearchRelevanceRestTestCase {
+
+    private RestExportAction restExportAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        restExportAction = new RestExportAction(settingsAccessor);
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        when(channel.newErrorBuilder()).thenReturn(JsonXContent.contentBuilder());
+    }
+
+    public void testExport_whenInvalidRequest_thenStatusOfException() throws Exception {
+        assertEquals(
+            RestStatus.BAD_REQUEST,
+            exportFailure(new SearchRelevanceException("invalid export cursor", RestStatus.BAD_REQUEST))
+        );
+    }
+
+    public void testExport_whenUnexpectedFailure_thenInternalServerError() throws Exception {
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, exportFailure(new IOException("Test exception")));
+    }
+
+    private RestStatus exportFailure(Exception failure) throws Exception {
+        RestRequest request = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withMethod(RestRequest.Method.GET)
+            .withPath(JUDGMENTS_URL + "/judgment-1/" + EXPORT_PATH)
+            .withParams(Map.of(DOCUMENT_ID, "judgment-1"))
+            .build();
+        when(channel.request()).thenReturn(request);
+        doAnswer(invocation -> {
+            ActionListener<ExportResponse> listener = invocation.getArgument(2);
+            listener.onFailure(failure);
+            return null;
+        }).when(client).execute(eq(ExportAction.INSTANCE), any(ExportRequest.class), any());
+
+        restExportAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        return responseCaptor.getValue().status();
+    }
+}
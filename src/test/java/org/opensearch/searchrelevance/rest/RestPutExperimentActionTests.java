@@ -21,7 +21,11 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.cost.CostEstimate;
 import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostAction;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostRequest;
+import org.opensearch.searchrelevance.transport.estimate.EstimateCostResponse;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
 
@@ -95,6 +99,31 @@ public class RestPutExperimentActionTests extends SearchRelevanceRestTestCase {
         assertEquals(RestStatus.OK, responseCaptor.getValue().status());
     }
 
+    public void testPutExperiment_whenDryRun_thenEstimatesWithoutCreating() throws Exception {
+        when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
+        String content = VALID_EXPERIMENT_CONTENT.substring(0, VALID_EXPERIMENT_CONTENT.length() - 1)
+            + ",\"budget\": {\"maxSearches\": 100}}";
+        RestRequest request = createPutRestRequestWithContent(content, "experiments");
+        request.params().put("dry_run", "true");
+        when(channel.request()).thenReturn(request);
+
+        ArgumentCaptor<EstimateCostRequest> estimateRequestCaptor = ArgumentCaptor.forClass(EstimateCostRequest.class);
+        doAnswer(invocation -> {
+            ActionListener<EstimateCostResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new EstimateCostResponse(new CostEstimate(5, 10, 100, 0, 0, 15)));
+            return null;
+        }).when(client).execute(eq(EstimateCostAction.INSTANCE), estimateRequestCaptor.capture(), any());
+
+        restPutExperimentAction.handleRequest(request, channel, client);
+
+        ArgumentCaptor<BytesRestResponse> responseCaptor = ArgumentCaptor.forClass(BytesRestResponse.class);
+        verify(channel).sendResponse(responseCaptor.capture());
+        assertEquals(RestStatus.OK, responseCaptor.getValue().status());
+        assertTrue(responseCaptor.getValue().content().utf8ToString().contains("\"searches\":10"));
+        assertEquals(Long.valueOf(100), estimateRequestCaptor.getValue().getExperimentRequest().getBudget().getMaxSearches());
+        verify(client, never()).execute(eq(PutExperimentAction.INSTANCE), any(), any());
+    }
+
     public void testPutExperiment_InvalidType() throws Exception {
         // Setup
         when(settingsAccessor.isWorkbenchEnabled()).thenReturn(true);
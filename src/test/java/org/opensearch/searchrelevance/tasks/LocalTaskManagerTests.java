@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.tasks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class LocalTaskManagerTests extends OpenSearchTestCase {
+
+    public void testGet_whenBound_thenReturnsTaskManagerOfTransportService() {
+        LocalTaskManager localTaskManager = new LocalTaskManager();
+        expectThrows(IllegalStateException.class, localTaskManager::get);
+
+        TaskManager taskManager = mock(TaskManager.class);
+        TransportService transportService = mock(TransportService.class);
+        when(transportService.getTaskManager()).thenReturn(taskManager);
+        new LocalTaskManager.Binding(transportService, localTaskManager);
+
+        assertSame(taskManager, localTaskManager.get());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.tasks;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class SearchRelevanceTaskTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Set.of());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    public void testRegister_whenProgressUpdated_thenDescriptionReportsIt() {
+        SearchRelevanceTask task = SearchRelevanceTask.register(taskManager, "action[run]", "experiment[e1]");
+
+        assertSame(task, taskManager.getCancellableTasks().get(task.getId()));
+        assertEquals(SearchRelevanceTask.TASK_TYPE, task.getType());
+        assertEquals("experiment[e1]", task.getDescription());
+
+        task.setProgress(2, 5);
+        task.incrementProgress();
+        assertEquals("experiment[e1], progress[3/5]", task.getDescription());
+
+        taskManager.unregister(task);
+        assertTrue(taskManager.getCancellableTasks().isEmpty());
+    }
+
+    public void testCancel_whenListenersAdded_thenRunsThemOnceCancelled() {
+        SearchRelevanceTask task = SearchRelevanceTask.register(taskManager, "action[run]", "experiment[e1]");
+        AtomicInteger cancellations = new AtomicInteger();
+
+        task.addCancellationListener(cancellations::incrementAndGet);
+        assertEquals(0, cancellations.get());
+
+        taskManager.cancel(task, "by user", () -> {});
+        assertTrue(task.isCancelled());
+        assertEquals("by user", task.getReasonCancelled());
+        assertEquals(1, cancellations.get());
+
+        // listeners added after the cancellation run right away
+        task.addCancellationListener(cancellations::incrementAndGet);
+        assertEquals(2, cancellations.get());
+    }
+}
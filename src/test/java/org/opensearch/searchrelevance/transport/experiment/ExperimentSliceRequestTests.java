@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.experiment.ExperimentVariantHybridSearchDTO;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentSliceRequestTests extends OpenSearchTestCase {
+
+    public void testStreams() throws Exception {
+        ExperimentSliceRequest request = new ExperimentSliceRequest(
+            "node-1",
+            "experiment-1",
+            ExperimentType.HYBRID_OPTIMIZER,
+            10,
+            List.of("judgment-1"),
+            Map.of("config-1", List.of("index", "query")),
+            List.of(
+                ExperimentVariantHybridSearchDTO.builder()
+                    .normalizationTechnique("min_max")
+                    .combinationTechnique("arithmetic_mean")
+                    .queryWeightsForCombination(new float[] { 0.3f, 0.7f })
+                    .build()
+            ),
+            List.of("laptop", "phone")
+        );
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        new ExperimentSliceNodeRequest(request).writeTo(output);
+        StreamInput in = output.bytes().streamInput();
+        ExperimentSliceRequest copy = new ExperimentSliceNodeRequest(in).getRequest();
+
+        assertArrayEquals(new String[] { "node-1" }, copy.nodesIds());
+        assertEquals("experiment-1", copy.getExperimentId());
+        assertEquals(ExperimentType.HYBRID_OPTIMIZER, copy.getType());
+        assertEquals(10, copy.getSize());
+        assertEquals(List.of("judgment-1"), copy.getJudgmentList());
+        assertEquals(Map.of("config-1", List.of("index", "query")), copy.getIndexAndQueries());
+        assertEquals(1, copy.getHybridVariants().size());
+        assertEquals("min_max", copy.getHybridVariants().get(0).getNormalizationTechnique());
+        assertEquals("arithmetic_mean", copy.getHybridVariants().get(0).getCombinationTechnique());
+        assertArrayEquals(new float[] { 0.3f, 0.7f }, copy.getHybridVariants().get(0).getQueryWeightsForCombination(), 0.0f);
+        assertEquals(List.of("laptop", "phone"), copy.getQueryTexts());
+        assertEquals("experiment[experiment-1] slice[2 query texts]", copy.getDescription());
+        // cancellable, so slices are cancelled together with the experiment run
+        Task task = copy.createTask(1, "transport", ExperimentSliceAction.NAME, TaskId.EMPTY_TASK_ID, Map.of());
+        assertTrue(task instanceof SearchRelevanceTask);
+    }
+}
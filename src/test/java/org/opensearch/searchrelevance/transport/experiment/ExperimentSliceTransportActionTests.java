@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.experiment.ExperimentRunner;
+import org.opensearch.searchrelevance.metrics.ExperimentAggregates;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.tasks.SearchRelevanceTask;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class ExperimentSliceTransportActionTests extends OpenSearchTestCase {
+    private ExperimentRunner experimentRunner;
+    private DiscoveryNode localNode;
+    private TransportService transportService;
+    private ExperimentSliceTransportAction transportAction;
+    private ExperimentSliceNodeRequest request;
+    private SearchRelevanceTask task;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentRunner = mock(ExperimentRunner.class);
+        ClusterService clusterService = mock(ClusterService.class);
+        localNode = mock(DiscoveryNode.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        transportService = mock(TransportService.class);
+        transportAction = new ExperimentSliceTransportAction(
+            mock(ThreadPool.class),
+            clusterService,
+            transportService,
+            new ActionFilters(Set.of()),
+            experimentRunner
+        );
+        request = new ExperimentSliceNodeRequest(
+            new ExperimentSliceRequest(
+                "node-1",
+                "experiment-1",
+                ExperimentType.POINTWISE_EVALUATION,
+                10,
+                List.of("judgment-1"),
+                Map.of("config-1", List.of("index", "query")),
+                List.of(),
+                List.of("laptop", "phone")
+            )
+        );
+        task = new SearchRelevanceTask(
+            1,
+            "transport",
+            ExperimentSliceTransportAction.NODE_ACTION_NAME,
+            request.getDescription(),
+            TaskId.EMPTY_TASK_ID,
+            Map.of()
+        );
+    }
+
+    public void testNodeOperationAsync_whenSliceEvaluated_thenRespondsWithoutBlocking() {
+        AtomicReference<ActionListener<ExperimentAggregates>> sliceListener = new AtomicReference<>();
+        doAnswer(invocation -> {
+            sliceListener.set(invocation.getArgument(2));
+            return null;
+        }).when(experimentRunner).evaluateSlice(any(), any(), any());
+        PlainActionFuture<ExperimentSliceNodeResponse> future = new PlainActionFuture<>();
+
+        transportAction.nodeOperationAsync(request, task, future);
+
+        // the node request returns while the slice is evaluated, the response is sent once it completes
+        verify(experimentRunner).evaluateSlice(eq(request.getRequest()), eq(task), any());
+        assertFalse(future.isDone());
+        ExperimentAggregates aggregates = new ExperimentAggregates();
+        sliceListener.get().onResponse(aggregates);
+        ExperimentSliceNodeResponse response = future.actionGet();
+        assertEquals(2, response.getCompletedQueryTexts());
+        assertSame(aggregates, response.getAggregates());
+        assertEquals(ExperimentSliceTransportAction.NODE_ACTION_NAME, transportAction.getTransportNodeAction(localNode));
+        verify(transportService).registerRequestHandler(eq(ExperimentSliceTransportAction.NODE_ACTION_NAME), any(), any(), any());
+    }
+
+    public void testNodeOperation_whenInheritedNodeActionReached_thenSliceEvaluated() {
+        ExperimentAggregates aggregates = new ExperimentAggregates();
+        doAnswer(invocation -> {
+            ActionListener<ExperimentAggregates> listener = invocation.getArgument(2);
+            listener.onResponse(aggregates);
+            return null;
+        }).when(experimentRunner).evaluateSlice(any(), any(), any());
+
+        ExperimentSliceNodeResponse response = transportAction.nodeOperation(request, task);
+
+        verify(experimentRunner).evaluateSlice(eq(request.getRequest()), eq(task), any());
+        assertEquals(2, response.getCompletedQueryTexts());
+        assertSame(aggregates, response.getAggregates());
+    }
+
+    public void testNodeOperation_whenSliceFails_thenFailureThrown() {
+        doAnswer(invocation -> {
+            ActionListener<ExperimentAggregates> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("search failed"));
+            return null;
+        }).when(experimentRunner).evaluateSlice(any(), any(), any());
+
+        IllegalStateException e = expectThrows(IllegalStateException.class, () -> transportAction.nodeOperation(request));
+        assertEquals("search failed", e.getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.PluginConstants.BUDGET;
+import static org.opensearch.searchrelevance.common.PluginConstants.MAX_SEARCHES;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.cost.CostBudget;
+import org.opensearch.searchrelevance.cost.CostEstimate;
+import org.opensearch.searchrelevance.cost.CostEstimator;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.experiment.ExperimentRunner;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class PutExperimentTransportActionTests extends OpenSearchTestCase {
+
+    public void testDoExecute_whenBudgetFits_thenStoresItWithTheExperiment() {
+        ExperimentDao experimentDao = mock(ExperimentDao.class);
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(experimentDao).putExperiment(any(Experiment.class), any());
+        ExperimentRunner experimentRunner = mock(ExperimentRunner.class);
+        when(experimentRunner.getLocalNodeId()).thenReturn("node-1");
+        CostEstimator costEstimator = mock(CostEstimator.class);
+        doAnswer(invocation -> {
+            ActionListener<CostEstimate> listener = invocation.getArgument(1);
+            listener.onResponse(new CostEstimate(5, 10, 100, 0, 0, 5));
+            return null;
+        }).when(costEstimator).estimateExperiment(any(PutExperimentRequest.class), any());
+        PutExperimentTransportAction transportAction = new PutExperimentTransportAction(
+            mock(ClusterService.class),
+            mock(TransportService.class),
+            new ActionFilters(Set.of()),
+            experimentDao,
+            experimentRunner,
+            costEstimator
+        );
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.PAIRWISE_COMPARISON,
+            "query-set-1",
+            List.of("config-1", "config-2"),
+            List.of(),
+            10,
+            new CostBudget(12L, null, null)
+        );
+        PlainActionFuture<IndexResponse> future = new PlainActionFuture<>();
+
+        transportAction.doExecute(null, request, future);
+
+        assertNotNull(future.actionGet());
+        ArgumentCaptor<Experiment> experiment = ArgumentCaptor.forClass(Experiment.class);
+        verify(experimentRunner).run(experiment.capture());
+        assertEquals(AsyncStatus.PROCESSING, experiment.getValue().status());
+        assertEquals("node-1", experiment.getValue().nodeId());
+        // the run counts its searches against the budget kept in the summary
+        assertEquals(Map.of(BUDGET, Map.of(MAX_SEARCHES, 12L)), experiment.getValue().summary());
+    }
+}
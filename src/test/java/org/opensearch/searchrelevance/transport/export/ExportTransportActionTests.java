@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.export;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.export.ExportCursor;
+import org.opensearch.searchrelevance.export.ExportFormat;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.JudgmentRating;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class ExportTransportActionTests extends OpenSearchTestCase {
+    private JudgmentDao judgmentDao;
+    private EvaluationResultDao evaluationResultDao;
+    private ExperimentResultDao experimentResultDao;
+    private ExportTransportAction transportAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        judgmentDao = mock(JudgmentDao.class);
+        evaluationResultDao = mock(EvaluationResultDao.class);
+        experimentResultDao = mock(ExperimentResultDao.class);
+        transportAction = new ExportTransportAction(
+            mock(TransportService.class),
+            new ActionFilters(Set.of()),
+            judgmentDao,
+            evaluationResultDao,
+            experimentResultDao
+        );
+    }
+
+    public void testExport_whenFullPage_thenCursorOfLastHit() throws IOException {
+        SearchResponse page = page("pit-1", judgmentRatingHit("laptop"), judgmentRatingHit("tv"));
+        AtomicReference<ExportCursor> requestedCursor = new AtomicReference<>();
+        doAnswer(invocation -> {
+            requestedCursor.set(invocation.getArgument(3));
+            ActionListener<SearchResponse> listener = invocation.getArgument(5);
+            listener.onResponse(page);
+            return null;
+        }).when(judgmentDao).exportJudgmentRatings(eq("judgment-1"), isNull(), eq(2), any(), any(), any());
+
+        ExportResponse firstPage = export(
+            new ExportRequest(ExportRequest.Source.JUDGMENT, "judgment-1", ExportFormat.TREC, null, null, 2, null)
+        );
+
+        assertNull(requestedCursor.get());
+        assertEquals("laptop\t0\tdoc-1\t1\ntv\t0\tdoc-1\t1\n", firstPage.getContent().utf8ToString());
+        ExportCursor cursor = ExportCursor.decode(firstPage.getCursor());
+        assertEquals("pit-1", cursor.pitId());
+        assertArrayEquals(new Object[] { "tv" }, cursor.searchAfter());
+
+        // the next page continues after the cursor of the previous one
+        ExportResponse nextPage = export(
+            new ExportRequest(ExportRequest.Source.JUDGMENT, "judgment-1", ExportFormat.TREC, null, null, 2, firstPage.getCursor())
+        );
+
+        assertEquals("pit-1", requestedCursor.get().pitId());
+        assertArrayEquals(new Object[] { "tv" }, requestedCursor.get().searchAfter());
+        assertNotNull(nextPage.getCursor());
+    }
+
+    public void testExport_whenPageNotFull_thenExportComplete() throws IOException {
+        SearchResponse page = page("pit-1", judgmentRatingHit("laptop"));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(6);
+            listener.onResponse(page);
+            return null;
+        }).when(evaluationResultDao).exportEvaluationResults(eq("experiment-1"), eq("config-1"), eq("laptop"), eq(2), any(), any(), any());
+
+        ExportResponse response = export(
+            new ExportRequest(ExportRequest.Source.EXPERIMENT, "experiment-1", ExportFormat.NDJSON, "laptop", "config-1", 2, null)
+        );
+
+        assertNull(response.getCursor());
+        assertEquals(1, response.getContent().utf8ToString().split("\n").length);
+    }
+
+    public void testExport_whenExperimentResults_thenOneResultPerLine() throws IOException {
+        ExperimentResult experimentResult = new ExperimentResult(
+            ExperimentResult.generateId("experiment-1", "laptop"),
+            "2025-06-01T00:00:00.000Z",
+            "experiment-1",
+            "laptop",
+            Map.of("evaluationMetrics", Map.of("ndcg@10", 0.5))
+        );
+        SearchHit hit = new SearchHit(0, experimentResult.id(), Map.of(), Map.of()).sourceRef(
+            BytesReference.bytes(experimentResult.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
+        );
+        hit.sortValues(new Object[] { experimentResult.id() }, new DocValueFormat[] { DocValueFormat.RAW });
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(5);
+            listener.onResponse(page("pit-1", hit));
+            return null;
+        }).when(experimentResultDao).exportExperimentResults(eq("experiment-1"), isNull(), eq(1), isNull(), any(), any());
+
+        ExportResponse response = export(
+            new ExportRequest(ExportRequest.Source.EXPERIMENT_RESULT, "experiment-1", ExportFormat.NDJSON, null, null, 1, null)
+        );
+
+        String content = response.getContent().utf8ToString();
+        assertEquals(1, content.split("\n").length);
+        assertTrue(content, content.contains("\"queryText\":\"laptop\""));
+        assertTrue(content, content.contains("\"result\":{\"evaluationMetrics\":{\"ndcg@10\":0.5}}"));
+        assertEquals(experimentResult.id(), ExportCursor.decode(response.getCursor()).searchAfter()[0]);
+    }
+
+    public void testExport_whenRatingsOnlyInJudgmentDocument_thenExportedFromIt() throws IOException {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(5);
+            listener.onResponse(page(null));
+            return null;
+        }).when(judgmentDao).exportJudgmentRatings(eq("legacy"), isNull(), eq(10), isNull(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(false);
+            return null;
+        }).when(judgmentDao).hasJudgmentRatings(eq("legacy"), any());
+        String source = "{\"judgmentRatings\":[{\"query\":\"tv\",\"ratings\":[{\"docId\":\"doc-2\",\"rating\":\"2\"}]},"
+            + "{\"query\":\"laptop\",\"ratings\":[{\"docId\":\"doc-1\",\"rating\":1.5}]}]}";
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(page(null, new SearchHit(0, "legacy", Map.of(), Map.of()).sourceRef(new BytesArray(source))));
+            return null;
+        }).when(judgmentDao).getJudgment(eq("legacy"), any());
+
+        ExportResponse response = export(
+            new ExportRequest(ExportRequest.Source.JUDGMENT, "legacy", ExportFormat.TREC, null, null, 10, null)
+        );
+
+        assertEquals("laptop\t0\tdoc-1\t1.5\ntv\t0\tdoc-2\t2\n", response.getContent().utf8ToString());
+        assertNull(response.getCursor());
+    }
+
+    public void testExport_whenNoRatingsOfQueryText_thenEmptyWithoutReadingJudgmentDocument() throws IOException {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(5);
+            listener.onResponse(page(null));
+            return null;
+        }).when(judgmentDao).exportJudgmentRatings(eq("judgment-1"), eq("phone"), eq(10), isNull(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(1);
+            listener.onResponse(true);
+            return null;
+        }).when(judgmentDao).hasJudgmentRatings(eq("judgment-1"), any());
+
+        ExportResponse response = export(
+            new ExportRequest(ExportRequest.Source.JUDGMENT, "judgment-1", ExportFormat.TREC, "phone", null, 10, null)
+        );
+
+        assertEquals("", response.getContent().utf8ToString());
+        assertNull(response.getCursor());
+        verify(judgmentDao, never()).getJudgment(any(), any());
+    }
+
+    public void testExport_whenInvalidRequest_thenBadRequest() {
+        expectThrows(
+            SearchRelevanceException.class,
+            () -> export(new ExportRequest(ExportRequest.Source.EXPERIMENT, "experiment-1", ExportFormat.TREC, null, null, 10, null))
+        );
+        expectThrows(
+            SearchRelevanceException.class,
+            () -> export(new ExportRequest(ExportRequest.Source.EXPERIMENT_RESULT, "experiment-1", ExportFormat.CSV, null, null, 10, null))
+        );
+        expectThrows(
+            SearchRelevanceException.class,
+            () -> export(
+                new ExportRequest(
+                    ExportRequest.Source.JUDGMENT,
+                    "judgment-1",
+                    ExportFormat.CSV,
+                    null,
+                    null,
+                    ExportTransportAction.MAX_EXPORT_SIZE + 1,
+                    null
+                )
+            )
+        );
+        expectThrows(
+            SearchRelevanceException.class,
+            () -> export(new ExportRequest(ExportRequest.Source.JUDGMENT, "judgment-1", ExportFormat.CSV, null, null, 10, "invalid"))
+        );
+        verify(judgmentDao, never()).exportJudgmentRatings(any(), any(), anyInt(), any(), any(), any());
+        verify(evaluationResultDao, never()).exportEvaluationResults(any(), any(), any(), anyInt(), any(), any(), any());
+        verify(experimentResultDao, never()).exportExperimentResults(any(), any(), anyInt(), any(), any(), any());
+    }
+
+    private ExportResponse export(ExportRequest request) {
+        PlainActionFuture<ExportResponse> future = new PlainActionFuture<>();
+        transportAction.doExecute(null, request, future);
+        return future.actionGet();
+    }
+
+    private static SearchResponse page(String pitId, SearchHit... hits) {
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        when(response.pointInTimeId()).thenReturn(pitId);
+        return response;
+    }
+
+    private static SearchHit judgmentRatingHit(String queryText) throws IOException {
+        JudgmentRating judgmentRating = new JudgmentRating("judgment-1", queryText, Map.of("doc-1", 1.0f));
+        SearchHit hit = new SearchHit(0, judgmentRating.getId(), Map.of(), Map.of()).sourceRef(
+            BytesReference.bytes(judgmentRating.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
+        );
+        hit.sortValues(new Object[] { queryText }, new DocValueFormat[] { DocValueFormat.RAW });
+        return hit;
+    }
+}
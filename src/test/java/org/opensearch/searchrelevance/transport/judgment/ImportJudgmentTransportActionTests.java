@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.judgment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.judgments.JudgmentImportReader;
+import org.opensearch.searchrelevance.metrics.JudgmentListCache;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRatings;
+import org.opensearch.searchrelevance.util.TestUtils;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class ImportJudgmentTransportActionTests extends OpenSearchTestCase {
+    private ThreadPool testThreadPool;
+    private TaskManager taskManager;
+    private JudgmentDao judgmentDao;
+    private JudgmentListCache judgmentListCache;
+    private ImportJudgmentTransportAction transportAction;
+    private List<Judgment> updates;
+    private List<JudgmentRatings> chunks;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        TestUtils.initializeEventStatsManager();
+        testThreadPool = new TestThreadPool(getTestName());
+        taskManager = new TaskManager(Settings.EMPTY, testThreadPool, Set.of());
+        TransportService transportService = mock(TransportService.class);
+        when(transportService.getTaskManager()).thenReturn(taskManager);
+        // chunks are read and stored on the calling thread
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        judgmentDao = mock(JudgmentDao.class);
+        judgmentListCache = mock(JudgmentListCache.class);
+        transportAction = new ImportJudgmentTransportAction(
+            transportService,
+            new ActionFilters(Set.of()),
+            threadPool,
+            judgmentDao,
+            judgmentListCache
+        );
+
+        doAnswer(invocation -> {
+            Judgment judgment = invocation.getArgument(0);
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new IndexResponse(new ShardId("index", "uuid", 0), judgment.getId(), 1, 1, 1, true));
+            return null;
+        }).when(judgmentDao).putJudgement(any(), any());
+        updates = new ArrayList<>();
+        doAnswer(invocation -> {
+            updates.add(invocation.getArgument(0));
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentDao).updateJudgment(any(), any());
+        chunks = new ArrayList<>();
+        doAnswer(invocation -> {
+            chunks.add(invocation.getArgument(1));
+            ActionListener<Void> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentDao).putJudgmentRatings(anyString(), any(JudgmentRatings.class), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(testThreadPool);
+        super.tearDown();
+    }
+
+    public void testImport_whenValid_thenStoredInChunksWithProgress() {
+        StringBuilder content = new StringBuilder();
+        int queryTexts = ImportJudgmentTransportAction.IMPORT_CHUNK_RATINGS / 10 + 1;
+        for (int i = 0; i < queryTexts; i++) {
+            for (int j = 0; j < 10; j++) {
+                content.append("query-").append(i).append(" 0 doc-").append(j).append(" 1\n");
+            }
+        }
+        PlainActionFuture<IndexResponse> future = new PlainActionFuture<>();
+
+        transportAction.doExecute(null, request(content.toString()), future);
+
+        String judgmentId = future.actionGet().getId();
+        assertEquals(2, chunks.size());
+        assertEquals(ImportJudgmentTransportAction.IMPORT_CHUNK_RATINGS / 10, chunks.get(0).size());
+        assertEquals(1, chunks.get(1).size());
+        assertEquals(3, updates.size());
+        assertEquals(AsyncStatus.PROCESSING, updates.get(0).getStatus());
+        assertEquals((long) ImportJudgmentTransportAction.IMPORT_CHUNK_RATINGS, updates.get(0).getMetadata().get("importedRatings"));
+        Judgment completed = updates.get(2);
+        assertEquals(AsyncStatus.COMPLETED, completed.getStatus());
+        assertEquals(queryTexts * 10L, completed.getMetadata().get("totalRatings"));
+        assertEquals(queryTexts * 10L, completed.getMetadata().get("importedRatings"));
+        assertEquals(queryTexts, completed.getMetadata().get("importedQueryTexts"));
+        assertTrue(completed.getJudgmentRatings().isEmpty());
+        verify(judgmentListCache).invalidateOnAllNodes(judgmentId);
+        assertTrue(taskManager.getCancellableTasks().isEmpty());
+    }
+
+    public void testImport_whenInvalidLine_thenRejectedBeforeJudgmentCreated() {
+        PlainActionFuture<IndexResponse> future = new PlainActionFuture<>();
+
+        transportAction.doExecute(null, request("101 0 doc-1 2\n101 0 doc-2 great\n"), future);
+
+        SearchRelevanceException e = expectThrows(SearchRelevanceException.class, future::actionGet);
+        assertTrue(e.getMessage(), e.getMessage().contains("line 2"));
+        verify(judgmentDao, never()).putJudgement(any(), any());
+        verify(judgmentDao, never()).putJudgmentRatings(anyString(), any(JudgmentRatings.class), any());
+    }
+
+    public void testImport_whenChunkFails_thenJudgmentError() {
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("bulk failed"));
+            return null;
+        }).when(judgmentDao).putJudgmentRatings(anyString(), any(JudgmentRatings.class), any());
+        PlainActionFuture<IndexResponse> future = new PlainActionFuture<>();
+
+        transportAction.doExecute(null, request("101 0 doc-1 2\n"), future);
+
+        String judgmentId = future.actionGet().getId();
+        assertEquals(1, updates.size());
+        assertEquals(AsyncStatus.ERROR, updates.get(0).getStatus());
+        assertEquals("bulk failed", updates.get(0).getMetadata().get("error"));
+        verify(judgmentListCache).invalidateOnAllNodes(eq(judgmentId));
+        assertTrue(taskManager.getCancellableTasks().isEmpty());
+    }
+
+    public void testImport_whenCancelled_thenJudgmentCancelledWithProgress() {
+        doAnswer(invocation -> {
+            chunks.add(invocation.getArgument(1));
+            taskManager.getCancellableTasks().values().forEach(task -> taskManager.cancel(task, "by user", () -> {}));
+            ActionListener<Void> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentDao).putJudgmentRatings(anyString(), any(JudgmentRatings.class), any());
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < ImportJudgmentTransportAction.IMPORT_CHUNK_RATINGS; i++) {
+            content.append("101 0 doc-").append(i).append(" 1\n");
+        }
+        content.append("102 0 doc-1 1\n");
+        PlainActionFuture<IndexResponse> future = new PlainActionFuture<>();
+
+        transportAction.doExecute(null, request(content.toString()), future);
+
+        String judgmentId = future.actionGet().getId();
+        assertEquals(1, chunks.size());
+        assertEquals(1, updates.size());
+        Judgment cancelled = updates.get(0);
+        assertEquals(AsyncStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(ImportJudgmentTransportAction.IMPORT_CHUNK_RATINGS + 1L, cancelled.getMetadata().get("totalRatings"));
+        assertEquals((long) ImportJudgmentTransportAction.IMPORT_CHUNK_RATINGS, cancelled.getMetadata().get("importedRatings"));
+        assertEquals(1, cancelled.getMetadata().get("importedQueryTexts"));
+        verify(judgmentListCache).invalidateOnAllNodes(judgmentId);
+        assertTrue(taskManager.getCancellableTasks().isEmpty());
+    }
+
+    private static ImportJudgmentRequest request(String content) {
+        return new ImportJudgmentRequest("imported", null, JudgmentImportReader.Format.TREC, new BytesArray(content));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.queryset;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.QuerySet;
+import org.opensearch.searchrelevance.ubi.TopNQuerySampler;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+public class PostQuerySetTransportActionTests extends OpenSearchTestCase {
+
+    public void testPostQuerySet_whenStoringFails_thenListenerNotified() {
+        Client client = mock(Client.class);
+        // the sampler completes with no queries when the search fails
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalStateException("no ubi queries"));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        QuerySetDao querySetDao = mock(QuerySetDao.class);
+        doThrow(new IllegalStateException("index closed")).when(querySetDao).putQuerySet(any(QuerySet.class), any());
+        PostQuerySetTransportAction transportAction = new PostQuerySetTransportAction(
+            mock(ClusterService.class),
+            mock(TransportService.class),
+            new ActionFilters(Set.of()),
+            client,
+            querySetDao
+        );
+        PlainActionFuture<IndexResponse> future = new PlainActionFuture<>();
+
+        transportAction.doExecute(null, new PostQuerySetRequest("query-set", "description", TopNQuerySampler.NAME, 10), future);
+
+        SearchRelevanceException e = expectThrows(SearchRelevanceException.class, () -> future.actionGet(10, TimeUnit.SECONDS));
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, e.status());
+        assertEquals("index closed", e.getCause().getMessage());
+    }
+}